@@ -0,0 +1,87 @@
+/*
+ * Copyright 2022 the original author or authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.couchbase.cache;
+
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+import java.util.concurrent.Callable;
+
+import com.couchbase.client.java.codec.Transcoder;
+
+/**
+ * {@link ReactiveCouchbaseCacheWriter} running the operations of a blocking {@link CouchbaseCacheWriter} on
+ * {@link Schedulers#boundedElastic()}, for writers that have no non-blocking implementation.
+ *
+ * @since 4.4
+ */
+class BlockingReactiveCouchbaseCacheWriter implements ReactiveCouchbaseCacheWriter {
+
+	private final CouchbaseCacheWriter writer;
+
+	BlockingReactiveCouchbaseCacheWriter(final CouchbaseCacheWriter writer) {
+		this.writer = writer;
+	}
+
+	@Override
+	public Mono<Void> put(final String collectionName, final String key, final Object value, final Duration expiry,
+			final Transcoder transcoder) {
+		return Mono.<Void> fromRunnable(() -> writer.put(collectionName, key, value, expiry, transcoder))
+				.subscribeOn(Schedulers.boundedElastic());
+	}
+
+	@Override
+	public Mono<Object> putIfAbsent(final String collectionName, final String key, final Object value,
+			final Duration expiry, final Transcoder transcoder) {
+		return blocking(() -> writer.putIfAbsent(collectionName, key, value, expiry, transcoder));
+	}
+
+	@Override
+	public Mono<Object> get(final String collectionName, final String key, final Transcoder transcoder) {
+		return blocking(() -> writer.get(collectionName, key, transcoder));
+	}
+
+	@Override
+	public Mono<CouchbaseCacheEntry> getEntry(final String collectionName, final String key,
+			final Transcoder transcoder) {
+		return blocking(() -> writer.getEntry(collectionName, key, transcoder));
+	}
+
+	@Override
+	public Mono<Boolean> remove(final String collectionName, final String key) {
+		return blocking(() -> writer.remove(collectionName, key));
+	}
+
+	@Override
+	public Mono<Long> clear(final String collectionName, final String pattern) {
+		return blocking(() -> writer.clear(collectionName, pattern));
+	}
+
+	@Override
+	public Mono<Long> getCounter(final String collectionName, final String key) {
+		return blocking(() -> writer.getCounter(collectionName, key));
+	}
+
+	@Override
+	public Mono<Long> incrementCounter(final String collectionName, final String key) {
+		return blocking(() -> writer.incrementCounter(collectionName, key));
+	}
+
+	private static <T> Mono<T> blocking(final Callable<T> call) {
+		return Mono.fromCallable(call).subscribeOn(Schedulers.boundedElastic());
+	}
+}
@@ -15,28 +15,54 @@
  */
 package org.springframework.data.couchbase.cache;
 
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
 import java.lang.reflect.Method;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.StringJoiner;
 import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.cache.support.AbstractValueAdaptingCache;
 import org.springframework.cache.support.SimpleValueWrapper;
 import org.springframework.core.convert.ConversionFailedException;
 import org.springframework.core.convert.ConversionService;
 import org.springframework.core.convert.TypeDescriptor;
+import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
 import org.springframework.util.ObjectUtils;
 import org.springframework.util.ReflectionUtils;
 
 public class CouchbaseCache extends AbstractValueAdaptingCache {
 
+	private static final Logger LOG = LoggerFactory.getLogger(CouchbaseCache.class);
+
+	private static final String LOCK_PREFIX = "_lock::";
+	private static final long MAX_LOCK_POLL_MILLIS = 50;
+	private static final String GENERATION_PREFIX = "_generation::";
+
 	private final String name;
 	private final CouchbaseCacheWriter cacheWriter;
 	private final CouchbaseCacheConfiguration cacheConfig;
 	private final ConversionService conversionService;
+	private final ConcurrentMap<String, CompletableFuture<Object>> loads = new ConcurrentHashMap<>();
+	private final NearCache nearCache;
+	private final CouchbaseCacheStatistics statistics = new CouchbaseCacheStatistics();
+	private final ConcurrentMap<String, Generation> generations = new ConcurrentHashMap<>();
+	private final ConcurrentMap<String, Boolean> refreshes = new ConcurrentHashMap<>();
 
 	protected CouchbaseCache(final String name, final CouchbaseCacheWriter cacheWriter,
 			final CouchbaseCacheConfiguration cacheConfig) {
@@ -50,6 +76,13 @@ public class CouchbaseCache extends AbstractValueAdaptingCache {
 		this.cacheWriter = cacheWriter;
 		this.cacheConfig = cacheConfig;
 		this.conversionService = cacheConfig.getConversionService();
+		Assert.isTrue(cacheConfig.getRefreshAheadThreshold() == null || !cacheConfig.getExpiry().isZero(),
+				"Refresh-ahead requires an entry expiry!");
+		Assert.isTrue(cacheConfig.getGenerationRefreshInterval() == null || !cacheConfig.getExpiry().isZero(),
+				"Generational clear requires an entry expiry!");
+		this.nearCache = cacheConfig.getNearCache() != null
+				? new NearCache(cacheConfig.getNearCache(), cacheConfig.getExpiry())
+				: null;
 	}
 
 	private static <T> T valueFromLoader(Object key, Callable<T> valueLoader) {
@@ -72,7 +105,103 @@ public class CouchbaseCache extends AbstractValueAdaptingCache {
 
 	@Override
 	protected Object lookup(final Object key) {
-		return cacheWriter.get(cacheConfig.getCollectionName(), createCacheKey(key), cacheConfig.getValueTranscoder());
+		String cacheKey = createCacheKey(key);
+		Object value = lookupNear(cacheKey);
+		if (value != null) {
+			return value;
+		}
+		if (!cacheConfig.getStaleGracePeriod().isZero()) {
+			CouchbaseCacheEntry entry = cacheWriter.getEntry(cacheConfig.getCollectionName(), cacheKey,
+					cacheConfig.getValueTranscoder());
+			return foundRemote(cacheKey, entry != null && !isStale(entry) ? entry.getValue() : null);
+		}
+		return foundRemote(cacheKey,
+				cacheWriter.get(cacheConfig.getCollectionName(), cacheKey, cacheConfig.getValueTranscoder()));
+	}
+
+	/**
+	 * Look up the value, reloading it in the background if it is about to expire or is stale.
+	 */
+	private ValueWrapper lookupRefreshingAhead(final Object key, final Callable<?> valueLoader) {
+		String cacheKey = createCacheKey(key);
+		Object value = lookupNear(cacheKey);
+		if (value != null) {
+			return toValueWrapper(value);
+		}
+		CouchbaseCacheEntry entry = cacheWriter.getEntry(cacheConfig.getCollectionName(), cacheKey,
+				cacheConfig.getValueTranscoder());
+		if (entry == null) {
+			foundRemote(cacheKey, null);
+			return null;
+		}
+		if (isStale(entry)) {
+			// served while it is reloaded, but not kept in the near cache
+			statistics.recordRemote(true);
+			refresh(key, cacheKey, valueLoader);
+			return toValueWrapper(entry.getValue());
+		}
+		if (entry.getExpiryTime() != null) {
+			Duration untilExpiry = Duration.between(Instant.now(), entry.getExpiryTime())
+					.minus(cacheConfig.getStaleGracePeriod());
+			if (untilExpiry.toMillis() < cacheConfig.getRefreshAheadThreshold() * cacheConfig.getExpiry().toMillis()) {
+				refresh(key, cacheKey, valueLoader);
+			}
+		}
+		return toValueWrapper(foundRemote(cacheKey, entry.getValue()));
+	}
+
+	private boolean isStale(final CouchbaseCacheEntry entry) {
+		return entry.getExpiryTime() != null
+				&& Instant.now().plus(cacheConfig.getStaleGracePeriod()).isAfter(entry.getExpiryTime());
+	}
+
+	private void refresh(final Object key, final String cacheKey, final Callable<?> valueLoader) {
+		if (refreshes.putIfAbsent(cacheKey, Boolean.TRUE) != null) {
+			return;
+		}
+		Schedulers.boundedElastic().schedule(() -> {
+			String lockKey = LOCK_PREFIX + cacheKey;
+			Long lock = null;
+			try {
+				if (cacheConfig.getLoadingLockExpiry() != null) {
+					// another node holding the lock is already loading the value
+					lock = cacheWriter.tryLock(cacheConfig.getCollectionName(), lockKey, cacheConfig.getLoadingLockExpiry());
+					if (lock == null) {
+						return;
+					}
+				}
+				put(key, valueFromLoader(key, valueLoader));
+			} catch (RuntimeException ex) {
+				LOG.debug("Refreshing cache entry {} failed", cacheKey, ex);
+			} finally {
+				if (lock != null) {
+					cacheWriter.unlock(cacheConfig.getCollectionName(), lockKey, lock);
+				}
+				refreshes.remove(cacheKey);
+			}
+		});
+	}
+
+	private Duration storeExpiry() {
+		// stale values are kept for the grace period beyond their expiry
+		return cacheConfig.getExpiry().plus(cacheConfig.getStaleGracePeriod());
+	}
+
+	private Object lookupNear(final String cacheKey) {
+		if (nearCache == null) {
+			return null;
+		}
+		Object value = nearCache.get(cacheKey);
+		statistics.recordNear(value != null);
+		return value;
+	}
+
+	private Object foundRemote(final String cacheKey, final Object value) {
+		statistics.recordRemote(value != null);
+		if (value != null && nearCache != null) {
+			nearCache.put(cacheKey, value);
+		}
+		return value;
 	}
 
 	/**
@@ -82,22 +211,117 @@ public class CouchbaseCache extends AbstractValueAdaptingCache {
 		return cacheConfig;
 	}
 
+	/**
+	 * Returns the hit and miss counts of this {@link CouchbaseCache}.
+	 */
+	public CouchbaseCacheStatistics getStatistics() {
+		return statistics;
+	}
+
+	/**
+	 * Return the value for the key, loading and caching it on a miss. Concurrent misses for the same key on this node
+	 * share a single load, while misses for other keys are not held up. With a
+	 * {@link CouchbaseCacheConfiguration#loadingLock(Duration) loading lock}, the load is also made on one node of the
+	 * cluster at a time. With {@link CouchbaseCacheConfiguration#refreshAhead(double, Duration) refresh-ahead}, values
+	 * about to expire are returned and reloaded in the background.
+	 */
 	@Override
 	@SuppressWarnings("unchecked")
-	public synchronized <T> T get(final Object key, final Callable<T> valueLoader) {
-		ValueWrapper result = get(key);
+	public <T> T get(final Object key, final Callable<T> valueLoader) {
+		ValueWrapper result = cacheConfig.getRefreshAheadThreshold() != null ? lookupRefreshingAhead(key, valueLoader)
+				: get(key);
 
 		if (result != null) {
 			return (T) result.get();
 		}
 
+		String cacheKey = createCacheKey(key);
+		CompletableFuture<Object> load = new CompletableFuture<>();
+		CompletableFuture<Object> inFlight = loads.putIfAbsent(cacheKey, load);
+		if (inFlight != null) {
+			return (T) awaitLoad(inFlight);
+		}
+		try {
+			T value = cacheConfig.getLoadingLockExpiry() != null ? loadUnderLock(key, cacheKey, valueLoader)
+					: load(key, valueLoader);
+			load.complete(value);
+			return value;
+		} catch (RuntimeException | Error ex) {
+			load.completeExceptionally(ex);
+			throw ex;
+		} finally {
+			loads.remove(cacheKey, load);
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	private <T> T load(final Object key, final Callable<T> valueLoader) {
+		// another load may have completed between the miss and this load
+		ValueWrapper result = get(key);
+		if (result != null) {
+			return (T) result.get();
+		}
 		T value = valueFromLoader(key, valueLoader);
 		put(key, value);
 		return value;
 	}
 
+	@SuppressWarnings("unchecked")
+	private <T> T loadUnderLock(final Object key, final String cacheKey, final Callable<T> valueLoader) {
+		Duration lockExpiry = cacheConfig.getLoadingLockExpiry();
+		String lockKey = LOCK_PREFIX + cacheKey;
+		long deadline = System.nanoTime() + lockExpiry.toNanos();
+		long pollMillis = Math.max(1, Math.min(MAX_LOCK_POLL_MILLIS, lockExpiry.toMillis() / 10));
+		Long lock;
+		while ((lock = cacheWriter.tryLock(cacheConfig.getCollectionName(), lockKey, lockExpiry)) == null) {
+			// another node is loading - wait for its value, but not longer than its lock
+			ValueWrapper result = get(key);
+			if (result != null) {
+				return (T) result.get();
+			}
+			if (System.nanoTime() > deadline) {
+				return load(key, valueLoader);
+			}
+			try {
+				Thread.sleep(pollMillis);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new ValueRetrievalException(key, valueLoader, e);
+			}
+		}
+		try {
+			return load(key, valueLoader);
+		} finally {
+			// a lock that expired during the load and was taken by another node is not removed
+			cacheWriter.unlock(cacheConfig.getCollectionName(), lockKey, lock);
+		}
+	}
+
+	private static Object awaitLoad(final CompletableFuture<Object> load) {
+		try {
+			return load.join();
+		} catch (CompletionException ex) {
+			if (ex.getCause() instanceof RuntimeException) {
+				throw (RuntimeException) ex.getCause();
+			}
+			if (ex.getCause() instanceof Error) {
+				throw (Error) ex.getCause();
+			}
+			throw ex;
+		}
+	}
+
 	@Override
 	public void put(final Object key, final Object value) {
+		assertValueAllowed(value);
+
+		String cacheKey = createCacheKey(key);
+		cacheWriter.put(cacheConfig.getCollectionName(), cacheKey, toStoreValue(value), storeExpiry(),
+				cacheConfig.getValueTranscoder());
+		evictNear(cacheKey);
+	}
+
+	private void assertValueAllowed(final Object value) {
 		if (!isAllowNullValues() && value == null) {
 
 			throw new IllegalArgumentException(String.format(
@@ -105,9 +329,6 @@ public class CouchbaseCache extends AbstractValueAdaptingCache {
 							+ "configure CouchbaseCache to allow 'null' via CouchbaseCacheConfiguration.",
 					name));
 		}
-
-		cacheWriter.put(cacheConfig.getCollectionName(), createCacheKey(key), toStoreValue(value), cacheConfig.getExpiry(),
-				cacheConfig.getValueTranscoder());
 	}
 
 	@Override
@@ -116,8 +337,10 @@ public class CouchbaseCache extends AbstractValueAdaptingCache {
 			return get(key);
 		}
 
-		Object result = cacheWriter.putIfAbsent(cacheConfig.getCollectionName(), createCacheKey(key), toStoreValue(value),
-				cacheConfig.getExpiry(), cacheConfig.getValueTranscoder());
+		String cacheKey = createCacheKey(key);
+		Object result = cacheWriter.putIfAbsent(cacheConfig.getCollectionName(), cacheKey, toStoreValue(value),
+				storeExpiry(), cacheConfig.getValueTranscoder());
+		evictNear(cacheKey);
 
 		if (result == null) {
 			return null;
@@ -128,22 +351,209 @@ public class CouchbaseCache extends AbstractValueAdaptingCache {
 
 	@Override
 	public void evict(final Object key) {
-		cacheWriter.remove(cacheConfig.getCollectionName(), createCacheKey(key));
+		evictIfPresent(key);
 	}
 
 	@Override
 	public boolean evictIfPresent(final Object key) {
-		return cacheWriter.remove(cacheConfig.getCollectionName(), createCacheKey(key));
+		String cacheKey = createCacheKey(key);
+		try {
+			return cacheWriter.remove(cacheConfig.getCollectionName(), cacheKey);
+		} finally {
+			evictNear(cacheKey);
+		}
 	}
 
+	/**
+	 * Remove all entries. With {@link CouchbaseCacheConfiguration#generationalClear(Duration) generational clear}, this
+	 * moves to a new generation of keys, so whether entries existed is not known and {@literal false} is returned.
+	 */
 	@Override
 	public boolean invalidate() {
-		return cacheWriter.clear(cacheConfig.getKeyPrefixFor(name)) > 0;
+		try {
+			if (cacheConfig.getGenerationRefreshInterval() != null) {
+				String counterKey = generationCounterKey();
+				long generation = cacheWriter.incrementCounter(cacheConfig.getCollectionName(), counterKey);
+				updateGeneration(counterKey, new Generation(generation, System.nanoTime()));
+				return false;
+			}
+			return cacheWriter.clear(cacheConfig.getCollectionName(), cacheConfig.getKeyPrefixFor(name)) > 0;
+		} finally {
+			clearNear();
+		}
 	}
 
 	@Override
 	public void clear() {
-		cacheWriter.clear(cacheConfig.getKeyPrefixFor(name));
+		invalidate();
+	}
+
+	/**
+	 * Non-blocking {@link #get(Object)}. With {@link CouchbaseCacheConfiguration#generationalClear(Duration) generational
+	 * clear}, the generation is read without blocking once per refresh interval.
+	 *
+	 * @return the value wrapper, or {@literal null} if the key is not cached.
+	 */
+	public CompletableFuture<ValueWrapper> getAsync(final Object key) {
+		return createCacheKeyAsync(key).flatMap(cacheKey -> {
+			Object value = lookupNear(cacheKey);
+			if (value != null) {
+				return Mono.just(toValueWrapper(value));
+			}
+			ReactiveCouchbaseCacheWriter writer = cacheWriter.reactive();
+			Mono<Object> found;
+			if (!cacheConfig.getStaleGracePeriod().isZero()) {
+				// as in lookup(), values kept for the stale grace period are not found
+				found = writer.getEntry(cacheConfig.getCollectionName(), cacheKey, cacheConfig.getValueTranscoder())
+						.filter(entry -> !isStale(entry)).map(CouchbaseCacheEntry::getValue);
+			} else {
+				found = writer.get(cacheConfig.getCollectionName(), cacheKey, cacheConfig.getValueTranscoder());
+			}
+			return found.map(value -> foundRemote(cacheKey, value))
+					.switchIfEmpty(Mono.fromRunnable(() -> foundRemote(cacheKey, null))).map(this::toValueWrapper);
+		}).toFuture();
+	}
+
+	/**
+	 * Non-blocking {@link #put(Object, Object)}.
+	 */
+	public CompletableFuture<Void> putAsync(final Object key, final Object value) {
+		assertValueAllowed(value);
+
+		return createCacheKeyAsync(key).flatMap(cacheKey -> cacheWriter.reactive()
+				.put(cacheConfig.getCollectionName(), cacheKey, toStoreValue(value), storeExpiry(),
+						cacheConfig.getValueTranscoder())
+				.doFinally(signal -> evictNear(cacheKey))).toFuture();
+	}
+
+	/**
+	 * Non-blocking {@link #putIfAbsent(Object, Object)}.
+	 *
+	 * @return the existing value wrapper, or {@literal null} if the value was written.
+	 */
+	public CompletableFuture<ValueWrapper> putIfAbsentAsync(final Object key, final Object value) {
+		if (!isAllowNullValues() && value == null) {
+			return getAsync(key);
+		}
+
+		return createCacheKeyAsync(key).flatMap(cacheKey -> cacheWriter.reactive()
+				.putIfAbsent(cacheConfig.getCollectionName(), cacheKey, toStoreValue(value), storeExpiry(),
+						cacheConfig.getValueTranscoder())
+				.<ValueWrapper> map(SimpleValueWrapper::new).doFinally(signal -> evictNear(cacheKey))).toFuture();
+	}
+
+	/**
+	 * Non-blocking {@link #evictIfPresent(Object)}.
+	 */
+	public CompletableFuture<Boolean> evictAsync(final Object key) {
+		return createCacheKeyAsync(key).flatMap(cacheKey -> cacheWriter.reactive()
+				.remove(cacheConfig.getCollectionName(), cacheKey).doFinally(signal -> evictNear(cacheKey))).toFuture();
+	}
+
+	/**
+	 * Non-blocking {@link #clear()}.
+	 */
+	public CompletableFuture<Void> clearAsync() {
+		Mono<?> clear;
+		if (cacheConfig.getGenerationRefreshInterval() != null) {
+			String counterKey = generationCounterKey();
+			clear = cacheWriter.reactive().incrementCounter(cacheConfig.getCollectionName(), counterKey)
+					.doOnNext(generation -> updateGeneration(counterKey, new Generation(generation, System.nanoTime())));
+		} else {
+			clear = cacheWriter.reactive().clear(cacheConfig.getCollectionName(), cacheConfig.getKeyPrefixFor(name));
+		}
+		return clear.doFinally(signal -> clearNear()).then().toFuture();
+	}
+
+	/**
+	 * Look up the values for the given keys, fetching the ones not held in the near cache from Couchbase in parallel.
+	 *
+	 * @param keys must not be {@literal null}.
+	 * @return the values by key, without the keys that are not cached.
+	 */
+	public <K> Map<K, ValueWrapper> getAll(final Collection<K> keys) {
+		Assert.notNull(keys, "Keys must not be null!");
+		Map<K, ValueWrapper> result = new LinkedHashMap<>();
+		Map<String, K> remoteKeys = new LinkedHashMap<>();
+		for (K key : keys) {
+			String cacheKey = createCacheKey(key);
+			Object value = nearCache != null ? nearCache.get(cacheKey) : null;
+			if (nearCache != null) {
+				statistics.recordNear(value != null);
+			}
+			if (value != null) {
+				result.put(key, toValueWrapper(value));
+			} else {
+				remoteKeys.put(cacheKey, key);
+			}
+		}
+		if (remoteKeys.isEmpty()) {
+			return result;
+		}
+		Map<String, Object> values = cacheWriter.getAll(cacheConfig.getCollectionName(), remoteKeys.keySet(),
+				cacheConfig.getValueTranscoder());
+		remoteKeys.forEach((cacheKey, key) -> {
+			Object value = values.get(cacheKey);
+			statistics.recordRemote(value != null);
+			if (value != null) {
+				if (nearCache != null) {
+					nearCache.put(cacheKey, value);
+				}
+				result.put(key, toValueWrapper(value));
+			}
+		});
+		return result;
+	}
+
+	/**
+	 * Write the given key/value pairs to Couchbase in parallel.
+	 *
+	 * @param values must not be {@literal null}.
+	 */
+	public void putAll(final Map<?, ?> values) {
+		Assert.notNull(values, "Values must not be null!");
+		Map<String, Object> storeValues = new LinkedHashMap<>();
+		values.forEach((key, value) -> {
+			if (!isAllowNullValues() && value == null) {
+				throw new IllegalArgumentException(
+						String.format("Cache '%s' does not allow 'null' values, but the value for '%s' is null.", name, key));
+			}
+			storeValues.put(createCacheKey(key), toStoreValue(value));
+		});
+		cacheWriter.putAll(cacheConfig.getCollectionName(), storeValues, storeExpiry(),
+				cacheConfig.getValueTranscoder());
+		storeValues.keySet().forEach(this::evictNear);
+	}
+
+	/**
+	 * Remove the given keys from Couchbase in parallel.
+	 *
+	 * @param keys must not be {@literal null}.
+	 * @return the number of keys that were cached.
+	 */
+	public long evictAll(final Collection<?> keys) {
+		Assert.notNull(keys, "Keys must not be null!");
+		List<String> cacheKeys = new ArrayList<>(keys.size());
+		for (Object key : keys) {
+			cacheKeys.add(createCacheKey(key));
+		}
+		try {
+			return cacheWriter.removeAll(cacheConfig.getCollectionName(), cacheKeys);
+		} finally {
+			cacheKeys.forEach(this::evictNear);
+		}
+	}
+
+	private void evictNear(final String cacheKey) {
+		if (nearCache != null) {
+			nearCache.evict(cacheKey);
+		}
+	}
+
+	private void clearNear() {
+		if (nearCache != null) {
+			nearCache.clear();
+		}
 	}
 
 	/**
@@ -153,7 +563,22 @@ public class CouchbaseCache extends AbstractValueAdaptingCache {
 	 * @return never {@literal null}.
 	 */
 	protected String createCacheKey(final Object key) {
+		return createCacheKey(key, cacheConfig.getGenerationRefreshInterval() != null ? currentGeneration() : null);
+	}
+
+	/**
+	 * Customization hook for creating cache key of the given generation before it gets serialized.
+	 *
+	 * @param key will never be {@literal null}.
+	 * @param generation the generation of the keys, {@literal null} without
+	 *          {@link CouchbaseCacheConfiguration#generationalClear(Duration) generational clear}.
+	 * @return never {@literal null}.
+	 */
+	protected String createCacheKey(final Object key, @Nullable final Long generation) {
 		String convertedKey = convertKey(key);
+		if (generation != null) {
+			convertedKey = generation + CacheKeyPrefix.SEPARATOR + convertedKey;
+		}
 		if (!cacheConfig.usePrefix()) {
 			return convertedKey;
 		}
@@ -197,6 +622,45 @@ public class CouchbaseCache extends AbstractValueAdaptingCache {
 				source, key.getClass().getSimpleName()));
 	}
 
+	private long currentGeneration() {
+		String counterKey = generationCounterKey();
+		Generation generation = generations.get(counterKey);
+		long now = System.nanoTime();
+		if (generation == null || now - generation.readAt > cacheConfig.getGenerationRefreshInterval().toNanos()) {
+			generation = updateGeneration(counterKey,
+					new Generation(cacheWriter.getCounter(cacheConfig.getCollectionName(), counterKey), now));
+		}
+		return generation.value;
+	}
+
+	/**
+	 * {@link #createCacheKey(Object)} reading the generation without blocking.
+	 */
+	private Mono<String> createCacheKeyAsync(final Object key) {
+		if (cacheConfig.getGenerationRefreshInterval() == null) {
+			return Mono.fromCallable(() -> createCacheKey(key, null));
+		}
+		String counterKey = generationCounterKey();
+		Generation generation = generations.get(counterKey);
+		long now = System.nanoTime();
+		if (generation != null && now - generation.readAt <= cacheConfig.getGenerationRefreshInterval().toNanos()) {
+			return Mono.fromCallable(() -> createCacheKey(key, generation.value));
+		}
+		return cacheWriter.reactive().getCounter(cacheConfig.getCollectionName(), counterKey)
+				.map(value -> updateGeneration(counterKey, new Generation(value, now)))
+				.map(updated -> createCacheKey(key, updated.value));
+	}
+
+	private Generation updateGeneration(final String counterKey, final Generation generation) {
+		// a read racing with a clear must not move back to the generation before the clear
+		return generations.merge(counterKey, generation, (old, updated) -> updated.value >= old.value ? updated : old);
+	}
+
+	private String generationCounterKey() {
+		// the counter lives outside the key space of the entries, and follows contextual cache names
+		return GENERATION_PREFIX + cacheConfig.getKeyPrefixFor(name);
+	}
+
 	private String prefixCacheKey(final String key) {
 		// allow contextual cache names by computing the key prefix on every call.
 		return cacheConfig.getKeyPrefixFor(name) + key;
@@ -231,4 +695,14 @@ public class CouchbaseCache extends AbstractValueAdaptingCache {
 		throw new IllegalArgumentException(String.format("Cannot convert cache key %s to String.", key));
 	}
 
+	private static final class Generation {
+		final long value;
+		final long readAt;
+
+		Generation(long value, long readAt) {
+			this.value = value;
+			this.readAt = readAt;
+		}
+	}
+
 }
@@ -38,10 +38,16 @@ public class CouchbaseCacheConfiguration {
 	private final Transcoder valueTranscoder;
 	private final ConversionService conversionService;
 	private final String collectionName;
+	private final Duration loadingLockExpiry;
+	private final NearCacheConfiguration nearCache;
+	private final Duration generationRefresh;
+	private final Double refreshAheadThreshold;
+	private final Duration staleGracePeriod;
 
 	private CouchbaseCacheConfiguration(final Duration expiry, final boolean cacheNullValues, final boolean usePrefix,
 			final CacheKeyPrefix keyPrefix, final ConversionService conversionService, final Transcoder valueTranscoder,
-			final String collectionName) {
+			final String collectionName, final Duration loadingLockExpiry, final NearCacheConfiguration nearCache,
+			final Duration generationRefresh, final Double refreshAheadThreshold, final Duration staleGracePeriod) {
 		this.expiry = expiry;
 		this.cacheNullValues = cacheNullValues;
 		this.usePrefix = usePrefix;
@@ -49,6 +55,11 @@ public class CouchbaseCacheConfiguration {
 		this.conversionService = conversionService;
 		this.valueTranscoder = valueTranscoder;
 		this.collectionName = collectionName;
+		this.loadingLockExpiry = loadingLockExpiry;
+		this.nearCache = nearCache;
+		this.generationRefresh = generationRefresh;
+		this.refreshAheadThreshold = refreshAheadThreshold;
+		this.staleGracePeriod = staleGracePeriod;
 	}
 
 	public static CouchbaseCacheConfiguration defaultCacheConfig() {
@@ -56,7 +67,7 @@ public class CouchbaseCacheConfiguration {
 		registerDefaultConverters(conversionService);
 
 		return new CouchbaseCacheConfiguration(Duration.ZERO, true, true, CacheKeyPrefix.simple(), conversionService,
-				SerializableTranscoder.INSTANCE, null);
+				SerializableTranscoder.INSTANCE, null, null, null, null, null, Duration.ZERO);
 	}
 
 	/**
@@ -83,7 +94,8 @@ public class CouchbaseCacheConfiguration {
 	public CouchbaseCacheConfiguration entryExpiry(final Duration expiry) {
 		Assert.notNull(expiry, "Expiry duration must not be null!");
 		return new CouchbaseCacheConfiguration(expiry, cacheNullValues, usePrefix, keyPrefix, conversionService,
-				valueTranscoder, collectionName);
+				valueTranscoder, collectionName, loadingLockExpiry, nearCache, generationRefresh,
+				refreshAheadThreshold, staleGracePeriod);
 	}
 
 	/**
@@ -95,7 +107,8 @@ public class CouchbaseCacheConfiguration {
 	public CouchbaseCacheConfiguration collection(final String collectionName) {
 		Assert.notNull(collectionName, "collectionName must not be null!");
 		return new CouchbaseCacheConfiguration(expiry, cacheNullValues, usePrefix, keyPrefix, conversionService,
-				valueTranscoder, collectionName);
+				valueTranscoder, collectionName, loadingLockExpiry, nearCache, generationRefresh,
+				refreshAheadThreshold, staleGracePeriod);
 	}
 
 	/**
@@ -107,7 +120,8 @@ public class CouchbaseCacheConfiguration {
 	public CouchbaseCacheConfiguration valueTranscoder(final Transcoder valueTranscoder) {
 		Assert.notNull(valueTranscoder, "Transcoder must not be null!");
 		return new CouchbaseCacheConfiguration(expiry, cacheNullValues, usePrefix, keyPrefix, conversionService,
-				valueTranscoder, collectionName);
+				valueTranscoder, collectionName, loadingLockExpiry, nearCache, generationRefresh,
+				refreshAheadThreshold, staleGracePeriod);
 	}
 
 	/**
@@ -120,7 +134,8 @@ public class CouchbaseCacheConfiguration {
 	 */
 	public CouchbaseCacheConfiguration disableCachingNullValues() {
 		return new CouchbaseCacheConfiguration(expiry, false, usePrefix, keyPrefix, conversionService, valueTranscoder,
-				collectionName);
+				collectionName, loadingLockExpiry, nearCache, generationRefresh,
+				refreshAheadThreshold, staleGracePeriod);
 	}
 
 	/**
@@ -147,7 +162,92 @@ public class CouchbaseCacheConfiguration {
 	public CouchbaseCacheConfiguration computePrefixWith(CacheKeyPrefix cacheKeyPrefix) {
 		Assert.notNull(cacheKeyPrefix, "Function for computing prefix must not be null!");
 		return new CouchbaseCacheConfiguration(expiry, cacheNullValues, true, cacheKeyPrefix, conversionService,
-				valueTranscoder, collectionName);
+				valueTranscoder, collectionName, loadingLockExpiry, nearCache, generationRefresh,
+				refreshAheadThreshold, staleGracePeriod);
+	}
+
+	/**
+	 * Make a cache miss load the value on one node of the cluster at a time. The loading node holds a lock document,
+	 * which expires after {@code lockExpiry} if the node fails to remove it. Other nodes wait for the value until then.
+	 * A node whose load outlives its lock does not remove the lock another node took since. Loads on one node are always
+	 * made one at a time per key.
+	 *
+	 * @param lockExpiry must not be {@literal null}, and should exceed the time taken to load a value.
+	 * @return new {@link CouchbaseCacheConfiguration}.
+	 */
+	public CouchbaseCacheConfiguration loadingLock(final Duration lockExpiry) {
+		Assert.notNull(lockExpiry, "Lock expiry duration must not be null!");
+		Assert.isTrue(!lockExpiry.isZero() && !lockExpiry.isNegative(), "Lock expiry duration must be positive!");
+		return new CouchbaseCacheConfiguration(expiry, cacheNullValues, usePrefix, keyPrefix, conversionService,
+				valueTranscoder, collectionName, lockExpiry, nearCache, generationRefresh,
+				refreshAheadThreshold, staleGracePeriod);
+	}
+
+	/**
+	 * Keep recently used values in process, in front of Couchbase. Lookups of these values are served locally, and
+	 * {@code put}, {@code evict} and {@code clear} through the cache invalidate them. Writes made by other nodes are only
+	 * seen once the local value expires, so the {@link NearCacheConfiguration#getExpiry() near cache expiry} bounds how
+	 * stale a value may be.
+	 *
+	 * @param nearCache must not be {@literal null}.
+	 * @return new {@link CouchbaseCacheConfiguration}.
+	 */
+	public CouchbaseCacheConfiguration nearCache(final NearCacheConfiguration nearCache) {
+		Assert.notNull(nearCache, "NearCacheConfiguration must not be null!");
+		return new CouchbaseCacheConfiguration(expiry, cacheNullValues, usePrefix, keyPrefix, conversionService,
+				valueTranscoder, collectionName, loadingLockExpiry, nearCache, generationRefresh,
+				refreshAheadThreshold, staleGracePeriod);
+	}
+
+	/**
+	 * Clear the cache by moving to a new generation of keys instead of deleting its documents. The generation is kept in
+	 * a counter document and is part of every cache key, so clearing is a single increment of the counter, and the
+	 * entries of earlier generations are left to expire. Each node reads the generation at most once per
+	 * {@code refreshInterval}, so a clear made on another node takes up to that long to be seen. Requires an entry
+	 * expiry, as entries are only removed by their {@link #entryExpiry(Duration) expiry}.
+	 *
+	 * @param refreshInterval must not be {@literal null}.
+	 * @return new {@link CouchbaseCacheConfiguration}.
+	 */
+	public CouchbaseCacheConfiguration generationalClear(final Duration refreshInterval) {
+		Assert.notNull(refreshInterval, "Refresh interval must not be null!");
+		Assert.isTrue(!refreshInterval.isNegative(), "Refresh interval must not be negative!");
+		return new CouchbaseCacheConfiguration(expiry, cacheNullValues, usePrefix, keyPrefix, conversionService,
+				valueTranscoder, collectionName, loadingLockExpiry, nearCache, refreshInterval,
+				refreshAheadThreshold, staleGracePeriod);
+	}
+
+	/**
+	 * Reload values ahead of their expiry. When {@link CouchbaseCache#get(Object, java.util.concurrent.Callable)} finds
+	 * a value in the last {@code threshold} fraction of its {@link #entryExpiry(Duration) expiry}, it returns the value
+	 * and reloads it in the background, once per key at a time. Requires an entry expiry.
+	 *
+	 * @param threshold the fraction of the expiry, between 0 and 1.
+	 * @return new {@link CouchbaseCacheConfiguration}.
+	 * @see #refreshAhead(double, Duration)
+	 */
+	public CouchbaseCacheConfiguration refreshAhead(final double threshold) {
+		return refreshAhead(threshold, Duration.ZERO);
+	}
+
+	/**
+	 * Reload values ahead of their expiry, and keep serving expired values for a grace period while they are reloaded.
+	 * Entries are stored for their {@link #entryExpiry(Duration) expiry} plus {@code staleGracePeriod}; during the grace
+	 * period, {@link CouchbaseCache#get(Object, java.util.concurrent.Callable)} returns the stale value and reloads it in
+	 * the background, and {@link CouchbaseCache#get(Object)} and {@link CouchbaseCache#getAsync(Object)} treat it as
+	 * missing. The bulk operations do not check for staleness, and may return values in their grace period.
+	 *
+	 * @param threshold the fraction of the expiry, between 0 and 1.
+	 * @param staleGracePeriod must not be {@literal null}.
+	 * @return new {@link CouchbaseCacheConfiguration}.
+	 */
+	public CouchbaseCacheConfiguration refreshAhead(final double threshold, final Duration staleGracePeriod) {
+		Assert.isTrue(threshold >= 0 && threshold <= 1, "Refresh-ahead threshold must be between 0 and 1!");
+		Assert.notNull(staleGracePeriod, "Stale grace period must not be null!");
+		Assert.isTrue(!staleGracePeriod.isNegative(), "Stale grace period must not be negative!");
+		return new CouchbaseCacheConfiguration(expiry, cacheNullValues, usePrefix, keyPrefix, conversionService,
+				valueTranscoder, collectionName, loadingLockExpiry, nearCache, generationRefresh, threshold,
+				staleGracePeriod);
 	}
 
 	/**
@@ -203,4 +303,47 @@ public class CouchbaseCacheConfiguration {
 		return collectionName;
 	}
 
+	/**
+	 * The expiry of the lock documents held while loading a value, or {@literal null} if values are not loaded under a
+	 * cluster-wide lock.
+	 */
+	public Duration getLoadingLockExpiry() {
+		return loadingLockExpiry;
+	}
+
+	/**
+	 * The settings of the near cache, or {@literal null} if the cache has none.
+	 */
+	public NearCacheConfiguration getNearCache() {
+		return nearCache;
+	}
+
+	/**
+	 * How often the key generation is read, or {@literal null} if the cache is cleared by deleting its documents.
+	 *
+	 * @see #generationalClear(Duration)
+	 */
+	public Duration getGenerationRefreshInterval() {
+		return generationRefresh;
+	}
+
+	/**
+	 * The fraction of the expiry at the end of which values are reloaded ahead of their expiry, or {@literal null} if
+	 * they are not.
+	 *
+	 * @see #refreshAhead(double, Duration)
+	 */
+	public Double getRefreshAheadThreshold() {
+		return refreshAheadThreshold;
+	}
+
+	/**
+	 * How long expired values are kept and served while they are reloaded. Never {@literal null}.
+	 *
+	 * @see #refreshAhead(double, Duration)
+	 */
+	public Duration getStaleGracePeriod() {
+		return staleGracePeriod;
+	}
+
 }
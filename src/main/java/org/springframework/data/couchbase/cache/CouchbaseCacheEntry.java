@@ -0,0 +1,49 @@
+/*
+ * Copyright 2022 the original author or authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.couchbase.cache;
+
+import java.time.Instant;
+
+import org.springframework.lang.Nullable;
+
+/**
+ * A value read from Couchbase together with the expiry time of its document.
+ *
+ * @since 4.4
+ * @see CouchbaseCacheWriter#getEntry(String, String, com.couchbase.client.java.codec.Transcoder)
+ */
+public class CouchbaseCacheEntry {
+
+	private final Object value;
+	private final Instant expiryTime;
+
+	public CouchbaseCacheEntry(final Object value, @Nullable final Instant expiryTime) {
+		this.value = value;
+		this.expiryTime = expiryTime;
+	}
+
+	public Object getValue() {
+		return value;
+	}
+
+	/**
+	 * @return the time the document expires, {@literal null} if it does not expire or the time is not known.
+	 */
+	@Nullable
+	public Instant getExpiryTime() {
+		return expiryTime;
+	}
+}
@@ -0,0 +1,89 @@
+/*
+ * Copyright 2022 the original author or authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.couchbase.cache;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Hit and miss counts of a {@link CouchbaseCache}, kept separately for the near cache (L1) and for Couchbase (L2). L2
+ * only counts lookups that were not served by the near cache.
+ *
+ * @since 4.4
+ * @see CouchbaseCache#getStatistics()
+ */
+public class CouchbaseCacheStatistics {
+
+	private final LongAdder nearHits = new LongAdder();
+	private final LongAdder nearMisses = new LongAdder();
+	private final LongAdder remoteHits = new LongAdder();
+	private final LongAdder remoteMisses = new LongAdder();
+
+	void recordNear(boolean hit) {
+		(hit ? nearHits : nearMisses).increment();
+	}
+
+	void recordRemote(boolean hit) {
+		(hit ? remoteHits : remoteMisses).increment();
+	}
+
+	public long getNearHits() {
+		return nearHits.sum();
+	}
+
+	public long getNearMisses() {
+		return nearMisses.sum();
+	}
+
+	public long getRemoteHits() {
+		return remoteHits.sum();
+	}
+
+	public long getRemoteMisses() {
+		return remoteMisses.sum();
+	}
+
+	/**
+	 * @return the share of lookups served by the near cache, or 0 if there were none.
+	 */
+	public double getNearHitRatio() {
+		return ratio(getNearHits(), getNearMisses());
+	}
+
+	/**
+	 * @return the share of lookups reaching Couchbase that found a value, or 0 if there were none.
+	 */
+	public double getRemoteHitRatio() {
+		return ratio(getRemoteHits(), getRemoteMisses());
+	}
+
+	public void reset() {
+		nearHits.reset();
+		nearMisses.reset();
+		remoteHits.reset();
+		remoteMisses.reset();
+	}
+
+	private static double ratio(long hits, long misses) {
+		long total = hits + misses;
+		return total == 0 ? 0 : (double) hits / total;
+	}
+
+	@Override
+	public String toString() {
+		return "CouchbaseCacheStatistics{" + "nearHits=" + getNearHits() + ", nearMisses=" + getNearMisses()
+				+ ", remoteHits=" + getRemoteHits() + ", remoteMisses=" + getRemoteMisses() + '}';
+	}
+}
@@ -17,6 +17,9 @@
 package org.springframework.data.couchbase.cache;
 
 import java.time.Duration;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
 
 import org.springframework.lang.Nullable;
 
@@ -59,6 +62,21 @@ public interface CouchbaseCacheWriter {
 	@Nullable
 	Object get(String collectionName, String key, @Nullable Transcoder transcoder);
 
+	/**
+	 * Get the value stored in Couchbase for the given key together with the expiry time of its document. Unless
+	 * overridden, the expiry time is not known.
+	 *
+	 * @param collectionName must not be {@literal null}.
+	 * @param key must not be {@literal null}.
+	 * @param transcoder Optional transcoder to use. Can be {@literal null}.
+	 * @return {@literal null} if key does not exist.
+	 */
+	@Nullable
+	default CouchbaseCacheEntry getEntry(String collectionName, String key, @Nullable Transcoder transcoder) {
+		Object value = get(collectionName, key, transcoder);
+		return value == null ? null : new CouchbaseCacheEntry(value, null);
+	}
+
 	/**
 	 * Remove the given key from Couchbase.
 	 *
@@ -76,4 +94,117 @@ public interface CouchbaseCacheWriter {
 	 */
 	long clear(String pattern);
 
+	/**
+	 * Clears the cache entries with the given key pattern prefix from the given collection.
+	 *
+	 * @param collectionName The cache name, {@literal null} for the default collection.
+	 * @param pattern the pattern to clear.
+	 * @return the number of cleared items.
+	 */
+	default long clear(@Nullable String collectionName, String pattern) {
+		return clear(pattern);
+	}
+
+	/**
+	 * Get the value of a counter document.
+	 *
+	 * @param collectionName The cache name must not be {@literal null}.
+	 * @param key The key of the counter document. Must not be {@literal null}.
+	 * @return the value of the counter, 0 if it does not exist.
+	 */
+	default long getCounter(String collectionName, String key) {
+		throw new UnsupportedOperationException(getClass().getName() + " does not support counters");
+	}
+
+	/**
+	 * Atomically increment a counter document, creating it with a value of 1 if it does not exist.
+	 *
+	 * @param collectionName The cache name must not be {@literal null}.
+	 * @param key The key of the counter document. Must not be {@literal null}.
+	 * @return the value of the counter after the increment.
+	 */
+	default long incrementCounter(String collectionName, String key) {
+		throw new UnsupportedOperationException(getClass().getName() + " does not support counters");
+	}
+
+	/**
+	 * Write the given key/value pairs to Couchbase and set the expiration time if defined.
+	 *
+	 * @param collectionName The cache name must not be {@literal null}.
+	 * @param values The values stored by key. Must not be {@literal null}.
+	 * @param expiry Optional expiration time. Can be {@literal null}.
+	 * @param transcoder Optional transcoder to use. Can be {@literal null}.
+	 */
+	default void putAll(String collectionName, Map<String, ?> values, @Nullable Duration expiry,
+			@Nullable Transcoder transcoder) {
+		values.forEach((key, value) -> put(collectionName, key, value, expiry, transcoder));
+	}
+
+	/**
+	 * Get the values stored in Couchbase for the given keys.
+	 *
+	 * @param collectionName must not be {@literal null}.
+	 * @param keys must not be {@literal null}.
+	 * @param transcoder Optional transcoder to use. Can be {@literal null}.
+	 * @return the values by key, without the keys that do not exist.
+	 */
+	default Map<String, Object> getAll(String collectionName, Collection<String> keys, @Nullable Transcoder transcoder) {
+		Map<String, Object> values = new LinkedHashMap<>();
+		for (String key : keys) {
+			Object value = get(collectionName, key, transcoder);
+			if (value != null) {
+				values.put(key, value);
+			}
+		}
+		return values;
+	}
+
+	/**
+	 * Remove the given keys from Couchbase.
+	 *
+	 * @param collectionName The cache name must not be {@literal null}.
+	 * @param keys The keys of the cache entries. Must not be {@literal null}.
+	 * @return the number of documents that existed on removal.
+	 */
+	default long removeAll(String collectionName, Collection<String> keys) {
+		return keys.stream().filter(key -> remove(collectionName, key)).count();
+	}
+
+	/**
+	 * The non-blocking view of this writer. Unless overridden, it runs the blocking operations on
+	 * {@link reactor.core.scheduler.Schedulers#boundedElastic()}.
+	 *
+	 * @return never {@literal null}.
+	 */
+	default ReactiveCouchbaseCacheWriter reactive() {
+		return new BlockingReactiveCouchbaseCacheWriter(this);
+	}
+
+	/**
+	 * Create a lock document for the given key if it does not exist yet.
+	 *
+	 * @param collectionName The cache name must not be {@literal null}.
+	 * @param key The key of the lock document. Must not be {@literal null}.
+	 * @param expiry The expiration time of the lock, after which it is released even if it was not removed.
+	 * @return the CAS of the created lock document, 0 if it is not known, or {@literal null} if the lock document
+	 *         already existed.
+	 */
+	@Nullable
+	default Long tryLock(String collectionName, String key, Duration expiry) {
+		return putIfAbsent(collectionName, key, Boolean.TRUE, expiry, null) == null ? 0L : null;
+	}
+
+	/**
+	 * Remove a lock document created by {@link #tryLock(String, String, Duration)}, unless it has expired and another
+	 * lock document was created since, which is then left in place. Unless overridden, the lock document is removed
+	 * whatever its CAS.
+	 *
+	 * @param collectionName The cache name must not be {@literal null}.
+	 * @param key The key of the lock document. Must not be {@literal null}.
+	 * @param cas The CAS returned by {@link #tryLock(String, String, Duration)}.
+	 */
+	default void unlock(String collectionName, String key, long cas) {
+		remove(collectionName, key);
+	}
+
 }
@@ -17,32 +17,59 @@
 package org.springframework.data.couchbase.cache;
 
 import static com.couchbase.client.java.kv.GetOptions.*;
+import static com.couchbase.client.java.kv.IncrementOptions.*;
 import static com.couchbase.client.java.kv.InsertOptions.*;
+import static com.couchbase.client.java.kv.RemoveOptions.*;
 import static com.couchbase.client.java.kv.UpsertOptions.*;
 import static com.couchbase.client.java.query.QueryOptions.*;
 
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
 import java.time.Duration;
+import java.util.Map;
 
 import org.springframework.data.couchbase.CouchbaseClientFactory;
+import org.springframework.util.Assert;
 
+import com.couchbase.client.core.error.CasMismatchException;
 import com.couchbase.client.core.error.DocumentExistsException;
 import com.couchbase.client.core.error.DocumentNotFoundException;
 import com.couchbase.client.core.io.CollectionIdentifier;
 import com.couchbase.client.java.Collection;
 import com.couchbase.client.java.Scope;
+import com.couchbase.client.java.ReactiveCollection;
 import com.couchbase.client.java.codec.Transcoder;
 import com.couchbase.client.java.json.JsonObject;
+import com.couchbase.client.java.kv.GetOptions;
+import com.couchbase.client.java.kv.GetResult;
 import com.couchbase.client.java.kv.InsertOptions;
 import com.couchbase.client.java.kv.UpsertOptions;
 import com.couchbase.client.java.query.QueryMetrics;
+import com.couchbase.client.java.query.QueryOptions;
 import com.couchbase.client.java.query.QueryResult;
 
 public class DefaultCouchbaseCacheWriter implements CouchbaseCacheWriter {
 
+	static final int DEFAULT_BULK_CONCURRENCY = 32;
+
 	private final CouchbaseClientFactory clientFactory;
+	private final int bulkConcurrency;
+	private final ReactiveCouchbaseCacheWriter reactive;
 
 	public DefaultCouchbaseCacheWriter(final CouchbaseClientFactory clientFactory) {
+		this(clientFactory, DEFAULT_BULK_CONCURRENCY);
+	}
+
+	/**
+	 * @param clientFactory must not be {@literal null}.
+	 * @param bulkConcurrency the maximum number of requests in flight for one bulk operation.
+	 */
+	public DefaultCouchbaseCacheWriter(final CouchbaseClientFactory clientFactory, final int bulkConcurrency) {
+		Assert.isTrue(bulkConcurrency > 0, "bulkConcurrency must be positive!");
 		this.clientFactory = clientFactory;
+		this.bulkConcurrency = bulkConcurrency;
+		this.reactive = new DefaultReactiveCouchbaseCacheWriter(clientFactory);
 	}
 
 	@Override
@@ -81,6 +108,61 @@ public class DefaultCouchbaseCacheWriter implements CouchbaseCacheWriter {
 		}
 	}
 
+	@Override
+	public void putAll(final String collectionName, final Map<String, ?> values, final Duration expiry,
+			final Transcoder transcoder) {
+		UpsertOptions options = upsertOptions();
+
+		if (expiry != null) {
+			options.expiry(expiry);
+		}
+		if (transcoder != null) {
+			options.transcoder(transcoder);
+		}
+
+		ReactiveCollection collection = getCollection(collectionName).reactive();
+		Flux.fromIterable(values.entrySet())
+				.flatMap(entry -> collection.upsert(entry.getKey(), entry.getValue(), options), bulkConcurrency).then()
+				.block();
+	}
+
+	@Override
+	public Map<String, Object> getAll(final String collectionName, final java.util.Collection<String> keys,
+			final Transcoder transcoder) {
+		GetOptions options = getOptions().transcoder(transcoder);
+		ReactiveCollection collection = getCollection(collectionName).reactive();
+		return Flux.fromIterable(keys).distinct()
+				.flatMap(key -> collection.get(key, options).map(result -> new Object[] { key, result.contentAs(Object.class) })
+						.onErrorResume(DocumentNotFoundException.class, ex -> Mono.empty()), bulkConcurrency)
+				.collectMap(pair -> (String) pair[0], pair -> pair[1]).block();
+	}
+
+	@Override
+	public long removeAll(final String collectionName, final java.util.Collection<String> keys) {
+		ReactiveCollection collection = getCollection(collectionName).reactive();
+		Long removed = Flux.fromIterable(keys).distinct().flatMap(key -> collection.remove(key).thenReturn(1L)
+				.onErrorResume(DocumentNotFoundException.class, ex -> Mono.empty()), bulkConcurrency).count().block();
+		return removed == null ? 0 : removed;
+	}
+
+	@Override
+	public Long tryLock(final String collectionName, final String key, final Duration expiry) {
+		try {
+			return getCollection(collectionName).insert(key, Boolean.TRUE, insertOptions().expiry(expiry)).cas();
+		} catch (final DocumentExistsException ex) {
+			return null;
+		}
+	}
+
+	@Override
+	public void unlock(final String collectionName, final String key, final long cas) {
+		try {
+			getCollection(collectionName).remove(key, removeOptions().cas(cas));
+		} catch (final DocumentNotFoundException | CasMismatchException ex) {
+			// the lock expired, and may have been taken by another node since
+		}
+	}
+
 	@Override
 	public Object get(final String collectionName, final String key, final Transcoder transcoder) {
 		// TODO .. the decoding side transcoding needs to be figured out?
@@ -91,6 +173,17 @@ public class DefaultCouchbaseCacheWriter implements CouchbaseCacheWriter {
 		}
 	}
 
+	@Override
+	public CouchbaseCacheEntry getEntry(final String collectionName, final String key, final Transcoder transcoder) {
+		try {
+			GetResult result = getCollection(collectionName).get(key,
+					getOptions().transcoder(transcoder).withExpiry(true));
+			return new CouchbaseCacheEntry(result.contentAs(Object.class), result.expiryTime().orElse(null));
+		} catch (DocumentNotFoundException ex) {
+			return null;
+		}
+	}
+
 	@Override
 	public boolean remove(final String collectionName, final String key) {
 		try {
@@ -103,13 +196,40 @@ public class DefaultCouchbaseCacheWriter implements CouchbaseCacheWriter {
 
 	@Override
 	public long clear(final String pattern) {
-		QueryResult result = clientFactory.getCluster().query(
-				"DELETE FROM `" + clientFactory.getBucket().name() + "` where meta().id LIKE $pattern",
-				queryOptions().metrics(true).parameters(JsonObject.create().put("pattern", pattern + "%")));
+		return clear(null, pattern);
+	}
+
+	@Override
+	public long clear(final String collectionName, final String pattern) {
+		QueryResult result = clientFactory.getCluster().query(clearStatement(clientFactory, collectionName),
+				clearOptions(pattern));
 		return result.metaData().metrics().map(QueryMetrics::mutationCount).orElse(0L);
 	}
 
+	@Override
+	public ReactiveCouchbaseCacheWriter reactive() {
+		return reactive;
+	}
+
+	@Override
+	public long getCounter(final String collectionName, final String key) {
+		try {
+			return getCollection(collectionName).get(key).contentAs(Long.class);
+		} catch (DocumentNotFoundException ex) {
+			return 0;
+		}
+	}
+
+	@Override
+	public long incrementCounter(final String collectionName, final String key) {
+		return getCollection(collectionName).binary().increment(key, incrementOptions().initial(1)).content();
+	}
+
 	private Collection getCollection(final String collectionName) {
+		return getCollection(clientFactory, collectionName);
+	}
+
+	static Collection getCollection(final CouchbaseClientFactory clientFactory, final String collectionName) {
 		final Scope scope = clientFactory.getScope();
 		if (collectionName == null) {
 			if (!scope.name().equals(CollectionIdentifier.DEFAULT_SCOPE)) {
@@ -119,4 +239,16 @@ public class DefaultCouchbaseCacheWriter implements CouchbaseCacheWriter {
 		}
 		return scope.collection(collectionName);
 	}
+
+	static String clearStatement(final CouchbaseClientFactory clientFactory, final String collectionName) {
+		String keyspace = "`" + clientFactory.getBucket().name() + "`";
+		if (collectionName != null) {
+			keyspace += ".`" + clientFactory.getScope().name() + "`.`" + collectionName + "`";
+		}
+		return "DELETE FROM " + keyspace + " where meta().id LIKE $pattern";
+	}
+
+	static QueryOptions clearOptions(final String pattern) {
+		return queryOptions().metrics(true).parameters(JsonObject.create().put("pattern", pattern + "%"));
+	}
 }
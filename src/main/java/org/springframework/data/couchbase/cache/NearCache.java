@@ -0,0 +1,141 @@
+/*
+ * Copyright 2022 the original author or authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.couchbase.cache;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.springframework.data.couchbase.cache.NearCacheConfiguration.EvictionPolicy;
+
+/**
+ * Bounded in-process map of cache values, keyed by the Couchbase document key. Values are served until they expire or
+ * are invalidated by a write through the owning {@link CouchbaseCache}; writes from other nodes are only seen once the
+ * local value expires.
+ * <p>
+ * Reads and writes do not lock. Once the map is full, a single writer sweeps it, removing the expired values and then
+ * the least recently used or written values, so that a tenth of the capacity is free again. The order of eviction is
+ * therefore approximate, and concurrent writers can briefly exceed the capacity.
+ *
+ * @since 4.4
+ */
+class NearCache {
+
+	private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+	private final ReentrantLock evictionLock = new ReentrantLock();
+	private final long expiryNanos;
+	private final int maxEntries;
+	private final boolean lru;
+
+	NearCache(final NearCacheConfiguration config, final Duration remoteExpiry) {
+		Duration expiry = config.getExpiry();
+		if (!remoteExpiry.isZero() && remoteExpiry.compareTo(expiry) < 0) {
+			expiry = remoteExpiry;
+		}
+		this.expiryNanos = expiry.toNanos();
+		this.maxEntries = config.getMaxEntries();
+		this.lru = config.getEvictionPolicy() == EvictionPolicy.LRU;
+	}
+
+	/**
+	 * @return the value, or null if there is none or it has expired.
+	 */
+	Object get(final String key) {
+		Entry entry = entries.get(key);
+		if (entry == null) {
+			return null;
+		}
+		long now = System.nanoTime();
+		if (entry.expiresAt - now < 0) {
+			entries.remove(key, entry);
+			return null;
+		}
+		if (lru) {
+			entry.usedAt = now;
+		}
+		return entry.value;
+	}
+
+	void put(final String key, final Object value) {
+		long now = System.nanoTime();
+		entries.put(key, new Entry(value, now, now + expiryNanos));
+		if (entries.size() > maxEntries) {
+			evict(now);
+		}
+	}
+
+	void evict(final String key) {
+		entries.remove(key);
+	}
+
+	void clear() {
+		entries.clear();
+	}
+
+	int size() {
+		return entries.size();
+	}
+
+	private void evict(final long now) {
+		if (!evictionLock.tryLock()) { // another writer is already sweeping
+			return;
+		}
+		try {
+			entries.entrySet().removeIf(e -> e.getValue().expiresAt - now < 0);
+			int excess = entries.size() - (maxEntries - maxEntries / 10);
+			if (excess <= 0) {
+				return;
+			}
+			// the use times are read once, as readers keep updating them while the candidates are sorted
+			List<Candidate> candidates = new ArrayList<>(entries.size());
+			entries.forEach((key, entry) -> candidates.add(new Candidate(key, entry, entry.usedAt - now)));
+			candidates.sort(Comparator.comparingLong(candidate -> candidate.usedAt));
+			for (int i = 0; i < excess && i < candidates.size(); i++) {
+				entries.remove(candidates.get(i).key, candidates.get(i).entry);
+			}
+		} finally {
+			evictionLock.unlock();
+		}
+	}
+
+	private static final class Entry {
+		final Object value;
+		final long expiresAt;
+		volatile long usedAt;
+
+		Entry(Object value, long usedAt, long expiresAt) {
+			this.value = value;
+			this.usedAt = usedAt;
+			this.expiresAt = expiresAt;
+		}
+	}
+
+	private static final class Candidate {
+		final String key;
+		final Entry entry;
+		final long usedAt;
+
+		Candidate(String key, Entry entry, long usedAt) {
+			this.key = key;
+			this.entry = entry;
+			this.usedAt = usedAt;
+		}
+	}
+}
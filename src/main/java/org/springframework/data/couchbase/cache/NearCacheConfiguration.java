@@ -0,0 +1,89 @@
+/*
+ * Copyright 2022 the original author or authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.couchbase.cache;
+
+import java.time.Duration;
+
+import org.springframework.util.Assert;
+
+/**
+ * Settings of the in-process near cache that a {@link CouchbaseCache} may keep in front of Couchbase. The near cache
+ * holds at most {@link #getMaxEntries() maxEntries} values, each for at most {@link #getExpiry() expiry}, which is
+ * capped at the {@link CouchbaseCacheConfiguration#getExpiry() expiry} of the cache entries themselves.
+ *
+ * @since 4.4
+ * @see CouchbaseCacheConfiguration#nearCache(NearCacheConfiguration)
+ */
+public final class NearCacheConfiguration {
+
+	/**
+	 * The entry removed when the near cache is full.
+	 */
+	public enum EvictionPolicy {
+		/** Remove the least recently read or written entry. */
+		LRU,
+		/** Remove the least recently written entry. */
+		FIFO
+	}
+
+	private final int maxEntries;
+	private final Duration expiry;
+	private final EvictionPolicy evictionPolicy;
+
+	private NearCacheConfiguration(final int maxEntries, final Duration expiry, final EvictionPolicy evictionPolicy) {
+		this.maxEntries = maxEntries;
+		this.expiry = expiry;
+		this.evictionPolicy = evictionPolicy;
+	}
+
+	/**
+	 * Create a near cache configuration with {@link EvictionPolicy#LRU} eviction.
+	 *
+	 * @param maxEntries the number of values held, must be positive.
+	 * @param expiry how long a value is served locally, must be positive.
+	 * @return new {@link NearCacheConfiguration}.
+	 */
+	public static NearCacheConfiguration of(final int maxEntries, final Duration expiry) {
+		Assert.isTrue(maxEntries > 0, "maxEntries must be positive!");
+		Assert.notNull(expiry, "Expiry duration must not be null!");
+		Assert.isTrue(!expiry.isZero() && !expiry.isNegative(), "Expiry duration must be positive!");
+		return new NearCacheConfiguration(maxEntries, expiry, EvictionPolicy.LRU);
+	}
+
+	/**
+	 * Set the eviction policy applied when the near cache is full.
+	 *
+	 * @param evictionPolicy must not be {@literal null}.
+	 * @return new {@link NearCacheConfiguration}.
+	 */
+	public NearCacheConfiguration evictionPolicy(final EvictionPolicy evictionPolicy) {
+		Assert.notNull(evictionPolicy, "EvictionPolicy must not be null!");
+		return new NearCacheConfiguration(maxEntries, expiry, evictionPolicy);
+	}
+
+	public int getMaxEntries() {
+		return maxEntries;
+	}
+
+	public Duration getExpiry() {
+		return expiry;
+	}
+
+	public EvictionPolicy getEvictionPolicy() {
+		return evictionPolicy;
+	}
+
+}
@@ -0,0 +1,122 @@
+/*
+ * Copyright 2022 the original author or authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.couchbase.cache;
+
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+
+import org.springframework.lang.Nullable;
+
+import com.couchbase.client.java.codec.Transcoder;
+
+/**
+ * Non-blocking counterpart of {@link CouchbaseCacheWriter}.
+ *
+ * @since 4.4
+ * @see CouchbaseCacheWriter#reactive()
+ */
+public interface ReactiveCouchbaseCacheWriter {
+
+	/**
+	 * Write the given key/value pair to Couchbase an set the expiration time if defined.
+	 *
+	 * @param collectionName The cache name must not be {@literal null}.
+	 * @param key The key for the cache entry. Must not be {@literal null}.
+	 * @param value The value stored for the key. Must not be {@literal null}.
+	 * @param expiry Optional expiration time. Can be {@literal null}.
+	 * @param transcoder Optional transcoder to use. Can be {@literal null}.
+	 */
+	Mono<Void> put(String collectionName, String key, Object value, @Nullable Duration expiry,
+			@Nullable Transcoder transcoder);
+
+	/**
+	 * Write the given value to Couchbase if the key does not already exist.
+	 *
+	 * @param collectionName The cache name must not be {@literal null}.
+	 * @param key The key for the cache entry. Must not be {@literal null}.
+	 * @param value The value stored for the key. Must not be {@literal null}.
+	 * @param expiry Optional expiration time. Can be {@literal null}.
+	 * @param transcoder Optional transcoder to use. Can be {@literal null}.
+	 * @return the existing value, empty if the value was written.
+	 */
+	Mono<Object> putIfAbsent(String collectionName, String key, Object value, @Nullable Duration expiry,
+			@Nullable Transcoder transcoder);
+
+	/**
+	 * Get the value stored in Couchbase for the given key.
+	 *
+	 * @param collectionName must not be {@literal null}.
+	 * @param key must not be {@literal null}.
+	 * @param transcoder Optional transcoder to use. Can be {@literal null}.
+	 * @return empty if key does not exist.
+	 */
+	Mono<Object> get(String collectionName, String key, @Nullable Transcoder transcoder);
+
+	/**
+	 * Get the value stored in Couchbase for the given key together with the expiry time of its document. Unless
+	 * overridden, the expiry time is not known.
+	 *
+	 * @param collectionName must not be {@literal null}.
+	 * @param key must not be {@literal null}.
+	 * @param transcoder Optional transcoder to use. Can be {@literal null}.
+	 * @return empty if key does not exist.
+	 */
+	default Mono<CouchbaseCacheEntry> getEntry(String collectionName, String key, @Nullable Transcoder transcoder) {
+		return get(collectionName, key, transcoder).map(value -> new CouchbaseCacheEntry(value, null));
+	}
+
+	/**
+	 * Remove the given key from Couchbase.
+	 *
+	 * @param collectionName The cache name must not be {@literal null}.
+	 * @param key The key for the cache entry. Must not be {@literal null}.
+	 * @return true if the document existed on removal, false otherwise.
+	 */
+	Mono<Boolean> remove(String collectionName, String key);
+
+	/**
+	 * Clears the cache entries with the given key pattern prefix from the given collection.
+	 *
+	 * @param collectionName The cache name, {@literal null} for the default collection.
+	 * @param pattern the pattern to clear.
+	 * @return the number of cleared items.
+	 */
+	Mono<Long> clear(@Nullable String collectionName, String pattern);
+
+	/**
+	 * Get the value of a counter document.
+	 *
+	 * @param collectionName The cache name must not be {@literal null}.
+	 * @param key The key of the counter document. Must not be {@literal null}.
+	 * @return the value of the counter, 0 if it does not exist.
+	 */
+	default Mono<Long> getCounter(String collectionName, String key) {
+		return Mono.error(new UnsupportedOperationException(getClass().getName() + " does not support counters"));
+	}
+
+	/**
+	 * Atomically increment a counter document, creating it with a value of 1 if it does not exist.
+	 *
+	 * @param collectionName The cache name must not be {@literal null}.
+	 * @param key The key of the counter document. Must not be {@literal null}.
+	 * @return the value of the counter after the increment.
+	 */
+	default Mono<Long> incrementCounter(String collectionName, String key) {
+		return Mono.error(new UnsupportedOperationException(getClass().getName() + " does not support counters"));
+	}
+
+}
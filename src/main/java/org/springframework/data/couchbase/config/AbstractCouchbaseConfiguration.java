@@ -18,10 +18,15 @@ package org.springframework.data.couchbase.config;
 
 import static com.couchbase.client.java.ClusterOptions.clusterOptions;
 
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.time.Duration;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.Set;
 
+import org.springframework.beans.factory.BeanFactory;
+import org.springframework.beans.factory.BeanFactoryAware;
 import org.springframework.beans.factory.config.BeanDefinition;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.ClassPathScanningCandidateComponentProvider;
@@ -30,7 +35,9 @@ import org.springframework.core.type.filter.AnnotationTypeFilter;
 import org.springframework.data.convert.CustomConversions;
 import org.springframework.data.couchbase.CouchbaseClientFactory;
 import org.springframework.data.couchbase.SimpleCouchbaseClientFactory;
+import org.springframework.data.couchbase.core.CouchbaseOperationMetrics;
 import org.springframework.data.couchbase.core.CouchbaseTemplate;
+import org.springframework.data.couchbase.core.MicrometerCouchbaseOperationMetrics;
 import org.springframework.data.couchbase.core.ReactiveCouchbaseTemplate;
 import org.springframework.data.couchbase.core.convert.CouchbaseCustomConversions;
 import org.springframework.data.couchbase.core.convert.MappingCouchbaseConverter;
@@ -40,9 +47,11 @@ import org.springframework.data.couchbase.core.mapping.CouchbaseMappingContext;
 import org.springframework.data.couchbase.core.mapping.Document;
 import org.springframework.data.couchbase.repository.config.ReactiveRepositoryOperationsMapping;
 import org.springframework.data.couchbase.repository.config.RepositoryOperationsMapping;
+import org.springframework.data.couchbase.repository.support.CouchbaseRepositoryWarmUp;
 import org.springframework.data.mapping.model.CamelCaseAbbreviatingFieldNamingStrategy;
 import org.springframework.data.mapping.model.FieldNamingStrategy;
 import org.springframework.data.mapping.model.PropertyNameFieldNamingStrategy;
+import org.springframework.lang.Nullable;
 import org.springframework.util.ClassUtils;
 import org.springframework.util.StringUtils;
 
@@ -71,7 +80,17 @@ import com.fasterxml.jackson.databind.ObjectMapper;
  * @author Michael Reiche
  */
 @Configuration
-public abstract class AbstractCouchbaseConfiguration {
+public abstract class AbstractCouchbaseConfiguration implements BeanFactoryAware {
+
+	private static final boolean MICROMETER_PRESENT = ClassUtils.isPresent("io.micrometer.core.instrument.MeterRegistry",
+			AbstractCouchbaseConfiguration.class.getClassLoader());
+
+	private @Nullable BeanFactory beanFactory;
+
+	@Override
+	public void setBeanFactory(BeanFactory beanFactory) {
+		this.beanFactory = beanFactory;
+	}
 
 	/**
 	 * The connection string which allows the SDK to connect to the cluster.
@@ -157,8 +176,10 @@ public abstract class AbstractCouchbaseConfiguration {
 	@Bean(name = BeanNames.COUCHBASE_TEMPLATE)
 	public CouchbaseTemplate couchbaseTemplate(CouchbaseClientFactory couchbaseClientFactory,
 			MappingCouchbaseConverter mappingCouchbaseConverter, TranslationService couchbaseTranslationService) {
-		return new CouchbaseTemplate(couchbaseClientFactory, mappingCouchbaseConverter, couchbaseTranslationService,
-				getDefaultConsistency());
+		CouchbaseTemplate template = new CouchbaseTemplate(couchbaseClientFactory, mappingCouchbaseConverter,
+				couchbaseTranslationService, getDefaultConsistency());
+		template.setOperationMetrics(operationMetrics());
+		return template;
 	}
 
 	public CouchbaseTemplate couchbaseTemplate(CouchbaseClientFactory couchbaseClientFactory,
@@ -169,8 +190,10 @@ public abstract class AbstractCouchbaseConfiguration {
 	@Bean(name = BeanNames.REACTIVE_COUCHBASE_TEMPLATE)
 	public ReactiveCouchbaseTemplate reactiveCouchbaseTemplate(CouchbaseClientFactory couchbaseClientFactory,
 			MappingCouchbaseConverter mappingCouchbaseConverter, TranslationService couchbaseTranslationService) {
-		return new ReactiveCouchbaseTemplate(couchbaseClientFactory, mappingCouchbaseConverter, couchbaseTranslationService,
-				getDefaultConsistency());
+		ReactiveCouchbaseTemplate template = new ReactiveCouchbaseTemplate(couchbaseClientFactory,
+				mappingCouchbaseConverter, couchbaseTranslationService, getDefaultConsistency());
+		template.setOperationMetrics(operationMetrics());
+		return template;
 	}
 
 	public ReactiveCouchbaseTemplate reactiveCouchbaseTemplate(CouchbaseClientFactory couchbaseClientFactory,
@@ -179,6 +202,19 @@ public abstract class AbstractCouchbaseConfiguration {
 				new JacksonTranslationService());
 	}
 
+	/**
+	 * Configure the metrics the operations of the templates are recorded in, see {@link CouchbaseOperationMetrics}.
+	 * <p>
+	 * The default records them on the Micrometer {@code MeterRegistry} of the application context, if Micrometer is on
+	 * the classpath and there is a single registry.
+	 *
+	 * @return the metrics, or null to not time the operations.
+	 */
+	@Nullable
+	protected CouchbaseOperationMetrics operationMetrics() {
+		return MICROMETER_PRESENT && beanFactory != null ? MicrometerMetrics.create(beanFactory) : null;
+	}
+
 	@Bean(name = BeanNames.COUCHBASE_OPERATIONS_MAPPING)
 	public RepositoryOperationsMapping couchbaseRepositoryOperationsMapping(CouchbaseTemplate couchbaseTemplate) {
 		// create a base mapping that associates all repositories to the default template
@@ -198,6 +234,25 @@ public abstract class AbstractCouchbaseConfiguration {
 		// NO_OP
 	}
 
+	/**
+	 * Warms up the repositories when the application starts, if {@link #warmUpBudget()} returns a budget.
+	 */
+	@Bean
+	public CouchbaseRepositoryWarmUp couchbaseRepositoryWarmUp(
+			RepositoryOperationsMapping couchbaseRepositoryOperationsMapping) {
+		return new CouchbaseRepositoryWarmUp(couchbaseRepositoryOperationsMapping, warmUpBudget());
+	}
+
+	/**
+	 * Configure the time the repositories, their queries and the collections they use may be warmed up for when the
+	 * application starts, see {@link CouchbaseRepositoryWarmUp}.
+	 *
+	 * @return the budget of the warm-up, default is null to not warm up.
+	 */
+	protected Duration warmUpBudget() {
+		return null;
+	}
+
 	@Bean(name = BeanNames.REACTIVE_COUCHBASE_OPERATIONS_MAPPING)
 	public ReactiveRepositoryOperationsMapping reactiveCouchbaseRepositoryOperationsMapping(
 			ReactiveCouchbaseTemplate reactiveCouchbaseTemplate) {
@@ -376,4 +431,15 @@ public abstract class AbstractCouchbaseConfiguration {
 		return null;
 	}
 
+	/**
+	 * Keeps the Micrometer types from being loaded when Micrometer is not on the classpath.
+	 */
+	private static class MicrometerMetrics {
+
+		@Nullable
+		static CouchbaseOperationMetrics create(BeanFactory beanFactory) {
+			MeterRegistry registry = beanFactory.getBeanProvider(MeterRegistry.class).getIfUnique();
+			return registry == null ? null : new MicrometerCouchbaseOperationMetrics(registry);
+		}
+	}
 }
@@ -0,0 +1,173 @@
+/*
+ * Copyright 2022 the original author or authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.couchbase.core;
+
+import reactor.core.scheduler.Schedulers;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import org.springframework.data.couchbase.CouchbaseClientFactory;
+import org.springframework.data.couchbase.core.convert.CouchbaseConverter;
+import org.springframework.data.couchbase.core.convert.join.N1qlJoinResolver;
+import org.springframework.data.couchbase.core.mapping.CouchbasePersistentEntity;
+
+import com.couchbase.client.java.query.QueryScanConsistency;
+
+/**
+ * Implements couchbase operations completing {@link CompletableFuture}s on top of the async API of the SDK, with the
+ * entity mapping of the {@link CouchbaseTemplate} it is obtained from, see {@link CouchbaseTemplate#async()}.
+ * Encoding and decoding run on the thread completing the SDK future, except for the decoding of entities with
+ * immediate joins, which are resolved blocking and are decoded on {@link Schedulers#boundedElastic()}.
+ *
+ * @since 4.4
+ */
+public class AsyncCouchbaseTemplate implements AsyncCouchbaseOperations {
+
+	private final CouchbaseTemplate template;
+
+	AsyncCouchbaseTemplate(final CouchbaseTemplate template) {
+		this.template = template;
+	}
+
+	@Override
+	public <T> AsyncUpsertById<T> upsertById(final Class<T> domainType) {
+		return new AsyncUpsertByIdOperationSupport(this).upsertById(domainType);
+	}
+
+	@Override
+	public <T> AsyncInsertById<T> insertById(final Class<T> domainType) {
+		return new AsyncInsertByIdOperationSupport(this).insertById(domainType);
+	}
+
+	@Override
+	public <T> AsyncReplaceById<T> replaceById(final Class<T> domainType) {
+		return new AsyncReplaceByIdOperationSupport(this).replaceById(domainType);
+	}
+
+	@Override
+	public <T> AsyncFindById<T> findById(final Class<T> domainType) {
+		return new AsyncFindByIdOperationSupport(this).findById(domainType);
+	}
+
+	@Override
+	public <T> AsyncFindFromReplicasById<T> findFromReplicasById(final Class<T> domainType) {
+		return new AsyncFindFromReplicasByIdOperationSupport(this).findFromReplicasById(domainType);
+	}
+
+	@Override
+	public <T> AsyncFindByQuery<T> findByQuery(final Class<T> domainType) {
+		return new AsyncFindByQueryOperationSupport(this).findByQuery(domainType);
+	}
+
+	@Override
+	public AsyncRemoveById removeById(final Class<?> domainType) {
+		return new AsyncRemoveByIdOperationSupport(this).removeById(domainType);
+	}
+
+	@Override
+	public AsyncExistsById existsById(final Class<?> domainType) {
+		return new AsyncExistsByIdOperationSupport(this).existsById(domainType);
+	}
+
+	@Override
+	public CouchbaseConverter getConverter() {
+		return template.getConverter();
+	}
+
+	@Override
+	public String getBucketName() {
+		return template.getBucketName();
+	}
+
+	@Override
+	public String getScopeName() {
+		return template.getScopeName();
+	}
+
+	@Override
+	public CouchbaseClientFactory getCouchbaseClientFactory() {
+		return template.getCouchbaseClientFactory();
+	}
+
+	@Override
+	public QueryScanConsistency getConsistency() {
+		return template.getConsistency();
+	}
+
+	TemplateSupport support() {
+		return template.support();
+	}
+
+	ReactiveCouchbaseTemplate reactive() {
+		return template.reactive();
+	}
+
+	/**
+	 * @return the future returned by {@code operation}, or a future failed with what it threw while preparing the
+	 *         operation, translated as the failures of the operation are.
+	 */
+	<T> CompletableFuture<T> defer(Supplier<CompletableFuture<T>> operation) {
+		try {
+			return operation.get();
+		} catch (RuntimeException ex) {
+			CompletableFuture<T> failed = new CompletableFuture<>();
+			failed.completeExceptionally(ex);
+			return translateExceptions(failed);
+		}
+	}
+
+	/**
+	 * @return the executor to decode the documents read for {@code entityClass} on. The immediate joins of an entity are
+	 *         resolved blocking, which must not happen on the threads completing the SDK futures.
+	 */
+	Executor decodeExecutor(Class<?> entityClass) {
+		CouchbasePersistentEntity<?> entity = getConverter().getMappingContext().getPersistentEntity(entityClass);
+		return N1qlJoinResolver.hasImmediateJoins(entity) ? Schedulers.boundedElastic()::schedule : Runnable::run;
+	}
+
+	/**
+	 * @return a future completing as {@code future} does, with its failure translated as by the other templates.
+	 */
+	<T> CompletableFuture<T> translateExceptions(CompletableFuture<T> future) {
+		CompletableFuture<T> translated = new CompletableFuture<>();
+		future.whenComplete((result, failure) -> {
+			if (failure == null) {
+				translated.complete(result);
+				return;
+			}
+			Throwable cause = failure instanceof CompletionException && failure.getCause() != null ? failure.getCause()
+					: failure;
+			translated.completeExceptionally(cause instanceof RuntimeException
+					? template.potentiallyConvertRuntimeException((RuntimeException) cause)
+					: cause);
+		});
+		return translated;
+	}
+
+	/**
+	 * @return a future of the non-null results of {@code futures}, in their order.
+	 */
+	static <T> CompletableFuture<List<T>> collect(List<CompletableFuture<T>> futures) {
+		return CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).thenApply(v -> futures.stream()
+				.map(CompletableFuture::join).filter(Objects::nonNull).collect(Collectors.toList()));
+	}
+}
@@ -0,0 +1,111 @@
+/*
+ * Copyright 2022 the original author or authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.couchbase.core;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.couchbase.core.query.OptionsBuilder;
+import org.springframework.data.couchbase.core.support.PseudoArgs;
+import org.springframework.util.Assert;
+
+import com.couchbase.client.java.AsyncCollection;
+import com.couchbase.client.java.kv.ExistsOptions;
+import com.couchbase.client.java.kv.ExistsResult;
+
+/**
+ * {@link AsyncExistsByIdOperation} implementations for Couchbase.
+ *
+ * @since 4.4
+ */
+public class AsyncExistsByIdOperationSupport implements AsyncExistsByIdOperation {
+
+	private final AsyncCouchbaseTemplate template;
+	private static final Logger LOG = LoggerFactory.getLogger(AsyncExistsByIdOperationSupport.class);
+
+	AsyncExistsByIdOperationSupport(AsyncCouchbaseTemplate template) {
+		this.template = template;
+	}
+
+	@Override
+	public AsyncExistsById existsById(Class<?> domainType) {
+		return new AsyncExistsByIdSupport(template, domainType, null, null, null);
+	}
+
+	static class AsyncExistsByIdSupport implements AsyncExistsById {
+
+		private final AsyncCouchbaseTemplate template;
+		private final Class<?> domainType;
+		private final String scope;
+		private final String collection;
+		private final ExistsOptions options;
+
+		AsyncExistsByIdSupport(final AsyncCouchbaseTemplate template, final Class<?> domainType, final String scope,
+				final String collection, final ExistsOptions options) {
+			this.template = template;
+			this.domainType = domainType;
+			this.scope = scope;
+			this.collection = collection;
+			this.options = options;
+		}
+
+		@Override
+		public CompletableFuture<Boolean> one(final String id) {
+			return template.defer(() -> {
+				PseudoArgs<ExistsOptions> pArgs = new PseudoArgs<>(template.reactive(), scope, collection, options, domainType);
+				LOG.trace("existsById {}", pArgs);
+				OperationTimer timer = OperationTimer.start(template.reactive(), "existsById", domainType, pArgs);
+				ExistsOptions existsOptions = OptionsBuilder.buildExistsOptions(pArgs.getOptions());
+				AsyncCollection async = template.getCouchbaseClientFactory().withScope(pArgs.getScope())
+						.getCollection(pArgs.getCollection()).async();
+				return timer
+						.record(template.translateExceptions(async.exists(id, existsOptions).thenApply(ExistsResult::exists)));
+			});
+		}
+
+		@Override
+		public CompletableFuture<Map<String, Boolean>> all(final Collection<String> ids) {
+			Map<String, CompletableFuture<Boolean>> futures = new LinkedHashMap<>();
+			ids.forEach(id -> futures.computeIfAbsent(id, this::one));
+			return CompletableFuture.allOf(futures.values().toArray(new CompletableFuture[0])).thenApply(v -> {
+				Map<String, Boolean> exists = new LinkedHashMap<>();
+				futures.forEach((id, future) -> exists.put(id, future.join()));
+				return exists;
+			});
+		}
+
+		@Override
+		public ExistsByIdWithOptions inCollection(final String collection) {
+			return new AsyncExistsByIdSupport(template, domainType, scope, collection, options);
+		}
+
+		@Override
+		public TerminatingExistsById withOptions(final ExistsOptions options) {
+			Assert.notNull(options, "Options must not be null.");
+			return new AsyncExistsByIdSupport(template, domainType, scope, collection, options);
+		}
+
+		@Override
+		public ExistsByIdInCollection inScope(final String scope) {
+			return new AsyncExistsByIdSupport(template, domainType, scope, collection, options);
+		}
+	}
+
+}
@@ -0,0 +1,143 @@
+/*
+ * Copyright 2022 the original author or authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.couchbase.core;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.stream.Collectors;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.couchbase.core.ReactiveFindByIdOperationSupport.ReactiveFindByIdSupport;
+import org.springframework.data.couchbase.core.support.PseudoArgs;
+import org.springframework.util.Assert;
+
+import com.couchbase.client.core.error.DocumentNotFoundException;
+import com.couchbase.client.java.AsyncCollection;
+import com.couchbase.client.java.CommonOptions;
+import com.couchbase.client.java.kv.GetAndTouchOptions;
+import com.couchbase.client.java.kv.GetOptions;
+import com.couchbase.client.java.kv.GetResult;
+
+/**
+ * {@link AsyncFindByIdOperation} implementations for Couchbase.
+ *
+ * @since 4.4
+ */
+public class AsyncFindByIdOperationSupport implements AsyncFindByIdOperation {
+
+	private final AsyncCouchbaseTemplate template;
+	private static final Logger LOG = LoggerFactory.getLogger(AsyncFindByIdOperationSupport.class);
+
+	AsyncFindByIdOperationSupport(AsyncCouchbaseTemplate template) {
+		this.template = template;
+	}
+
+	@Override
+	public <T> AsyncFindById<T> findById(Class<T> domainType) {
+		return new AsyncFindByIdSupport<>(template, domainType, null, null, null, null, null);
+	}
+
+	static class AsyncFindByIdSupport<T> implements AsyncFindById<T> {
+
+		private final AsyncCouchbaseTemplate template;
+		private final Class<T> domainType;
+		private final String scope;
+		private final String collection;
+		private final GetOptions options;
+		private final List<String> fields;
+		private final Duration expiry;
+		private final ReactiveFindByIdSupport<T> reactiveSupport;
+
+		AsyncFindByIdSupport(AsyncCouchbaseTemplate template, Class<T> domainType, String scope, String collection,
+				GetOptions options, List<String> fields, Duration expiry) {
+			this.template = template;
+			this.domainType = domainType;
+			this.scope = scope;
+			this.collection = collection;
+			this.options = options;
+			this.fields = fields;
+			this.expiry = expiry;
+			// only for the options, the reactive support is not used to execute
+			this.reactiveSupport = new ReactiveFindByIdSupport<>(template.reactive(), domainType, scope, collection, options,
+					fields, expiry, null);
+		}
+
+		@Override
+		public CompletableFuture<T> one(final String id) {
+			return template.defer(() -> {
+				CommonOptions<?> gOptions = reactiveSupport.initGetOptions();
+				PseudoArgs<?> pArgs = new PseudoArgs<>(template.reactive(), scope, collection, gOptions, domainType);
+				LOG.trace("findById {}", pArgs);
+				OperationTimer timer = OperationTimer.start(template.reactive(), "findById", domainType, pArgs);
+				AsyncCollection async = template.getCouchbaseClientFactory().withScope(pArgs.getScope())
+						.getCollection(pArgs.getCollection()).async();
+				CompletableFuture<GetResult> result = pArgs.getOptions() instanceof GetAndTouchOptions
+						? async.getAndTouch(id, reactiveSupport.expiryToUse(), (GetAndTouchOptions) pArgs.getOptions())
+						: async.get(id, (GetOptions) pArgs.getOptions());
+				return timer.record(template.translateExceptions(result.handleAsync((r, failure) -> {
+					if (failure == null) {
+						return template.support().decodeEntity(id, r.contentAs(String.class), r.cas(), domainType,
+								pArgs.getScope(), pArgs.getCollection());
+					}
+					if (failure instanceof DocumentNotFoundException || failure.getCause() instanceof DocumentNotFoundException) {
+						return null;
+					}
+					throw failure instanceof CompletionException ? (CompletionException) failure
+							: new CompletionException(failure);
+				}, template.decodeExecutor(domainType))));
+			});
+		}
+
+		@Override
+		public CompletableFuture<List<T>> all(final Collection<String> ids) {
+			return AsyncCouchbaseTemplate.collect(ids.stream().map(this::one).collect(Collectors.toList()));
+		}
+
+		@Override
+		public TerminatingFindById<T> withOptions(final GetOptions options) {
+			Assert.notNull(options, "Options must not be null.");
+			return new AsyncFindByIdSupport<>(template, domainType, scope, collection, options, fields, expiry);
+		}
+
+		@Override
+		public FindByIdWithOptions<T> inCollection(final String collection) {
+			return new AsyncFindByIdSupport<>(template, domainType, scope, collection, options, fields, expiry);
+		}
+
+		@Override
+		public FindByIdInCollection<T> inScope(final String scope) {
+			return new AsyncFindByIdSupport<>(template, domainType, scope, collection, options, fields, expiry);
+		}
+
+		@Override
+		public FindByIdInScope<T> project(String... fields) {
+			Assert.notEmpty(fields, "Fields must not be null.");
+			return new AsyncFindByIdSupport<>(template, domainType, scope, collection, options, Arrays.asList(fields),
+					expiry);
+		}
+
+		@Override
+		public FindByIdWithProjection<T> withExpiry(final Duration expiry) {
+			return new AsyncFindByIdSupport<>(template, domainType, scope, collection, options, fields, expiry);
+		}
+	}
+
+}
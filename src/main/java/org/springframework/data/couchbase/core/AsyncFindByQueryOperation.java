@@ -0,0 +1,251 @@
+/*
+ * Copyright 2022 the original author or authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.couchbase.core;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import org.springframework.dao.IncorrectResultSizeDataAccessException;
+import org.springframework.data.couchbase.core.query.Query;
+import org.springframework.data.couchbase.core.query.QueryCriteriaDefinition;
+import org.springframework.data.couchbase.core.support.InCollection;
+import org.springframework.data.couchbase.core.support.InScope;
+import org.springframework.data.couchbase.core.support.OneAndAllAsync;
+import org.springframework.data.couchbase.core.support.WithConsistency;
+import org.springframework.data.couchbase.core.support.WithDistinct;
+import org.springframework.data.couchbase.core.support.WithQuery;
+import org.springframework.data.couchbase.core.support.WithQueryOptions;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+import com.couchbase.client.java.query.QueryOptions;
+import com.couchbase.client.java.query.QueryScanConsistency;
+
+/**
+ * Queries the N1QL service, completing {@link CompletableFuture}s.
+ *
+ * @since 4.4
+ */
+public interface AsyncFindByQueryOperation {
+
+	/**
+	 * Create the operation for the domainType
+	 *
+	 * @param domainType the entity type to use for the results.
+	 */
+	<T> AsyncFindByQuery<T> findByQuery(Class<T> domainType);
+
+	/**
+	 * Compose find execution by calling one of the terminating methods.
+	 */
+	interface TerminatingFindByQuery<T> extends OneAndAllAsync<T> {
+
+		/**
+		 * Get exactly zero or one result.
+		 *
+		 * @return a future of the match if found ({@literal null} otherwise), completing exceptionally with an
+		 *         {@link IncorrectResultSizeDataAccessException} if more than one match found.
+		 */
+		CompletableFuture<T> one();
+
+		/**
+		 * Get the first or no result.
+		 *
+		 * @return a future of the first or {@literal null} if none found.
+		 */
+		CompletableFuture<T> first();
+
+		/**
+		 * Get all matching elements.
+		 *
+		 * @return never {@literal null}.
+		 */
+		CompletableFuture<List<T>> all();
+
+		/**
+		 * Get the matching elements of one page together with the total number of matching elements. The total is
+		 * projected into the page rows with a windowed COUNT(*) OVER(), so a page costs one query instead of two. Queries
+		 * that cannot carry the windowed count (DISTINCT or string queries) fall back to a separate count query. The query
+		 * is expected to carry the skip, limit and sort of the pageable, see {@link Query#with(Pageable)}.
+		 *
+		 * @param pageable the page requested.
+		 * @return the page.
+		 */
+		CompletableFuture<Page<T>> page(Pageable pageable);
+
+		/**
+		 * Get the matching elements of one page together with a total that may be up to {@code totalExpiry} old. The total
+		 * is taken from a count query that is cached by the template, so while it is cached a page costs one query and no
+		 * counting on the server.
+		 *
+		 * @param pageable the page requested.
+		 * @param totalExpiry how long a total may be reused.
+		 * @return the page.
+		 */
+		CompletableFuture<Page<T>> page(Pageable pageable, Duration totalExpiry);
+
+		/**
+		 * Get the number of matching elements.
+		 *
+		 * @return total number of matching elements.
+		 */
+		CompletableFuture<Long> count();
+
+		/**
+		 * Check for the presence of matching elements.
+		 *
+		 * @return {@literal true} if at least one matching element exists.
+		 */
+		CompletableFuture<Boolean> exists();
+
+	}
+
+	/**
+	 * Fluent methods to filter by query
+	 *
+	 * @param <T> the entity type to use for the results.
+	 */
+	interface FindByQueryWithQuery<T> extends TerminatingFindByQuery<T>, WithQuery<T> {
+
+		/**
+		 * Set the filter {@link Query} to be used.
+		 *
+		 * @param query must not be {@literal null}.
+		 * @throws IllegalArgumentException if query is {@literal null}.
+		 */
+		TerminatingFindByQuery<T> matching(Query query);
+
+		/**
+		 * Set the filter {@link QueryCriteriaDefinition criteria} to be used.
+		 *
+		 * @param criteria must not be {@literal null}.
+		 * @return new instance of {@link TerminatingFindByQuery}.
+		 * @throws IllegalArgumentException if criteria is {@literal null}.
+		 */
+		default TerminatingFindByQuery<T> matching(QueryCriteriaDefinition criteria) {
+			return matching(Query.query(criteria));
+		}
+
+	}
+
+	/**
+	 * Fluent method to specify options.
+	 * 
+	 * @param <T> the entity type to use for the results.
+	 */
+	interface FindByQueryWithOptions<T> extends FindByQueryWithQuery<T>, WithQueryOptions<T> {
+		/**
+		 * @param options options to use for execution
+		 */
+		TerminatingFindByQuery<T> withOptions(QueryOptions options);
+	}
+
+	/**
+	 * Fluent method to specify the collection
+	 * 
+	 * @param <T> the entity type to use for the results.
+	 */
+	interface FindByQueryInCollection<T> extends FindByQueryWithOptions<T>, InCollection<T> {
+		FindByQueryWithOptions<T> inCollection(String collection);
+	}
+
+	/**
+	 * Fluent method to specify the scope
+	 *
+	 * @param <T> the entity type to use for the results.
+	 */
+	interface FindByQueryInScope<T> extends FindByQueryInCollection<T>, InScope<T> {
+		FindByQueryInCollection<T> inScope(String scope);
+	}
+
+	/**
+	 * Fluent method to specify scan consistency. Scan consistency may also come from an annotation.
+	 *
+	 * @param <T> the entity type to use for the results.
+	 */
+	interface FindByQueryWithConsistency<T> extends FindByQueryInScope<T>, WithConsistency<T> {
+
+		/**
+		 * Allows to override the default scan consistency.
+		 *
+		 * @param scanConsistency the custom scan consistency to use for this query.
+		 */
+		FindByQueryInScope<T> withConsistency(QueryScanConsistency scanConsistency);
+
+	}
+
+	/**
+	 * Fluent method to specify a return type different than the the entity type to use for the results.
+	 *
+	 * @param <T> the entity type to use for the results.
+	 */
+	interface FindByQueryWithProjection<T> extends FindByQueryWithConsistency<T> {
+
+		/**
+		 * Define the target type fields should be mapped to. <br />
+		 * Skip this step if you are anyway only interested in the original domain type.
+		 *
+		 * @param returnType must not be {@literal null}.
+		 * @return new instance of {@link FindByQueryWithProjection}.
+		 * @throws IllegalArgumentException if returnType is {@literal null}.
+		 */
+		<R> FindByQueryWithConsistency<R> as(Class<R> returnType);
+	}
+
+	/**
+	 * Fluent method to specify fields to project.
+	 *
+	 * @param <T> the entity type to use for the results.
+	 */
+	interface FindByQueryWithProjecting<T> extends FindByQueryWithProjection<T> {
+
+		/**
+		 * Define the target type fields should be mapped to. <br />
+		 * Skip this step if you are anyway only interested in the original domain type.
+		 *
+		 * @param fields to project
+		 * @return new instance of {@link FindByQueryWithConsistency}.
+		 * @throws IllegalArgumentException if returnType is {@literal null}.
+		 */
+		FindByQueryWithProjection<T> project(String[] fields);
+	}
+
+	/**
+	 * Fluent method to specify DISTINCT fields
+	 *
+	 * @param <T> the entity type to use for the results.
+	 */
+	interface FindByQueryWithDistinct<T> extends FindByQueryWithProjecting<T>, WithDistinct<T> {
+
+		/**
+		 * Finds the distinct values for a specified {@literal field} across a single {@link } or view.
+		 *
+		 * @param distinctFields name of the field. Must not be {@literal null}.
+		 * @return new instance of {@link AsyncFindByQuery}.
+		 * @throws IllegalArgumentException if field is {@literal null}.
+		 */
+		FindByQueryWithProjection<T> distinct(String[] distinctFields);
+	}
+
+	/**
+	 * provides methods for constructing query operations in a fluent way.
+	 *
+	 * @param <T> the entity type to use for the results
+	 */
+	interface AsyncFindByQuery<T> extends FindByQueryWithDistinct<T> {}
+
+}
@@ -0,0 +1,278 @@
+/*
+ * Copyright 2022 the original author or authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.couchbase.core;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.IncorrectResultSizeDataAccessException;
+import org.springframework.data.couchbase.core.ReactiveFindByQueryOperationSupport.ReactiveFindByQuerySupport;
+import org.springframework.data.couchbase.core.query.Query;
+import org.springframework.data.couchbase.core.support.PseudoArgs;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.util.Assert;
+
+import com.couchbase.client.java.json.JsonObject;
+import com.couchbase.client.java.query.QueryOptions;
+import com.couchbase.client.java.query.QueryResult;
+import com.couchbase.client.java.query.QueryScanConsistency;
+
+/**
+ * {@link AsyncFindByQueryOperation} implementations for Couchbase.
+ *
+ * @since 4.4
+ */
+public class AsyncFindByQueryOperationSupport implements AsyncFindByQueryOperation {
+
+	private static final Query ALL_QUERY = new Query();
+
+	private final AsyncCouchbaseTemplate template;
+	private static final Logger LOG = LoggerFactory.getLogger(AsyncFindByQueryOperationSupport.class);
+
+	AsyncFindByQueryOperationSupport(final AsyncCouchbaseTemplate template) {
+		this.template = template;
+	}
+
+	@Override
+	public <T> AsyncFindByQuery<T> findByQuery(final Class<T> domainType) {
+		return new AsyncFindByQuerySupport<>(template, domainType, domainType, ALL_QUERY, null, null, null, null, null,
+				null);
+	}
+
+	static class AsyncFindByQuerySupport<T> implements AsyncFindByQuery<T> {
+
+		private final AsyncCouchbaseTemplate template;
+		private final Class<?> domainType;
+		private final Class<T> returnType;
+		private final Query query;
+		private final ReactiveFindByQuerySupport<T> reactiveSupport;
+		private final QueryScanConsistency scanConsistency;
+		private final String scope;
+		private final String collection;
+		private final QueryOptions options;
+		private final String[] distinctFields;
+		private final String[] fields;
+
+		AsyncFindByQuerySupport(final AsyncCouchbaseTemplate template, final Class<?> domainType, final Class<T> returnType,
+				final Query query, final QueryScanConsistency scanConsistency, final String scope, final String collection,
+				final QueryOptions options, final String[] distinctFields, final String[] fields) {
+			this.template = template;
+			this.domainType = domainType;
+			this.returnType = returnType;
+			this.query = query;
+			this.reactiveSupport = new ReactiveFindByQuerySupport<T>(template.reactive(), domainType, returnType, query,
+					scanConsistency, scope, collection, options, distinctFields, fields,
+					new NonReactiveSupportWrapper(template.support(), template.getConverter()));
+			this.scanConsistency = scanConsistency;
+			this.scope = scope;
+			this.collection = collection;
+			this.options = options;
+			this.distinctFields = distinctFields;
+			this.fields = fields;
+		}
+
+		@Override
+		public CompletableFuture<T> one() {
+			// two rows are enough to detect that the result is not unique
+			return withQuery(query.limitedTo(2)).all().thenApply(result -> {
+				if (result.size() > 1) {
+					throw new IncorrectResultSizeDataAccessException("query returned more than one result : " + query.export(),
+							1);
+				}
+				return result.isEmpty() ? null : result.get(0);
+			});
+		}
+
+		@Override
+		public CompletableFuture<T> first() {
+			return withQuery(query.limitedTo(1)).all().thenApply(result -> result.isEmpty() ? null : result.get(0));
+		}
+
+		private AsyncFindByQuerySupport<T> withQuery(Query query) {
+			return query == this.query ? this
+					: new AsyncFindByQuerySupport<>(template, domainType, returnType, query, scanConsistency, scope, collection,
+							options, distinctFields, fields);
+		}
+
+		/**
+		 * Queries through the async SDK API, unless the immediate joins of the entities are resolved in batches, which is
+		 * only implemented reactively.
+		 */
+		@Override
+		public CompletableFuture<List<T>> all() {
+			if (reactiveSupport.decodeBatchSize() > 1) {
+				return reactiveSupport.all().collectList().toFuture();
+			}
+			return template.defer(() -> {
+				PseudoArgs<QueryOptions> pArgs = pseudoArgs();
+				String statement = reactiveSupport.assembleEntityQuery(false, distinctFields, pArgs.getCollection());
+				LOG.trace("findByQuery {} statement: {}", pArgs, statement);
+				return timer("findByQuery", pArgs).record(query(statement, pArgs).thenApplyAsync(result -> {
+					List<JsonObject> rows = result.rowsAsObject();
+					List<T> entities = new ArrayList<>(rows.size());
+					for (JsonObject row : rows) {
+						T entity = reactiveSupport.decodeRow(row, statement, (id, source, cas) -> template.support()
+								.decodeEntity(id, source, cas, returnType, pArgs.getScope(), pArgs.getCollection()));
+						if (entity != null) {
+							entities.add(entity);
+						}
+					}
+					return entities;
+				}, template.decodeExecutor(returnType)));
+			});
+		}
+
+		private OperationTimer timer(String operation, PseudoArgs<QueryOptions> pArgs) {
+			return OperationTimer.start(template.reactive(), operation, domainType, pArgs);
+		}
+
+		@Override
+		public CompletableFuture<Page<T>> page(Pageable pageable) {
+			return reactiveSupport.page(pageable).toFuture();
+		}
+
+		@Override
+		public CompletableFuture<Page<T>> page(Pageable pageable, Duration totalExpiry) {
+			return reactiveSupport.page(pageable, totalExpiry).toFuture();
+		}
+
+		@Override
+		public CompletableFuture<Long> count() {
+			return template.defer(() -> {
+				PseudoArgs<QueryOptions> pArgs = pseudoArgs();
+				return timer("countByQuery", pArgs).record(count(pArgs).thenApply(count -> {
+					if (count == null) {
+						throw new CouchbaseQueryExecutionException("count query did not return a count : " + query.export());
+					}
+					return count;
+				}));
+			});
+		}
+
+		@Override
+		public CompletableFuture<Boolean> exists() {
+			return template.defer(() -> {
+				PseudoArgs<QueryOptions> pArgs = pseudoArgs();
+				String statement = query.toN1qlExistsString(template.reactive(), pArgs.getCollection(), domainType);
+				if (statement == null) {
+					return timer("existsByQuery", pArgs).record(count(pArgs).thenApply(count -> count != null && count > 0));
+				}
+				LOG.trace("findByQuery {} statement: {}", pArgs, statement);
+				return timer("existsByQuery", pArgs)
+						.record(query(statement, pArgs).thenApply(result -> !result.rowsAs(Integer.class).isEmpty()));
+			});
+		}
+
+		private CompletableFuture<Long> count(PseudoArgs<QueryOptions> pArgs) {
+			String statement = reactiveSupport.assembleEntityQuery(true, distinctFields, pArgs.getCollection());
+			LOG.trace("findByQuery {} statement: {}", pArgs, statement);
+			return query(statement, pArgs).thenApply(result -> {
+				List<JsonObject> rows = result.rowsAsObject();
+				return rows.isEmpty() ? null : rows.get(0).getLong(rows.get(0).getNames().iterator().next());
+			});
+		}
+
+		private PseudoArgs<QueryOptions> pseudoArgs() {
+			return new PseudoArgs<>(template.reactive(), scope, collection, options, domainType);
+		}
+
+		private CompletableFuture<QueryResult> query(String statement, PseudoArgs<QueryOptions> pArgs) {
+			QueryOptions queryOptions = reactiveSupport.buildOptions(pArgs.getOptions());
+			CompletableFuture<QueryResult> result = template.translateExceptions(pArgs.getScope() == null
+					? template.getCouchbaseClientFactory().getCluster().async().query(statement, queryOptions)
+					: template.getCouchbaseClientFactory().withScope(pArgs.getScope()).getScope().async().query(statement,
+							queryOptions));
+			if (!template.reactive().isQueryMetricsEnabled()) {
+				return result;
+			}
+			return result.thenApply(r -> {
+				QueryMetricsRecorder.record(template.reactive(), query, statement, r.metaData());
+				return r;
+			});
+		}
+
+		@Override
+		public TerminatingFindByQuery<T> matching(final Query query) {
+			QueryScanConsistency scanCons;
+			if (query.getScanConsistency() != null) {
+				scanCons = query.getScanConsistency();
+			} else {
+				scanCons = scanConsistency;
+			}
+			return new AsyncFindByQuerySupport<>(template, domainType, returnType, query, scanCons, scope, collection,
+					options, distinctFields, fields);
+		}
+
+		@Override
+		public FindByQueryInScope<T> withConsistency(final QueryScanConsistency scanConsistency) {
+			return new AsyncFindByQuerySupport<>(template, domainType, returnType, query, scanConsistency, scope,
+					collection, options, distinctFields, fields);
+		}
+
+		@Override
+		public <R> FindByQueryWithConsistency<R> as(final Class<R> returnType) {
+			Assert.notNull(returnType, "returnType must not be null!");
+			return new AsyncFindByQuerySupport<>(template, domainType, returnType, query, scanConsistency, scope,
+					collection, options, distinctFields, fields);
+		}
+
+		@Override
+		public FindByQueryWithProjection<T> project(String[] fields) {
+			Assert.notNull(fields, "Fields must not be null");
+			Assert.isNull(distinctFields, "only one of project(fields) and distinct(distinctFields) can be specified");
+			return new AsyncFindByQuerySupport<>(template, domainType, returnType, query, scanConsistency, scope,
+					collection, options, distinctFields, fields);
+		}
+
+		@Override
+		public FindByQueryWithProjection<T> distinct(final String[] distinctFields) {
+			Assert.notNull(distinctFields, "distinctFields must not be null");
+			Assert.isNull(fields, "only one of project(fields) and distinct(distinctFields) can be specified");
+			// Coming from an annotation, this cannot be null.
+			// But a non-null but empty distinctFields means distinct on all fields
+			// So to indicate do not use distinct, we use {"-"} from the annotation, and here we change it to null.
+			String[] dFields = distinctFields.length == 1 && "-".equals(distinctFields[0]) ? null : distinctFields;
+			return new AsyncFindByQuerySupport<>(template, domainType, returnType, query, scanConsistency, scope,
+					collection, options, dFields, fields);
+		}
+
+		@Override
+		public TerminatingFindByQuery<T> withOptions(final QueryOptions options) {
+			Assert.notNull(options, "Options must not be null.");
+			return new AsyncFindByQuerySupport<>(template, domainType, returnType, query, scanConsistency, scope,
+					collection, options, distinctFields, fields);
+		}
+
+		@Override
+		public FindByQueryInCollection<T> inScope(final String scope) {
+			return new AsyncFindByQuerySupport<>(template, domainType, returnType, query, scanConsistency, scope,
+					collection, options, distinctFields, fields);
+		}
+
+		@Override
+		public FindByQueryWithConsistency<T> inCollection(final String collection) {
+			return new AsyncFindByQuerySupport<>(template, domainType, returnType, query, scanConsistency, scope,
+					collection, options, distinctFields, fields);
+		}
+
+	}
+
+}
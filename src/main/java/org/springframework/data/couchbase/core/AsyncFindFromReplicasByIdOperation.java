@@ -0,0 +1,118 @@
+/*
+ * Copyright 2022 the original author or authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.couchbase.core;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import org.springframework.data.couchbase.core.support.AnyIdAsync;
+import org.springframework.data.couchbase.core.support.InCollection;
+import org.springframework.data.couchbase.core.support.InScope;
+import org.springframework.data.couchbase.core.support.WithGetAnyReplicaOptions;
+
+import com.couchbase.client.java.kv.GetAnyReplicaOptions;
+
+/**
+ * Find by id from replicas operations, completing {@link CompletableFuture}s.
+ *
+ * @since 4.4
+ */
+public interface AsyncFindFromReplicasByIdOperation {
+
+	/**
+	 * Loads a document from a replica.
+	 *
+	 * @param domainType the entity type to use for the results.
+	 */
+	<T> AsyncFindFromReplicasById<T> findFromReplicasById(Class<T> domainType);
+
+	/**
+	 * Terminating operations invoking the actual get execution.
+	 */
+	interface TerminatingFindFromReplicasById<T> extends AnyIdAsync<T> {
+
+		/**
+		 * Finds one document based on the given ID.
+		 *
+		 * @param id the document ID.
+		 * @return the entity if found.
+		 */
+		CompletableFuture<T> any(String id);
+
+		/**
+		 * Finds a list of documents based on the given IDs.
+		 *
+		 * @param ids the document ID ids.
+		 * @return the list of found entities.
+		 */
+		CompletableFuture<List<T>> any(Collection<String> ids);
+
+	}
+
+	/**
+	 * Fluent method to specify options.
+	 *
+	 * @param <T> the entity type to use for the results.
+	 */
+	interface FindFromReplicasByIdWithOptions<T> extends TerminatingFindFromReplicasById<T>, WithGetAnyReplicaOptions<T> {
+		/**
+		 * Fluent method to specify options to use for execution
+		 *
+		 * @param options options to use for execution
+		 */
+		@Override
+		TerminatingFindFromReplicasById<T> withOptions(GetAnyReplicaOptions options);
+	}
+
+	/**
+	 * Fluent method to specify the collection.
+	 *
+	 * @param <T> the entity type to use for the results.
+	 */
+	interface FindFromReplicasByIdInCollection<T> extends FindFromReplicasByIdWithOptions<T>, InCollection<T> {
+		/**
+		 * With a different collection
+		 *
+		 * @param collection the collection to use.
+		 */
+		@Override
+		FindFromReplicasByIdWithOptions<T> inCollection(String collection);
+	}
+
+	/**
+	 * Fluent method to specify the scope.
+	 *
+	 * @param <T> the entity type to use for the results.
+	 */
+	interface FindFromReplicasByIdInScope<T> extends FindFromReplicasByIdInCollection<T>, InScope<T> {
+		/**
+		 * With a different scope
+		 *
+		 * @param scope the scope to use.
+		 */
+		@Override
+		FindFromReplicasByIdInCollection<T> inScope(String scope);
+	}
+
+	/**
+	 * Provides methods for constructing get operations in a fluent way.
+	 *
+	 * @param <T> the entity type to use for the results
+	 */
+	interface AsyncFindFromReplicasById<T> extends FindFromReplicasByIdInScope<T> {}
+
+}
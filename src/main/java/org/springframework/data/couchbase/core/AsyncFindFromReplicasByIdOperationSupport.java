@@ -0,0 +1,114 @@
+/*
+ * Copyright 2022 the original author or authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.couchbase.core;
+
+import static com.couchbase.client.java.kv.GetAnyReplicaOptions.getAnyReplicaOptions;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.couchbase.core.support.PseudoArgs;
+import org.springframework.util.Assert;
+
+import com.couchbase.client.java.AsyncCollection;
+import com.couchbase.client.java.codec.RawJsonTranscoder;
+import com.couchbase.client.java.kv.GetAnyReplicaOptions;
+
+/**
+ * {@link AsyncFindFromReplicasByIdOperation} implementations for Couchbase.
+ *
+ * @since 4.4
+ */
+public class AsyncFindFromReplicasByIdOperationSupport implements AsyncFindFromReplicasByIdOperation {
+
+	private final AsyncCouchbaseTemplate template;
+	private static final Logger LOG = LoggerFactory.getLogger(AsyncFindFromReplicasByIdOperationSupport.class);
+
+	AsyncFindFromReplicasByIdOperationSupport(AsyncCouchbaseTemplate template) {
+		this.template = template;
+	}
+
+	@Override
+	public <T> AsyncFindFromReplicasById<T> findFromReplicasById(Class<T> domainType) {
+		return new AsyncFindFromReplicasByIdSupport<>(template, domainType, domainType, null, null, null);
+	}
+
+	static class AsyncFindFromReplicasByIdSupport<T> implements AsyncFindFromReplicasById<T> {
+
+		private final AsyncCouchbaseTemplate template;
+		private final Class<?> domainType;
+		private final Class<T> returnType;
+		private final String scope;
+		private final String collection;
+		private final GetAnyReplicaOptions options;
+
+		AsyncFindFromReplicasByIdSupport(AsyncCouchbaseTemplate template, Class<?> domainType, Class<T> returnType,
+				String scope, String collection, GetAnyReplicaOptions options) {
+			this.template = template;
+			this.domainType = domainType;
+			this.scope = scope;
+			this.collection = collection;
+			this.options = options;
+			this.returnType = returnType;
+		}
+
+		@Override
+		public CompletableFuture<T> any(String id) {
+			return template.defer(() -> {
+				GetAnyReplicaOptions garOptions = options != null ? options : getAnyReplicaOptions();
+				if (garOptions.build().transcoder() == null) {
+					garOptions.transcoder(RawJsonTranscoder.INSTANCE);
+				}
+				PseudoArgs<GetAnyReplicaOptions> pArgs = new PseudoArgs<>(template.reactive(), scope, collection, garOptions,
+						domainType);
+				LOG.trace("getAnyReplica {}", pArgs);
+				OperationTimer timer = OperationTimer.start(template.reactive(), "findFromReplicasById", domainType, pArgs);
+				AsyncCollection async = template.getCouchbaseClientFactory().withScope(pArgs.getScope())
+						.getCollection(pArgs.getCollection()).async();
+				return timer.record(template.translateExceptions(async.getAnyReplica(id, pArgs.getOptions())
+						.thenApplyAsync(result -> template.support().decodeEntity(id, result.contentAs(String.class), result.cas(),
+								returnType, pArgs.getScope(), pArgs.getCollection()), template.decodeExecutor(returnType))));
+			});
+		}
+
+		@Override
+		public CompletableFuture<List<T>> any(Collection<String> ids) {
+			return AsyncCouchbaseTemplate.collect(ids.stream().map(this::any).collect(Collectors.toList()));
+		}
+
+		@Override
+		public TerminatingFindFromReplicasById<T> withOptions(final GetAnyReplicaOptions options) {
+			Assert.notNull(options, "Options must not be null.");
+			return new AsyncFindFromReplicasByIdSupport<>(template, domainType, returnType, scope, collection, options);
+		}
+
+		@Override
+		public FindFromReplicasByIdWithOptions<T> inCollection(final String collection) {
+			return new AsyncFindFromReplicasByIdSupport<>(template, domainType, returnType, scope, collection, options);
+		}
+
+		@Override
+		public FindFromReplicasByIdInCollection<T> inScope(final String scope) {
+			return new AsyncFindFromReplicasByIdSupport<>(template, domainType, returnType, scope, collection, options);
+		}
+
+	}
+
+}
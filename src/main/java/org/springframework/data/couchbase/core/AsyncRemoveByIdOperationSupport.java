@@ -0,0 +1,142 @@
+/*
+ * Copyright 2022 the original author or authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.couchbase.core;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.couchbase.core.query.OptionsBuilder;
+import org.springframework.data.couchbase.core.support.PseudoArgs;
+import org.springframework.util.Assert;
+
+import com.couchbase.client.core.msg.kv.DurabilityLevel;
+import com.couchbase.client.java.AsyncCollection;
+import com.couchbase.client.java.kv.PersistTo;
+import com.couchbase.client.java.kv.RemoveOptions;
+import com.couchbase.client.java.kv.ReplicateTo;
+
+/**
+ * {@link AsyncRemoveByIdOperation} implementations for Couchbase.
+ *
+ * @since 4.4
+ */
+public class AsyncRemoveByIdOperationSupport implements AsyncRemoveByIdOperation {
+
+	private final AsyncCouchbaseTemplate template;
+	private static final Logger LOG = LoggerFactory.getLogger(AsyncRemoveByIdOperationSupport.class);
+
+	AsyncRemoveByIdOperationSupport(final AsyncCouchbaseTemplate template) {
+		this.template = template;
+	}
+
+	@Override
+	public AsyncRemoveById removeById(Class<?> domainType) {
+		return new AsyncRemoveByIdSupport(template, domainType, null, null, null, PersistTo.NONE, ReplicateTo.NONE,
+				DurabilityLevel.NONE, null);
+	}
+
+	static class AsyncRemoveByIdSupport implements AsyncRemoveById {
+
+		private final AsyncCouchbaseTemplate template;
+		private final Class<?> domainType;
+		private final String scope;
+		private final String collection;
+		private final RemoveOptions options;
+		private final PersistTo persistTo;
+		private final ReplicateTo replicateTo;
+		private final DurabilityLevel durabilityLevel;
+		private final Long cas;
+
+		AsyncRemoveByIdSupport(final AsyncCouchbaseTemplate template, final Class<?> domainType, final String scope,
+				final String collection, final RemoveOptions options, final PersistTo persistTo, final ReplicateTo replicateTo,
+				final DurabilityLevel durabilityLevel, Long cas) {
+			this.template = template;
+			this.domainType = domainType;
+			this.scope = scope;
+			this.collection = collection;
+			this.options = options;
+			this.persistTo = persistTo;
+			this.replicateTo = replicateTo;
+			this.durabilityLevel = durabilityLevel;
+			this.cas = cas;
+		}
+
+		@Override
+		public CompletableFuture<RemoveResult> one(final String id) {
+			return template.defer(() -> {
+				PseudoArgs<RemoveOptions> pArgs = new PseudoArgs<>(template.reactive(), scope, collection, options, domainType);
+				LOG.trace("removeById {}", pArgs);
+				OperationTimer timer = OperationTimer.start(template.reactive(), "removeById", domainType, pArgs);
+				RemoveOptions removeOptions = OptionsBuilder.buildRemoveOptions(pArgs.getOptions(), persistTo, replicateTo,
+						durabilityLevel, cas);
+				AsyncCollection async = template.getCouchbaseClientFactory().withScope(pArgs.getScope())
+						.getCollection(pArgs.getCollection()).async();
+				return timer.record(template.translateExceptions(async.remove(id, removeOptions)
+						.thenApply(result -> RemoveResult.from(id, result))));
+			});
+		}
+
+		@Override
+		public CompletableFuture<List<RemoveResult>> all(final Collection<String> ids) {
+			return AsyncCouchbaseTemplate.collect(ids.stream().map(this::one).collect(Collectors.toList()));
+		}
+
+		@Override
+		public RemoveByIdWithOptions inCollection(final String collection) {
+			return new AsyncRemoveByIdSupport(template, domainType, scope, collection, options, persistTo, replicateTo,
+					durabilityLevel, cas);
+		}
+
+		@Override
+		public RemoveByIdInScope withDurability(final DurabilityLevel durabilityLevel) {
+			Assert.notNull(durabilityLevel, "Durability Level must not be null.");
+			return new AsyncRemoveByIdSupport(template, domainType, scope, collection, options, persistTo, replicateTo,
+					durabilityLevel, cas);
+		}
+
+		@Override
+		public RemoveByIdInScope withDurability(final PersistTo persistTo, final ReplicateTo replicateTo) {
+			Assert.notNull(persistTo, "PersistTo must not be null.");
+			Assert.notNull(replicateTo, "ReplicateTo must not be null.");
+			return new AsyncRemoveByIdSupport(template, domainType, scope, collection, options, persistTo, replicateTo,
+					durabilityLevel, cas);
+		}
+
+		@Override
+		public TerminatingRemoveById withOptions(final RemoveOptions options) {
+			Assert.notNull(options, "Options must not be null.");
+			return new AsyncRemoveByIdSupport(template, domainType, scope, collection, options, persistTo, replicateTo,
+					durabilityLevel, cas);
+		}
+
+		@Override
+		public RemoveByIdInCollection inScope(final String scope) {
+			return new AsyncRemoveByIdSupport(template, domainType, scope, collection, options, persistTo, replicateTo,
+					durabilityLevel, cas);
+		}
+
+		@Override
+		public RemoveByIdWithDurability withCas(Long cas) {
+			return new AsyncRemoveByIdSupport(template, domainType, scope, collection, options, persistTo, replicateTo,
+					durabilityLevel, cas);
+		}
+	}
+
+}
@@ -0,0 +1,152 @@
+/*
+ * Copyright 2022 the original author or authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.couchbase.core;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.couchbase.core.mapping.CouchbaseDocument;
+import org.springframework.data.couchbase.core.query.OptionsBuilder;
+import org.springframework.data.couchbase.core.support.PseudoArgs;
+import org.springframework.util.Assert;
+
+import com.couchbase.client.core.msg.kv.DurabilityLevel;
+import com.couchbase.client.java.AsyncCollection;
+import com.couchbase.client.java.kv.PersistTo;
+import com.couchbase.client.java.kv.ReplicateTo;
+import com.couchbase.client.java.kv.UpsertOptions;
+
+/**
+ * {@link AsyncUpsertByIdOperation} implementations for Couchbase.
+ *
+ * @since 4.4
+ */
+public class AsyncUpsertByIdOperationSupport implements AsyncUpsertByIdOperation {
+
+	private final AsyncCouchbaseTemplate template;
+	private static final Logger LOG = LoggerFactory.getLogger(AsyncUpsertByIdOperationSupport.class);
+
+	AsyncUpsertByIdOperationSupport(final AsyncCouchbaseTemplate template) {
+		this.template = template;
+	}
+
+	@Override
+	public <T> AsyncUpsertById<T> upsertById(final Class<T> domainType) {
+		Assert.notNull(domainType, "DomainType must not be null!");
+		return new AsyncUpsertByIdSupport<>(template, domainType, null, null, null, PersistTo.NONE, ReplicateTo.NONE,
+				DurabilityLevel.NONE, null);
+	}
+
+	static class AsyncUpsertByIdSupport<T> implements AsyncUpsertById<T> {
+
+		private final AsyncCouchbaseTemplate template;
+		private final Class<T> domainType;
+		private final String scope;
+		private final String collection;
+		private final UpsertOptions options;
+		private final PersistTo persistTo;
+		private final ReplicateTo replicateTo;
+		private final DurabilityLevel durabilityLevel;
+		private final Duration expiry;
+
+		AsyncUpsertByIdSupport(final AsyncCouchbaseTemplate template, final Class<T> domainType, final String scope,
+				final String collection, final UpsertOptions options, final PersistTo persistTo, final ReplicateTo replicateTo,
+				final DurabilityLevel durabilityLevel, final Duration expiry) {
+			this.template = template;
+			this.domainType = domainType;
+			this.scope = scope;
+			this.collection = collection;
+			this.options = options;
+			this.persistTo = persistTo;
+			this.replicateTo = replicateTo;
+			this.durabilityLevel = durabilityLevel;
+			this.expiry = expiry;
+		}
+
+		@Override
+		public CompletableFuture<T> one(final T object) {
+			return template.defer(() -> {
+				PseudoArgs<UpsertOptions> pArgs = new PseudoArgs<>(template.reactive(), scope, collection, options, domainType);
+				LOG.trace("upsertById {}", pArgs);
+				OperationTimer timer = OperationTimer.start(template.reactive(), "upsertById", domainType, pArgs);
+				CouchbaseDocument converted = template.support().encodeEntity(object);
+				UpsertOptions upsertOptions = OptionsBuilder.buildUpsertOptions(pArgs.getOptions(), persistTo, replicateTo,
+						durabilityLevel, expiry, converted);
+				AsyncCollection async = template.getCouchbaseClientFactory().withScope(pArgs.getScope())
+						.getCollection(pArgs.getCollection()).async();
+				return timer.record(template.translateExceptions(
+						async.upsert(converted.getId(), converted.export(), upsertOptions)
+						.thenApply(result -> {
+							T updated = template.support().applyUpdatedId(object, converted.getId());
+							return template.support().applyUpdatedCas(updated, converted, result.cas());
+						})));
+			});
+		}
+
+		@Override
+		public CompletableFuture<List<T>> all(Collection<? extends T> objects) {
+			return AsyncCouchbaseTemplate.collect(objects.stream().map(this::one).collect(Collectors.toList()));
+		}
+
+		@Override
+		public TerminatingUpsertById<T> withOptions(final UpsertOptions options) {
+			Assert.notNull(options, "Options must not be null.");
+			return new AsyncUpsertByIdSupport<>(template, domainType, scope, collection, options, persistTo, replicateTo,
+					durabilityLevel, expiry);
+		}
+
+		@Override
+		public UpsertByIdInCollection<T> inScope(final String scope) {
+			return new AsyncUpsertByIdSupport<>(template, domainType, scope, collection, options, persistTo, replicateTo,
+					durabilityLevel, expiry);
+		}
+
+		@Override
+		public UpsertByIdWithOptions<T> inCollection(final String collection) {
+			return new AsyncUpsertByIdSupport<>(template, domainType, scope, collection, options, persistTo, replicateTo,
+					durabilityLevel, expiry);
+		}
+
+		@Override
+		public UpsertByIdInScope<T> withDurability(final DurabilityLevel durabilityLevel) {
+			Assert.notNull(durabilityLevel, "Durability Level must not be null.");
+			return new AsyncUpsertByIdSupport<>(template, domainType, scope, collection, options, persistTo, replicateTo,
+					durabilityLevel, expiry);
+		}
+
+		@Override
+		public UpsertByIdInScope<T> withDurability(final PersistTo persistTo, final ReplicateTo replicateTo) {
+			Assert.notNull(persistTo, "PersistTo must not be null.");
+			Assert.notNull(replicateTo, "ReplicateTo must not be null.");
+			return new AsyncUpsertByIdSupport<>(template, domainType, scope, collection, options, persistTo, replicateTo,
+					durabilityLevel, expiry);
+		}
+
+		@Override
+		public UpsertByIdWithDurability<T> withExpiry(final Duration expiry) {
+			Assert.notNull(expiry, "expiry must not be null.");
+			return new AsyncUpsertByIdSupport<>(template, domainType, scope, collection, options, persistTo, replicateTo,
+					durabilityLevel, expiry);
+		}
+
+	}
+
+}
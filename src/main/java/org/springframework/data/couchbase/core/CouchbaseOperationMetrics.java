@@ -0,0 +1,97 @@
+/*
+ * Copyright 2022 the original author or authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.couchbase.core;
+
+import java.time.Duration;
+
+import org.springframework.lang.Nullable;
+
+/**
+ * Receives the timings of the operations of a {@link ReactiveCouchbaseTemplate} and of the {@link CouchbaseTemplate}
+ * and {@link AsyncCouchbaseTemplate} built on it. Operations are timed from subscription, or invocation for blocking
+ * and asynchronous operations, to completion, and include the conversion of their entities. The time spent encoding and
+ * decoding entities is also recorded on its own, so that the time spent on the network is the difference.
+ * <p>
+ * Implementations are called on SDK and Reactor threads and must not block. {@link CouchbaseOperationStatistics} keeps
+ * them in memory and {@link MicrometerCouchbaseOperationMetrics} records them on Micrometer meters. No timing is done
+ * when no metrics are set on the template.
+ *
+ * @since 4.4
+ * @see ReactiveCouchbaseTemplate#setOperationMetrics(CouchbaseOperationMetrics)
+ */
+public interface CouchbaseOperationMetrics {
+
+	/**
+	 * The outcome of an operation that completed normally.
+	 */
+	String SUCCESS = "success";
+
+	/**
+	 * The outcome of a reactive operation that was cancelled before it completed.
+	 */
+	String CANCELLED = "cancelled";
+
+	/**
+	 * The conversion of an entity to a document.
+	 */
+	String ENCODE = "encode";
+
+	/**
+	 * The conversion of a document to an entity.
+	 */
+	String DECODE = "decode";
+
+	/**
+	 * Record an operation.
+	 *
+	 * @param operation the name of the operation, such as {@code findById}, {@code upsertById} or {@code findByQuery}.
+	 * @param domainType the domain type of the operation, if any.
+	 * @param scope the scope of the operation, null for the default scope.
+	 * @param collection the collection of the operation, null for the default collection.
+	 * @param outcome {@link #SUCCESS}, {@link #CANCELLED} or the simple name of the class of the exception the
+	 *          operation failed with.
+	 * @param nanos the duration of the operation.
+	 */
+	void recordOperation(String operation, @Nullable Class<?> domainType, @Nullable String scope,
+			@Nullable String collection, String outcome, long nanos);
+
+	/**
+	 * Record the conversion of an entity. Conversions are part of the operations they are made for.
+	 *
+	 * @param conversion {@link #ENCODE} or {@link #DECODE}.
+	 * @param type the class of the entity.
+	 * @param nanos the duration of the conversion.
+	 */
+	void recordConversion(String conversion, Class<?> type, long nanos);
+
+	/**
+	 * Record the metrics the server returned for a query or analytics query. The server is only asked for the metrics of
+	 * queries when operation metrics are set or a {@link ReactiveCouchbaseTemplate#setSlowQueryThreshold slow query
+	 * threshold} is configured, and they are only read once all the rows have been consumed.
+	 *
+	 * @param name the name of the repository query method, such as {@code UserRepository.findByLastname}, null for
+	 *          queries run on the template directly.
+	 * @param fingerprint the {@link org.springframework.data.couchbase.core.query.StatementFingerprint fingerprint} of
+	 *          the statement.
+	 * @param elapsedTime the time from the server receiving the query to sending the last row.
+	 * @param executionTime the time the server spent executing the query.
+	 * @param resultCount the number of rows.
+	 * @param resultSize the size of the rows, in bytes.
+	 */
+	default void recordQuery(@Nullable String name, String fingerprint, Duration elapsedTime, Duration executionTime,
+			long resultCount, long resultSize) {}
+
+}
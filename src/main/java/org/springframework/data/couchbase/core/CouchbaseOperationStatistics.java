@@ -0,0 +1,386 @@
+/*
+ * Copyright 2022 the original author or authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.couchbase.core;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * {@link CouchbaseOperationMetrics} kept in memory: a {@link Timer} for each combination of operation, domain type,
+ * scope, collection and outcome, and for each conversion and entity class, and the {@link QueryStatistics} of each
+ * query method and statement fingerprint.
+ *
+ * @since 4.4
+ */
+public class CouchbaseOperationStatistics implements CouchbaseOperationMetrics {
+
+	private final Map<Key, Timer> operations = new ConcurrentHashMap<>();
+	private final Map<Key, Timer> conversions = new ConcurrentHashMap<>();
+	private final Map<QueryKey, QueryStatistics> queries = new ConcurrentHashMap<>();
+
+	@Override
+	public void recordOperation(String operation, @Nullable Class<?> domainType, @Nullable String scope,
+			@Nullable String collection, String outcome, long nanos) {
+		operations.computeIfAbsent(new Key(operation, domainType, scope, collection, outcome), k -> new Timer())
+				.record(nanos);
+	}
+
+	@Override
+	public void recordConversion(String conversion, Class<?> type, long nanos) {
+		conversions.computeIfAbsent(new Key(conversion, type, null, null, SUCCESS), k -> new Timer()).record(nanos);
+	}
+
+	@Override
+	public void recordQuery(@Nullable String name, String fingerprint, Duration elapsedTime, Duration executionTime,
+			long resultCount, long resultSize) {
+		queries.computeIfAbsent(new QueryKey(name, fingerprint), k -> new QueryStatistics()).record(elapsedTime,
+				executionTime, resultCount, resultSize);
+	}
+
+	/**
+	 * @return the timers of the operations, by operation, domain type, scope, collection and outcome.
+	 */
+	public Map<Key, Timer> getOperations() {
+		return Collections.unmodifiableMap(operations);
+	}
+
+	/**
+	 * @return the timers of the conversions, by conversion and entity class.
+	 */
+	public Map<Key, Timer> getConversions() {
+		return Collections.unmodifiableMap(conversions);
+	}
+
+	/**
+	 * @return the server-side metrics of the queries, by query method and statement fingerprint.
+	 */
+	public Map<QueryKey, QueryStatistics> getQueries() {
+		return Collections.unmodifiableMap(queries);
+	}
+
+	/**
+	 * @param operation the name of the operation.
+	 * @return the number of times the operation completed, whatever the outcome.
+	 */
+	public long getCount(String operation) {
+		return operations.entrySet().stream().filter(e -> e.getKey().getOperation().equals(operation))
+				.mapToLong(e -> e.getValue().getCount()).sum();
+	}
+
+	/**
+	 * @param operation the name of the operation.
+	 * @return the number of times the operation failed. Cancellations are not failures.
+	 */
+	public long getErrors(String operation) {
+		return operations.entrySet().stream().filter(e -> e.getKey().getOperation().equals(operation))
+				.filter(e -> e.getKey().isError()).mapToLong(e -> e.getValue().getCount()).sum();
+	}
+
+	public void reset() {
+		operations.clear();
+		conversions.clear();
+		queries.clear();
+	}
+
+	@Override
+	public String toString() {
+		return "CouchbaseOperationStatistics{" + "operations=" + operations + ", conversions=" + conversions + ", queries="
+				+ queries + '}';
+	}
+
+	/**
+	 * What a {@link Timer} is recorded for. Conversions have neither scope nor collection and always succeed.
+	 */
+	public static final class Key {
+
+		private final String operation;
+		private final Class<?> domainType;
+		private final String scope;
+		private final String collection;
+		private final String outcome;
+
+		Key(String operation, @Nullable Class<?> domainType, @Nullable String scope, @Nullable String collection,
+				String outcome) {
+			Assert.notNull(operation, "operation must not be null");
+			Assert.notNull(outcome, "outcome must not be null");
+			this.operation = operation;
+			this.domainType = domainType;
+			this.scope = scope;
+			this.collection = collection;
+			this.outcome = outcome;
+		}
+
+		public String getOperation() {
+			return operation;
+		}
+
+		@Nullable
+		public Class<?> getDomainType() {
+			return domainType;
+		}
+
+		@Nullable
+		public String getScope() {
+			return scope;
+		}
+
+		@Nullable
+		public String getCollection() {
+			return collection;
+		}
+
+		public String getOutcome() {
+			return outcome;
+		}
+
+		/**
+		 * @return whether the outcome is an exception.
+		 */
+		public boolean isError() {
+			return !SUCCESS.equals(outcome) && !CANCELLED.equals(outcome);
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if (this == o) {
+				return true;
+			}
+			if (!(o instanceof Key)) {
+				return false;
+			}
+			Key that = (Key) o;
+			return operation.equals(that.operation) && domainType == that.domainType && Objects.equals(scope, that.scope)
+					&& Objects.equals(collection, that.collection) && outcome.equals(that.outcome);
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hash(operation, domainType, scope, collection, outcome);
+		}
+
+		@Override
+		public String toString() {
+			return operation + "{domainType=" + (domainType == null ? null : domainType.getSimpleName()) + ", scope="
+					+ scope + ", collection=" + collection + ", outcome=" + outcome + '}';
+		}
+	}
+
+	/**
+	 * What {@link QueryStatistics} are recorded for.
+	 */
+	public static final class QueryKey {
+
+		private final String name;
+		private final String fingerprint;
+
+		QueryKey(@Nullable String name, String fingerprint) {
+			Assert.notNull(fingerprint, "fingerprint must not be null");
+			this.name = name;
+			this.fingerprint = fingerprint;
+		}
+
+		/**
+		 * @return the name of the repository query method, null for queries run on the template directly.
+		 */
+		@Nullable
+		public String getName() {
+			return name;
+		}
+
+		public String getFingerprint() {
+			return fingerprint;
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if (this == o) {
+				return true;
+			}
+			if (!(o instanceof QueryKey)) {
+				return false;
+			}
+			QueryKey that = (QueryKey) o;
+			return Objects.equals(name, that.name) && fingerprint.equals(that.fingerprint);
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hash(name, fingerprint);
+		}
+
+		@Override
+		public String toString() {
+			return name + "{" + fingerprint + '}';
+		}
+	}
+
+	/**
+	 * The metrics the server returned for the executions of a query.
+	 */
+	public static final class QueryStatistics {
+
+		private final Timer elapsedTime = new Timer();
+		private final Timer executionTime = new Timer();
+		private final LongAdder resultCount = new LongAdder();
+		private final LongAdder resultSize = new LongAdder();
+
+		void record(Duration elapsedTime, Duration executionTime, long resultCount, long resultSize) {
+			this.elapsedTime.record(elapsedTime.toNanos());
+			this.executionTime.record(executionTime.toNanos());
+			this.resultCount.add(resultCount);
+			this.resultSize.add(resultSize);
+		}
+
+		/**
+		 * @return the times from the server receiving the queries to sending their last rows.
+		 */
+		public Timer getElapsedTime() {
+			return elapsedTime;
+		}
+
+		/**
+		 * @return the times the server spent executing the queries.
+		 */
+		public Timer getExecutionTime() {
+			return executionTime;
+		}
+
+		/**
+		 * @return the total number of rows of the queries.
+		 */
+		public long getResultCount() {
+			return resultCount.sum();
+		}
+
+		/**
+		 * @return the total size of the rows of the queries, in bytes.
+		 */
+		public long getResultSize() {
+			return resultSize.sum();
+		}
+
+		@Override
+		public String toString() {
+			return "QueryStatistics{" + "elapsedTime=" + elapsedTime + ", executionTime=" + executionTime + ", resultCount="
+					+ getResultCount() + ", resultSize=" + getResultSize() + '}';
+		}
+	}
+
+	/**
+	 * Count, total, maximum and distribution of durations. The distribution has eight buckets per power of two, so
+	 * percentiles are accurate to within 12.5%.
+	 */
+	public static final class Timer {
+
+		private static final int SUB_BUCKET_BITS = 3;
+		private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+		private static final int BUCKETS = (64 - SUB_BUCKET_BITS) * SUB_BUCKETS;
+
+		private final LongAdder count = new LongAdder();
+		private final LongAdder totalNanos = new LongAdder();
+		private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0);
+		private final AtomicLongArray buckets = new AtomicLongArray(BUCKETS);
+
+		void record(long nanos) {
+			long duration = Math.max(nanos, 0);
+			count.increment();
+			totalNanos.add(duration);
+			maxNanos.accumulate(duration);
+			buckets.incrementAndGet(bucket(duration));
+		}
+
+		public long getCount() {
+			return count.sum();
+		}
+
+		/**
+		 * @return the sum of the durations, in nanoseconds.
+		 */
+		public long getTotalNanos() {
+			return totalNanos.sum();
+		}
+
+		/**
+		 * @return the longest duration, in nanoseconds.
+		 */
+		public long getMaxNanos() {
+			return maxNanos.get();
+		}
+
+		/**
+		 * @return the mean duration in nanoseconds, or 0 if there were none.
+		 */
+		public double getMeanNanos() {
+			long count = getCount();
+			return count == 0 ? 0 : (double) getTotalNanos() / count;
+		}
+
+		/**
+		 * @param percentile between 0 and 1, such as 0.99.
+		 * @return an upper bound of the duration the given share of the durations do not exceed, in nanoseconds, or 0 if
+		 *         there were none.
+		 */
+		public long getPercentileNanos(double percentile) {
+			Assert.isTrue(percentile >= 0 && percentile <= 1, "percentile must be between 0 and 1");
+			long total = 0;
+			for (int i = 0; i < BUCKETS; i++) {
+				total += buckets.get(i);
+			}
+			long rank = Math.max((long) Math.ceil(percentile * total), 1);
+			long seen = 0;
+			for (int i = 0; i < BUCKETS; i++) {
+				seen += buckets.get(i);
+				if (seen >= rank) {
+					return Math.min(upperBound(i), getMaxNanos());
+				}
+			}
+			return 0;
+		}
+
+		static int bucket(long nanos) {
+			if (nanos < SUB_BUCKETS) {
+				return (int) nanos;
+			}
+			int exponent = 63 - Long.numberOfLeadingZeros(nanos);
+			int subBucket = (int) (nanos >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+			return ((exponent - SUB_BUCKET_BITS + 1) << SUB_BUCKET_BITS) | subBucket;
+		}
+
+		static long upperBound(int bucket) {
+			if (bucket < SUB_BUCKETS) {
+				return bucket;
+			}
+			int shift = (bucket >>> SUB_BUCKET_BITS) - 1;
+			long mantissa = SUB_BUCKETS | (bucket & (SUB_BUCKETS - 1));
+			return ((mantissa + 1) << shift) - 1;
+		}
+
+		@Override
+		public String toString() {
+			return "Timer{" + "count=" + getCount() + ", totalNanos=" + getTotalNanos() + ", maxNanos=" + getMaxNanos()
+					+ '}';
+		}
+	}
+}
@@ -16,6 +16,8 @@
 
 package org.springframework.data.couchbase.core;
 
+import java.time.Duration;
+
 import org.springframework.beans.BeansException;
 import org.springframework.context.ApplicationContext;
 import org.springframework.context.ApplicationContextAware;
@@ -49,6 +51,7 @@ public class CouchbaseTemplate implements CouchbaseOperations, ApplicationContex
 	private final CouchbaseTemplateSupport templateSupport;
 	private final MappingContext<? extends CouchbasePersistentEntity<?>, CouchbasePersistentProperty> mappingContext;
 	private final ReactiveCouchbaseTemplate reactiveCouchbaseTemplate;
+	private final AsyncCouchbaseTemplate asyncCouchbaseTemplate;
 	private @Nullable CouchbasePersistentEntityIndexCreator indexCreator;
 	private QueryScanConsistency scanConsistency;
 
@@ -68,6 +71,7 @@ public class CouchbaseTemplate implements CouchbaseOperations, ApplicationContex
 		this.templateSupport = new CouchbaseTemplateSupport(this, converter, translationService);
 		this.reactiveCouchbaseTemplate = new ReactiveCouchbaseTemplate(clientFactory, converter, translationService,
 				scanConsistency);
+		this.asyncCouchbaseTemplate = new AsyncCouchbaseTemplate(this);
 		this.scanConsistency = scanConsistency;
 		this.mappingContext = this.converter.getMappingContext();
 		if (mappingContext instanceof CouchbaseMappingContext) {
@@ -140,6 +144,11 @@ public class CouchbaseTemplate implements CouchbaseOperations, ApplicationContex
 		return new ExecutableRemoveByQueryOperationSupport(this).removeByQuery(domainType);
 	}
 
+	@Override
+	public <T> ExecutableUpdateByQuery<T> updateByQuery(Class<T> domainType) {
+		return new ExecutableUpdateByQueryOperationSupport(this).updateByQuery(domainType);
+	}
+
 	@Override
 	public String getBucketName() {
 		return clientFactory.getBucket().name();
@@ -179,6 +188,50 @@ public class CouchbaseTemplate implements CouchbaseOperations, ApplicationContex
 		return reactiveCouchbaseTemplate;
 	}
 
+	/**
+	 * The operations of this template completing {@link java.util.concurrent.CompletableFuture}s.
+	 */
+	public AsyncCouchbaseTemplate async() {
+		return asyncCouchbaseTemplate;
+	}
+
+	/**
+	 * @return the metrics the operations of this template are recorded in, null if they are not timed
+	 */
+	@Nullable
+	public CouchbaseOperationMetrics getOperationMetrics() {
+		return reactiveCouchbaseTemplate.getOperationMetrics();
+	}
+
+	/**
+	 * Record the operations of this template, and of its reactive and asynchronous templates, in the given metrics.
+	 *
+	 * @param operationMetrics the metrics, or null to stop recording.
+	 * @see ReactiveCouchbaseTemplate#setOperationMetrics(CouchbaseOperationMetrics)
+	 */
+	public void setOperationMetrics(@Nullable CouchbaseOperationMetrics operationMetrics) {
+		reactiveCouchbaseTemplate.setOperationMetrics(operationMetrics);
+	}
+
+	/**
+	 * @return the elapsed time from which queries are logged as slow, null if they are not
+	 */
+	@Nullable
+	public Duration getSlowQueryThreshold() {
+		return reactiveCouchbaseTemplate.getSlowQueryThreshold();
+	}
+
+	/**
+	 * Log the queries of this template, and of its reactive and asynchronous templates, whose elapsed time on the server
+	 * reaches the given threshold.
+	 *
+	 * @param slowQueryThreshold the threshold, or null to stop logging.
+	 * @see ReactiveCouchbaseTemplate#setSlowQueryThreshold(Duration)
+	 */
+	public void setSlowQueryThreshold(@Nullable Duration slowQueryThreshold) {
+		reactiveCouchbaseTemplate.setSlowQueryThreshold(slowQueryThreshold);
+	}
+
 	@Override
 	public void setApplicationContext(final ApplicationContext applicationContext) throws BeansException {
 		prepareIndexCreator(applicationContext);
@@ -210,4 +263,11 @@ public class CouchbaseTemplate implements CouchbaseOperations, ApplicationContex
 		return templateSupport;
 	}
 
+	/**
+	 * Translate an exception of the SDK as the reactive template does, for operations calling the blocking SDK API.
+	 */
+	RuntimeException potentiallyConvertRuntimeException(final RuntimeException ex) {
+		return reactiveCouchbaseTemplate.potentiallyConvertRuntimeException(ex);
+	}
+
 }
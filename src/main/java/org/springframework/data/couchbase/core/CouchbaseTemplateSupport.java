@@ -25,6 +25,7 @@ import org.springframework.beans.BeansException;
 import org.springframework.context.ApplicationContext;
 import org.springframework.context.ApplicationContextAware;
 import org.springframework.data.couchbase.core.convert.CouchbaseConverter;
+import org.springframework.data.couchbase.core.convert.join.N1qlJoinBatch;
 import org.springframework.data.couchbase.core.convert.join.N1qlJoinResolver;
 import org.springframework.data.couchbase.core.convert.translation.TranslationService;
 import org.springframework.data.couchbase.core.mapping.CouchbaseDocument;
@@ -77,7 +78,12 @@ class CouchbaseTemplateSupport implements ApplicationContextAware, TemplateSuppo
 		maybeEmitEvent(new BeforeConvertEvent<>(entityToEncode));
 		Object maybeNewEntity = maybeCallBeforeConvert(entityToEncode, "");
 		final CouchbaseDocument converted = new CouchbaseDocument();
+		CouchbaseOperationMetrics metrics = template.getOperationMetrics();
+		long start = metrics == null ? 0 : System.nanoTime();
 		converter.write(maybeNewEntity, converted);
+		if (metrics != null) {
+			metrics.recordConversion(CouchbaseOperationMetrics.ENCODE, maybeNewEntity.getClass(), System.nanoTime() - start);
+		}
 		maybeCallAfterConvert(entityToEncode, converted, "");
 		maybeEmitEvent(new BeforeSaveEvent<>(entityToEncode, converted));
 		return converted;
@@ -85,6 +91,14 @@ class CouchbaseTemplateSupport implements ApplicationContextAware, TemplateSuppo
 
 	@Override
 	public <T> T decodeEntity(String id, String source, long cas, Class<T> entityClass, String scope, String collection) {
+		return decodeEntity(id, source, cas, entityClass, scope, collection, null);
+	}
+
+	@Override
+	public <T> T decodeEntity(String id, String source, long cas, Class<T> entityClass, String scope, String collection,
+			N1qlJoinBatch joins) {
+		CouchbaseOperationMetrics metrics = template.getOperationMetrics();
+		long start = metrics == null ? 0 : System.nanoTime();
 		final CouchbaseDocument converted = new CouchbaseDocument(id);
 		converted.setId(id);
 
@@ -131,7 +145,10 @@ class CouchbaseTemplateSupport implements ApplicationContextAware, TemplateSuppo
 		if (cas != 0 && persistentEntity.getVersionProperty() != null) {
 			accessor.setProperty(persistentEntity.getVersionProperty(), cas);
 		}
-		N1qlJoinResolver.handleProperties(persistentEntity, accessor, template.reactive(), id, scope, collection);
+		if (metrics != null) { // joins are timed as the operations they run
+			metrics.recordConversion(CouchbaseOperationMetrics.DECODE, readEntity.getClass(), System.nanoTime() - start);
+		}
+		N1qlJoinResolver.handleProperties(persistentEntity, accessor, template.reactive(), id, scope, collection, joins);
 		return accessor.getBean();
 	}
 
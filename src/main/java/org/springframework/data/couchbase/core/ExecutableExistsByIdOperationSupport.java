@@ -18,7 +18,11 @@ package org.springframework.data.couchbase.core;
 import java.util.Collection;
 import java.util.Map;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.data.couchbase.core.ReactiveExistsByIdOperationSupport.ReactiveExistsByIdSupport;
+import org.springframework.data.couchbase.core.query.OptionsBuilder;
+import org.springframework.data.couchbase.core.support.PseudoArgs;
 import org.springframework.util.Assert;
 
 import com.couchbase.client.java.kv.ExistsOptions;
@@ -26,6 +30,7 @@ import com.couchbase.client.java.kv.ExistsOptions;
 public class ExecutableExistsByIdOperationSupport implements ExecutableExistsByIdOperation {
 
 	private final CouchbaseTemplate template;
+	private static final Logger LOG = LoggerFactory.getLogger(ExecutableExistsByIdOperationSupport.class);
 
 	ExecutableExistsByIdOperationSupport(CouchbaseTemplate template) {
 		this.template = template;
@@ -64,12 +69,22 @@ public class ExecutableExistsByIdOperationSupport implements ExecutableExistsByI
 
 		@Override
 		public boolean one(final String id) {
-			return reactiveSupport.one(id).block();
+			PseudoArgs<ExistsOptions> pArgs = new PseudoArgs<>(template.reactive(), scope, collection, options, domainType);
+			LOG.trace("existsById {}", pArgs);
+			OperationTimer timer = OperationTimer.start(template.reactive(), "existsById", domainType, pArgs);
+			return timer.record(() -> {
+				try {
+					return template.getCouchbaseClientFactory().withScope(pArgs.getScope()).getCollection(pArgs.getCollection())
+							.exists(id, OptionsBuilder.buildExistsOptions(pArgs.getOptions())).exists();
+				} catch (RuntimeException ex) {
+					throw template.potentiallyConvertRuntimeException(ex);
+				}
+			});
 		}
 
 		@Override
 		public Map<String, Boolean> all(final Collection<String> ids) {
-			return reactiveSupport.all(ids).block();
+			return PseudoArgs.fromThreadLocal(template.reactive(), reactiveSupport.all(ids)).block();
 		}
 
 		@Override
@@ -20,6 +20,7 @@ import java.util.stream.Stream;
 
 import org.springframework.data.couchbase.core.ReactiveFindByAnalyticsOperationSupport.ReactiveFindByAnalyticsSupport;
 import org.springframework.data.couchbase.core.query.AnalyticsQuery;
+import org.springframework.data.couchbase.core.support.PseudoArgs;
 import org.springframework.util.Assert;
 
 import com.couchbase.client.java.analytics.AnalyticsOptions;
@@ -69,17 +70,17 @@ public class ExecutableFindByAnalyticsOperationSupport implements ExecutableFind
 
 		@Override
 		public T oneValue() {
-			return reactiveSupport.one().block();
+			return PseudoArgs.fromThreadLocal(template.reactive(), reactiveSupport.one()).block();
 		}
 
 		@Override
 		public T firstValue() {
-			return reactiveSupport.first().block();
+			return PseudoArgs.fromThreadLocal(template.reactive(), reactiveSupport.first()).block();
 		}
 
 		@Override
 		public List<T> all() {
-			return reactiveSupport.all().collectList().block();
+			return PseudoArgs.fromThreadLocal(template.reactive(), reactiveSupport.all()).collectList().block();
 		}
 
 		@Override
@@ -129,12 +130,12 @@ public class ExecutableFindByAnalyticsOperationSupport implements ExecutableFind
 
 		@Override
 		public Stream<T> stream() {
-			return reactiveSupport.all().toStream();
+			return PseudoArgs.fromThreadLocal(template.reactive(), reactiveSupport.all()).toStream();
 		}
 
 		@Override
 		public long count() {
-			return reactiveSupport.count().block();
+			return PseudoArgs.fromThreadLocal(template.reactive(), reactiveSupport.count()).block();
 		}
 
 		@Override
@@ -20,14 +20,23 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.couchbase.CouchbaseClientFactory;
 import org.springframework.data.couchbase.core.ReactiveFindByIdOperationSupport.ReactiveFindByIdSupport;
+import org.springframework.data.couchbase.core.support.PseudoArgs;
 import org.springframework.util.Assert;
 
+import com.couchbase.client.core.error.DocumentNotFoundException;
+import com.couchbase.client.java.CommonOptions;
+import com.couchbase.client.java.kv.GetAndTouchOptions;
 import com.couchbase.client.java.kv.GetOptions;
+import com.couchbase.client.java.kv.GetResult;
 
 public class ExecutableFindByIdOperationSupport implements ExecutableFindByIdOperation {
 
 	private final CouchbaseTemplate template;
+	private static final Logger LOG = LoggerFactory.getLogger(ExecutableFindByIdOperationSupport.class);
 
 	ExecutableFindByIdOperationSupport(CouchbaseTemplate template) {
 		this.template = template;
@@ -64,12 +73,33 @@ public class ExecutableFindByIdOperationSupport implements ExecutableFindByIdOpe
 
 		@Override
 		public T one(final String id) {
-			return reactiveSupport.one(id).block();
+			CommonOptions<?> gOptions = reactiveSupport.initGetOptions();
+			PseudoArgs<?> pArgs = new PseudoArgs<>(template.reactive(), scope, collection, gOptions, domainType);
+			LOG.trace("findById {}", pArgs);
+			OperationTimer timer = OperationTimer.start(template.reactive(), "findById", domainType, pArgs);
+			return timer.record(() -> {
+				GetResult result;
+				try {
+					CouchbaseClientFactory clientFactory = template.getCouchbaseClientFactory().withScope(pArgs.getScope());
+					if (pArgs.getOptions() instanceof GetAndTouchOptions) {
+						result = clientFactory.getCollection(pArgs.getCollection()).getAndTouch(id, reactiveSupport.expiryToUse(),
+								(GetAndTouchOptions) pArgs.getOptions());
+					} else {
+						result = clientFactory.getCollection(pArgs.getCollection()).get(id, (GetOptions) pArgs.getOptions());
+					}
+				} catch (DocumentNotFoundException ex) {
+					return null;
+				} catch (RuntimeException ex) {
+					throw template.potentiallyConvertRuntimeException(ex);
+				}
+				return template.support().decodeEntity(id, result.contentAs(String.class), result.cas(), domainType,
+						pArgs.getScope(), pArgs.getCollection());
+			});
 		}
 
 		@Override
 		public Collection<? extends T> all(final Collection<String> ids) {
-			return reactiveSupport.all(ids).collectList().block();
+			return PseudoArgs.fromThreadLocal(template.reactive(), reactiveSupport.all(ids)).collectList().block();
 		}
 
 		@Override
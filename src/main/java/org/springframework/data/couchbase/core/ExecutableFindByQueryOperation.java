@@ -15,6 +15,7 @@
  */
 package org.springframework.data.couchbase.core;
 
+import java.time.Duration;
 import java.util.List;
 import java.util.Optional;
 import java.util.stream.Stream;
@@ -29,6 +30,8 @@ import org.springframework.data.couchbase.core.support.WithConsistency;
 import org.springframework.data.couchbase.core.support.WithDistinct;
 import org.springframework.data.couchbase.core.support.WithQuery;
 import org.springframework.data.couchbase.core.support.WithQueryOptions;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.lang.Nullable;
 
 import com.couchbase.client.java.query.QueryOptions;
@@ -110,6 +113,38 @@ public interface ExecutableFindByQueryOperation {
 		@Override
 		Stream<T> stream();
 
+		/**
+		 * Stream all matching elements, fetching at most {@code prefetch} rows ahead of the consumer. Rows are requested
+		 * from the server as the stream is consumed, so memory use is bounded by the prefetch rather than by the number of
+		 * results. Closing the stream cancels the query.
+		 *
+		 * @param prefetch the maximum number of rows fetched ahead of the consumer.
+		 * @return a {@link Stream} of results. Never {@literal null}.
+		 */
+		Stream<T> stream(int prefetch);
+
+		/**
+		 * Get the matching elements of one page together with the total number of matching elements. The total is
+		 * projected into the page rows with a windowed COUNT(*) OVER(), so a page costs one query instead of two. Queries
+		 * that cannot carry the windowed count (DISTINCT or string queries) fall back to a separate count query. The query
+		 * is expected to carry the skip, limit and sort of the pageable, see {@link Query#with(Pageable)}.
+		 *
+		 * @param pageable the page requested.
+		 * @return the page.
+		 */
+		Page<T> page(Pageable pageable);
+
+		/**
+		 * Get the matching elements of one page together with a total that may be up to {@code totalExpiry} old. The total
+		 * is taken from a count query that is cached by the template, so while it is cached a page costs one query and no
+		 * counting on the server.
+		 *
+		 * @param pageable the page requested.
+		 * @param totalExpiry how long a total may be reused.
+		 * @return the page.
+		 */
+		Page<T> page(Pageable pageable, Duration totalExpiry);
+
 		/**
 		 * Get the number of matching elements.
 		 *
@@ -15,14 +15,24 @@
  */
 package org.springframework.data.couchbase.core;
 
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Stream;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.IncorrectResultSizeDataAccessException;
 import org.springframework.data.couchbase.core.ReactiveFindByQueryOperationSupport.ReactiveFindByQuerySupport;
 import org.springframework.data.couchbase.core.query.Query;
+import org.springframework.data.couchbase.core.support.PseudoArgs;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.util.Assert;
 
+import com.couchbase.client.java.json.JsonObject;
 import com.couchbase.client.java.query.QueryOptions;
+import com.couchbase.client.java.query.QueryResult;
 import com.couchbase.client.java.query.QueryScanConsistency;
 
 /**
@@ -36,6 +46,7 @@ public class ExecutableFindByQueryOperationSupport implements ExecutableFindByQu
 	private static final Query ALL_QUERY = new Query();
 
 	private final CouchbaseTemplate template;
+	private static final Logger LOG = LoggerFactory.getLogger(ExecutableFindByQueryOperationSupport.class);
 
 	public ExecutableFindByQueryOperationSupport(final CouchbaseTemplate template) {
 		this.template = template;
@@ -70,7 +81,7 @@ public class ExecutableFindByQueryOperationSupport implements ExecutableFindByQu
 			this.query = query;
 			this.reactiveSupport = new ReactiveFindByQuerySupport<T>(template.reactive(), domainType, returnType, query,
 					scanConsistency, scope, collection, options, distinctFields, fields,
-					new NonReactiveSupportWrapper(template.support()));
+					new NonReactiveSupportWrapper(template.support(), template.getConverter()));
 			this.scanConsistency = scanConsistency;
 			this.scope = scope;
 			this.collection = collection;
@@ -81,17 +92,75 @@ public class ExecutableFindByQueryOperationSupport implements ExecutableFindByQu
 
 		@Override
 		public T oneValue() {
-			return reactiveSupport.one().block();
+			// two rows are enough to detect that the result is not unique
+			List<T> result = withQuery(query.limitedTo(2)).all();
+			if (result.size() > 1) {
+				throw new IncorrectResultSizeDataAccessException("query returned more than one result : " + query.export(), 1);
+			}
+			return result.isEmpty() ? null : result.get(0);
 		}
 
 		@Override
 		public T firstValue() {
-			return reactiveSupport.first().block();
+			List<T> result = withQuery(query.limitedTo(1)).all();
+			return result.isEmpty() ? null : result.get(0);
+		}
+
+		private ExecutableFindByQuerySupport<T> withQuery(Query query) {
+			return query == this.query ? this
+					: new ExecutableFindByQuerySupport<>(template, domainType, returnType, query, scanConsistency, scope,
+							collection, options, distinctFields, fields);
 		}
 
+		/**
+		 * Queries through the blocking SDK API, unless the immediate joins of the entities are resolved in batches, which
+		 * is only implemented reactively.
+		 */
 		@Override
 		public List<T> all() {
-			return reactiveSupport.all().collectList().block();
+			if (reactiveSupport.decodeBatchSize() > 1) {
+				return PseudoArgs.fromThreadLocal(template.reactive(), reactiveSupport.all()).collectList().block();
+			}
+			PseudoArgs<QueryOptions> pArgs = pseudoArgs();
+			String statement = reactiveSupport.assembleEntityQuery(false, distinctFields, pArgs.getCollection());
+			LOG.trace("findByQuery {} statement: {}", pArgs, statement);
+			return timer("findByQuery", pArgs).record(() -> {
+				List<JsonObject> rows = query(statement, pArgs).rowsAsObject();
+				List<T> entities = new ArrayList<>(rows.size());
+				for (JsonObject row : rows) {
+					T entity = reactiveSupport.decodeRow(row, statement, (id, source, cas) -> template.support()
+							.decodeEntity(id, source, cas, returnType, pArgs.getScope(), pArgs.getCollection()));
+					if (entity != null) {
+						entities.add(entity);
+					}
+				}
+				return entities;
+			});
+		}
+
+		private OperationTimer timer(String operation, PseudoArgs<QueryOptions> pArgs) {
+			return OperationTimer.start(template.reactive(), operation, domainType, pArgs);
+		}
+
+		private PseudoArgs<QueryOptions> pseudoArgs() {
+			return new PseudoArgs<>(template.reactive(), scope, collection, options, domainType);
+		}
+
+		private QueryResult query(String statement, PseudoArgs<QueryOptions> pArgs) {
+			QueryOptions queryOptions = reactiveSupport.buildOptions(pArgs.getOptions());
+			QueryResult result;
+			try {
+				result = pArgs.getScope() == null
+						? template.getCouchbaseClientFactory().getCluster().query(statement, queryOptions)
+						: template.getCouchbaseClientFactory().withScope(pArgs.getScope()).getScope().query(statement,
+								queryOptions);
+			} catch (RuntimeException ex) {
+				throw template.potentiallyConvertRuntimeException(ex);
+			}
+			if (template.reactive().isQueryMetricsEnabled()) {
+				QueryMetricsRecorder.record(template.reactive(), query, statement, result.metaData());
+			}
+			return result;
 		}
 
 		@Override
@@ -148,12 +217,29 @@ public class ExecutableFindByQueryOperationSupport implements ExecutableFindByQu
 
 		@Override
 		public Stream<T> stream() {
-			return reactiveSupport.all().toStream();
+			return PseudoArgs.fromThreadLocal(template.reactive(), reactiveSupport.all()).toStream();
+		}
+
+		@Override
+		public Stream<T> stream(int prefetch) {
+			Assert.isTrue(prefetch > 0, "prefetch must be greater than 0");
+			return PseudoArgs.fromThreadLocal(template.reactive(), reactiveSupport.all()).toStream(prefetch);
+		}
+
+		@Override
+		public Page<T> page(Pageable pageable) {
+			return PseudoArgs.fromThreadLocal(template.reactive(), reactiveSupport.page(pageable)).block();
+		}
+
+		@Override
+		public Page<T> page(Pageable pageable, Duration totalExpiry) {
+			return PseudoArgs.fromThreadLocal(template.reactive(), reactiveSupport.page(pageable, totalExpiry)).block();
 		}
 
 		@Override
 		public long count() {
-			Long l = reactiveSupport.count().block();
+			PseudoArgs<QueryOptions> pArgs = pseudoArgs();
+			Long l = timer("countByQuery", pArgs).record(() -> count(pArgs));
 			if (l == null) {
 				throw new CouchbaseQueryExecutionException("count query did not return a count : " + query.export());
 			}
@@ -162,7 +248,21 @@ public class ExecutableFindByQueryOperationSupport implements ExecutableFindByQu
 
 		@Override
 		public boolean exists() {
-			return count() > 0;
+			PseudoArgs<QueryOptions> pArgs = pseudoArgs();
+			String statement = query.toN1qlExistsString(template.reactive(), pArgs.getCollection(), domainType);
+			if (statement == null) {
+				Long count = timer("existsByQuery", pArgs).record(() -> count(pArgs));
+				return count != null && count > 0;
+			}
+			LOG.trace("findByQuery {} statement: {}", pArgs, statement);
+			return timer("existsByQuery", pArgs).record(() -> !query(statement, pArgs).rowsAs(Integer.class).isEmpty());
+		}
+
+		private Long count(PseudoArgs<QueryOptions> pArgs) {
+			String statement = reactiveSupport.assembleEntityQuery(true, distinctFields, pArgs.getCollection());
+			LOG.trace("findByQuery {} statement: {}", pArgs, statement);
+			List<JsonObject> rows = query(statement, pArgs).rowsAsObject();
+			return rows.isEmpty() ? null : rows.get(0).getLong(rows.get(0).getNames().iterator().next());
 		}
 
 		@Override
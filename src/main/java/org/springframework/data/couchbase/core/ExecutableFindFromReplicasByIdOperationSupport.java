@@ -18,6 +18,7 @@ package org.springframework.data.couchbase.core;
 import java.util.Collection;
 
 import org.springframework.data.couchbase.core.ReactiveFindFromReplicasByIdOperationSupport.ReactiveFindFromReplicasByIdSupport;
+import org.springframework.data.couchbase.core.support.PseudoArgs;
 import org.springframework.util.Assert;
 
 import com.couchbase.client.java.kv.GetAnyReplicaOptions;
@@ -59,12 +60,12 @@ public class ExecutableFindFromReplicasByIdOperationSupport implements Executabl
 
 		@Override
 		public T any(String id) {
-			return reactiveSupport.any(id).block();
+			return PseudoArgs.fromThreadLocal(template.reactive(), reactiveSupport.any(id)).block();
 		}
 
 		@Override
 		public Collection<? extends T> any(Collection<String> ids) {
-			return reactiveSupport.any(ids).collectList().block();
+			return PseudoArgs.fromThreadLocal(template.reactive(), reactiveSupport.any(ids)).collectList().block();
 		}
 
 		@Override
@@ -18,10 +18,16 @@ package org.springframework.data.couchbase.core;
 import java.time.Duration;
 import java.util.Collection;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.data.couchbase.core.ReactiveInsertByIdOperationSupport.ReactiveInsertByIdSupport;
+import org.springframework.data.couchbase.core.mapping.CouchbaseDocument;
+import org.springframework.data.couchbase.core.query.OptionsBuilder;
+import org.springframework.data.couchbase.core.support.PseudoArgs;
 import org.springframework.util.Assert;
 
 import com.couchbase.client.core.msg.kv.DurabilityLevel;
+import com.couchbase.client.java.kv.MutationResult;
 import com.couchbase.client.java.kv.InsertOptions;
 import com.couchbase.client.java.kv.PersistTo;
 import com.couchbase.client.java.kv.ReplicateTo;
@@ -29,6 +35,7 @@ import com.couchbase.client.java.kv.ReplicateTo;
 public class ExecutableInsertByIdOperationSupport implements ExecutableInsertByIdOperation {
 
 	private final CouchbaseTemplate template;
+	private static final Logger LOG = LoggerFactory.getLogger(ExecutableInsertByIdOperationSupport.class);
 
 	public ExecutableInsertByIdOperationSupport(final CouchbaseTemplate template) {
 		this.template = template;
@@ -72,12 +79,28 @@ public class ExecutableInsertByIdOperationSupport implements ExecutableInsertByI
 
 		@Override
 		public T one(final T object) {
-			return reactiveSupport.one(object).block();
+			PseudoArgs<InsertOptions> pArgs = new PseudoArgs<>(template.reactive(), scope, collection, options, domainType);
+			LOG.trace("insertById {}", pArgs);
+			OperationTimer timer = OperationTimer.start(template.reactive(), "insertById", domainType, pArgs);
+			return timer.record(() -> {
+				CouchbaseDocument converted = template.support().encodeEntity(object);
+				InsertOptions insertOptions = OptionsBuilder.buildInsertOptions(pArgs.getOptions(), persistTo, replicateTo,
+						durabilityLevel, expiry, converted);
+				MutationResult result;
+				try {
+					result = template.getCouchbaseClientFactory().withScope(pArgs.getScope()).getCollection(pArgs.getCollection())
+							.insert(converted.getId(), converted.export(), insertOptions);
+				} catch (RuntimeException ex) {
+					throw template.potentiallyConvertRuntimeException(ex);
+				}
+				T updated = template.support().applyUpdatedId(object, converted.getId());
+				return template.support().applyUpdatedCas(updated, converted, result.cas());
+			});
 		}
 
 		@Override
 		public Collection<? extends T> all(Collection<? extends T> objects) {
-			return reactiveSupport.all(objects).collectList().block();
+			return PseudoArgs.fromThreadLocal(template.reactive(), reactiveSupport.all(objects)).collectList().block();
 		}
 
 		@Override
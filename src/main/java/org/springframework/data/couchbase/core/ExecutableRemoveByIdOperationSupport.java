@@ -18,7 +18,11 @@ package org.springframework.data.couchbase.core;
 import java.util.Collection;
 import java.util.List;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.data.couchbase.core.ReactiveRemoveByIdOperationSupport.ReactiveRemoveByIdSupport;
+import org.springframework.data.couchbase.core.query.OptionsBuilder;
+import org.springframework.data.couchbase.core.support.PseudoArgs;
 import org.springframework.util.Assert;
 
 import com.couchbase.client.core.msg.kv.DurabilityLevel;
@@ -29,6 +33,7 @@ import com.couchbase.client.java.kv.ReplicateTo;
 public class ExecutableRemoveByIdOperationSupport implements ExecutableRemoveByIdOperation {
 
 	private final CouchbaseTemplate template;
+	private static final Logger LOG = LoggerFactory.getLogger(ExecutableRemoveByIdOperationSupport.class);
 
 	public ExecutableRemoveByIdOperationSupport(final CouchbaseTemplate template) {
 		this.template = template;
@@ -77,12 +82,24 @@ public class ExecutableRemoveByIdOperationSupport implements ExecutableRemoveByI
 
 		@Override
 		public RemoveResult one(final String id) {
-			return reactiveRemoveByIdSupport.one(id).block();
+			PseudoArgs<RemoveOptions> pArgs = new PseudoArgs<>(template.reactive(), scope, collection, options, domainType);
+			LOG.trace("removeById {}", pArgs);
+			OperationTimer timer = OperationTimer.start(template.reactive(), "removeById", domainType, pArgs);
+			return timer.record(() -> {
+				try {
+					return RemoveResult.from(id,
+							template.getCouchbaseClientFactory().withScope(pArgs.getScope()).getCollection(pArgs.getCollection())
+									.remove(id, OptionsBuilder.buildRemoveOptions(pArgs.getOptions(), persistTo, replicateTo,
+											durabilityLevel, cas)));
+				} catch (RuntimeException ex) {
+					throw template.potentiallyConvertRuntimeException(ex);
+				}
+			});
 		}
 
 		@Override
 		public List<RemoveResult> all(final Collection<String> ids) {
-			return reactiveRemoveByIdSupport.all(ids).collectList().block();
+			return PseudoArgs.fromThreadLocal(template.reactive(), reactiveRemoveByIdSupport.all(ids)).collectList().block();
 		}
 
 		@Override
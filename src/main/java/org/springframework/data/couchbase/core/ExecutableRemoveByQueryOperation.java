@@ -15,6 +15,7 @@
  */
 package org.springframework.data.couchbase.core;
 
+import java.time.Duration;
 import java.util.List;
 
 import org.springframework.data.couchbase.core.query.Query;
@@ -53,6 +54,28 @@ public interface ExecutableRemoveByQueryOperation {
 		 */
 		List<RemoveResult> all();
 
+		/**
+		 * Remove all matching documents with delete statements of at most {@code chunkSize} documents each, until nothing
+		 * is left. The removed documents are not returned.
+		 *
+		 * @param chunkSize the maximum number of documents removed by one statement.
+		 * @return the number of removed documents
+		 */
+		default long allInChunks(int chunkSize) {
+			return allInChunks(chunkSize, Duration.ZERO, 1);
+		}
+
+		/**
+		 * Remove all matching documents with delete statements of at most {@code chunkSize} documents each, until nothing
+		 * is left. The removed documents are not returned.
+		 *
+		 * @param chunkSize the maximum number of documents removed by one statement.
+		 * @param pause the time to wait between the statements of one worker, to leave room for other load.
+		 * @param parallelism the number of statements running at the same time.
+		 * @return the number of removed documents, from the mutation counts of the statements
+		 */
+		long allInChunks(int chunkSize, Duration pause, int parallelism);
+
 	}
 
 	/**
@@ -15,10 +15,12 @@
  */
 package org.springframework.data.couchbase.core;
 
+import java.time.Duration;
 import java.util.List;
 
 import org.springframework.data.couchbase.core.ReactiveRemoveByQueryOperationSupport.ReactiveRemoveByQuerySupport;
 import org.springframework.data.couchbase.core.query.Query;
+import org.springframework.data.couchbase.core.support.PseudoArgs;
 import org.springframework.util.Assert;
 
 import com.couchbase.client.java.query.QueryOptions;
@@ -65,7 +67,14 @@ public class ExecutableRemoveByQueryOperationSupport implements ExecutableRemove
 
 		@Override
 		public List<RemoveResult> all() {
-			return reactiveSupport.all().collectList().block();
+			return PseudoArgs.fromThreadLocal(template.reactive(), reactiveSupport.all()).collectList().block();
+		}
+
+		@Override
+		public long allInChunks(int chunkSize, Duration pause, int parallelism) {
+			Long removed = PseudoArgs
+					.fromThreadLocal(template.reactive(), reactiveSupport.allInChunks(chunkSize, pause, parallelism)).block();
+			return removed != null ? removed : 0;
 		}
 
 		@Override
@@ -18,10 +18,16 @@ package org.springframework.data.couchbase.core;
 import java.time.Duration;
 import java.util.Collection;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.data.couchbase.core.ReactiveReplaceByIdOperationSupport.ReactiveReplaceByIdSupport;
+import org.springframework.data.couchbase.core.mapping.CouchbaseDocument;
+import org.springframework.data.couchbase.core.query.OptionsBuilder;
+import org.springframework.data.couchbase.core.support.PseudoArgs;
 import org.springframework.util.Assert;
 
 import com.couchbase.client.core.msg.kv.DurabilityLevel;
+import com.couchbase.client.java.kv.MutationResult;
 import com.couchbase.client.java.kv.PersistTo;
 import com.couchbase.client.java.kv.ReplaceOptions;
 import com.couchbase.client.java.kv.ReplicateTo;
@@ -29,6 +35,7 @@ import com.couchbase.client.java.kv.ReplicateTo;
 public class ExecutableReplaceByIdOperationSupport implements ExecutableReplaceByIdOperation {
 
 	private final CouchbaseTemplate template;
+	private static final Logger LOG = LoggerFactory.getLogger(ExecutableReplaceByIdOperationSupport.class);
 
 	public ExecutableReplaceByIdOperationSupport(final CouchbaseTemplate template) {
 		this.template = template;
@@ -72,12 +79,27 @@ public class ExecutableReplaceByIdOperationSupport implements ExecutableReplaceB
 
 		@Override
 		public T one(final T object) {
-			return reactiveSupport.one(object).block();
+			PseudoArgs<ReplaceOptions> pArgs = new PseudoArgs<>(template.reactive(), scope, collection, options, domainType);
+			LOG.trace("replaceById {}", pArgs);
+			OperationTimer timer = OperationTimer.start(template.reactive(), "replaceById", domainType, pArgs);
+			return timer.record(() -> {
+				CouchbaseDocument converted = template.support().encodeEntity(object);
+				ReplaceOptions replaceOptions = OptionsBuilder.buildReplaceOptions(pArgs.getOptions(), persistTo, replicateTo,
+						durabilityLevel, expiry, template.support().getCas(object), converted);
+				MutationResult result;
+				try {
+					result = template.getCouchbaseClientFactory().withScope(pArgs.getScope()).getCollection(pArgs.getCollection())
+							.replace(converted.getId(), converted.export(), replaceOptions);
+				} catch (RuntimeException ex) {
+					throw template.potentiallyConvertRuntimeException(ex);
+				}
+				return template.support().applyUpdatedCas(object, converted, result.cas());
+			});
 		}
 
 		@Override
 		public Collection<? extends T> all(Collection<? extends T> objects) {
-			return reactiveSupport.all(objects).collectList().block();
+			return PseudoArgs.fromThreadLocal(template.reactive(), reactiveSupport.all(objects)).collectList().block();
 		}
 
 		@Override
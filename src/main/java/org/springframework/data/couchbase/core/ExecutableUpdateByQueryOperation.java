@@ -0,0 +1,137 @@
+/*
+ * Copyright 2022 the original author or authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.couchbase.core;
+
+import java.util.List;
+
+import org.springframework.data.couchbase.core.query.Query;
+import org.springframework.data.couchbase.core.query.QueryCriteriaDefinition;
+import org.springframework.data.couchbase.core.query.Update;
+import org.springframework.data.couchbase.core.support.InCollection;
+import org.springframework.data.couchbase.core.support.InScope;
+import org.springframework.data.couchbase.core.support.WithConsistency;
+import org.springframework.data.couchbase.core.support.WithQuery;
+import org.springframework.data.couchbase.core.support.WithQueryOptions;
+
+import com.couchbase.client.java.query.QueryOptions;
+import com.couchbase.client.java.query.QueryScanConsistency;
+
+/**
+ * UpdateBy Query Operations
+ *
+ * @since 4.4
+ */
+public interface ExecutableUpdateByQueryOperation {
+
+	/**
+	 * Update via the query service, with a single UPDATE statement.
+	 */
+	<T> ExecutableUpdateByQuery<T> updateByQuery(Class<T> domainType);
+
+	/**
+	 * Terminating operations invoking the actual execution.
+	 */
+	interface TerminatingUpdateByQuery<T> {
+
+		/**
+		 * Apply the update to all matching documents.
+		 *
+		 * @param update the properties to set and unset.
+		 * @return the number of updated documents
+		 */
+		long apply(Update update);
+
+		/**
+		 * Apply the update to all matching documents.
+		 *
+		 * @param update the properties to set and unset.
+		 * @return UpdateResult for each updated document
+		 */
+		List<UpdateResult> applyReturning(Update update);
+
+	}
+
+	/**
+	 * Fluent methods to specify the query
+	 *
+	 * @param <T> the entity type.
+	 */
+	interface UpdateByQueryWithQuery<T> extends TerminatingUpdateByQuery<T>, WithQuery<UpdateResult> {
+
+		TerminatingUpdateByQuery<T> matching(Query query);
+
+		default TerminatingUpdateByQuery<T> matching(QueryCriteriaDefinition criteria) {
+			return matching(Query.query(criteria));
+		}
+
+	}
+
+	/**
+	 * Fluent method to specify options.
+	 *
+	 * @param <T> the entity type.
+	 */
+	interface UpdateByQueryWithOptions<T> extends UpdateByQueryWithQuery<T>, WithQueryOptions<UpdateResult> {
+		/**
+		 * Fluent method to specify options to use for execution
+		 *
+		 * @param options to use for execution
+		 */
+		UpdateByQueryWithQuery<T> withOptions(QueryOptions options);
+	}
+
+	/**
+	 * Fluent method to specify the collection.
+	 *
+	 * @param <T> the entity type.
+	 */
+	interface UpdateByQueryInCollection<T> extends UpdateByQueryWithOptions<T>, InCollection<Object> {
+		/**
+		 * With a different collection
+		 *
+		 * @param collection the collection to use.
+		 */
+		UpdateByQueryWithOptions<T> inCollection(String collection);
+	}
+
+	/**
+	 * Fluent method to specify the scope.
+	 *
+	 * @param <T> the entity type.
+	 */
+	interface UpdateByQueryInScope<T> extends UpdateByQueryInCollection<T>, InScope<Object> {
+		/**
+		 * With a different scope
+		 *
+		 * @param scope the scope to use.
+		 */
+		UpdateByQueryInCollection<T> inScope(String scope);
+	}
+
+	interface UpdateByQueryWithConsistency<T> extends UpdateByQueryInScope<T>, WithConsistency<UpdateResult> {
+		@Override
+		UpdateByQueryInScope<T> withConsistency(QueryScanConsistency scanConsistency);
+
+	}
+
+	/**
+	 * Provides methods for constructing query operations in a fluent way.
+	 *
+	 * @param <T> the entity type.
+	 */
+	interface ExecutableUpdateByQuery<T> extends UpdateByQueryWithConsistency<T> {}
+
+}
@@ -0,0 +1,117 @@
+/*
+ * Copyright 2022 the original author or authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.couchbase.core;
+
+import java.util.List;
+
+import org.springframework.data.couchbase.core.ReactiveUpdateByQueryOperationSupport.ReactiveUpdateByQuerySupport;
+import org.springframework.data.couchbase.core.query.Query;
+import org.springframework.data.couchbase.core.query.Update;
+import org.springframework.data.couchbase.core.support.PseudoArgs;
+import org.springframework.util.Assert;
+
+import com.couchbase.client.java.query.QueryOptions;
+import com.couchbase.client.java.query.QueryScanConsistency;
+
+/**
+ * {@link ExecutableUpdateByQueryOperation} implementations for Couchbase.
+ *
+ * @since 4.4
+ */
+public class ExecutableUpdateByQueryOperationSupport implements ExecutableUpdateByQueryOperation {
+
+	private static final Query ALL_QUERY = new Query();
+
+	private final CouchbaseTemplate template;
+
+	public ExecutableUpdateByQueryOperationSupport(final CouchbaseTemplate template) {
+		this.template = template;
+	}
+
+	@Override
+	public <T> ExecutableUpdateByQuery<T> updateByQuery(Class<T> domainType) {
+		return new ExecutableUpdateByQuerySupport<>(template, domainType, ALL_QUERY, null, null, null, null);
+	}
+
+	static class ExecutableUpdateByQuerySupport<T> implements ExecutableUpdateByQuery<T> {
+
+		private final CouchbaseTemplate template;
+		private final Class<T> domainType;
+		private final Query query;
+		private final ReactiveUpdateByQuerySupport<T> reactiveSupport;
+		private final QueryScanConsistency scanConsistency;
+		private final String scope;
+		private final String collection;
+		private final QueryOptions options;
+
+		ExecutableUpdateByQuerySupport(final CouchbaseTemplate template, final Class<T> domainType, final Query query,
+				final QueryScanConsistency scanConsistency, String scope, String collection, QueryOptions options) {
+			this.template = template;
+			this.domainType = domainType;
+			this.query = query;
+			this.reactiveSupport = new ReactiveUpdateByQuerySupport<>(template.reactive(), domainType, query, scanConsistency,
+					scope, collection, options);
+			this.scanConsistency = scanConsistency;
+			this.scope = scope;
+			this.collection = collection;
+			this.options = options;
+		}
+
+		@Override
+		public long apply(Update update) {
+			Long updated = PseudoArgs.fromThreadLocal(template.reactive(), reactiveSupport.apply(update)).block();
+			return updated != null ? updated : 0;
+		}
+
+		@Override
+		public List<UpdateResult> applyReturning(Update update) {
+			return PseudoArgs.fromThreadLocal(template.reactive(), reactiveSupport.applyReturning(update)).collectList()
+					.block();
+		}
+
+		@Override
+		public TerminatingUpdateByQuery<T> matching(final Query query) {
+			return new ExecutableUpdateByQuerySupport<>(template, domainType, query, scanConsistency, scope, collection,
+					options);
+		}
+
+		@Override
+		public UpdateByQueryInScope<T> withConsistency(final QueryScanConsistency scanConsistency) {
+			return new ExecutableUpdateByQuerySupport<>(template, domainType, query, scanConsistency, scope, collection,
+					options);
+		}
+
+		@Override
+		public UpdateByQueryWithOptions<T> inCollection(final String collection) {
+			return new ExecutableUpdateByQuerySupport<>(template, domainType, query, scanConsistency, scope, collection,
+					options);
+		}
+
+		@Override
+		public UpdateByQueryWithQuery<T> withOptions(final QueryOptions options) {
+			Assert.notNull(options, "Options must not be null.");
+			return new ExecutableUpdateByQuerySupport<>(template, domainType, query, scanConsistency, scope, collection,
+					options);
+		}
+
+		@Override
+		public UpdateByQueryInCollection<T> inScope(final String scope) {
+			return new ExecutableUpdateByQuerySupport<>(template, domainType, query, scanConsistency, scope, collection,
+					options);
+		}
+	}
+
+}
@@ -18,10 +18,16 @@ package org.springframework.data.couchbase.core;
 import java.time.Duration;
 import java.util.Collection;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.data.couchbase.core.ReactiveUpsertByIdOperationSupport.ReactiveUpsertByIdSupport;
+import org.springframework.data.couchbase.core.mapping.CouchbaseDocument;
+import org.springframework.data.couchbase.core.query.OptionsBuilder;
+import org.springframework.data.couchbase.core.support.PseudoArgs;
 import org.springframework.util.Assert;
 
 import com.couchbase.client.core.msg.kv.DurabilityLevel;
+import com.couchbase.client.java.kv.MutationResult;
 import com.couchbase.client.java.kv.PersistTo;
 import com.couchbase.client.java.kv.ReplicateTo;
 import com.couchbase.client.java.kv.UpsertOptions;
@@ -29,6 +35,7 @@ import com.couchbase.client.java.kv.UpsertOptions;
 public class ExecutableUpsertByIdOperationSupport implements ExecutableUpsertByIdOperation {
 
 	private final CouchbaseTemplate template;
+	private static final Logger LOG = LoggerFactory.getLogger(ExecutableUpsertByIdOperationSupport.class);
 
 	public ExecutableUpsertByIdOperationSupport(final CouchbaseTemplate template) {
 		this.template = template;
@@ -72,12 +79,28 @@ public class ExecutableUpsertByIdOperationSupport implements ExecutableUpsertByI
 
 		@Override
 		public T one(final T object) {
-			return reactiveSupport.one(object).block();
+			PseudoArgs<UpsertOptions> pArgs = new PseudoArgs<>(template.reactive(), scope, collection, options, domainType);
+			LOG.trace("upsertById {}", pArgs);
+			OperationTimer timer = OperationTimer.start(template.reactive(), "upsertById", domainType, pArgs);
+			return timer.record(() -> {
+				CouchbaseDocument converted = template.support().encodeEntity(object);
+				UpsertOptions upsertOptions = OptionsBuilder.buildUpsertOptions(pArgs.getOptions(), persistTo, replicateTo,
+						durabilityLevel, expiry, converted);
+				MutationResult result;
+				try {
+					result = template.getCouchbaseClientFactory().withScope(pArgs.getScope()).getCollection(pArgs.getCollection())
+							.upsert(converted.getId(), converted.export(), upsertOptions);
+				} catch (RuntimeException ex) {
+					throw template.potentiallyConvertRuntimeException(ex);
+				}
+				T updated = template.support().applyUpdatedId(object, converted.getId());
+				return template.support().applyUpdatedCas(updated, converted, result.cas());
+			});
 		}
 
 		@Override
 		public Collection<? extends T> all(Collection<? extends T> objects) {
-			return reactiveSupport.all(objects).collectList().block();
+			return PseudoArgs.fromThreadLocal(template.reactive(), reactiveSupport.all(objects)).collectList().block();
 		}
 
 		@Override
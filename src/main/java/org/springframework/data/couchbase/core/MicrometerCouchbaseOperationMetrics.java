@@ -0,0 +1,123 @@
+/*
+ * Copyright 2022 the original author or authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.couchbase.core;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.data.couchbase.core.CouchbaseOperationStatistics.Key;
+import org.springframework.data.couchbase.core.CouchbaseOperationStatistics.QueryKey;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * {@link CouchbaseOperationMetrics} recorded on the meters of a Micrometer {@link MeterRegistry}:
+ * <ul>
+ * <li>{@value #OPERATIONS} timers tagged with {@code operation}, {@code domainType}, {@code scope}, {@code collection}
+ * and {@code outcome},</li>
+ * <li>{@value #CONVERSIONS} timers tagged with {@code conversion} and {@code type},</li>
+ * <li>{@value #QUERIES} timers of the elapsed time on the server, tagged with the {@code query} method and the
+ * statement {@code fingerprint}, and {@value #QUERY_RESULT_COUNT} and {@value #QUERY_RESULT_SIZE} summaries with the
+ * same tags.</li>
+ * </ul>
+ * Percentiles and histograms are configured on the registry, with a {@code MeterFilter}.
+ *
+ * @since 4.4
+ */
+public class MicrometerCouchbaseOperationMetrics implements CouchbaseOperationMetrics {
+
+	public static final String OPERATIONS = "spring.data.couchbase.operations";
+	public static final String CONVERSIONS = "spring.data.couchbase.conversions";
+	public static final String QUERIES = "spring.data.couchbase.queries";
+	public static final String QUERY_RESULT_COUNT = "spring.data.couchbase.queries.result.count";
+	public static final String QUERY_RESULT_SIZE = "spring.data.couchbase.queries.result.size";
+
+	private static final String NONE = "none";
+
+	private final MeterRegistry registry;
+	// looking the meters up by key spares building their tags on each operation
+	private final Map<Key, Timer> operations = new ConcurrentHashMap<>();
+	private final Map<Key, Timer> conversions = new ConcurrentHashMap<>();
+	private final Map<QueryKey, QueryMeters> queries = new ConcurrentHashMap<>();
+
+	public MicrometerCouchbaseOperationMetrics(MeterRegistry registry) {
+		Assert.notNull(registry, "registry must not be null");
+		this.registry = registry;
+	}
+
+	@Override
+	public void recordOperation(String operation, @Nullable Class<?> domainType, @Nullable String scope,
+			@Nullable String collection, String outcome, long nanos) {
+		operations.computeIfAbsent(new Key(operation, domainType, scope, collection, outcome),
+				k -> Timer.builder(OPERATIONS).description("Operations of the Couchbase templates")
+						.tags(Tags.of("operation", operation, "domainType", name(domainType), "scope", orNone(scope),
+								"collection", orNone(collection), "outcome", outcome))
+						.register(registry))
+				.record(nanos, TimeUnit.NANOSECONDS);
+	}
+
+	@Override
+	public void recordConversion(String conversion, Class<?> type, long nanos) {
+		conversions.computeIfAbsent(new Key(conversion, type, null, null, SUCCESS),
+				k -> Timer.builder(CONVERSIONS).description("Conversions of entities to and from documents")
+						.tags("conversion", conversion, "type", name(type)).register(registry))
+				.record(nanos, TimeUnit.NANOSECONDS);
+	}
+
+	@Override
+	public void recordQuery(@Nullable String name, String fingerprint, Duration elapsedTime, Duration executionTime,
+			long resultCount, long resultSize) {
+		queries.computeIfAbsent(new QueryKey(name, fingerprint), k -> new QueryMeters(Tags.of("query", orNone(name),
+				"fingerprint", fingerprint))).record(elapsedTime, resultCount, resultSize);
+	}
+
+	private static String name(@Nullable Class<?> type) {
+		return type == null ? NONE : type.getSimpleName();
+	}
+
+	private static String orNone(@Nullable String value) {
+		return value == null ? NONE : value;
+	}
+
+	private class QueryMeters {
+
+		private final Timer elapsedTime;
+		private final DistributionSummary resultCount;
+		private final DistributionSummary resultSize;
+
+		QueryMeters(Tags tags) {
+			this.elapsedTime = Timer.builder(QUERIES).description("Elapsed time of the queries on the server").tags(tags)
+					.register(registry);
+			this.resultCount = DistributionSummary.builder(QUERY_RESULT_COUNT).description("Rows returned by the queries")
+					.tags(tags).register(registry);
+			this.resultSize = DistributionSummary.builder(QUERY_RESULT_SIZE).description("Size of the rows of the queries")
+					.baseUnit("bytes").tags(tags).register(registry);
+		}
+
+		void record(Duration elapsedTime, long resultCount, long resultSize) {
+			this.elapsedTime.record(elapsedTime);
+			this.resultCount.record(resultCount);
+			this.resultSize.record(resultSize);
+		}
+	}
+}
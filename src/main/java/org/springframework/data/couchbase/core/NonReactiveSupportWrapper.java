@@ -16,7 +16,14 @@
 package org.springframework.data.couchbase.core;
 
 import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+import org.springframework.data.couchbase.core.convert.CouchbaseConverter;
+import org.springframework.data.couchbase.core.convert.join.N1qlJoinBatch;
+import org.springframework.data.couchbase.core.convert.join.N1qlJoinResolver;
 import org.springframework.data.couchbase.core.mapping.CouchbaseDocument;
 import org.springframework.data.couchbase.core.mapping.event.CouchbaseMappingEvent;
 
@@ -29,9 +36,23 @@ import org.springframework.data.couchbase.core.mapping.event.CouchbaseMappingEve
 public class NonReactiveSupportWrapper implements ReactiveTemplateSupport {
 
 	private final TemplateSupport support;
+	private final Predicate<Class<?>> decodesBlocking;
 
 	public NonReactiveSupportWrapper(TemplateSupport support) {
 		this.support = support;
+		this.decodesBlocking = entityClass -> false;
+	}
+
+	/**
+	 * Entities with immediate joins are decoded on {@link Schedulers#boundedElastic()}, as {@code support} resolves their
+	 * joins blocking and the entities may be decoded on the threads of the SDK.
+	 *
+	 * @since 4.4
+	 */
+	public NonReactiveSupportWrapper(TemplateSupport support, CouchbaseConverter converter) {
+		this.support = support;
+		this.decodesBlocking = entityClass -> N1qlJoinResolver
+				.hasImmediateJoins(converter.getMappingContext().getPersistentEntity(entityClass));
 	}
 
 	@Override
@@ -42,7 +63,18 @@ public class NonReactiveSupportWrapper implements ReactiveTemplateSupport {
 	@Override
 	public <T> Mono<T> decodeEntity(String id, String source, long cas, Class<T> entityClass, String scope,
 			String collection) {
-		return Mono.fromSupplier(() -> support.decodeEntity(id, source, cas, entityClass, scope, collection));
+		return decode(entityClass, () -> support.decodeEntity(id, source, cas, entityClass, scope, collection));
+	}
+
+	@Override
+	public <T> Mono<T> decodeEntity(String id, String source, long cas, Class<T> entityClass, String scope,
+			String collection, N1qlJoinBatch joins) {
+		return decode(entityClass, () -> support.decodeEntity(id, source, cas, entityClass, scope, collection, joins));
+	}
+
+	private <T> Mono<T> decode(Class<T> entityClass, Supplier<T> decoding) {
+		Mono<T> decoded = Mono.fromSupplier(decoding);
+		return decodesBlocking.test(entityClass) ? decoded.subscribeOn(Schedulers.boundedElastic()) : decoded;
 	}
 
 	@Override
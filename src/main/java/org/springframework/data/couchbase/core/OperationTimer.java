@@ -0,0 +1,130 @@
+/*
+ * Copyright 2022 the original author or authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.couchbase.core;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Supplier;
+
+import org.springframework.data.couchbase.core.support.PseudoArgs;
+import org.springframework.lang.Nullable;
+
+/**
+ * Times an operation for the {@link CouchbaseOperationMetrics} of a template. Without metrics, {@link #start} returns a
+ * timer that does nothing and leaves publishers and futures as they are.
+ *
+ * @since 4.4
+ */
+class OperationTimer {
+
+	private static final OperationTimer NONE = new OperationTimer(null, null, null, null, null);
+
+	private final CouchbaseOperationMetrics metrics;
+	private final String operation;
+	private final Class<?> domainType;
+	private final String scope;
+	private final String collection;
+	private final long start;
+
+	private OperationTimer(CouchbaseOperationMetrics metrics, String operation, Class<?> domainType, String scope,
+			String collection) {
+		this.metrics = metrics;
+		this.operation = operation;
+		this.domainType = domainType;
+		this.scope = scope;
+		this.collection = collection;
+		this.start = metrics == null ? 0 : System.nanoTime();
+	}
+
+	/**
+	 * Start timing an operation.
+	 *
+	 * @param template the template running the operation.
+	 * @param operation the name of the operation.
+	 * @param domainType the domain type of the operation, if any.
+	 * @param pArgs the scope and collection of the operation, if any.
+	 */
+	static OperationTimer start(ReactiveCouchbaseTemplate template, String operation, @Nullable Class<?> domainType,
+			@Nullable PseudoArgs<?> pArgs) {
+		CouchbaseOperationMetrics metrics = template.getOperationMetrics();
+		if (metrics == null) {
+			return NONE;
+		}
+		return new OperationTimer(metrics, operation, domainType, pArgs == null ? null : pArgs.getScope(),
+				pArgs == null ? null : pArgs.getCollection());
+	}
+
+	void success() {
+		record(CouchbaseOperationMetrics.SUCCESS);
+	}
+
+	void failure(Throwable t) {
+		if (metrics != null) {
+			Throwable cause = t instanceof CompletionException && t.getCause() != null ? t.getCause() : t;
+			record(cause.getClass().getSimpleName());
+		}
+	}
+
+	<T> T record(Supplier<T> operation) {
+		T result;
+		try {
+			result = operation.get();
+		} catch (RuntimeException ex) {
+			failure(ex);
+			throw ex;
+		}
+		success();
+		return result;
+	}
+
+	<T> Mono<T> record(Mono<T> operation) {
+		if (metrics == null) {
+			return operation;
+		}
+		return operation.doOnSuccess(r -> success()).doOnError(this::failure)
+				.doOnCancel(() -> record(CouchbaseOperationMetrics.CANCELLED));
+	}
+
+	<T> Flux<T> record(Flux<T> operation) {
+		if (metrics == null) {
+			return operation;
+		}
+		return operation.doOnComplete(this::success).doOnError(this::failure)
+				.doOnCancel(() -> record(CouchbaseOperationMetrics.CANCELLED));
+	}
+
+	<T> CompletableFuture<T> record(CompletableFuture<T> operation) {
+		if (metrics == null) {
+			return operation;
+		}
+		return operation.whenComplete((r, t) -> {
+			if (t == null) {
+				success();
+			} else {
+				failure(t);
+			}
+		});
+	}
+
+	private void record(String outcome) {
+		if (metrics != null) {
+			metrics.recordOperation(operation, domainType, scope, collection, outcome, System.nanoTime() - start);
+		}
+	}
+}
@@ -0,0 +1,113 @@
+/*
+ * Copyright 2022 the original author or authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.couchbase.core;
+
+import static org.springframework.data.couchbase.core.query.Meta.MetaKey.METRICS_NAME;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.StringJoiner;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.couchbase.core.query.AnalyticsQuery;
+import org.springframework.data.couchbase.core.query.Meta;
+import org.springframework.data.couchbase.core.query.Query;
+import org.springframework.data.couchbase.core.query.StatementFingerprint;
+import org.springframework.lang.Nullable;
+
+import com.couchbase.client.java.analytics.AnalyticsMetaData;
+import com.couchbase.client.java.analytics.AnalyticsMetrics;
+import com.couchbase.client.java.json.JsonArray;
+import com.couchbase.client.java.json.JsonObject;
+import com.couchbase.client.java.json.JsonValue;
+import com.couchbase.client.java.query.QueryMetaData;
+
+/**
+ * Passes the metrics the server returned for a query to the {@link CouchbaseOperationMetrics} of the template, and
+ * logs the query if it was slow.
+ *
+ * @since 4.4
+ * @see ReactiveCouchbaseTemplate#isQueryMetricsEnabled()
+ */
+class QueryMetricsRecorder {
+
+	private static final Logger LOG = LoggerFactory.getLogger(QueryMetricsRecorder.class);
+
+	private QueryMetricsRecorder() {}
+
+	static void record(ReactiveCouchbaseTemplate template, Query query, String statement, QueryMetaData metaData) {
+		String name = metricsName(query.getMeta());
+		metaData.metrics().ifPresent(metrics -> record(template, name, statement, query.getParameters(),
+				metrics.elapsedTime(), metrics.executionTime(), metrics.resultCount(), metrics.resultSize()));
+	}
+
+	static void record(ReactiveCouchbaseTemplate template, AnalyticsQuery query, String statement,
+			AnalyticsMetaData metaData) {
+		AnalyticsMetrics metrics = metaData.metrics();
+		record(template, metricsName(query.getMeta()), statement, null, metrics.elapsedTime(), metrics.executionTime(),
+				metrics.resultCount(), metrics.resultSize());
+	}
+
+	@Nullable
+	private static String metricsName(@Nullable Meta meta) {
+		return meta == null ? null : meta.get(METRICS_NAME);
+	}
+
+	private static void record(ReactiveCouchbaseTemplate template, @Nullable String name, String statement,
+			@Nullable JsonValue parameters, Duration elapsedTime, Duration executionTime, long resultCount,
+			long resultSize) {
+		CouchbaseOperationMetrics operationMetrics = template.getOperationMetrics();
+		Duration threshold = template.getSlowQueryThreshold();
+		boolean slow = threshold != null && elapsedTime.compareTo(threshold) >= 0 && LOG.isWarnEnabled();
+		if (operationMetrics == null && !slow) {
+			return;
+		}
+		String fingerprint = StatementFingerprint.of(statement);
+		if (operationMetrics != null) {
+			operationMetrics.recordQuery(name, fingerprint, elapsedTime, executionTime, resultCount, resultSize);
+		}
+		if (slow) {
+			LOG.warn("slow query {}: {} parameters: {} elapsedTime: {} executionTime: {} resultCount: {} resultSize: {}",
+					name, fingerprint, redact(parameters), elapsedTime, executionTime, resultCount, resultSize);
+		}
+	}
+
+	/**
+	 * @return the parameters with their values replaced by their types, as values can be personal data.
+	 */
+	static String redact(@Nullable JsonValue parameters) {
+		StringJoiner redacted;
+		if (parameters instanceof JsonArray) {
+			redacted = new StringJoiner(", ", "[", "]");
+			for (Object value : (JsonArray) parameters) {
+				redacted.add(typeOf(value));
+			}
+		} else if (parameters instanceof JsonObject) {
+			redacted = new StringJoiner(", ", "{", "}");
+			for (Map.Entry<String, Object> entry : ((JsonObject) parameters).toMap().entrySet()) {
+				redacted.add(entry.getKey() + "=" + typeOf(entry.getValue()));
+			}
+		} else {
+			return "[]";
+		}
+		return redacted.toString();
+	}
+
+	private static String typeOf(@Nullable Object value) {
+		return value == null ? "null" : value.getClass().getSimpleName();
+	}
+}
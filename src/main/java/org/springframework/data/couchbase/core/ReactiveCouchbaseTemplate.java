@@ -16,6 +16,8 @@
 
 package org.springframework.data.couchbase.core;
 
+import java.time.Duration;
+
 import org.springframework.beans.BeansException;
 import org.springframework.context.ApplicationContext;
 import org.springframework.context.ApplicationContextAware;
@@ -23,9 +25,12 @@ import org.springframework.dao.DataAccessException;
 import org.springframework.dao.support.PersistenceExceptionTranslator;
 import org.springframework.data.couchbase.CouchbaseClientFactory;
 import org.springframework.data.couchbase.core.convert.CouchbaseConverter;
+import org.springframework.data.couchbase.core.convert.join.N1qlJoinCache;
+import org.springframework.data.couchbase.core.convert.join.N1qlJoinStatistics;
 import org.springframework.data.couchbase.core.convert.translation.JacksonTranslationService;
 import org.springframework.data.couchbase.core.convert.translation.TranslationService;
 import org.springframework.data.couchbase.core.support.PseudoArgs;
+import org.springframework.lang.Nullable;
 
 import com.couchbase.client.java.Collection;
 import com.couchbase.client.java.query.QueryScanConsistency;
@@ -44,8 +49,13 @@ public class ReactiveCouchbaseTemplate implements ReactiveCouchbaseOperations, A
 	private final CouchbaseConverter converter;
 	private final PersistenceExceptionTranslator exceptionTranslator;
 	private final ReactiveCouchbaseTemplateSupport templateSupport;
-	private ThreadLocal<PseudoArgs<?>> threadLocalArgs = new ThreadLocal<>();
+	private final ThreadLocal<PseudoArgs<?>> threadLocalArgs = new ThreadLocal<>();
+	private final TotalCountCache totalCountCache = new TotalCountCache();
+	private final N1qlJoinCache joinCache = new N1qlJoinCache();
+	private final N1qlJoinStatistics joinStatistics = new N1qlJoinStatistics();
 	private QueryScanConsistency scanConsistency;
+	private volatile CouchbaseOperationMetrics operationMetrics;
+	private volatile Duration slowQueryThreshold;
 
 	public ReactiveCouchbaseTemplate(final CouchbaseClientFactory clientFactory, final CouchbaseConverter converter) {
 		this(clientFactory, converter, new JacksonTranslationService());
@@ -115,6 +125,11 @@ public class ReactiveCouchbaseTemplate implements ReactiveCouchbaseOperations, A
 		return new ReactiveRemoveByQueryOperationSupport(this).removeByQuery(domainType);
 	}
 
+	@Override
+	public <T> ReactiveUpdateByQuery<T> updateByQuery(Class<T> domainType) {
+		return new ReactiveUpdateByQueryOperationSupport(this).updateByQuery(domainType);
+	}
+
 	@Override
 	public <T> ReactiveReplaceById<T> replaceById(Class<T> domainType) {
 		return new ReactiveReplaceByIdOperationSupport(this).replaceById(domainType);
@@ -159,6 +174,70 @@ public class ReactiveCouchbaseTemplate implements ReactiveCouchbaseOperations, A
 		return templateSupport;
 	}
 
+	/**
+	 * @return the cache of page totals shared by all find operations of this template
+	 */
+	TotalCountCache getTotalCountCache() {
+		return totalCountCache;
+	}
+
+	/**
+	 * @return the cache of the results of joins with a cache expiry, shared by all entities read by this template
+	 */
+	public N1qlJoinCache getN1qlJoinCache() {
+		return joinCache;
+	}
+
+	/**
+	 * @return the statistics of the lazy joins of the entities read by this template
+	 */
+	public N1qlJoinStatistics getN1qlJoinStatistics() {
+		return joinStatistics;
+	}
+
+	/**
+	 * @return the metrics the operations of this template are recorded in, null if they are not timed
+	 */
+	@Nullable
+	public CouchbaseOperationMetrics getOperationMetrics() {
+		return operationMetrics;
+	}
+
+	/**
+	 * Record the operations of this template, and of the blocking and asynchronous templates built on it, in the given
+	 * metrics. Operations are not timed when there are none, which is the default.
+	 *
+	 * @param operationMetrics the metrics, such as a {@link CouchbaseOperationStatistics}, or null to stop recording.
+	 */
+	public void setOperationMetrics(@Nullable CouchbaseOperationMetrics operationMetrics) {
+		this.operationMetrics = operationMetrics;
+	}
+
+	/**
+	 * @return the elapsed time from which queries are logged as slow, null if they are not
+	 */
+	@Nullable
+	public Duration getSlowQueryThreshold() {
+		return slowQueryThreshold;
+	}
+
+	/**
+	 * Log the queries and analytics queries whose elapsed time on the server reaches the given threshold, at warn level,
+	 * with the fingerprint of their statement, the types of their parameters and their metrics.
+	 *
+	 * @param slowQueryThreshold the threshold, or null to stop logging, which is the default.
+	 */
+	public void setSlowQueryThreshold(@Nullable Duration slowQueryThreshold) {
+		this.slowQueryThreshold = slowQueryThreshold;
+	}
+
+	/**
+	 * @return whether the server is asked for the metrics of queries, for the operation metrics or the slow query log
+	 */
+	boolean isQueryMetricsEnabled() {
+		return operationMetrics != null || slowQueryThreshold != null;
+	}
+
 	/**
 	 * Tries to convert the given {@link RuntimeException} into a {@link DataAccessException} but returns the original
 	 * exception if the conversation failed. Thus allows safe re-throwing of the return value.
@@ -179,15 +258,19 @@ public class ReactiveCouchbaseTemplate implements ReactiveCouchbaseOperations, A
 	 * @return the pseudoArgs from the ThreadLocal field
 	 */
 	public PseudoArgs<?> getPseudoArgs() {
-		return threadLocalArgs == null ? null : threadLocalArgs.get();
+		return threadLocalArgs.get();
 	}
 
 	/**
-	 * set the ThreadLocal field
+	 * set the ThreadLocal field, for the operations of a blocking repository invocation on the current thread. Set it
+	 * back to the previous value, typically {@literal null}, when the invocation completes.
 	 */
 	public void setPseudoArgs(PseudoArgs<?> threadLocalArgs) {
-		this.threadLocalArgs = new ThreadLocal<>();
-		this.threadLocalArgs.set(threadLocalArgs);
+		if (threadLocalArgs == null) {
+			this.threadLocalArgs.remove();
+		} else {
+			this.threadLocalArgs.set(threadLocalArgs);
+		}
 	}
 
 	/**
@@ -27,6 +27,7 @@ import org.springframework.beans.BeansException;
 import org.springframework.context.ApplicationContext;
 import org.springframework.context.ApplicationContextAware;
 import org.springframework.data.couchbase.core.convert.CouchbaseConverter;
+import org.springframework.data.couchbase.core.convert.join.N1qlJoinBatch;
 import org.springframework.data.couchbase.core.convert.join.N1qlJoinResolver;
 import org.springframework.data.couchbase.core.convert.translation.TranslationService;
 import org.springframework.data.couchbase.core.mapping.CouchbaseDocument;
@@ -77,7 +78,13 @@ class ReactiveCouchbaseTemplateSupport implements ApplicationContextAware, React
 		return Mono.just(entityToEncode).doOnNext(entity -> maybeEmitEvent(new BeforeConvertEvent<>(entity)))
 				.flatMap(entity -> maybeCallBeforeConvert(entity, "")).map(maybeNewEntity -> {
 					final CouchbaseDocument converted = new CouchbaseDocument();
+					CouchbaseOperationMetrics metrics = template.getOperationMetrics();
+					long start = metrics == null ? 0 : System.nanoTime();
 					converter.write(maybeNewEntity, converted);
+					if (metrics != null) {
+						metrics.recordConversion(CouchbaseOperationMetrics.ENCODE, maybeNewEntity.getClass(),
+								System.nanoTime() - start);
+					}
 					return converted;
 				}).flatMap(converted -> maybeCallAfterConvert(entityToEncode, converted, "").thenReturn(converted))
 				.doOnNext(converted -> maybeEmitEvent(new BeforeSaveEvent<>(entityToEncode, converted)));
@@ -86,7 +93,15 @@ class ReactiveCouchbaseTemplateSupport implements ApplicationContextAware, React
 	@Override
 	public <T> Mono<T> decodeEntity(String id, String source, long cas, Class<T> entityClass, String scope,
 			String collection) {
-		return Mono.fromSupplier(() -> {
+		return decodeEntity(id, source, cas, entityClass, scope, collection, null);
+	}
+
+	@Override
+	public <T> Mono<T> decodeEntity(String id, String source, long cas, Class<T> entityClass, String scope,
+			String collection, N1qlJoinBatch joins) {
+		return Mono.defer(() -> {
+			CouchbaseOperationMetrics metrics = template.getOperationMetrics();
+			long start = metrics == null ? 0 : System.nanoTime();
 			final CouchbaseDocument converted = new CouchbaseDocument(id);
 			converted.setId(id);
 
@@ -99,7 +114,7 @@ class ReactiveCouchbaseTemplateSupport implements ApplicationContextAware, React
 				// if this is a Collection or array, only the first element will be returned.
 				Set<Map.Entry<String, Object>> set = ((CouchbaseDocument) translationService.decode(source, converted))
 						.getContent().entrySet();
-				return (T) set.iterator().next().getValue();
+				return Mono.justOrEmpty((T) set.iterator().next().getValue());
 			}
 
 			if (cas != 0 && persistentEntity.getVersionProperty() != null) {
@@ -112,8 +127,12 @@ class ReactiveCouchbaseTemplateSupport implements ApplicationContextAware, React
 			if (persistentEntity.getVersionProperty() != null) {
 				accessor.setProperty(persistentEntity.getVersionProperty(), cas);
 			}
-			N1qlJoinResolver.handleProperties(persistentEntity, accessor, template, id, scope, collection);
-			return accessor.getBean();
+			if (metrics != null) { // joins are timed as the operations they run
+				metrics.recordConversion(CouchbaseOperationMetrics.DECODE, readEntity.getClass(), System.nanoTime() - start);
+			}
+			// the joins are composed rather than blocked on, as this runs on reactor and SDK threads
+			return N1qlJoinResolver.resolveProperties(persistentEntity, accessor, template, id, scope, collection, joins)
+					.then(Mono.fromSupplier(accessor::getBean));
 		});
 	}
 
@@ -26,6 +26,7 @@ import com.couchbase.client.core.error.CouchbaseException;
 import com.couchbase.client.java.analytics.AnalyticsOptions;
 import com.couchbase.client.java.analytics.AnalyticsScanConsistency;
 import com.couchbase.client.java.analytics.ReactiveAnalyticsResult;
+import com.couchbase.client.java.json.JsonObject;
 
 public class ReactiveFindByAnalyticsOperationSupport implements ReactiveFindByAnalyticsOperation {
 
@@ -102,11 +103,20 @@ public class ReactiveFindByAnalyticsOperationSupport implements ReactiveFindByAn
 
 		@Override
 		public Mono<T> first() {
-			return all().next();
+			// timed here, as next() cancels the query once it has the row
+			return Mono.defer(() -> timer("findByAnalytics").record(rows().next()));
 		}
 
 		@Override
 		public Flux<T> all() {
+			return Flux.defer(() -> timer("findByAnalytics").record(rows()));
+		}
+
+		private OperationTimer timer(String operation) {
+			return OperationTimer.start(template, operation, domainType, null);
+		}
+
+		private Flux<T> rows() {
 			return Flux.defer(() -> {
 				String statement = assembleEntityQuery(false);
 				return template.getCouchbaseClientFactory().getCluster().reactive()
@@ -116,7 +126,7 @@ public class ReactiveFindByAnalyticsOperationSupport implements ReactiveFindByAn
 							} else {
 								return throwable;
 							}
-						}).flatMapMany(ReactiveAnalyticsResult::rowsAsObject).flatMap(row -> {
+						}).flatMapMany(result -> rows(result, statement)).flatMap(row -> {
 							String id = "";
 							long cas = 0;
 							if (row.getString(TemplateUtils.SELECT_ID) == null) {
@@ -142,18 +152,30 @@ public class ReactiveFindByAnalyticsOperationSupport implements ReactiveFindByAn
 		public Mono<Long> count() {
 			return Mono.defer(() -> {
 				String statement = assembleEntityQuery(true);
-				return template.getCouchbaseClientFactory().getCluster().reactive()
+				return timer("countByAnalytics").record(template.getCouchbaseClientFactory().getCluster().reactive()
 						.analyticsQuery(statement, buildAnalyticsOptions()).onErrorMap(throwable -> {
 							if (throwable instanceof RuntimeException) {
 								return template.potentiallyConvertRuntimeException((RuntimeException) throwable);
 							} else {
 								return throwable;
 							}
-						}).flatMapMany(ReactiveAnalyticsResult::rowsAsObject)
-						.map(row -> row.getLong(row.getNames().iterator().next())).next();
+						}).flatMapMany(result -> rows(result, statement))
+						// the rows are consumed to the end, for the metrics of the query
+						.map(row -> row.getLong(row.getNames().iterator().next())).reduce((count, next) -> count));
 			});
 		}
 
+		/**
+		 * The rows of the result, followed by the recording of the metrics of the query when they are enabled.
+		 */
+		private Flux<JsonObject> rows(ReactiveAnalyticsResult result, String statement) {
+			if (!template.isQueryMetricsEnabled()) {
+				return result.rowsAsObject();
+			}
+			return result.rowsAsObject().concatWith(result.metaData()
+					.doOnNext(metaData -> QueryMetricsRecorder.record(template, query, statement, metaData)).then(Mono.empty()));
+		}
+
 		@Override
 		public Mono<Boolean> exists() {
 			return count().map(count -> count > 0);
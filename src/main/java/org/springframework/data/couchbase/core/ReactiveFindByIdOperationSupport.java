@@ -79,32 +79,35 @@ public class ReactiveFindByIdOperationSupport implements ReactiveFindByIdOperati
 		public Mono<T> one(final String id) {
 
 			CommonOptions<?> gOptions = initGetOptions();
-			PseudoArgs<?> pArgs = new PseudoArgs(template, scope, collection, gOptions, domainType);
-			LOG.trace("findById {}", pArgs);
-
-			return Mono.just(id).flatMap(docId -> {
-				ReactiveCollection reactive = template.getCouchbaseClientFactory().withScope(pArgs.getScope())
-						.getCollection(pArgs.getCollection()).reactive();
-				if (pArgs.getOptions() instanceof GetAndTouchOptions) {
-					return reactive.getAndTouch(docId, expiryToUse(), (GetAndTouchOptions) pArgs.getOptions());
-				} else {
-					return reactive.get(docId, (GetOptions) pArgs.getOptions());
-				}
-			}).flatMap(result -> support.decodeEntity(id, result.contentAs(String.class), result.cas(), domainType,
-					pArgs.getScope(), pArgs.getCollection())).onErrorResume(throwable -> {
-						if (throwable instanceof RuntimeException) {
-							if (throwable instanceof DocumentNotFoundException) {
-								return Mono.empty();
+			return PseudoArgs.deferMono(ctx -> {
+				PseudoArgs<?> pArgs = new PseudoArgs(template, scope, collection, gOptions, domainType, ctx);
+				LOG.trace("findById {}", pArgs);
+				OperationTimer timer = OperationTimer.start(template, "findById", domainType, pArgs);
+
+				return timer.record(Mono.just(id).flatMap(docId -> {
+					ReactiveCollection reactive = template.getCouchbaseClientFactory().withScope(pArgs.getScope())
+							.getCollection(pArgs.getCollection()).reactive();
+					if (pArgs.getOptions() instanceof GetAndTouchOptions) {
+						return reactive.getAndTouch(docId, expiryToUse(), (GetAndTouchOptions) pArgs.getOptions());
+					} else {
+						return reactive.get(docId, (GetOptions) pArgs.getOptions());
+					}
+				}).flatMap(result -> support.decodeEntity(id, result.contentAs(String.class), result.cas(), domainType,
+						pArgs.getScope(), pArgs.getCollection())).onErrorResume(throwable -> {
+							if (throwable instanceof RuntimeException) {
+								if (throwable instanceof DocumentNotFoundException) {
+									return Mono.empty();
+								}
+							}
+							return Mono.error(throwable);
+						}).onErrorMap(throwable -> {
+							if (throwable instanceof RuntimeException) {
+								return template.potentiallyConvertRuntimeException((RuntimeException) throwable);
+							} else {
+								return throwable;
 							}
-						}
-						return Mono.error(throwable);
-					}).onErrorMap(throwable -> {
-						if (throwable instanceof RuntimeException) {
-							return template.potentiallyConvertRuntimeException((RuntimeException) throwable);
-						} else {
-							return throwable;
-						}
-					});
+						}));
+			});
 		}
 
 		@Override
@@ -140,7 +143,7 @@ public class ReactiveFindByIdOperationSupport implements ReactiveFindByIdOperati
 			return new ReactiveFindByIdSupport<>(template, domainType, scope, collection, options, fields, expiry, support);
 		}
 
-		private CommonOptions<?> initGetOptions() {
+		CommonOptions<?> initGetOptions() {
 			CommonOptions<?> getOptions;
 			if (expiry != null || options instanceof GetAndTouchOptions) {
 				GetAndTouchOptions gOptions = options != null ? (GetAndTouchOptions) options : getAndTouchOptions();
@@ -161,7 +164,7 @@ public class ReactiveFindByIdOperationSupport implements ReactiveFindByIdOperati
 			return getOptions;
 		}
 
-		private Duration expiryToUse() {
+		Duration expiryToUse() {
 			Duration expiryToUse = expiry;
 			if (expiryToUse != null || options instanceof GetAndTouchOptions) {
 				if (expiryToUse == null) { // GetAndTouchOptions without specifying expiry -> get expiry from annoation
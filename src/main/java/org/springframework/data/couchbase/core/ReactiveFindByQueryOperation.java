@@ -18,6 +18,8 @@ package org.springframework.data.couchbase.core;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.time.Duration;
+
 import org.springframework.dao.IncorrectResultSizeDataAccessException;
 import org.springframework.data.couchbase.core.query.Query;
 import org.springframework.data.couchbase.core.query.QueryCriteriaDefinition;
@@ -28,6 +30,8 @@ import org.springframework.data.couchbase.core.support.WithConsistency;
 import org.springframework.data.couchbase.core.support.WithDistinct;
 import org.springframework.data.couchbase.core.support.WithQuery;
 import org.springframework.data.couchbase.core.support.WithQueryOptions;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 
 import com.couchbase.client.java.query.QueryOptions;
 import com.couchbase.client.java.query.QueryScanConsistency;
@@ -75,6 +79,28 @@ public interface ReactiveFindByQueryOperation {
 		 */
 		Flux<T> all();
 
+		/**
+		 * Get the matching elements of one page together with the total number of matching elements. The total is
+		 * projected into the page rows with a windowed COUNT(*) OVER(), so a page costs one query instead of two. Queries
+		 * that cannot carry the windowed count (DISTINCT or string queries) fall back to a separate count query. The query
+		 * is expected to carry the skip, limit and sort of the pageable, see {@link Query#with(Pageable)}.
+		 *
+		 * @param pageable the page requested.
+		 * @return the page.
+		 */
+		Mono<Page<T>> page(Pageable pageable);
+
+		/**
+		 * Get the matching elements of one page together with a total that may be up to {@code totalExpiry} old. The total
+		 * is taken from a count query that is cached by the template, so while it is cached a page costs one query and no
+		 * counting on the server.
+		 *
+		 * @param pageable the page requested.
+		 * @param totalExpiry how long a total may be reused.
+		 * @return the page.
+		 */
+		Mono<Page<T>> page(Pageable pageable, Duration totalExpiry);
+
 		/**
 		 * Get the number of matching elements.
 		 *
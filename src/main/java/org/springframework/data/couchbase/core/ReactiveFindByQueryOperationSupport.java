@@ -17,15 +17,26 @@ package org.springframework.data.couchbase.core;
 
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.util.function.Tuples;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.data.couchbase.core.convert.join.N1qlJoinBatch;
+import org.springframework.data.couchbase.core.convert.join.N1qlJoinResolver;
 import org.springframework.data.couchbase.core.query.Query;
 import org.springframework.data.couchbase.core.support.PseudoArgs;
 import org.springframework.data.couchbase.core.support.TemplateUtils;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
 import org.springframework.util.Assert;
 
 import com.couchbase.client.core.error.CouchbaseException;
+import com.couchbase.client.java.json.JsonObject;
 import com.couchbase.client.java.query.QueryOptions;
 import com.couchbase.client.java.query.QueryScanConsistency;
 import com.couchbase.client.java.query.ReactiveQueryResult;
@@ -159,86 +170,246 @@ public class ReactiveFindByQueryOperationSupport implements ReactiveFindByQueryO
 
 		@Override
 		public Mono<T> one() {
-			return all().singleOrEmpty();
+			// two rows are enough to detect that the result is not unique
+			return withQuery(query.limitedTo(2)).all().singleOrEmpty();
 		}
 
 		@Override
 		public Mono<T> first() {
-			return all().next();
+			ReactiveFindByQuerySupport<T> first = withQuery(query.limitedTo(1));
+			return PseudoArgs.deferMono(ctx -> {
+				PseudoArgs<QueryOptions> pArgs = new PseudoArgs(template, scope, collection, options, domainType, ctx);
+				// timed here, as next() cancels the query once it has the row
+				return timer(pArgs).record(first.all(pArgs).next());
+			});
+		}
+
+		private ReactiveFindByQuerySupport<T> withQuery(Query query) {
+			return query == this.query ? this
+					: new ReactiveFindByQuerySupport<>(template, domainType, returnType, query, scanConsistency, scope,
+							collection, options, distinctFields, fields, support);
 		}
 
 		@Override
 		public Flux<T> all() {
-			PseudoArgs<QueryOptions> pArgs = new PseudoArgs(template, scope, collection, options, domainType);
+			return PseudoArgs.deferFlux(ctx -> {
+				PseudoArgs<QueryOptions> pArgs = new PseudoArgs(template, scope, collection, options, domainType, ctx);
+				return timer(pArgs).record(all(pArgs));
+			});
+		}
+
+		private OperationTimer timer(PseudoArgs<QueryOptions> pArgs) {
+			return OperationTimer.start(template, "findByQuery", domainType, pArgs);
+		}
+
+		private Flux<T> all(PseudoArgs<QueryOptions> pArgs) {
 			String statement = assembleEntityQuery(false, distinctFields, pArgs.getCollection());
 			LOG.trace("findByQuery {} statement: {}", pArgs, statement);
-			Mono<ReactiveQueryResult> allResult = pArgs.getScope() == null
+			Flux<JsonObject> rows = execute(statement, pArgs);
+			return Flux.defer(() -> decodeRows(rows, statement, pArgs));
+		}
+
+		@Override
+		public Mono<Page<T>> page(Pageable pageable) {
+			return PseudoArgs.deferMono(ctx -> {
+				PseudoArgs<QueryOptions> pArgs = new PseudoArgs(template, scope, collection, options, domainType, ctx);
+				OperationTimer timer = timer(pArgs);
+				if (distinctFields != null || !query.supportsWindowedCount()) {
+					return timer.record(all(pArgs).collectList().flatMap(content -> toPage(content, pageable, count(pArgs))));
+				}
+				String statement = query.toN1qlSelectWithTotalString(template, pArgs.getCollection(), domainType, returnType,
+						fields);
+				LOG.trace("findByQuery {} statement: {}", pArgs, statement);
+				Flux<JsonObject> rows = execute(statement, pArgs);
+				return timer.record(Mono.defer(() -> {
+					AtomicLong total = new AtomicLong(-1);
+					return decodeRows(rows.map(row -> {
+						total.set(row.getLong(TemplateUtils.SELECT_TOTAL));
+						row.removeKey(TemplateUtils.SELECT_TOTAL);
+						return row;
+					}), statement, pArgs).collectList().flatMap(content -> total.get() >= 0 // no rows, no total
+							? Mono.<Page<T>> just(new PageImpl<>(content, pageable, total.get()))
+							: toPage(content, pageable, count(pArgs)));
+				}));
+			});
+		}
+
+		@Override
+		public Mono<Page<T>> page(Pageable pageable, Duration totalExpiry) {
+			Assert.notNull(totalExpiry, "totalExpiry must not be null");
+			return PseudoArgs.deferMono(ctx -> {
+				PseudoArgs<QueryOptions> pArgs = new PseudoArgs(template, scope, collection, options, domainType, ctx);
+				TotalCountCache totals = template.getTotalCountCache();
+				String countStatement = assembleEntityQuery(true, distinctFields, pArgs.getCollection());
+				// every statement built adds the values of the criteria to the parameters again, so the parameters of the
+				// count statement are copied before the other statements are built
+				String countParameters = String.valueOf(query.getParameters());
+				Mono<Long> total = Mono.defer(() -> {
+					Long cached = totals.get(countStatement, countParameters, pArgs.getScope(), pArgs.getCollection());
+					if (cached != null) {
+						return Mono.just(cached);
+					}
+					return count(pArgs).doOnNext(t -> totals.put(countStatement, countParameters, pArgs.getScope(),
+							pArgs.getCollection(), t, totalExpiry));
+				});
+				return timer(pArgs).record(all(pArgs).collectList().flatMap(content -> toPage(content, pageable, total)));
+			});
+		}
+
+		/**
+		 * The total is only queried when it cannot be derived from the content, as in
+		 * {@link org.springframework.data.support.PageableExecutionUtils}.
+		 */
+		private Mono<Page<T>> toPage(List<T> content, Pageable pageable, Mono<Long> total) {
+			if (pageable.isUnpaged() || (pageable.getOffset() == 0 && pageable.getPageSize() > content.size())) {
+				return Mono.just(new PageImpl<>(content, pageable, content.size()));
+			}
+			if (!content.isEmpty() && pageable.getPageSize() > content.size()) {
+				return Mono.just(new PageImpl<>(content, pageable, pageable.getOffset() + content.size()));
+			}
+			return total.map(t -> new PageImpl<>(content, pageable, t));
+		}
+
+		private Flux<JsonObject> execute(String statement, PseudoArgs<QueryOptions> pArgs) {
+			return query(statement, pArgs).flatMapMany(result -> rows(result, statement));
+		}
+
+		/**
+		 * The rows of the result, followed by the recording of the metrics of the query when they are enabled.
+		 */
+		private Flux<JsonObject> rows(ReactiveQueryResult result, String statement) {
+			if (!template.isQueryMetricsEnabled()) {
+				return result.rowsAsObject();
+			}
+			return result.rowsAsObject().concatWith(result.metaData()
+					.doOnNext(metaData -> QueryMetricsRecorder.record(template, query, statement, metaData)).then(Mono.empty()));
+		}
+
+		private Mono<ReactiveQueryResult> query(String statement, PseudoArgs<QueryOptions> pArgs) {
+			Mono<ReactiveQueryResult> result = pArgs.getScope() == null
 					? template.getCouchbaseClientFactory().getCluster().reactive().query(statement,
 							buildOptions(pArgs.getOptions()))
 					: template.getCouchbaseClientFactory().withScope(pArgs.getScope()).getScope().reactive().query(statement,
 							buildOptions(pArgs.getOptions()));
-			return Flux.defer(() -> allResult.onErrorMap(throwable -> {
+			return result.onErrorMap(throwable -> {
 				if (throwable instanceof RuntimeException) {
 					return template.potentiallyConvertRuntimeException((RuntimeException) throwable);
 				} else {
 					return throwable;
 				}
-			}).flatMapMany(ReactiveQueryResult::rowsAsObject).flatMap(row -> {
-				String id = "";
-				long cas = 0;
-				if (!query.isDistinct() && distinctFields == null) {
-					if (row.getString(TemplateUtils.SELECT_ID) == null) {
-						return Flux.error(new CouchbaseException(
-								"query did not project " + TemplateUtils.SELECT_ID + ". Either use #{#n1ql.selectEntity} or project "
-										+ TemplateUtils.SELECT_ID + " and " + TemplateUtils.SELECT_CAS + " : " + statement));
-					}
-					id = row.getString(TemplateUtils.SELECT_ID);
-					if (row.getLong(TemplateUtils.SELECT_CAS) == null) {
-						return Flux.error(new CouchbaseException(
-								"query did not project " + TemplateUtils.SELECT_CAS + ". Either use #{#n1ql.selectEntity} or project "
-										+ TemplateUtils.SELECT_ID + " and " + TemplateUtils.SELECT_CAS + " : " + statement));
-					}
-					cas = row.getLong(TemplateUtils.SELECT_CAS);
-					row.removeKey(TemplateUtils.SELECT_ID);
-					row.removeKey(TemplateUtils.SELECT_CAS);
+			});
+		}
+
+		/**
+		 * Decode the rows. The immediate joins of the entities are resolved for batches of rows instead of row by row.
+		 */
+		private Flux<T> decodeRows(Flux<JsonObject> rows, String statement, PseudoArgs<QueryOptions> pArgs) {
+			int batchSize = decodeBatchSize();
+			if (batchSize <= 1) {
+				return rows.flatMap(row -> decodeRow(row, statement, pArgs, null));
+			}
+			return rows.buffer(batchSize).concatMap(batch -> {
+				N1qlJoinBatch joins = new N1qlJoinBatch(template);
+				// rows are decoded one after the other, so the joins added while decoding a row are those of the row
+				return Flux.fromIterable(batch).index()
+						.concatMap(row -> Mono.defer(() -> {
+							joins.startRow(row.getT1());
+							return decodeRow(row.getT2(), statement, pArgs, joins);
+						}).map(entity -> Tuples.of(row.getT1(), entity))).collectList()
+						.flatMapMany(entities -> joins.resolve().thenMany(
+								Flux.fromIterable(entities).map(entity -> joins.getBean(entity.getT1(), entity.getT2()))));
+			});
+		}
+
+		/**
+		 * @return the number of rows whose immediate joins are resolved together, 1 if they are resolved row by row.
+		 */
+		int decodeBatchSize() {
+			return query.isDistinct() || distinctFields != null ? 1
+					: N1qlJoinResolver.getBatchSize(template.getConverter().getMappingContext().getPersistentEntity(returnType));
+		}
+
+		private Mono<T> decodeRow(JsonObject row, String statement, PseudoArgs<QueryOptions> pArgs, N1qlJoinBatch joins) {
+			return Mono.defer(() -> decodeRow(row, statement, (id, source, cas) -> support.decodeEntity(id, source, cas,
+					returnType, pArgs.getScope(), pArgs.getCollection(), joins)));
+		}
+
+		/**
+		 * Pass the id, the cas and the remaining fields of the row to the {@code decoder}.
+		 *
+		 * @throws CouchbaseException if the query did not project the id and cas of the entity.
+		 */
+		<R> R decodeRow(JsonObject row, String statement, RowDecoder<R> decoder) {
+			String id = "";
+			long cas = 0;
+			if (!query.isDistinct() && distinctFields == null) {
+				if (row.getString(TemplateUtils.SELECT_ID) == null) {
+					throw new CouchbaseException(
+							"query did not project " + TemplateUtils.SELECT_ID + ". Either use #{#n1ql.selectEntity} or project "
+									+ TemplateUtils.SELECT_ID + " and " + TemplateUtils.SELECT_CAS + " : " + statement);
 				}
-				return support.decodeEntity(id, row.toString(), cas, returnType, pArgs.getScope(), pArgs.getCollection());
-			}));
+				id = row.getString(TemplateUtils.SELECT_ID);
+				if (row.getLong(TemplateUtils.SELECT_CAS) == null) {
+					throw new CouchbaseException(
+							"query did not project " + TemplateUtils.SELECT_CAS + ". Either use #{#n1ql.selectEntity} or project "
+									+ TemplateUtils.SELECT_ID + " and " + TemplateUtils.SELECT_CAS + " : " + statement);
+				}
+				cas = row.getLong(TemplateUtils.SELECT_CAS);
+				row.removeKey(TemplateUtils.SELECT_ID);
+				row.removeKey(TemplateUtils.SELECT_CAS);
+			}
+			return decoder.decode(id, row.toString(), cas);
 		}
 
 		public QueryOptions buildOptions(QueryOptions options) {
 			QueryScanConsistency qsc = scanConsistency != null ? scanConsistency : template.getConsistency();
-			return query.buildQueryOptions(options, qsc);
+			QueryOptions queryOptions = query.buildQueryOptions(options, qsc);
+			return template.isQueryMetricsEnabled() ? queryOptions.metrics(true) : queryOptions;
 		}
 
 		@Override
 		public Mono<Long> count() {
-			PseudoArgs<QueryOptions> pArgs = new PseudoArgs(template, scope, collection, options, domainType);
+			return PseudoArgs.deferMono(ctx -> {
+				PseudoArgs<QueryOptions> pArgs = new PseudoArgs(template, scope, collection, options, domainType, ctx);
+				return OperationTimer.start(template, "countByQuery", domainType, pArgs).record(count(pArgs));
+			});
+		}
+
+		private Mono<Long> count(PseudoArgs<QueryOptions> pArgs) {
 			String statement = assembleEntityQuery(true, distinctFields, pArgs.getCollection());
 			LOG.trace("findByQuery {} statement: {}", pArgs, statement);
-			Mono<ReactiveQueryResult> countResult = pArgs.getScope() == null
-					? template.getCouchbaseClientFactory().getCluster().reactive().query(statement,
-							buildOptions(pArgs.getOptions()))
-					: template.getCouchbaseClientFactory().withScope(pArgs.getScope()).getScope().reactive().query(statement,
-							buildOptions(pArgs.getOptions()));
-			return Mono.defer(() -> countResult.onErrorMap(throwable -> {
-				if (throwable instanceof RuntimeException) {
-					return template.potentiallyConvertRuntimeException((RuntimeException) throwable);
-				} else {
-					return throwable;
-				}
-			}).flatMapMany(ReactiveQueryResult::rowsAsObject).map(row -> row.getLong(row.getNames().iterator().next()))
-					.next());
+			Flux<JsonObject> rows = execute(statement, pArgs);
+			// the rows are consumed to the end, for the metrics of the query
+			return Mono.defer(() -> rows.map(row -> row.getLong(row.getNames().iterator().next()))
+					.reduce((count, next) -> count));
 		}
 
 		@Override
 		public Mono<Boolean> exists() {
-			return count().map(count -> count > 0); // not efficient, just need the first one
+			return PseudoArgs.deferMono(ctx -> {
+				PseudoArgs<QueryOptions> pArgs = new PseudoArgs(template, scope, collection, options, domainType, ctx);
+				OperationTimer timer = OperationTimer.start(template, "existsByQuery", domainType, pArgs);
+				String statement = query.toN1qlExistsString(template, pArgs.getCollection(), domainType);
+				if (statement == null) {
+					return timer.record(count(pArgs).map(count -> count > 0));
+				}
+				LOG.trace("findByQuery {} statement: {}", pArgs, statement);
+				Mono<ReactiveQueryResult> result = query(statement, pArgs);
+				return timer.record(Mono.defer(() -> result.flatMapMany(r -> r.rowsAs(Integer.class)).hasElements()));
+			});
 		}
 
-		private String assembleEntityQuery(final boolean count, String[] distinctFields, String collection) {
+		String assembleEntityQuery(final boolean count, String[] distinctFields, String collection) {
 			return query.toN1qlSelectString(template, collection, this.domainType, this.returnType, count,
 					query.getDistinctFields() != null ? query.getDistinctFields() : distinctFields, fields);
 		}
 	}
+
+	/**
+	 * Decoder of the entity of a query row.
+	 */
+	@FunctionalInterface
+	interface RowDecoder<R> {
+		R decode(String id, String source, long cas);
+	}
 }
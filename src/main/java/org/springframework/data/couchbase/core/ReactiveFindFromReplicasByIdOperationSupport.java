@@ -72,20 +72,24 @@ public class ReactiveFindFromReplicasByIdOperationSupport implements ReactiveFin
 			if (garOptions.build().transcoder() == null) {
 				garOptions.transcoder(RawJsonTranscoder.INSTANCE);
 			}
-			PseudoArgs<GetAnyReplicaOptions> pArgs = new PseudoArgs<>(template, scope, collection, garOptions, domainType);
-			LOG.trace("getAnyReplica {}", pArgs);
-			return Mono.just(id)
-					.flatMap(docId -> template.getCouchbaseClientFactory().withScope(pArgs.getScope())
-							.getCollection(pArgs.getCollection()).reactive().getAnyReplica(docId, pArgs.getOptions()))
-					.flatMap(result -> support.decodeEntity(id, result.contentAs(String.class), result.cas(), returnType,
-							pArgs.getScope(), pArgs.getCollection()))
-					.onErrorMap(throwable -> {
-						if (throwable instanceof RuntimeException) {
-							return template.potentiallyConvertRuntimeException((RuntimeException) throwable);
-						} else {
-							return throwable;
-						}
-					});
+			return PseudoArgs.deferMono(ctx -> {
+				PseudoArgs<GetAnyReplicaOptions> pArgs = new PseudoArgs<>(template, scope, collection, garOptions, domainType,
+						ctx);
+				LOG.trace("getAnyReplica {}", pArgs);
+				OperationTimer timer = OperationTimer.start(template, "findFromReplicasById", domainType, pArgs);
+				return timer.record(Mono.just(id)
+						.flatMap(docId -> template.getCouchbaseClientFactory().withScope(pArgs.getScope())
+								.getCollection(pArgs.getCollection()).reactive().getAnyReplica(docId, pArgs.getOptions()))
+						.flatMap(result -> support.decodeEntity(id, result.contentAs(String.class), result.cas(), returnType,
+								pArgs.getScope(), pArgs.getCollection()))
+						.onErrorMap(throwable -> {
+							if (throwable instanceof RuntimeException) {
+								return template.potentiallyConvertRuntimeException((RuntimeException) throwable);
+							} else {
+								return throwable;
+							}
+						}));
+			});
 		}
 
 		@Override
@@ -79,21 +79,24 @@ public class ReactiveInsertByIdOperationSupport implements ReactiveInsertByIdOpe
 
 		@Override
 		public Mono<T> one(T object) {
-			PseudoArgs<InsertOptions> pArgs = new PseudoArgs(template, scope, collection, options, domainType);
-			LOG.trace("insertById {}", pArgs);
-			return Mono.just(object).flatMap(support::encodeEntity)
-					.flatMap(converted -> template.getCouchbaseClientFactory().withScope(pArgs.getScope())
-							.getCollection(pArgs.getCollection()).reactive()
-							.insert(converted.getId(), converted.export(), buildOptions(pArgs.getOptions(), converted))
-							.flatMap(result -> support.applyUpdatedId(object, converted.getId())
-									.flatMap(updatedObject -> support.applyUpdatedCas(updatedObject, converted, result.cas()))))
-					.onErrorMap(throwable -> {
-						if (throwable instanceof RuntimeException) {
-							return template.potentiallyConvertRuntimeException((RuntimeException) throwable);
-						} else {
-							return throwable;
-						}
-					});
+			return PseudoArgs.deferMono(ctx -> {
+				PseudoArgs<InsertOptions> pArgs = new PseudoArgs(template, scope, collection, options, domainType, ctx);
+				LOG.trace("insertById {}", pArgs);
+				OperationTimer timer = OperationTimer.start(template, "insertById", domainType, pArgs);
+				return timer.record(Mono.just(object).flatMap(support::encodeEntity)
+						.flatMap(converted -> template.getCouchbaseClientFactory().withScope(pArgs.getScope())
+								.getCollection(pArgs.getCollection()).reactive()
+								.insert(converted.getId(), converted.export(), buildOptions(pArgs.getOptions(), converted))
+								.flatMap(result -> support.applyUpdatedId(object, converted.getId())
+										.flatMap(updatedObject -> support.applyUpdatedCas(updatedObject, converted, result.cas()))))
+						.onErrorMap(throwable -> {
+							if (throwable instanceof RuntimeException) {
+								return template.potentiallyConvertRuntimeException((RuntimeException) throwable);
+							} else {
+								return throwable;
+							}
+						}));
+			});
 		}
 
 		@Override
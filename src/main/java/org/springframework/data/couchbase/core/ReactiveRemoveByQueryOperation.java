@@ -16,6 +16,9 @@
 package org.springframework.data.couchbase.core;
 
 import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
 
 import org.springframework.data.couchbase.core.query.Query;
 import org.springframework.data.couchbase.core.query.QueryCriteriaDefinition;
@@ -51,6 +54,28 @@ public interface ReactiveRemoveByQueryOperation {
 		 * @return RemoveResult for each matching document
 		 */
 		Flux<RemoveResult> all();
+
+		/**
+		 * Remove all matching documents with delete statements of at most {@code chunkSize} documents each, until nothing
+		 * is left. The removed documents are not returned.
+		 *
+		 * @param chunkSize the maximum number of documents removed by one statement.
+		 * @return the number of removed documents
+		 */
+		default Mono<Long> allInChunks(int chunkSize) {
+			return allInChunks(chunkSize, Duration.ZERO, 1);
+		}
+
+		/**
+		 * Remove all matching documents with delete statements of at most {@code chunkSize} documents each, until nothing
+		 * is left. The removed documents are not returned.
+		 *
+		 * @param chunkSize the maximum number of documents removed by one statement.
+		 * @param pause the time to wait between the statements of one worker, to leave room for other load.
+		 * @param parallelism the number of statements running at the same time.
+		 * @return the number of removed documents, from the mutation counts of the statements
+		 */
+		Mono<Long> allInChunks(int chunkSize, Duration pause, int parallelism);
 	}
 
 	/**
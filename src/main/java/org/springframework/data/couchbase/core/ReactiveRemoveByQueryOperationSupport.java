@@ -18,6 +18,7 @@ package org.springframework.data.couchbase.core;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.time.Duration;
 import java.util.Optional;
 
 import org.slf4j.Logger;
@@ -27,6 +28,7 @@ import org.springframework.data.couchbase.core.support.PseudoArgs;
 import org.springframework.data.couchbase.core.support.TemplateUtils;
 import org.springframework.util.Assert;
 
+import com.couchbase.client.java.query.QueryMetrics;
 import com.couchbase.client.java.query.QueryOptions;
 import com.couchbase.client.java.query.QueryScanConsistency;
 import com.couchbase.client.java.query.ReactiveQueryResult;
@@ -70,23 +72,55 @@ public class ReactiveRemoveByQueryOperationSupport implements ReactiveRemoveByQu
 
 		@Override
 		public Flux<RemoveResult> all() {
-			PseudoArgs<QueryOptions> pArgs = new PseudoArgs<>(template, scope, collection, options, domainType);
-			String statement = assembleDeleteQuery(pArgs.getCollection());
-			LOG.trace("removeByQuery {} statement: {}", pArgs, statement);
-			Mono<ReactiveQueryResult> allResult = pArgs.getScope() == null
-					? template.getCouchbaseClientFactory().getCluster().reactive().query(statement,
-							buildQueryOptions(pArgs.getOptions()))
+			return PseudoArgs.deferFlux(ctx -> {
+				PseudoArgs<QueryOptions> pArgs = new PseudoArgs<>(template, scope, collection, options, domainType, ctx);
+				String statement = assembleDeleteQuery(pArgs.getCollection());
+				LOG.trace("removeByQuery {} statement: {}", pArgs, statement);
+				OperationTimer timer = OperationTimer.start(template, "removeByQuery", domainType, pArgs);
+				Mono<ReactiveQueryResult> allResult = execute(statement, pArgs, buildQueryOptions(pArgs.getOptions()));
+				return timer.record(Flux.defer(() -> allResult.flatMapMany(ReactiveQueryResult::rowsAsObject)
+						.map(row -> new RemoveResult(row.getString(TemplateUtils.SELECT_ID), row.getLong(TemplateUtils.SELECT_CAS),
+								Optional.empty()))));
+			});
+		}
+
+		@Override
+		public Mono<Long> allInChunks(int chunkSize, Duration pause, int parallelism) {
+			Assert.isTrue(chunkSize > 0, "chunkSize must be greater than 0");
+			Assert.notNull(pause, "pause must not be null");
+			Assert.isTrue(parallelism > 0, "parallelism must be greater than 0");
+			return PseudoArgs.deferMono(ctx -> {
+				PseudoArgs<QueryOptions> pArgs = new PseudoArgs<>(template, scope, collection, options, domainType, ctx);
+				String statement = query.toN1qlRemoveChunkString(template, pArgs.getCollection(), domainType, chunkSize);
+				LOG.trace("removeByQuery {} statement: {}", pArgs, statement);
+				OperationTimer timer = OperationTimer.start(template, "removeByQuery", domainType, pArgs);
+				// the criteria are inlined in the statement, so the same statement and options serve every chunk
+				QueryOptions opts = buildQueryOptions(pArgs.getOptions()).metrics(true);
+				Mono<Long> chunk = Mono.defer(() -> execute(statement, pArgs, opts))
+						.flatMap(result -> result.rowsAsObject().then(result.metaData()))
+						.map(metaData -> metaData.metrics().map(QueryMetrics::mutationCount).orElse(0L));
+				Mono<Long> nextChunk = pause.isZero() ? chunk : Mono.delay(pause).then(chunk);
+				// a single worker is done with a partial chunk; concurrent workers can overlap, so they stop on an empty one
+				return timer.record(Flux.range(0, parallelism)
+						.flatMap(worker -> chunk.expand(removed -> removed == 0 || (parallelism == 1 && removed < chunkSize)
+								? Mono.empty()
+								: nextChunk), parallelism)
+						.reduce(0L, Long::sum));
+			});
+		}
+
+		private Mono<ReactiveQueryResult> execute(String statement, PseudoArgs<QueryOptions> pArgs, QueryOptions opts) {
+			Mono<ReactiveQueryResult> result = pArgs.getScope() == null
+					? template.getCouchbaseClientFactory().getCluster().reactive().query(statement, opts)
 					: template.getCouchbaseClientFactory().withScope(pArgs.getScope()).getScope().reactive().query(statement,
-							buildQueryOptions(pArgs.getOptions()));
-			return Flux.defer(() -> allResult.onErrorMap(throwable -> {
+							opts);
+			return result.onErrorMap(throwable -> {
 				if (throwable instanceof RuntimeException) {
 					return template.potentiallyConvertRuntimeException((RuntimeException) throwable);
 				} else {
 					return throwable;
 				}
-			}).flatMapMany(ReactiveQueryResult::rowsAsObject)
-					.map(row -> new RemoveResult(row.getString(TemplateUtils.SELECT_ID), row.getLong(TemplateUtils.SELECT_CAS),
-							Optional.empty())));
+			});
 		}
 
 		private QueryOptions buildQueryOptions(QueryOptions options) {
@@ -17,6 +17,7 @@ package org.springframework.data.couchbase.core;
 
 import reactor.core.publisher.Mono;
 
+import org.springframework.data.couchbase.core.convert.join.N1qlJoinBatch;
 import org.springframework.data.couchbase.core.mapping.CouchbaseDocument;
 import org.springframework.data.couchbase.core.mapping.event.CouchbaseMappingEvent;
 
@@ -30,6 +31,14 @@ public interface ReactiveTemplateSupport {
 
 	<T> Mono<T> decodeEntity(String id, String source, long cas, Class<T> entityClass, String scope, String collection);
 
+	/**
+	 * Decode an entity, adding its immediate joins to {@code joins} to be resolved with those of other entities.
+	 */
+	default <T> Mono<T> decodeEntity(String id, String source, long cas, Class<T> entityClass, String scope,
+			String collection, N1qlJoinBatch joins) {
+		return decodeEntity(id, source, cas, entityClass, scope, collection);
+	}
+
 	<T> Mono<T> applyUpdatedCas(T entity, CouchbaseDocument converted, long cas);
 
 	<T> Mono<T> applyUpdatedId(T entity, Object id);
@@ -0,0 +1,171 @@
+/*
+ * Copyright 2022 the original author or authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.couchbase.core;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.couchbase.core.query.Query;
+import org.springframework.data.couchbase.core.query.Update;
+import org.springframework.data.couchbase.core.support.PseudoArgs;
+import org.springframework.data.couchbase.core.support.TemplateUtils;
+import org.springframework.util.Assert;
+
+import com.couchbase.client.java.json.JsonArray;
+import com.couchbase.client.java.json.JsonObject;
+import com.couchbase.client.java.json.JsonValue;
+import com.couchbase.client.java.query.QueryMetrics;
+import com.couchbase.client.java.query.QueryOptions;
+import com.couchbase.client.java.query.QueryScanConsistency;
+import com.couchbase.client.java.query.ReactiveQueryResult;
+
+/**
+ * {@link ReactiveUpdateByQueryOperation} implementations for Couchbase.
+ *
+ * @since 4.4
+ */
+public class ReactiveUpdateByQueryOperationSupport implements ReactiveUpdateByQueryOperation {
+
+	private static final Query ALL_QUERY = new Query();
+
+	private final ReactiveCouchbaseTemplate template;
+	private static final Logger LOG = LoggerFactory.getLogger(ReactiveUpdateByQueryOperationSupport.class);
+
+	public ReactiveUpdateByQueryOperationSupport(final ReactiveCouchbaseTemplate template) {
+		this.template = template;
+	}
+
+	@Override
+	public <T> ReactiveUpdateByQuery<T> updateByQuery(Class<T> domainType) {
+		return new ReactiveUpdateByQuerySupport<>(template, domainType, ALL_QUERY, null, null, null, null);
+	}
+
+	static class ReactiveUpdateByQuerySupport<T> implements ReactiveUpdateByQuery<T> {
+
+		private final ReactiveCouchbaseTemplate template;
+		private final Class<T> domainType;
+		private final Query query;
+		private final QueryScanConsistency scanConsistency;
+		private final String scope;
+		private final String collection;
+		private final QueryOptions options;
+
+		ReactiveUpdateByQuerySupport(final ReactiveCouchbaseTemplate template, final Class<T> domainType, final Query query,
+				final QueryScanConsistency scanConsistency, String scope, String collection, QueryOptions options) {
+			this.template = template;
+			this.domainType = domainType;
+			this.query = query;
+			this.scanConsistency = scanConsistency;
+			this.scope = scope;
+			this.collection = collection;
+			this.options = options;
+		}
+
+		@Override
+		public Mono<Long> apply(Update update) {
+			Assert.notNull(update, "update must not be null");
+			return PseudoArgs.deferMono(ctx -> {
+				PseudoArgs<QueryOptions> pArgs = new PseudoArgs<>(template, scope, collection, options, domainType, ctx);
+				JsonValue parameters = query.getParameters() instanceof JsonObject ? JsonObject.create() : JsonArray.create();
+				String statement = query.toN1qlUpdateString(template, pArgs.getCollection(), domainType, update, parameters,
+						false);
+				LOG.trace("updateByQuery {} statement: {}", pArgs, statement);
+				OperationTimer timer = OperationTimer.start(template, "updateByQuery", domainType, pArgs);
+				QueryOptions opts = withParameters(buildQueryOptions(pArgs.getOptions()), parameters).metrics(true);
+				return timer.record(execute(statement, pArgs, opts)
+						.flatMap(result -> result.rowsAsObject().then(result.metaData()))
+						.map(metaData -> metaData.metrics().map(QueryMetrics::mutationCount).orElse(0L)));
+			});
+		}
+
+		@Override
+		public Flux<UpdateResult> applyReturning(Update update) {
+			Assert.notNull(update, "update must not be null");
+			return PseudoArgs.deferFlux(ctx -> {
+				PseudoArgs<QueryOptions> pArgs = new PseudoArgs<>(template, scope, collection, options, domainType, ctx);
+				JsonValue parameters = query.getParameters() instanceof JsonObject ? JsonObject.create() : JsonArray.create();
+				String statement = query.toN1qlUpdateString(template, pArgs.getCollection(), domainType, update, parameters,
+						true);
+				LOG.trace("updateByQuery {} statement: {}", pArgs, statement);
+				OperationTimer timer = OperationTimer.start(template, "updateByQuery", domainType, pArgs);
+				QueryOptions opts = withParameters(buildQueryOptions(pArgs.getOptions()), parameters);
+				return timer.record(execute(statement, pArgs, opts).flatMapMany(ReactiveQueryResult::rowsAsObject).map(
+						row -> new UpdateResult(row.getString(TemplateUtils.SELECT_ID), row.getLong(TemplateUtils.SELECT_CAS))));
+			});
+		}
+
+		/**
+		 * The parameters of the statement replace those of the query, as they include them.
+		 */
+		private static QueryOptions withParameters(QueryOptions options, JsonValue parameters) {
+			return parameters instanceof JsonObject ? options.parameters((JsonObject) parameters)
+					: options.parameters((JsonArray) parameters);
+		}
+
+		private Mono<ReactiveQueryResult> execute(String statement, PseudoArgs<QueryOptions> pArgs, QueryOptions opts) {
+			Mono<ReactiveQueryResult> result = pArgs.getScope() == null
+					? template.getCouchbaseClientFactory().getCluster().reactive().query(statement, opts)
+					: template.getCouchbaseClientFactory().withScope(pArgs.getScope()).getScope().reactive().query(statement,
+							opts);
+			return result.onErrorMap(throwable -> {
+				if (throwable instanceof RuntimeException) {
+					return template.potentiallyConvertRuntimeException((RuntimeException) throwable);
+				} else {
+					return throwable;
+				}
+			});
+		}
+
+		private QueryOptions buildQueryOptions(QueryOptions options) {
+			QueryScanConsistency qsc = scanConsistency != null ? scanConsistency : template.getConsistency();
+			return query.buildQueryOptions(options, qsc);
+		}
+
+		@Override
+		public TerminatingUpdateByQuery<T> matching(final Query query) {
+			return new ReactiveUpdateByQuerySupport<>(template, domainType, query, scanConsistency, scope, collection,
+					options);
+		}
+
+		@Override
+		public UpdateByQueryWithOptions<T> inCollection(final String collection) {
+			return new ReactiveUpdateByQuerySupport<>(template, domainType, query, scanConsistency, scope, collection,
+					options);
+		}
+
+		@Override
+		public UpdateByQueryInScope<T> withConsistency(final QueryScanConsistency scanConsistency) {
+			return new ReactiveUpdateByQuerySupport<>(template, domainType, query, scanConsistency, scope, collection,
+					options);
+		}
+
+		@Override
+		public UpdateByQueryWithQuery<T> withOptions(final QueryOptions options) {
+			Assert.notNull(options, "Options must not be null.");
+			return new ReactiveUpdateByQuerySupport<>(template, domainType, query, scanConsistency, scope, collection,
+					options);
+		}
+
+		@Override
+		public UpdateByQueryInCollection<T> inScope(final String scope) {
+			return new ReactiveUpdateByQuerySupport<>(template, domainType, query, scanConsistency, scope, collection,
+					options);
+		}
+	}
+
+}
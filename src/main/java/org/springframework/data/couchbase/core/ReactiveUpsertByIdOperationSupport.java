@@ -79,21 +79,24 @@ public class ReactiveUpsertByIdOperationSupport implements ReactiveUpsertByIdOpe
 
 		@Override
 		public Mono<T> one(T object) {
-			PseudoArgs<UpsertOptions> pArgs = new PseudoArgs(template, scope, collection, options, domainType);
-			LOG.trace("upsertById {}", pArgs);
-			return Mono.just(object).flatMap(support::encodeEntity)
-					.flatMap(converted -> template.getCouchbaseClientFactory().withScope(pArgs.getScope())
-							.getCollection(pArgs.getCollection()).reactive()
-							.upsert(converted.getId(), converted.export(), buildUpsertOptions(pArgs.getOptions(), converted))
-							.flatMap(result -> support.applyUpdatedId(object, converted.getId())
-									.flatMap(updatedObject -> support.applyUpdatedCas(updatedObject, converted, result.cas()))))
-					.onErrorMap(throwable -> {
-						if (throwable instanceof RuntimeException) {
-							return template.potentiallyConvertRuntimeException((RuntimeException) throwable);
-						} else {
-							return throwable;
-						}
-					});
+			return PseudoArgs.deferMono(ctx -> {
+				PseudoArgs<UpsertOptions> pArgs = new PseudoArgs(template, scope, collection, options, domainType, ctx);
+				LOG.trace("upsertById {}", pArgs);
+				OperationTimer timer = OperationTimer.start(template, "upsertById", domainType, pArgs);
+				return timer.record(Mono.just(object).flatMap(support::encodeEntity)
+						.flatMap(converted -> template.getCouchbaseClientFactory().withScope(pArgs.getScope())
+								.getCollection(pArgs.getCollection()).reactive()
+								.upsert(converted.getId(), converted.export(), buildUpsertOptions(pArgs.getOptions(), converted))
+								.flatMap(result -> support.applyUpdatedId(object, converted.getId())
+										.flatMap(updatedObject -> support.applyUpdatedCas(updatedObject, converted, result.cas()))))
+						.onErrorMap(throwable -> {
+							if (throwable instanceof RuntimeException) {
+								return template.potentiallyConvertRuntimeException((RuntimeException) throwable);
+							} else {
+								return throwable;
+							}
+						}));
+			});
 		}
 
 		@Override
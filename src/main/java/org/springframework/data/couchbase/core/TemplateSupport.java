@@ -15,6 +15,7 @@
  */
 package org.springframework.data.couchbase.core;
 
+import org.springframework.data.couchbase.core.convert.join.N1qlJoinBatch;
 import org.springframework.data.couchbase.core.mapping.CouchbaseDocument;
 import org.springframework.data.couchbase.core.mapping.event.CouchbaseMappingEvent;
 
@@ -28,6 +29,14 @@ public interface TemplateSupport {
 
 	<T> T decodeEntity(String id, String source, long cas, Class<T> entityClass, String scope, String collection);
 
+	/**
+	 * Decode an entity, adding its immediate joins to {@code joins} to be resolved with those of other entities.
+	 */
+	default <T> T decodeEntity(String id, String source, long cas, Class<T> entityClass, String scope, String collection,
+			N1qlJoinBatch joins) {
+		return decodeEntity(id, source, cas, entityClass, scope, collection);
+	}
+
 	<T> T applyUpdatedCas(T entity, CouchbaseDocument converted, long cas);
 
 	<T> T applyUpdatedId(T entity, Object id);
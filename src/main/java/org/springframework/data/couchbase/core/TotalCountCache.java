@@ -0,0 +1,113 @@
+/*
+ * Copyright 2022 the original author or authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.couchbase.core;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Bounded cache of count query results, used for page totals that are allowed to be stale for a while. Entries are
+ * keyed by everything that determines the count: the statement, its parameters, the scope and the collection.
+ *
+ * @since 4.4
+ */
+class TotalCountCache {
+
+	static final int DEFAULT_MAX_ENTRIES = 1000;
+
+	private final Map<Key, Entry> totals = new ConcurrentHashMap<>();
+	private final int maxEntries;
+
+	TotalCountCache() {
+		this(DEFAULT_MAX_ENTRIES);
+	}
+
+	TotalCountCache(int maxEntries) {
+		this.maxEntries = maxEntries;
+	}
+
+	/**
+	 * @return the cached total, or null if there is none or it has expired.
+	 */
+	Long get(String statement, Object parameters, String scope, String collection) {
+		Key key = new Key(statement, parameters, scope, collection);
+		Entry entry = totals.get(key);
+		if (entry == null) {
+			return null;
+		}
+		if (entry.expiresAt < System.nanoTime()) {
+			totals.remove(key, entry);
+			return null;
+		}
+		return entry.total;
+	}
+
+	void put(String statement, Object parameters, String scope, String collection, long total, Duration expiry) {
+		if (totals.size() >= maxEntries) {
+			long now = System.nanoTime();
+			totals.values().removeIf(e -> e.expiresAt < now);
+			if (totals.size() >= maxEntries) { // all entries still live - start over rather than track usage
+				totals.clear();
+			}
+		}
+		totals.put(new Key(statement, parameters, scope, collection),
+				new Entry(total, System.nanoTime() + expiry.toNanos()));
+	}
+
+	private static final class Entry {
+		final long total;
+		final long expiresAt;
+
+		Entry(long total, long expiresAt) {
+			this.total = total;
+			this.expiresAt = expiresAt;
+		}
+	}
+
+	private static final class Key {
+		final String statement;
+		final String parameters;
+		final String scope;
+		final String collection;
+
+		Key(String statement, Object parameters, String scope, String collection) {
+			this.statement = statement;
+			this.parameters = parameters == null ? null : parameters.toString();
+			this.scope = scope;
+			this.collection = collection;
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if (this == o) {
+				return true;
+			}
+			if (!(o instanceof Key)) {
+				return false;
+			}
+			Key that = (Key) o;
+			return statement.equals(that.statement) && Objects.equals(parameters, that.parameters)
+					&& Objects.equals(scope, that.scope) && Objects.equals(collection, that.collection);
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hash(statement, parameters, scope, collection);
+		}
+	}
+}
@@ -0,0 +1,62 @@
+/*
+ * Copyright 2022 the original author or authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.couchbase.core;
+
+import java.util.Objects;
+
+/**
+ * The id and cas of a document changed by an updateByQuery.
+ *
+ * @since 4.4
+ */
+public class UpdateResult {
+
+	private final String id;
+	private final long cas;
+
+	public UpdateResult(String id, long cas) {
+		this.id = id;
+		this.cas = cas;
+	}
+
+	public String getId() {
+		return id;
+	}
+
+	public long getCas() {
+		return cas;
+	}
+
+	@Override
+	public String toString() {
+		return "UpdateResult{" + "id='" + id + '\'' + ", cas=" + cas + '}';
+	}
+
+	@Override
+	public boolean equals(Object o) {
+		if (this == o)
+			return true;
+		if (o == null || getClass() != o.getClass())
+			return false;
+		UpdateResult that = (UpdateResult) o;
+		return cas == that.cas && Objects.equals(id, that.id);
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash(id, cas);
+	}
+}
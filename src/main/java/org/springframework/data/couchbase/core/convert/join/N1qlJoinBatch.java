@@ -0,0 +1,146 @@
+/*
+ * Copyright 2022 the original author or authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.couchbase.core.convert.join;
+
+import static org.springframework.data.couchbase.core.support.TemplateUtils.SELECT_CAS;
+import static org.springframework.data.couchbase.core.support.TemplateUtils.SELECT_ID;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.couchbase.core.ReactiveCouchbaseTemplate;
+import org.springframework.data.couchbase.core.convert.join.N1qlJoinResolver.N1qlJoinResolverParameters;
+import org.springframework.data.couchbase.core.mapping.CouchbasePersistentProperty;
+import org.springframework.data.couchbase.core.query.N1qlJoin;
+import org.springframework.data.couchbase.core.query.Query;
+import org.springframework.data.mapping.model.ConvertingPropertyAccessor;
+
+import com.couchbase.client.java.json.JsonArray;
+import com.couchbase.client.java.json.JsonObject;
+import com.couchbase.client.java.query.QueryOptions;
+import com.couchbase.client.java.query.ReactiveQueryResult;
+
+/**
+ * Immediate joins of the entities of one query result, resolved with one query per join property and batch of
+ * entities instead of one query per entity.
+ *
+ * @since 4.4
+ */
+public class N1qlJoinBatch {
+	private static final Logger LOGGER = LoggerFactory.getLogger(N1qlJoinBatch.class);
+
+	private final ReactiveCouchbaseTemplate template;
+	private final Map<CouchbasePersistentProperty, List<PendingJoin>> pending = new LinkedHashMap<>();
+	private final Map<Long, ConvertingPropertyAccessor<?>> accessors = new HashMap<>();
+	private long row;
+
+	public N1qlJoinBatch(ReactiveCouchbaseTemplate template) {
+		this.template = template;
+	}
+
+	/**
+	 * The row whose entity is decoded next. The joins added until the next row are those of this row.
+	 */
+	public void startRow(long row) {
+		this.row = row;
+	}
+
+	void add(CouchbasePersistentProperty prop, ConvertingPropertyAccessor<?> accessor,
+			N1qlJoinResolverParameters parameters) {
+		pending.computeIfAbsent(prop, p -> new ArrayList<>()).add(new PendingJoin(accessor, parameters));
+		accessors.put(row, accessor);
+	}
+
+	/**
+	 * Run the join queries and set the join properties of the entities.
+	 */
+	public Mono<Void> resolve() {
+		List<Mono<Void>> queries = new ArrayList<>();
+		pending.forEach((prop, joins) -> {
+			int batchSize = prop.findAnnotation(N1qlJoin.class).batchSize();
+			for (int i = 0; i < joins.size(); i += batchSize) {
+				queries.add(resolve(prop, joins.subList(i, Math.min(i + batchSize, joins.size()))));
+			}
+		});
+		return Flux.merge(queries).then(Mono.fromRunnable(pending::clear));
+	}
+
+	/**
+	 * The entity of a row with its join properties set, which is a new instance for immutable entities. The entity is
+	 * looked up by row, as an immutable entity is already a new instance once a join property is set.
+	 */
+	@SuppressWarnings("unchecked")
+	public <T> T getBean(long row, T entity) {
+		ConvertingPropertyAccessor<?> accessor = accessors.get(row);
+		return accessor != null ? (T) accessor.getBean() : entity;
+	}
+
+	private Mono<Void> resolve(CouchbasePersistentProperty prop, List<PendingJoin> joins) {
+		N1qlJoinResolverParameters parameters = joins.get(0).parameters;
+		Class<?> associatedEntityClass = parameters.getAssociatedEntityTypeInfo().getType();
+		Set<String> ids = new LinkedHashSet<>();
+		joins.forEach(join -> ids.add(join.parameters.getLksId()));
+		String statement = N1qlJoinResolver.buildBatchQuery(template, parameters.getScopeName(),
+				parameters.getCollectionName(), parameters);
+		if (LOGGER.isDebugEnabled()) {
+			LOGGER.debug("Join query executed " + statement);
+		}
+		// the options are built as those of the join query of a single entity, with the consistency of the template
+		Query query = new Query().setNamedParameters(JsonObject.create().put("ids", JsonArray.from(new ArrayList<>(ids))));
+		QueryOptions options = query.buildQueryOptions(null, template.getConsistency());
+		return template.getCouchbaseClientFactory().getCluster().reactive().query(statement, options)
+				.onErrorMap(throwable -> throwable instanceof RuntimeException
+						? template.potentiallyConvertRuntimeException((RuntimeException) throwable)
+						: throwable)
+				.flatMapMany(ReactiveQueryResult::rowsAsObject).concatMap(row -> {
+					String lksId = row.getString(N1qlJoinResolver.SELECT_LKS_ID);
+					String id = row.getString(SELECT_ID);
+					long cas = row.getLong(SELECT_CAS);
+					row.removeKey(N1qlJoinResolver.SELECT_LKS_ID);
+					row.removeKey(SELECT_ID);
+					row.removeKey(SELECT_CAS);
+					return template.support().decodeEntity(id, row.toString(), cas, associatedEntityClass, null, null)
+							.map(entity -> new Object[] { lksId, entity });
+				}).collect(HashMap<String, List<Object>>::new,
+						(children, pair) -> children.computeIfAbsent((String) pair[0], k -> new ArrayList<>()).add(pair[1]))
+				.doOnNext(children -> joins.forEach(join -> {
+					Collection<Object> entities = children.get(join.parameters.getLksId());
+					// as for joins resolved one by one, no associated entities is null
+					join.accessor.setProperty(prop, entities);
+				})).then();
+	}
+
+	private static class PendingJoin {
+		final ConvertingPropertyAccessor<?> accessor;
+		final N1qlJoinResolverParameters parameters;
+
+		PendingJoin(ConvertingPropertyAccessor<?> accessor, N1qlJoinResolverParameters parameters) {
+			this.accessor = accessor;
+			this.parameters = parameters;
+		}
+	}
+}
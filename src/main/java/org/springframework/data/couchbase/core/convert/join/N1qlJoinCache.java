@@ -0,0 +1,153 @@
+/*
+ * Copyright 2022 the original author or authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.couchbase.core.convert.join;
+
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+import org.springframework.data.couchbase.core.convert.join.N1qlJoinResolver.N1qlJoinResolverParameters;
+import org.springframework.data.couchbase.core.query.N1qlJoin;
+
+/**
+ * Bounded cache of join results, for joins with a {@link N1qlJoin#cacheExpiryMs()}. Entries are keyed by the join
+ * definition, the id of the entity and its scope and collection. Concurrent resolutions of the same join share a
+ * single query. Each entity the join is resolved for gets a list of its own, but the associated entities in it are
+ * shared.
+ *
+ * @since 4.4
+ */
+public class N1qlJoinCache {
+
+	static final int DEFAULT_MAX_ENTRIES = 1000;
+
+	private final Map<Key, Entry> results = new ConcurrentHashMap<>();
+	private final int maxEntries;
+	private final LongAdder hits = new LongAdder();
+	private final LongAdder misses = new LongAdder();
+
+	public N1qlJoinCache() {
+		this(DEFAULT_MAX_ENTRIES);
+	}
+
+	public N1qlJoinCache(int maxEntries) {
+		this.maxEntries = maxEntries;
+	}
+
+	/**
+	 * A copy of the cached result of the join, or of the result of {@code resolver}, which is then cached for
+	 * {@code expiry}.
+	 */
+	@SuppressWarnings("unchecked")
+	<R> Mono<List<R>> get(N1qlJoinResolverParameters parameters, Duration expiry, Supplier<Mono<List<R>>> resolver) {
+		Key key = new Key(parameters);
+		long now = System.nanoTime();
+		Entry entry = results.get(key);
+		if (entry != null && entry.expiresAt > now) {
+			hits.increment();
+			return (Mono<List<R>>) (Mono<?>) entry.result.map(ArrayList::new);
+		}
+		misses.increment();
+		evictIfFull(now);
+		Entry[] created = new Entry[1];
+		// failures are not cached
+		Mono<List<?>> result = resolver.get().map(list -> (List<?>) list).doOnError(e -> results.remove(key, created[0]))
+				.cache();
+		created[0] = new Entry(result, now + expiry.toNanos());
+		// concurrent misses for the same join share the first resolution
+		Entry winner = results.merge(key, created[0], (old, neu) -> old.expiresAt > now ? old : neu);
+		return (Mono<List<R>>) (Mono<?>) winner.result.map(ArrayList::new);
+	}
+
+	public void clear() {
+		results.clear();
+	}
+
+	public long getHitCount() {
+		return hits.sum();
+	}
+
+	public long getMissCount() {
+		return misses.sum();
+	}
+
+	public int size() {
+		return results.size();
+	}
+
+	private void evictIfFull(long now) {
+		if (results.size() >= maxEntries) {
+			results.values().removeIf(e -> e.expiresAt < now);
+			if (results.size() >= maxEntries) { // all entries still live - start over rather than track usage
+				results.clear();
+			}
+		}
+	}
+
+	private static final class Entry {
+		final Mono<List<?>> result;
+		final long expiresAt;
+
+		Entry(Mono<List<?>> result, long expiresAt) {
+			this.result = result;
+			this.expiresAt = expiresAt;
+		}
+	}
+
+	private static final class Key {
+		final N1qlJoin definition;
+		final Class<?> entityType;
+		final Class<?> associatedEntityType;
+		final String lksId;
+		final String scope;
+		final String collection;
+
+		Key(N1qlJoinResolverParameters parameters) {
+			this.definition = parameters.getJoinDefinition();
+			this.entityType = parameters.getEntityTypeInfo().getType();
+			this.associatedEntityType = parameters.getAssociatedEntityTypeInfo().getType();
+			this.lksId = parameters.getLksId();
+			this.scope = parameters.getScopeName();
+			this.collection = parameters.getCollectionName();
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if (this == o) {
+				return true;
+			}
+			if (!(o instanceof Key)) {
+				return false;
+			}
+			Key that = (Key) o;
+			return definition.equals(that.definition) && entityType.equals(that.entityType)
+					&& associatedEntityType.equals(that.associatedEntityType) && Objects.equals(lksId, that.lksId)
+					&& Objects.equals(scope, that.scope) && Objects.equals(collection, that.collection);
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hash(definition, entityType, associatedEntityType, lksId, scope, collection);
+		}
+	}
+}
@@ -21,9 +21,17 @@ import static org.springframework.data.couchbase.core.query.N1QLExpression.x;
 import static org.springframework.data.couchbase.core.support.TemplateUtils.SELECT_CAS;
 import static org.springframework.data.couchbase.core.support.TemplateUtils.SELECT_ID;
 
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
 import java.lang.reflect.AnnotatedElement;
 import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 
 import org.slf4j.Logger;
@@ -33,18 +41,23 @@ import org.springframework.data.couchbase.core.mapping.CouchbasePersistentEntity
 import org.springframework.data.couchbase.core.mapping.CouchbasePersistentProperty;
 import org.springframework.data.couchbase.core.query.FetchType;
 import org.springframework.data.couchbase.core.query.HashSide;
+import org.springframework.data.couchbase.core.query.JoinStrategy;
 import org.springframework.data.couchbase.core.query.N1QLExpression;
 import org.springframework.data.couchbase.core.query.N1QLQuery;
 import org.springframework.data.couchbase.core.query.N1qlJoin;
 import org.springframework.data.couchbase.core.query.OptionsBuilder;
 import org.springframework.data.couchbase.core.query.Query;
+import org.springframework.data.couchbase.core.support.PseudoArgs;
 import org.springframework.data.couchbase.repository.Collection;
 import org.springframework.data.couchbase.repository.Scope;
 import org.springframework.data.couchbase.repository.query.StringBasedN1qlQueryParser;
+import org.springframework.data.mapping.MappingException;
 import org.springframework.data.mapping.PropertyHandler;
 import org.springframework.data.mapping.model.ConvertingPropertyAccessor;
 import org.springframework.data.util.TypeInformation;
+import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
+import org.springframework.util.ObjectUtils;
 
 import com.couchbase.client.core.io.CollectionIdentifier;
 import com.couchbase.client.java.query.QueryOptions;
@@ -57,10 +70,33 @@ import com.couchbase.client.java.query.QueryOptions;
 public class N1qlJoinResolver {
 	private static final Logger LOGGER = LoggerFactory.getLogger(N1qlJoinResolver.class);
 
+	/**
+	 * The id of the entity a row of a batched join belongs to.
+	 */
+	static final String SELECT_LKS_ID = "__lks_id";
+
 	public static <L, R> String buildQuery(ReactiveCouchbaseTemplate template, String scope, String collection,
 			N1qlJoinResolverParameters parameters) {
-		String joinType = "JOIN";
 		String selectEntity = "SELECT META(rks).id AS " + SELECT_ID + ", META(rks).cas AS " + SELECT_CAS + ", (rks).* ";
+		String where = "WHERE META(lks).id=\"" + parameters.getLksId() + "\"";
+		return buildQuery(template, scope, collection, parameters, selectEntity, where);
+	}
+
+	/**
+	 * The join for all the entities with the ids in the named parameter {@code $ids}. Each row also projects the id of
+	 * its entity as {@value #SELECT_LKS_ID}.
+	 */
+	static String buildBatchQuery(ReactiveCouchbaseTemplate template, String scope, String collection,
+			N1qlJoinResolverParameters parameters) {
+		String selectEntity = "SELECT META(lks).id AS " + SELECT_LKS_ID + ", META(rks).id AS " + SELECT_ID
+				+ ", META(rks).cas AS " + SELECT_CAS + ", (rks).* ";
+		String where = "WHERE META(lks).id IN $ids";
+		return buildQuery(template, scope, collection, parameters, selectEntity, where);
+	}
+
+	private static String buildQuery(ReactiveCouchbaseTemplate template, String scope, String collection,
+			N1qlJoinResolverParameters parameters, String selectEntity, String where) {
+		String joinType = "JOIN";
 
 		StringBuilder useLKSBuilder = new StringBuilder();
 		if (parameters.getJoinDefinition().index().length() > 0) {
@@ -107,7 +143,6 @@ public class N1qlJoinResolver {
 
 		String on = "ON " + parameters.getJoinDefinition().on().concat(" AND " + onLks).concat(" AND " + onRks);
 
-		String where = "WHERE META(lks).id=\"" + parameters.getLksId() + "\"";
 		where += ((parameters.getJoinDefinition().where().length() > 0) ? " AND " + parameters.getJoinDefinition().where()
 				: "");
 
@@ -204,7 +239,90 @@ public class N1qlJoinResolver {
 
 	public static <R> List<R> doResolve(ReactiveCouchbaseTemplate template, String scopeName, String collectionName,
 			N1qlJoinResolverParameters parameters, Class<R> associatedEntityClass) {
+		List<R> result = resolve(template, scopeName, collectionName, parameters, associatedEntityClass).block();
+		return result.isEmpty() ? null : result;
+	}
+
+	/**
+	 * The associated entities of a join, without blocking. Taken from the join cache of the template if the join has a
+	 * cache expiry.
+	 */
+	public static <R> Mono<List<R>> resolve(ReactiveCouchbaseTemplate template, String scopeName,
+			String collectionName, N1qlJoinResolverParameters parameters, Class<R> associatedEntityClass) {
+		long cacheExpiryMs = parameters.getJoinDefinition().cacheExpiryMs();
+		// the join operations use the scope of the entity rather than the scope and options of a repository invocation
+		if (cacheExpiryMs > 0) {
+			return template.getN1qlJoinCache().get(parameters, Duration.ofMillis(cacheExpiryMs),
+					() -> fetch(template, scopeName, collectionName, parameters, associatedEntityClass)
+							.contextWrite(PseudoArgs::consumed));
+		}
+		return fetch(template, scopeName, collectionName, parameters, associatedEntityClass)
+				.contextWrite(PseudoArgs::consumed);
+	}
 
+	private static <R> Mono<List<R>> fetch(ReactiveCouchbaseTemplate template, String scopeName,
+			String collectionName, N1qlJoinResolverParameters parameters, Class<R> associatedEntityClass) {
+		return isKeysJoin(parameters.getJoinDefinition())
+				? getByKeys(template, scopeName, parameters, associatedEntityClass)
+				: query(template, scopeName, collectionName, parameters, associatedEntityClass);
+	}
+
+	/**
+	 * The associated entities of a {@link JoinStrategy#KEYS} join, with at most {@link N1qlJoin#keysConcurrency()}
+	 * concurrent gets. Missing documents are skipped.
+	 */
+	private static <R> Mono<List<R>> getByKeys(ReactiveCouchbaseTemplate template, String scopeName,
+			N1qlJoinResolverParameters parameters, Class<R> associatedEntityClass) {
+		List<String> keys = parameters.getKeys();
+		if (keys == null || keys.isEmpty()) {
+			return Mono.just(Collections.emptyList());
+		}
+		// as for the query, a non-default collection of the associated entity is taken to be in the scope of the entity
+		String rhCollection = getCollection(parameters.getAssociatedEntityTypeInfo().getActualType().getType());
+		String rhScope = CollectionIdentifier.DEFAULT_COLLECTION.equals(rhCollection) ? CollectionIdentifier.DEFAULT_SCOPE
+				: scopeName != null ? scopeName : getScope(parameters.getEntityTypeInfo().getActualType().getType());
+		if (LOGGER.isDebugEnabled()) {
+			LOGGER.debug("Join gets executed for " + keys.size() + " keys in " + rhScope + "." + rhCollection);
+		}
+		int concurrency = Math.max(1, parameters.getJoinDefinition().keysConcurrency());
+		return Flux.fromIterable(keys).flatMapSequential(
+				key -> template.findById(associatedEntityClass).inScope(rhScope).inCollection(rhCollection).one(key),
+				concurrency).collectList();
+	}
+
+	/**
+	 * The ids of the associated entities of a {@link JoinStrategy#KEYS} join, from the property of the entity named by
+	 * {@link N1qlJoin#on()}.
+	 */
+	static List<String> getKeys(CouchbasePersistentEntity<?> persistentEntity, ConvertingPropertyAccessor<?> accessor,
+			N1qlJoin definition) {
+		String name = definition.on().trim();
+		if (name.startsWith("lks.")) {
+			name = name.substring("lks.".length());
+		}
+		CouchbasePersistentProperty keysProperty = persistentEntity.getPersistentProperty(name);
+		if (keysProperty == null) {
+			throw new MappingException("No property " + name + " holding the keys of the join in "
+					+ persistentEntity.getType().getName());
+		}
+		Object value = accessor.getProperty(keysProperty);
+		if (value == null) {
+			return Collections.emptyList();
+		}
+		java.util.Collection<?> values = value instanceof java.util.Collection ? (java.util.Collection<?>) value
+				: value.getClass().isArray() ? Arrays.asList(ObjectUtils.toObjectArray(value))
+						: Collections.singletonList(value);
+		List<String> keys = new ArrayList<>(values.size());
+		for (Object key : values) {
+			if (key != null) {
+				keys.add(key.toString());
+			}
+		}
+		return keys;
+	}
+
+	private static <R> Mono<List<R>> query(ReactiveCouchbaseTemplate template, String scopeName,
+			String collectionName, N1qlJoinResolverParameters parameters, Class<R> associatedEntityClass) {
 		String statement = buildQuery(template, scopeName, collectionName, parameters);
 
 		if (LOGGER.isDebugEnabled()) {
@@ -212,44 +330,122 @@ public class N1qlJoinResolver {
 		}
 
 		N1QLQuery query = new N1QLQuery(N1QLExpression.x(statement), QueryOptions.queryOptions());
-		List<R> result = template.findByQuery(associatedEntityClass).matching(query).all().collectList().block();
-		return result.isEmpty() ? null : result;
+		return template.findByQuery(associatedEntityClass).matching(query).all().collectList();
 	}
 
 	public static boolean isLazyJoin(N1qlJoin joinDefinition) {
 		return joinDefinition.fetchType().equals(FetchType.LAZY);
 	}
 
+	public static boolean isKeysJoin(N1qlJoin joinDefinition) {
+		return joinDefinition.strategy().equals(JoinStrategy.KEYS);
+	}
+
+	/**
+	 * The number of entities whose immediate joins can be resolved together, or 1 if the entity has no immediate join
+	 * that is resolved in batches.
+	 */
+	public static int getBatchSize(CouchbasePersistentEntity<?> persistentEntity) {
+		int[] batchSize = { 1 };
+		if (persistentEntity != null) {
+			persistentEntity.doWithProperties((PropertyHandler<CouchbasePersistentProperty>) prop -> {
+				N1qlJoin definition = prop.findAnnotation(N1qlJoin.class);
+				if (definition != null && isBatchJoin(definition)) {
+					batchSize[0] = Math.max(batchSize[0], definition.batchSize());
+				}
+			});
+		}
+		return batchSize[0];
+	}
+
+	/**
+	 * Does decoding the entity resolve joins? Lazy joins are only resolved when the property is first accessed.
+	 */
+	public static boolean hasImmediateJoins(CouchbasePersistentEntity<?> persistentEntity) {
+		boolean[] immediate = { false };
+		if (persistentEntity != null) {
+			persistentEntity.doWithProperties((PropertyHandler<CouchbasePersistentProperty>) prop -> {
+				N1qlJoin definition = prop.findAnnotation(N1qlJoin.class);
+				immediate[0] |= definition != null && !isLazyJoin(definition);
+			});
+		}
+		return immediate[0];
+	}
+
+	/**
+	 * Can the join be resolved for a batch of entities? Not for lazy and {@link JoinStrategy#KEYS} joins, nor for cached
+	 * joins, whose results are cached entity by entity.
+	 */
+	public static boolean isBatchJoin(N1qlJoin definition) {
+		return !isLazyJoin(definition) && !isKeysJoin(definition) && definition.cacheExpiryMs() <= 0;
+	}
+
 	public static void handleProperties(CouchbasePersistentEntity<?> persistentEntity,
 			ConvertingPropertyAccessor<?> accessor, ReactiveCouchbaseTemplate template, String id, String scope,
 			String collection) {
+		handleProperties(persistentEntity, accessor, template, id, scope, collection, null);
+	}
+
+	/**
+	 * Set the join properties of an entity. Immediate joins are added to {@code joins} if it is not null and the join
+	 * is resolved in batches, and are set when the batch is resolved.
+	 */
+	public static void handleProperties(CouchbasePersistentEntity<?> persistentEntity,
+			ConvertingPropertyAccessor<?> accessor, ReactiveCouchbaseTemplate template, String id, String scope,
+			String collection, @Nullable N1qlJoinBatch joins) {
+		// the joins of an entity decoded on the thread of a blocking repository invocation do not use its scope
+		PseudoArgs.consumedWhile(template,
+				() -> resolveProperties(persistentEntity, accessor, template, id, scope, collection, joins).block());
+	}
+
+	/**
+	 * Set the join properties of an entity without blocking. Immediate joins that are not added to {@code joins} are
+	 * resolved concurrently, and the returned Mono completes once they are all set.
+	 */
+	public static Mono<Void> resolveProperties(CouchbasePersistentEntity<?> persistentEntity,
+			ConvertingPropertyAccessor<?> accessor, ReactiveCouchbaseTemplate template, String id, String scope,
+			String collection, @Nullable N1qlJoinBatch joins) {
+		List<Mono<Object[]>> resolutions = new ArrayList<>();
 		persistentEntity.doWithProperties((PropertyHandler<CouchbasePersistentProperty>) prop -> {
 			if (prop.isAnnotationPresent(N1qlJoin.class)) {
 				N1qlJoin definition = prop.findAnnotation(N1qlJoin.class);
 				TypeInformation type = prop.getTypeInformation().getActualType();
 				Class clazz = type.getType();
+				List<String> keys = isKeysJoin(definition) ? getKeys(persistentEntity, accessor, definition) : null;
 				N1qlJoinResolver.N1qlJoinResolverParameters parameters = new N1qlJoinResolver.N1qlJoinResolverParameters(
-						definition, id, persistentEntity.getTypeInformation(), type, scope, collection);
+						definition, id, persistentEntity.getTypeInformation(), type, scope, collection, keys);
 				if (N1qlJoinResolver.isLazyJoin(definition)) {
 					N1qlJoinResolver.N1qlJoinProxy proxy = new N1qlJoinResolver.N1qlJoinProxy(template, parameters);
 					accessor.setProperty(prop,
 							java.lang.reflect.Proxy.newProxyInstance(List.class.getClassLoader(), new Class[] { List.class }, proxy));
+				} else if (joins != null && definition.batchSize() > 1 && isBatchJoin(definition)) {
+					joins.add(prop, accessor, parameters);
 				} else {
 					// clazz needs to be passes instead of just using
 					// parameters.associatedType.getTypeInformation().getActualType().getType
 					// to keep the compiler happy for the call template.findByQuery(associatedEntityClass)
-					accessor.setProperty(prop, N1qlJoinResolver.doResolve(template, scope, collection, parameters, clazz));
+					Mono<List<?>> resolved = N1qlJoinResolver.resolve(template, scope, collection, parameters, clazz);
+					resolutions.add(resolved.map(result -> new Object[] { prop, result.isEmpty() ? null : result }));
 				}
 			}
 		});
+		if (resolutions.isEmpty()) {
+			return Mono.empty();
+		}
+		// set the properties once all are resolved, as the accessor is not thread-safe
+		return Flux.merge(resolutions).collectList().doOnNext(
+				results -> results.forEach(result -> accessor.setProperty((CouchbasePersistentProperty) result[0], result[1])))
+				.then();
 	}
 
+	/**
+	 * Resolves a lazy join on the first call of a method of the list. Concurrent first calls share a single resolution,
+	 * and the resolved list is safely published to all threads.
+	 */
 	static public class N1qlJoinProxy implements InvocationHandler {
 		private final ReactiveCouchbaseTemplate reactiveTemplate;
-		private final String collectionName = null;
-		private final String scopeName = null;
 		private final N1qlJoinResolverParameters params;
-		private List<?> resolved = null;
+		private volatile List<?> resolved = null;
 
 		public N1qlJoinProxy(ReactiveCouchbaseTemplate template, N1qlJoinResolverParameters params) {
 			this.reactiveTemplate = template;
@@ -258,11 +454,37 @@ public class N1qlJoinResolver {
 
 		@Override
 		public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
-			if (this.resolved == null) {
-				this.resolved = doResolve(this.reactiveTemplate, this.params.getScopeName(), this.params.getCollectionName(),
-						this.params, this.params.associatedEntityTypeInfo.getType());
+			List<?> list = this.resolved;
+			if (list == null) {
+				synchronized (this) {
+					list = this.resolved;
+					if (list == null) {
+						list = doResolve();
+						this.resolved = list;
+					}
+				}
+			}
+			try {
+				return method.invoke(list, args);
+			} catch (InvocationTargetException e) {
+				throw e.getCause();
+			}
+		}
+
+		private List<?> doResolve() {
+			// not the query timeout of the join itself, as resolving includes decoding and nested joins
+			Duration timeout = reactiveTemplate.getCouchbaseClientFactory().getCluster().environment().timeoutConfig()
+					.queryTimeout();
+			long start = System.nanoTime();
+			boolean failed = true;
+			try {
+				List<?> list = resolve(this.reactiveTemplate, this.params.getScopeName(), this.params.getCollectionName(),
+						this.params, this.params.associatedEntityTypeInfo.getType()).block(timeout);
+				failed = false;
+				return list != null ? list : Collections.emptyList();
+			} finally {
+				reactiveTemplate.getN1qlJoinStatistics().recordProxyResolution(System.nanoTime() - start, failed);
 			}
-			return method.invoke(this.resolved, args);
 		}
 	}
 
@@ -273,9 +495,19 @@ public class N1qlJoinResolver {
 		private TypeInformation<?> associatedEntityTypeInfo;
 		private String scopeName;
 		private String collectionName;
+		private List<String> keys;
 
 		public N1qlJoinResolverParameters(N1qlJoin joinDefinition, String lksId, TypeInformation<?> entityTypeInfo,
 				TypeInformation<?> associatedEntityTypeInfo, String scopeName, String collectionName) {
+			this(joinDefinition, lksId, entityTypeInfo, associatedEntityTypeInfo, scopeName, collectionName, null);
+		}
+
+		/**
+		 * @param keys the ids of the associated entities, for a {@link JoinStrategy#KEYS} join.
+		 */
+		public N1qlJoinResolverParameters(N1qlJoin joinDefinition, String lksId, TypeInformation<?> entityTypeInfo,
+				TypeInformation<?> associatedEntityTypeInfo, String scopeName, String collectionName,
+				@Nullable List<String> keys) {
 			Assert.notNull(joinDefinition, "The join definition is required");
 			Assert.notNull(entityTypeInfo, "The entity type information is required");
 			Assert.notNull(associatedEntityTypeInfo, "The associated entity type information is required");
@@ -286,6 +518,7 @@ public class N1qlJoinResolver {
 			this.associatedEntityTypeInfo = associatedEntityTypeInfo;
 			this.scopeName = scopeName;
 			this.collectionName = collectionName;
+			this.keys = keys;
 		}
 
 		public N1qlJoin getJoinDefinition() {
@@ -311,5 +544,9 @@ public class N1qlJoinResolver {
 		public String getCollectionName() {
 			return collectionName;
 		}
+
+		public List<String> getKeys() {
+			return keys;
+		}
 	}
 }
@@ -0,0 +1,76 @@
+/*
+ * Copyright 2022 the original author or authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.couchbase.core.convert.join;
+
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counts and latency of the resolutions of lazy joins.
+ *
+ * @since 4.4
+ */
+public class N1qlJoinStatistics {
+
+	private final LongAdder proxyResolutions = new LongAdder();
+	private final LongAdder proxyResolutionFailures = new LongAdder();
+	private final LongAdder proxyResolutionNanos = new LongAdder();
+	private final LongAccumulator maxProxyResolutionNanos = new LongAccumulator(Math::max, 0);
+
+	void recordProxyResolution(long nanos, boolean failed) {
+		proxyResolutions.increment();
+		if (failed) {
+			proxyResolutionFailures.increment();
+		}
+		proxyResolutionNanos.add(nanos);
+		maxProxyResolutionNanos.accumulate(nanos);
+	}
+
+	/**
+	 * @return the number of lazy joins resolved, including failed resolutions.
+	 */
+	public long getProxyResolutions() {
+		return proxyResolutions.sum();
+	}
+
+	/**
+	 * @return the number of lazy joins that failed to resolve.
+	 */
+	public long getProxyResolutionFailures() {
+		return proxyResolutionFailures.sum();
+	}
+
+	/**
+	 * @return the total time spent resolving lazy joins, in nanoseconds.
+	 */
+	public long getProxyResolutionNanos() {
+		return proxyResolutionNanos.sum();
+	}
+
+	/**
+	 * @return the longest time spent resolving a lazy join, in nanoseconds.
+	 */
+	public long getMaxProxyResolutionNanos() {
+		return maxProxyResolutionNanos.get();
+	}
+
+	@Override
+	public String toString() {
+		return "N1qlJoinStatistics{" + "proxyResolutions=" + getProxyResolutions() + ", proxyResolutionFailures="
+				+ getProxyResolutionFailures() + ", proxyResolutionNanos=" + getProxyResolutionNanos()
+				+ ", maxProxyResolutionNanos=" + getMaxProxyResolutionNanos() + '}';
+	}
+}
@@ -17,6 +17,7 @@ package org.springframework.data.couchbase.core.query;
 
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
 
 public class AnalyticsQuery {
@@ -24,6 +25,7 @@ public class AnalyticsQuery {
 	private long skip;
 	private int limit;
 	private Sort sort = Sort.unsorted();
+	private Meta meta;
 
 	public AnalyticsQuery() {}
 
@@ -80,6 +82,24 @@ public class AnalyticsQuery {
 		return this;
 	}
 
+	/**
+	 * Sets the {@link Meta} of the query. Its {@link Meta.MetaKey#METRICS_NAME} is the name the metrics of the query are
+	 * recorded with, see {@link org.springframework.data.couchbase.core.CouchbaseOperationMetrics#recordQuery}.
+	 *
+	 * @param meta
+	 * @return
+	 * @since 4.4
+	 */
+	public AnalyticsQuery withMeta(@Nullable Meta meta) {
+		this.meta = meta;
+		return this;
+	}
+
+	@Nullable
+	public Meta getMeta() {
+		return meta;
+	}
+
 	public void appendSkipAndLimit(final StringBuilder sb) {
 		if (limit > 0) {
 			sb.append(" LIMIT ").append(limit);
@@ -0,0 +1,33 @@
+/*
+ * Copyright 2022 the original author or authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.couchbase.core.query;
+
+/**
+ * How the associated entities of a {@link N1qlJoin} are fetched.
+ *
+ * @since 4.4
+ */
+public enum JoinStrategy {
+	/**
+	 * With an ANSI join query, using the {@link N1qlJoin#on()} criteria
+	 */
+	QUERY,
+
+	/**
+	 * With key-value gets of the ids held by the property named by {@link N1qlJoin#on()}, without the query service
+	 */
+	KEYS
+}
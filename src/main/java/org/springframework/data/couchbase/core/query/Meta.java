@@ -34,7 +34,8 @@ public class Meta {
 
 	public enum MetaKey {
 		SCAN_CONSISTENCY("scan_consistency"), SCOPE("scope"), COLLECTION("collection"), EXPIRY("expiry"), EXPIRY_UNIT(
-				"expiry_unit"), EXPIRY_EXPRESSION("expiry_expression"), TIMEOUT("timeout"), RETRY_STRATEGY("retry_strategy");
+				"expiry_unit"), EXPIRY_EXPRESSION("expiry_expression"), TIMEOUT("timeout"), RETRY_STRATEGY("retry_strategy"),
+		METRICS_NAME("metrics_name");
 
 		private String key;
 
@@ -53,10 +54,19 @@ public class Meta {
 	 * @since 2.2
 	 * @param source
 	 */
-	Meta(Meta source) {
+	public Meta(Meta source) {
 		this.values.putAll(source.values);
 	}
 
+	/**
+	 * @return an unmodifiable copy of this {@link Meta}, whose setters throw {@link UnsupportedOperationException}. Copy
+	 *         it with {@link #Meta(Meta)} to modify it.
+	 * @since 4.4
+	 */
+	public Meta unmodifiable() {
+		return new UnmodifiableMeta(this);
+	}
+
 	/**
 	 * @return
 	 */
@@ -151,4 +161,34 @@ public class Meta {
 		return ObjectUtils.nullSafeEquals(this.values, other.values);
 	}
 
+	private static class UnmodifiableMeta extends Meta {
+
+		UnmodifiableMeta(Meta source) {
+			super(source);
+		}
+
+		@Override
+		public void setValue(String key, @Nullable Object value) {
+			throw unsupported();
+		}
+
+		@Override
+		public void setValue(MetaKey key, @Nullable Object value) {
+			throw unsupported();
+		}
+
+		@Override
+		public void set(MetaKey key, @Nullable Object value) {
+			throw unsupported();
+		}
+
+		@Override
+		public Meta unmodifiable() {
+			return this;
+		}
+
+		private static UnsupportedOperationException unsupported() {
+			return new UnsupportedOperationException("Meta is unmodifiable, copy it to modify it");
+		}
+	}
 }
@@ -15,7 +15,11 @@
  */
 package org.springframework.data.couchbase.core.query;
 
+import java.util.Locale;
+
 import org.springframework.data.couchbase.core.ReactiveCouchbaseTemplate;
+import org.springframework.data.couchbase.core.support.TemplateUtils;
+import org.springframework.data.couchbase.repository.query.StringBasedN1qlQueryParser;
 
 import com.couchbase.client.java.json.JsonObject;
 import com.couchbase.client.java.query.QueryOptions;
@@ -52,4 +56,56 @@ public class N1QLQuery extends Query {
 			Class returnClass, boolean isCount, String[] distinctFields, String[] fields) {
 		return expression.toString();
 	}
+
+	/**
+	 * The expression may already have a LIMIT, which cannot be combined with another one.
+	 */
+	@Override
+	public Query limitedTo(int maxRows) {
+		return this;
+	}
+
+	/**
+	 * Wraps the expression, so any LIMIT it has is respected. A count expression always returns a row, so existence must
+	 * be determined by its count.
+	 */
+	@Override
+	public String toN1qlExistsString(ReactiveCouchbaseTemplate template, String collectionName, Class domainClass) {
+		String statement = expression.toString();
+		if (statement.toLowerCase(Locale.ROOT).contains("count(")) {
+			return null;
+		}
+		return "SELECT RAW 1 FROM (" + statement + ") predicate_query LIMIT 1";
+	}
+
+	/**
+	 * Deletes the keys of at most {@code chunkSize} documents selected by the expression, which must project the
+	 * document id as {@link TemplateUtils#SELECT_ID}.
+	 */
+	@Override
+	public String toN1qlRemoveChunkString(ReactiveCouchbaseTemplate template, String collectionName, Class domainClass,
+			int chunkSize) {
+		StringBasedN1qlQueryParser.N1qlSpelValues n1ql = getN1qlSpelValues(template, collectionName, domainClass, null,
+				false, null, null);
+		return n1ql.delete + " USE KEYS (SELECT RAW predicate_query." + TemplateUtils.SELECT_ID + " FROM (" + expression
+				+ ") predicate_query LIMIT " + chunkSize + ")";
+	}
+
+	/**
+	 * The keys of the documents selected by the expression, which must project the document id as
+	 * {@link TemplateUtils#SELECT_ID}.
+	 */
+	@Override
+	protected String toN1qlUpdateKeysString(ReactiveCouchbaseTemplate template, String collectionName,
+			Class domainClass) {
+		return "SELECT RAW predicate_query." + TemplateUtils.SELECT_ID + " FROM (" + expression + ") predicate_query";
+	}
+
+	/**
+	 * The expression is opaque, so the windowed count cannot be spliced into its projection.
+	 */
+	@Override
+	public boolean supportsWindowedCount() {
+		return false;
+	}
 }
@@ -33,10 +33,17 @@ public @interface N1qlJoin {
 	/**
 	 * Join Criteria can be a simple equi join or multiple conditions combined using AND or OR. Array based equi joins
 	 * with unnest is also possible. To reference fields in entity use prefix "lks." (left key space) and for referencing
-	 * fields in associated entities use "rks." (right key space)
+	 * fields in associated entities use "rks." (right key space). With {@link JoinStrategy#KEYS}, the property of the
+	 * entity holding the ids of the associated entities, such as "lks.bookIds".
 	 */
 	String on();
 
+	/**
+	 * How the associated entities are fetched {@link JoinStrategy}. With {@link JoinStrategy#KEYS}, the where clause,
+	 * hints and query options are not used.
+	 */
+	JoinStrategy strategy() default JoinStrategy.QUERY;
+
 	/**
 	 * Fetch type specifies how the associated entities are fetched {@link FetchType}
 	 */
@@ -67,4 +74,23 @@ public @interface N1qlJoin {
 	 * Use keys query hint
 	 */
 	String[] keys() default {};
+
+	/**
+	 * Maximum number of entities of a query result whose immediate join is resolved with a single query, using
+	 * {@code META(lks).id IN $ids}. The default of 1 resolves the join of each entity with a query of its own. Not used
+	 * with {@link JoinStrategy#KEYS}.
+	 */
+	int batchSize() default 1;
+
+	/**
+	 * With {@link JoinStrategy#KEYS}, the maximum number of associated entities of an entity fetched concurrently.
+	 */
+	int keysConcurrency() default 16;
+
+	/**
+	 * Time in milliseconds for which the result of the join for an entity is cached. The join result of an entity is
+	 * reused when the same entity is read again within cacheExpiryMs, for instance by several queries. 0 disables
+	 * caching.
+	 */
+	long cacheExpiryMs() default 0;
 }
@@ -15,6 +15,7 @@
  */
 package org.springframework.data.couchbase.core.query;
 
+import static org.springframework.data.couchbase.core.query.Meta.MetaKey.METRICS_NAME;
 import static org.springframework.data.couchbase.core.query.Meta.MetaKey.RETRY_STRATEGY;
 import static org.springframework.data.couchbase.core.query.Meta.MetaKey.SCAN_CONSISTENCY;
 import static org.springframework.data.couchbase.core.query.Meta.MetaKey.TIMEOUT;
@@ -325,6 +326,7 @@ public class OptionsBuilder {
 		// Scope and Collection annotations are handled in PseudArgs
 		// this would include a ScanConsistency in a composed annotation as well.
 		meta.set(SCAN_CONSISTENCY, method.getScanConsistencyAnnotation());
+		meta.set(METRICS_NAME, method.getMetricsName());
 		return meta;
 	}
 
@@ -17,6 +17,7 @@ package org.springframework.data.couchbase.core.query;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -25,12 +26,15 @@ import org.slf4j.LoggerFactory;
 import org.springframework.data.couchbase.core.ReactiveCouchbaseTemplate;
 import org.springframework.data.couchbase.core.convert.CouchbaseConverter;
 import org.springframework.data.couchbase.core.mapping.CouchbasePersistentEntity;
+import org.springframework.data.couchbase.core.mapping.CouchbasePersistentProperty;
+import org.springframework.data.couchbase.core.support.TemplateUtils;
 import org.springframework.data.couchbase.repository.query.CouchbaseQueryMethod;
 import org.springframework.data.couchbase.repository.query.StringBasedN1qlQueryParser;
 import org.springframework.data.couchbase.repository.support.MappingCouchbaseEntityInformation;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.mapping.Alias;
+import org.springframework.data.mapping.PersistentPropertyPath;
 import org.springframework.data.util.ClassTypeInformation;
 import org.springframework.data.util.TypeInformation;
 import org.springframework.util.Assert;
@@ -66,6 +70,30 @@ public class Query {
 		addCriteria(criteriaDefinition);
 	}
 
+	/**
+	 * Copy a {@link Query}. The criteria and sort are shared, as they are not modified once built. The parameters are
+	 * copied, as building a statement adds the values of the criteria to them.
+	 *
+	 * @param source
+	 */
+	protected Query(Query source) {
+		this.criteria.addAll(source.criteria);
+		if (source.parameters instanceof JsonArray) {
+			this.parameters = JsonArray.from(((JsonArray) source.parameters).toList());
+		} else if (source.parameters instanceof JsonObject) {
+			this.parameters = JsonObject.from(((JsonObject) source.parameters).toMap());
+		} else {
+			this.parameters = source.parameters;
+		}
+		this.skip = source.skip;
+		this.limit = source.limit;
+		this.distinct = source.distinct;
+		this.distinctFields = source.distinctFields;
+		this.sort = source.sort;
+		this.queryScanConsistency = source.queryScanConsistency;
+		this.meta = source.meta;
+	}
+
 	public static Query query(QueryCriteriaDefinition criteriaDefinition) {
 		return new Query(criteriaDefinition);
 	}
@@ -99,7 +127,7 @@ public class Query {
 		return this;
 	}
 
-	JsonValue getParameters() {
+	public JsonValue getParameters() {
 		return parameters;
 	}
 
@@ -125,6 +153,22 @@ public class Query {
 		return this;
 	}
 
+	/**
+	 * A query returning at most {@code maxRows} rows, for terminal operations that need only the first rows, such as
+	 * first() and one(). An existing lower limit is kept. This query is not modified.
+	 *
+	 * @param maxRows
+	 * @return this query if its limit is already low enough, otherwise a copy with the limit lowered to maxRows
+	 */
+	public Query limitedTo(int maxRows) {
+		if (limit > 0 && limit <= maxRows) {
+			return this;
+		}
+		Query copy = new Query(this);
+		copy.limit = maxRows;
+		return copy;
+	}
+
 	/**
 	 * Is this a DISTINCT query? {@code distinct}.
 	 *
@@ -337,6 +381,53 @@ public class Query {
 		return statement.toString();
 	}
 
+	/**
+	 * A statement returning a single row if any document matches this query, for exists(). It does not count or fetch
+	 * the matching documents. Sort, skip and limit are ignored, as for count.
+	 *
+	 * @return the statement, or null if existence must be determined by a count
+	 */
+	public String toN1qlExistsString(ReactiveCouchbaseTemplate template, String collectionName, Class domainClass) {
+		StringBasedN1qlQueryParser.N1qlSpelValues n1ql = getN1qlSpelValues(template, collectionName, domainClass, null,
+				false, null, null);
+		final StringBuilder statement = new StringBuilder();
+		appendString(statement, "SELECT RAW 1 FROM " + n1ql.bucket);
+		appendWhereString(statement, n1ql.filter); // typeKey = typeValue
+		appendWhere(statement, new int[] { 0 }, template.getConverter()); // criteria on this Query
+		appendString(statement, " LIMIT 1");
+		return statement.toString();
+	}
+
+	/**
+	 * The select statement of this query with the total number of matching documents (ignoring skip and limit) projected
+	 * into every row as {@value TemplateUtils#SELECT_TOTAL} by a windowed COUNT(*) OVER(). This allows a page and its
+	 * total to be retrieved with a single query. Only valid if {@link #supportsWindowedCount()}.
+	 */
+	public String toN1qlSelectWithTotalString(ReactiveCouchbaseTemplate template, String collectionName,
+			Class domainClass, Class returnClass, String[] fields) {
+		Assert.isTrue(supportsWindowedCount(), "windowed count is not supported for this query");
+		StringBasedN1qlQueryParser.N1qlSpelValues n1ql = getN1qlSpelValues(template, collectionName, domainClass,
+				returnClass, false, null, fields);
+		final StringBuilder statement = new StringBuilder();
+		appendString(statement, "SELECT COUNT(*) OVER() AS " + TemplateUtils.SELECT_TOTAL + ", ");
+		appendString(statement, n1ql.selectEntity.substring("SELECT ".length())); // ... FROM ...
+		appendWhereString(statement, n1ql.filter); // typeKey = typeValue
+		appendWhere(statement, new int[] { 0 }, template.getConverter()); // criteria on this Query
+		appendSort(statement);
+		appendSkipAndLimit(statement);
+		return statement.toString();
+	}
+
+	/**
+	 * Can the total be projected with a windowed COUNT(*) OVER()? Not for DISTINCT queries, as the window is computed
+	 * before duplicates are eliminated.
+	 *
+	 * @return true if {@link #toN1qlSelectWithTotalString} can be used.
+	 */
+	public boolean supportsWindowedCount() {
+		return !distinct && distinctFields == null;
+	}
+
 	public String toN1qlRemoveString(ReactiveCouchbaseTemplate template, String collectionName, Class domainClass) {
 		StringBasedN1qlQueryParser.N1qlSpelValues n1ql = getN1qlSpelValues(template, collectionName, domainClass, null,
 				false, null, null);
@@ -348,6 +439,113 @@ public class Query {
 		return statement.toString();
 	}
 
+	/**
+	 * An update statement applying {@code update} to the matching documents. There can only be named or positional
+	 * parameters, so the values to set are added to {@code parameters} after the parameters of this query, as named
+	 * parameters when this query has named parameters and as positional parameters otherwise.
+	 *
+	 * @param parameters receives the parameters of the statement: a {@link JsonObject} when this query has named
+	 *          parameters, a {@link JsonArray} otherwise.
+	 * @param returning whether the statement returns the id and cas of the updated documents
+	 */
+	public String toN1qlUpdateString(ReactiveCouchbaseTemplate template, String collectionName, Class domainClass,
+			Update update, JsonValue parameters, boolean returning) {
+		Assert.isTrue(!update.isEmpty(), "update must set or unset at least one property");
+		StringBasedN1qlQueryParser.N1qlSpelValues n1ql = getN1qlSpelValues(template, collectionName, domainClass, null,
+				false, null, null);
+		// the matching documents first, as they may add generated parameters to this query
+		String keys = toN1qlUpdateKeysString(template, collectionName, domainClass);
+		final StringBuilder where = new StringBuilder();
+		if (keys == null) {
+			appendWhereString(where, n1ql.filter); // typeKey = typeValue
+			appendWhere(where, null, template.getConverter()); // criteria on this Query
+		}
+		if (parameters instanceof JsonObject) {
+			Assert.isTrue(!(this.parameters instanceof JsonArray) || ((JsonArray) this.parameters).isEmpty(),
+					"the parameters of an update with named parameters must be named");
+			if (this.parameters instanceof JsonObject) {
+				((JsonObject) this.parameters).toMap().forEach(((JsonObject) parameters)::put);
+			}
+		} else {
+			Assert.isTrue(!(this.parameters instanceof JsonObject), "the parameters of this query are named");
+			if (this.parameters instanceof JsonArray) {
+				((JsonArray) this.parameters).forEach(((JsonArray) parameters)::add);
+			}
+		}
+
+		final StringBuilder statement = new StringBuilder();
+		appendString(statement, "UPDATE " + n1ql.bucket);
+		if (keys != null) {
+			appendString(statement, " USE KEYS (" + keys + ")");
+		}
+		String separator = " SET ";
+		int index = 0;
+		for (Map.Entry<String, Object> entry : update.getSet().entrySet()) {
+			statement.append(separator).append(toFieldPath(template, domainClass, entry.getKey())).append(" = ");
+			if (entry.getValue() == null) {
+				statement.append("NULL");
+			} else {
+				Object value = template.getConverter().convertForWriteIfNeeded(entry.getValue());
+				if (parameters instanceof JsonObject) {
+					String name = "__update" + (++index);
+					((JsonObject) parameters).put(name, value);
+					statement.append("$").append(name);
+				} else {
+					((JsonArray) parameters).add(value);
+					statement.append("$").append(((JsonArray) parameters).size());
+				}
+			}
+			separator = ", ";
+		}
+		separator = " UNSET ";
+		for (String property : update.getUnset()) {
+			statement.append(separator).append(toFieldPath(template, domainClass, property));
+			separator = ", ";
+		}
+		statement.append(where);
+		if (returning) {
+			appendString(statement, " RETURNING META(" + n1ql.bucket + ").id AS " + TemplateUtils.SELECT_ID + ", META("
+					+ n1ql.bucket + ").cas AS " + TemplateUtils.SELECT_CAS);
+		}
+		return statement.toString();
+	}
+
+	/**
+	 * A statement selecting the keys of the documents to update, for queries whose statement cannot be used as the WHERE
+	 * clause of an update. The update then uses the keys instead of the criteria of this query.
+	 *
+	 * @return the statement, or null to update the documents matching the criteria.
+	 */
+	protected String toN1qlUpdateKeysString(ReactiveCouchbaseTemplate template, String collectionName,
+			Class domainClass) {
+		return null;
+	}
+
+	private static String toFieldPath(ReactiveCouchbaseTemplate template, Class domainClass, String property) {
+		PersistentPropertyPath<CouchbasePersistentProperty> path = template.getConverter().getMappingContext()
+				.getPersistentPropertyPath(property, domainClass);
+		if (path.getLeafProperty().isIdProperty()) {
+			throw new IllegalArgumentException("The id of " + domainClass.getName() + " cannot be updated");
+		}
+		return path.toDotPath(p -> "`" + p.getFieldName() + "`");
+	}
+
+	/**
+	 * A delete statement removing at most {@code chunkSize} of the matching documents, without returning them. Running
+	 * it until it mutates nothing removes all matching documents without streaming them back.
+	 */
+	public String toN1qlRemoveChunkString(ReactiveCouchbaseTemplate template, String collectionName, Class domainClass,
+			int chunkSize) {
+		StringBasedN1qlQueryParser.N1qlSpelValues n1ql = getN1qlSpelValues(template, collectionName, domainClass, null,
+				false, null, null);
+		final StringBuilder statement = new StringBuilder();
+		appendString(statement, n1ql.delete); // delete ...
+		appendWhereString(statement, n1ql.filter); // typeKey = typeValue
+		appendWhere(statement, null, template.getConverter()); // criteria on this Query
+		appendString(statement, " LIMIT " + chunkSize);
+		return statement.toString();
+	}
+
 	public static StringBasedN1qlQueryParser.N1qlSpelValues getN1qlSpelValues(
 			ReactiveCouchbaseTemplate template, String collectionName,
 			Class domainClass, Class returnClass, boolean isCount, String[] distinctFields, String[] fields) {
@@ -379,12 +577,13 @@ public class Query {
 
 	/**
 	 * this collections annotations from the method, repository class and possibly the entity class to be used as options.
-	 * This will find annotations included in composed annotations as well. Ideally
+	 * This will find annotations included in composed annotations as well. The annotations are resolved once, when the
+	 * method is created, and the resulting unmodifiable {@link Meta} is shared by all queries of the method.
 	 * 
 	 * @param method representing the query.
 	 */
 	public void setMeta(CouchbaseQueryMethod method, Class<?> typeToRead) {
-		meta = OptionsBuilder.buildMeta(method, typeToRead);
+		meta = method.getMeta();
 	}
 
 	public Meta getMeta() {
@@ -0,0 +1,119 @@
+/*
+ * Copyright 2022 the original author or authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.couchbase.core.query;
+
+import java.util.regex.Pattern;
+
+/**
+ * Normalises N1QL and analytics statements, so that the executions of a query with different values are recorded
+ * together: string and number literals and named and positional parameters are replaced by {@code ?}, lists of them
+ * by {@code [?]}, and whitespace is collapsed. Identifiers, quoted or not, are kept.
+ *
+ * @since 4.4
+ */
+public final class StatementFingerprint {
+
+	private static final Pattern VALUE_LIST = Pattern.compile("\\[\\?(, ?\\?)*]");
+
+	private StatementFingerprint() {}
+
+	/**
+	 * @param statement the statement.
+	 * @return the fingerprint of the statement.
+	 */
+	public static String of(String statement) {
+		StringBuilder sb = new StringBuilder(statement.length());
+		int length = statement.length();
+		int i = 0;
+		while (i < length) {
+			char c = statement.charAt(i);
+			if (c == '`') { // quoted identifier
+				int end = statement.indexOf('`', i + 1);
+				end = end < 0 ? length : end + 1;
+				sb.append(statement, i, end);
+				i = end;
+			} else if (c == '\'' || c == '"') {
+				i = skipString(statement, i);
+				sb.append('?');
+			} else if (c == '$' && i + 1 < length && Character.isLetterOrDigit(statement.charAt(i + 1))) {
+				i = skipWord(statement, i + 1);
+				sb.append('?');
+			} else if (Character.isDigit(c) && (i == 0 || !isIdentifierPart(statement.charAt(i - 1)))) {
+				i = skipNumber(statement, i);
+				sb.append('?');
+			} else if (Character.isWhitespace(c)) {
+				while (i < length && Character.isWhitespace(statement.charAt(i))) {
+					i++;
+				}
+				if (sb.length() > 0 && i < length) {
+					sb.append(' ');
+				}
+			} else {
+				sb.append(c);
+				i++;
+			}
+		}
+		return VALUE_LIST.matcher(sb).replaceAll("[?]");
+	}
+
+	private static int skipString(String statement, int start) {
+		char quote = statement.charAt(start);
+		int i = start + 1;
+		while (i < statement.length()) {
+			char c = statement.charAt(i);
+			if (c == '\\') {
+				i += 2;
+			} else if (c == quote) {
+				if (i + 1 < statement.length() && statement.charAt(i + 1) == quote) { // doubled quote
+					i += 2;
+				} else {
+					return i + 1;
+				}
+			} else {
+				i++;
+			}
+		}
+		return statement.length();
+	}
+
+	private static int skipWord(String statement, int start) {
+		int i = start;
+		while (i < statement.length() && isIdentifierPart(statement.charAt(i))) {
+			i++;
+		}
+		return i;
+	}
+
+	private static int skipNumber(String statement, int start) {
+		int i = start;
+		while (i < statement.length()) {
+			char c = statement.charAt(i);
+			if (Character.isDigit(c) || c == '.') {
+				i++;
+			} else if ((c == 'e' || c == 'E') && i + 1 < statement.length()
+					&& (Character.isDigit(statement.charAt(i + 1)) || statement.charAt(i + 1) == '-')) {
+				i += 2;
+			} else {
+				return i;
+			}
+		}
+		return i;
+	}
+
+	private static boolean isIdentifierPart(char c) {
+		return Character.isLetterOrDigit(c) || c == '_' || c == '$';
+	}
+}
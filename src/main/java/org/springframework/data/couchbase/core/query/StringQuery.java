@@ -19,6 +19,8 @@ import java.util.Locale;
 
 import org.springframework.data.couchbase.core.ReactiveCouchbaseTemplate;
 import org.springframework.data.couchbase.core.support.TemplateUtils;
+import org.springframework.data.couchbase.repository.query.StringBasedN1qlQueryParser;
+import org.springframework.util.Assert;
 
 import com.couchbase.client.java.json.JsonArray;
 import com.couchbase.client.java.json.JsonValue;
@@ -86,6 +88,81 @@ public class StringQuery extends Query {
 		return statement.toString();
 	}
 
+	/**
+	 * The inline statement may already have a LIMIT, which cannot be combined with another one.
+	 */
+	@Override
+	public Query limitedTo(int maxRows) {
+		return this;
+	}
+
+	/**
+	 * Wraps the inline statement, so any LIMIT it has is respected. An inline count statement always returns a row, so
+	 * existence must be determined by its count.
+	 */
+	@Override
+	public String toN1qlExistsString(ReactiveCouchbaseTemplate template, String collectionName, Class domainClass) {
+		if (inlineN1qlQuery == null || inlineN1qlQuery.toLowerCase(Locale.ROOT).contains("count(")) {
+			return null;
+		}
+		final StringBuilder statement = new StringBuilder();
+		statement.append("SELECT RAW 1 FROM (");
+		appendInlineN1qlSelect(template, statement);
+		statement.append(") predicate_query LIMIT 1");
+		return statement.toString();
+	}
+
+	/**
+	 * The inline statement is opaque, so the windowed count cannot be spliced into its projection.
+	 */
+	@Override
+	public boolean supportsWindowedCount() {
+		return false;
+	}
+
+	/**
+	 * Deletes the keys of at most {@code chunkSize} documents selected by the inline statement, which must project the
+	 * document id as {@link TemplateUtils#SELECT_ID}, as {@code #n1ql.selectEntity} does.
+	 */
+	@Override
+	public String toN1qlRemoveChunkString(ReactiveCouchbaseTemplate template, String collectionName, Class domainClass,
+			int chunkSize) {
+		Assert.notNull(inlineN1qlQuery, "a StringQuery without a statement cannot be removed in chunks");
+		StringBasedN1qlQueryParser.N1qlSpelValues n1ql = getN1qlSpelValues(template, collectionName, domainClass, null,
+				false, null, null);
+		final StringBuilder statement = new StringBuilder();
+		statement.append(n1ql.delete).append(" USE KEYS (SELECT RAW predicate_query.").append(TemplateUtils.SELECT_ID)
+				.append(" FROM (");
+		appendInlineN1qlSelect(template, statement);
+		statement.append(") predicate_query LIMIT ").append(chunkSize).append(")");
+		return statement.toString();
+	}
+
+	/**
+	 * The keys of the documents selected by the inline statement, which must project the document id as
+	 * {@link TemplateUtils#SELECT_ID}, as {@code #n1ql.selectEntity} does.
+	 */
+	@Override
+	protected String toN1qlUpdateKeysString(ReactiveCouchbaseTemplate template, String collectionName,
+			Class domainClass) {
+		Assert.notNull(inlineN1qlQuery, "a StringQuery without a statement cannot be updated");
+		final StringBuilder statement = new StringBuilder();
+		statement.append("SELECT RAW predicate_query.").append(TemplateUtils.SELECT_ID).append(" FROM (");
+		appendInlineN1qlSelect(template, statement);
+		statement.append(") predicate_query");
+		return statement.toString();
+	}
+
+	/**
+	 * Appends the inline statement and the criteria on this query, generating parameters after those of the statement.
+	 */
+	private void appendInlineN1qlSelect(ReactiveCouchbaseTemplate template, StringBuilder statement) {
+		appendInlineN1qlStatement(statement);
+		int[] paramIndexPtr = getParameters() instanceof JsonArray ? new int[] { ((JsonArray) getParameters()).size() }
+				: new int[] { -1 };
+		appendWhere(statement, paramIndexPtr, template.getConverter());
+	}
+
 	/**
 	 * toN1qlRemoveString - use toN1qlSelectString
 	 * 
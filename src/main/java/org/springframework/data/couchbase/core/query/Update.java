@@ -0,0 +1,89 @@
+/*
+ * Copyright 2022 the original author or authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.couchbase.core.query;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * The changes of an updateByQuery: properties to set and properties to unset. Properties are given by their name in
+ * the entity, in dot notation for nested properties, and are mapped to the field names of the documents.
+ *
+ * @since 4.4
+ */
+public class Update {
+
+	private final Map<String, Object> set = new LinkedHashMap<>();
+	private final Set<String> unset = new LinkedHashSet<>();
+
+	/**
+	 * Create an update setting {@code property} to {@code value}.
+	 *
+	 * @param property the property name
+	 * @param value the new value, converted as query parameters are
+	 */
+	public static Update update(String property, @Nullable Object value) {
+		return new Update().set(property, value);
+	}
+
+	/**
+	 * Set {@code property} to {@code value}.
+	 *
+	 * @param property the property name
+	 * @param value the new value, converted as query parameters are
+	 */
+	public Update set(String property, @Nullable Object value) {
+		Assert.hasText(property, "property must not be empty");
+		Assert.isTrue(!unset.contains(property), () -> property + " is already unset");
+		set.put(property, value);
+		return this;
+	}
+
+	/**
+	 * Remove {@code property} from the documents.
+	 *
+	 * @param property the property name
+	 */
+	public Update unset(String property) {
+		Assert.hasText(property, "property must not be empty");
+		Assert.isTrue(!set.containsKey(property), () -> property + " is already set");
+		unset.add(property);
+		return this;
+	}
+
+	public boolean isEmpty() {
+		return set.isEmpty() && unset.isEmpty();
+	}
+
+	Map<String, Object> getSet() {
+		return Collections.unmodifiableMap(set);
+	}
+
+	Set<String> getUnset() {
+		return Collections.unmodifiableSet(unset);
+	}
+
+	@Override
+	public String toString() {
+		return "Update{" + "set=" + set + ", unset=" + unset + '}';
+	}
+}
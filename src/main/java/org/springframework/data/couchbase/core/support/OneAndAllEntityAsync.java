@@ -0,0 +1,32 @@
+/*
+ * Copyright 2022 the original author or authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.couchbase.core.support;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * A common interface for those that support one(T), all(Collection&lt;T&gt;)
+ *
+ * @param <T> - the entity class
+ * @since 4.4
+ */
+public interface OneAndAllEntityAsync<T> {
+	CompletableFuture<T> one(T object);
+
+	CompletableFuture<List<T>> all(Collection<? extends T> objects);
+}
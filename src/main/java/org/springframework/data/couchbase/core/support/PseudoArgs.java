@@ -19,11 +19,34 @@ import static org.springframework.data.couchbase.core.query.OptionsBuilder.fromF
 import static org.springframework.data.couchbase.core.query.OptionsBuilder.getCollectionFrom;
 import static org.springframework.data.couchbase.core.query.OptionsBuilder.getScopeFrom;
 
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.util.context.Context;
+import reactor.util.context.ContextView;
+
+import java.util.function.Function;
+import java.util.function.Supplier;
+
 import org.springframework.data.couchbase.core.ReactiveCouchbaseTemplate;
 
 import com.couchbase.client.core.io.CollectionIdentifier;
 
+/**
+ * The scope, collection and options of an operation. A repository proxy created by {@code withScope},
+ * {@code withCollection} or {@code withOptions} passes them to the operations of an invocation in the Reactor
+ * {@link Context} of the returned publisher, or, for blocking repositories, in the invocation-scoped
+ * {@link ReactiveCouchbaseTemplate#getPseudoArgs() template thread-local}, as blocking operations start on the invoking
+ * thread. Blocking operations that block on a reactive operation pass them on in its context with
+ * {@link #fromThreadLocal(ReactiveCouchbaseTemplate, Flux)}.
+ */
 public class PseudoArgs<OPTS> {
+
+	/**
+	 * Marks the PseudoArgs of the repository invocation as used by an operation, so the operations it starts, such as
+	 * join fetches, use their own scope and collection.
+	 */
+	private static final PseudoArgs<?> CONSUMED = new PseudoArgs<>(null, null, null);
+
 	private final OPTS options;
 	private final String scopeName;
 	private final String collectionName;
@@ -36,8 +59,8 @@ public class PseudoArgs<OPTS> {
 
 	/**
 	 * return scope, collection and options in following precedence <br>
-	 * 1) values from fluent api<br>
-	 * 2) values from dynamic proxy (via template threadLocal)<br>
+	 * 1) values from dynamic proxy (via template threadLocal)<br>
+	 * 2) values from fluent api<br>
 	 * 3) the values from the couchbaseClientFactory<br>
 	 * 
 	 * @param template which holds ThreadLocal pseudo args
@@ -48,16 +71,36 @@ public class PseudoArgs<OPTS> {
 	 */
 	public PseudoArgs(ReactiveCouchbaseTemplate template, String scope, String collection, OPTS options,
 			Class<?> domainType) {
+		this(template, scope, collection, options, domainType, Context.empty());
+	}
+
+	/**
+	 * return scope, collection and options in following precedence <br>
+	 * 1) values from dynamic proxy (via the subscriber context, or else the template threadLocal)<br>
+	 * 2) values from fluent api<br>
+	 * 3) the values from the couchbaseClientFactory<br>
+	 *
+	 * @param template which holds ThreadLocal pseudo args
+	 * @param scope - from calling operation
+	 * @param collection - from calling operation
+	 * @param options - from calling operation
+	 * @param domainType - entity that may have annotations
+	 * @param context - the context of the subscriber of the operation
+	 */
+	public PseudoArgs(ReactiveCouchbaseTemplate template, String scope, String collection, OPTS options,
+			Class<?> domainType, ContextView context) {
 
 		String scopeForQuery = null;
 		String collectionForQuery = null;
 		OPTS optionsForQuery = null;
 
-		// 1) repository from DynamicProxy via template threadLocal - has precedence over annotation
+		// 1) repository from DynamicProxy via context or template threadLocal - has precedence over annotation
 
-		PseudoArgs<OPTS> threadLocal = (PseudoArgs<OPTS>) template.getPseudoArgs();
-		template.setPseudoArgs(null);
-		if (threadLocal != null) {
+		PseudoArgs<OPTS> threadLocal = context.getOrDefault(PseudoArgs.class, null);
+		if (threadLocal == null) {
+			threadLocal = (PseudoArgs<OPTS>) template.getPseudoArgs();
+		}
+		if (threadLocal != null && threadLocal != CONSUMED) {
 			scopeForQuery = threadLocal.getScope();
 			collectionForQuery = threadLocal.getCollection();
 			optionsForQuery = threadLocal.getOptions();
@@ -88,6 +131,75 @@ public class PseudoArgs<OPTS> {
 
 	}
 
+	/**
+	 * Put these PseudoArgs in the context, for the operations subscribed with it.
+	 */
+	public Context putIn(Context context) {
+		return context.put(PseudoArgs.class, this);
+	}
+
+	/**
+	 * Defer an operation to subscription, when the PseudoArgs of a repository invocation can be read from the
+	 * subscriber context. Operations started by the operation do not see them.
+	 */
+	public static <T> Mono<T> deferMono(Function<ContextView, ? extends Mono<? extends T>> operation) {
+		return Mono.deferContextual(ctx -> operation.apply(ctx).contextWrite(PseudoArgs::consumed));
+	}
+
+	/**
+	 * Defer an operation to subscription, when the PseudoArgs of a repository invocation can be read from the
+	 * subscriber context. Operations started by the operation do not see them.
+	 */
+	public static <T> Flux<T> deferFlux(Function<ContextView, ? extends Flux<? extends T>> operation) {
+		return Flux.deferContextual(ctx -> operation.apply(ctx).contextWrite(PseudoArgs::consumed));
+	}
+
+	/**
+	 * Mark the PseudoArgs of a repository invocation as used in the context, so the operations subscribed with it, such
+	 * as join fetches, use their own scope and collection.
+	 */
+	public static Context consumed(Context context) {
+		return context.put(PseudoArgs.class, CONSUMED);
+	}
+
+	/**
+	 * Run an operation on the invoking thread of a blocking repository invocation with the PseudoArgs of the invocation
+	 * marked as used, so the operations it starts, such as the join fetches of the entities it decodes, use their own
+	 * scope and collection.
+	 */
+	public static <T> T consumedWhile(ReactiveCouchbaseTemplate template, Supplier<T> operation) {
+		PseudoArgs<?> previous = template.getPseudoArgs();
+		if (previous == null || previous == CONSUMED) {
+			return operation.get();
+		}
+		template.setPseudoArgs(CONSUMED);
+		try {
+			return operation.get();
+		} finally {
+			template.setPseudoArgs(previous);
+		}
+	}
+
+	/**
+	 * Pass the PseudoArgs of the blocking repository invocation running on this thread, if any, in the context of an
+	 * operation the invocation blocks on. The inner operations of the operation may start on other threads, which do not
+	 * see the template thread-local.
+	 */
+	public static <T> Mono<T> fromThreadLocal(ReactiveCouchbaseTemplate template, Mono<T> operation) {
+		PseudoArgs<?> pArgs = template.getPseudoArgs();
+		return pArgs == null ? operation : operation.contextWrite(pArgs::putIn);
+	}
+
+	/**
+	 * Pass the PseudoArgs of the blocking repository invocation running on this thread, if any, in the context of an
+	 * operation the invocation blocks on. The inner operations of the operation may start on other threads, which do not
+	 * see the template thread-local.
+	 */
+	public static <T> Flux<T> fromThreadLocal(ReactiveCouchbaseTemplate template, Flux<T> operation) {
+		PseudoArgs<?> pArgs = template.getPseudoArgs();
+		return pArgs == null ? operation : operation.contextWrite(pArgs::putIn);
+	}
+
 	/**
 	 * @return the options
 	 */
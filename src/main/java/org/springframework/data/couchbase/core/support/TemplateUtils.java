@@ -33,6 +33,7 @@ public class TemplateUtils {
 	public static final String SELECT_ID = "__id";
 	public static final String SELECT_CAS = "__cas";
 	public static final String SELECT_COUNT = CountFragment.COUNT_ALIAS;
+	public static final String SELECT_TOTAL = "__total";
 	private static PersistenceExceptionTranslator exceptionTranslator = new CouchbaseExceptionTranslator();
 
 	public static Throwable translateError(Throwable e) {
@@ -16,8 +16,6 @@
 
 package org.springframework.data.couchbase.repository;
 
-import java.lang.reflect.Proxy;
-
 import org.springframework.data.couchbase.repository.query.CouchbaseEntityInformation;
 import org.springframework.data.couchbase.repository.support.DynamicInvocationHandler;
 
@@ -38,11 +36,12 @@ public interface DynamicProxyable<REPO> {
 	Object getOperations();
 
 	/**
-	 * Support for Couchbase-specific options, scope and collections The three "with" methods will return a new proxy
-	 * instance with the specified options, scope, or collections set. The setters are called with the corresponding
+	 * Support for Couchbase-specific options, scope and collections The three "with" methods will return a proxy
+	 * instance with the specified options, scope, or collections set. Proxies without options are reused. The setters are called with the corresponding
 	 * options, scope and collection to set the ThreadLocal fields on the CouchbaseOperations of the repository just
 	 * before the call is made to the repository, and called again with 'null' just after the call is made. The repository
-	 * method will fetch those values to use in the call.
+	 * method will fetch those values to use in the call. Reactive repositories pass them in the Reactor Context of the
+	 * returned publisher instead, so they apply to the operations on whichever thread they run.
 	 */
 
 	/**
@@ -50,9 +49,7 @@ public interface DynamicProxyable<REPO> {
 	 */
 	@SuppressWarnings("unchecked")
 	default REPO withOptions(CommonOptions<?> options) {
-		REPO proxyInstance = (REPO) Proxy.newProxyInstance(this.getClass().getClassLoader(),
-				this.getClass().getInterfaces(), new DynamicInvocationHandler(this, options, null, (String) null));
-		return proxyInstance;
+		return (REPO) DynamicInvocationHandler.proxy(this, options, null, (String) null);
 	}
 
 	/**
@@ -60,9 +57,7 @@ public interface DynamicProxyable<REPO> {
 	 */
 	@SuppressWarnings("unchecked")
 	default REPO withScope(String scope) {
-		REPO proxyInstance = (REPO) Proxy.newProxyInstance(this.getClass().getClassLoader(),
-				this.getClass().getInterfaces(), new DynamicInvocationHandler<>(this, null, null, scope));
-		return proxyInstance;
+		return (REPO) DynamicInvocationHandler.proxy(this, null, null, scope);
 	}
 
 	/**
@@ -70,9 +65,7 @@ public interface DynamicProxyable<REPO> {
 	 */
 	@SuppressWarnings("unchecked")
 	default REPO withCollection(String collection) {
-		REPO proxyInstance = (REPO) Proxy.newProxyInstance(this.getClass().getClassLoader(),
-				this.getClass().getInterfaces(), new DynamicInvocationHandler<>(this, null, collection, null));
-		return proxyInstance;
+		return (REPO) DynamicInvocationHandler.proxy(this, null, collection, null);
 	}
 
 }
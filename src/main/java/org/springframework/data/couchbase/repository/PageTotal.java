@@ -0,0 +1,64 @@
+/*
+ * Copyright 2022 the original author or authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.couchbase.repository;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Page Total Annotation. Selects how the total of a {@link org.springframework.data.domain.Page} returned from a
+ * repository method is computed. May be placed on the method, the repository or the entity.
+ *
+ * @since 4.4
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ ElementType.METHOD, ElementType.ANNOTATION_TYPE, ElementType.TYPE })
+@Documented
+public @interface PageTotal {
+
+	/**
+	 * Specifies how the total is computed.
+	 *
+	 * @return the strategy, defaults to a separate count query.
+	 */
+	Strategy value() default Strategy.COUNT_QUERY;
+
+	/**
+	 * How long a total computed with {@link Strategy#CACHED} may be reused.
+	 *
+	 * @return the expiry in milliseconds, defaults to one minute.
+	 */
+	long cacheExpiryMs() default 60000;
+
+	enum Strategy {
+		/**
+		 * Run a separate count query, unless the total can be derived from the page itself.
+		 */
+		COUNT_QUERY,
+		/**
+		 * Project the total into the page rows with COUNT(*) OVER(), so a page costs a single query.
+		 */
+		WINDOWED,
+		/**
+		 * Reuse the total of an earlier count query for {@link PageTotal#cacheExpiryMs()}. The total may be stale, but for
+		 * very large collections a page costs a single query without counting on the server.
+		 */
+		CACHED
+	}
+}
@@ -21,6 +21,7 @@ import org.springframework.data.couchbase.core.ExecutableFindByQueryOperation.Ex
 import org.springframework.data.couchbase.core.ExecutableFindByQueryOperation.TerminatingFindByQuery;
 import org.springframework.data.couchbase.core.query.Query;
 import org.springframework.data.couchbase.repository.query.CouchbaseQueryExecution.DeleteExecution;
+import org.springframework.data.couchbase.repository.query.CouchbaseQueryExecution.IteratorExecution;
 import org.springframework.data.couchbase.repository.query.CouchbaseQueryExecution.PagedExecution;
 import org.springframework.data.couchbase.repository.query.CouchbaseQueryExecution.SlicedExecution;
 import org.springframework.data.repository.core.EntityMetadata;
@@ -122,12 +123,14 @@ public abstract class AbstractCouchbaseQuery extends AbstractCouchbaseQueryBase<
 			return (q, t, r, c) -> operation.as(r).matching(q.with(accessor.getPageable())).all();
 		} else if (getQueryMethod().isStreamQuery()) {
 			return (q, t, r, c) -> operation.as(r).matching(q.with(accessor.getPageable())).stream();
+		} else if (getQueryMethod().isIteratorQuery()) {
+			return new IteratorExecution(operation, accessor.getPageable(), getQueryMethod().getIteratorElementType());
 		} else if (isCountQuery()) {
 			return (q, t, r, c) -> operation.as(r).matching(q).count();
 		} else if (isExistsQuery()) {
 			return (q, t, r, c) -> operation.as(r).matching(q).exists();
 		} else if (getQueryMethod().isPageQuery()) {
-			return new PagedExecution(operation, accessor.getPageable());
+			return new PagedExecution(operation, accessor.getPageable(), getQueryMethod().getPageTotalAnnotation());
 		} else if (getQueryMethod().isSliceQuery()) {
 			return new SlicedExecution(operation, accessor.getPageable());
 		} else {
@@ -114,11 +114,12 @@ public abstract class AbstractCouchbaseQueryBase<CouchbaseOperationsType> implem
 	}
 
 	private Object executeDeferred(Object[] parameters) {
-		ReactiveCouchbaseParameterAccessor parameterAccessor = new ReactiveCouchbaseParameterAccessor(method, parameters);
+		Mono<ReactiveCouchbaseParameterAccessor> parameterAccessor = new ReactiveCouchbaseParameterAccessor(method,
+				parameters).resolveParameters();
 		if (getQueryMethod().isCollectionQuery()) {
-			return Flux.defer(() -> (Publisher<Object>) execute(parameterAccessor));
+			return parameterAccessor.flatMapMany(accessor -> (Publisher<Object>) execute(accessor));
 		}
-		return Mono.defer(() -> (Mono<Object>) execute(parameterAccessor));
+		return parameterAccessor.flatMap(accessor -> (Mono<Object>) execute(accessor));
 	}
 
 	private Object execute(ParametersParameterAccessor parameterAccessor) {
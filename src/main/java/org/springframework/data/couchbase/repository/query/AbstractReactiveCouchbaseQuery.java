@@ -15,6 +15,8 @@
  */
 package org.springframework.data.couchbase.repository.query;
 
+import reactor.core.publisher.Mono;
+
 import org.springframework.core.convert.converter.Converter;
 import org.springframework.data.couchbase.core.ReactiveCouchbaseOperations;
 import org.springframework.data.couchbase.core.ReactiveFindByQueryOperation;
@@ -22,6 +24,7 @@ import org.springframework.data.couchbase.core.ReactiveFindByQueryOperation.Reac
 import org.springframework.data.couchbase.core.query.Query;
 import org.springframework.data.couchbase.repository.query.ReactiveCouchbaseQueryExecution.DeleteExecution;
 import org.springframework.data.couchbase.repository.query.ReactiveCouchbaseQueryExecution.ResultProcessingExecution;
+import org.springframework.data.couchbase.repository.query.ReactiveCouchbaseQueryExecution.SlicedExecution;
 import org.springframework.data.repository.core.EntityMetadata;
 import org.springframework.data.repository.query.ParameterAccessor;
 import org.springframework.data.repository.query.ParametersParameterAccessor;
@@ -99,7 +102,12 @@ public abstract class AbstractReactiveCouchbaseQuery extends AbstractCouchbaseQu
 	 */
 	private ReactiveCouchbaseQueryExecution getExecution(ParameterAccessor accessor,
 			Converter<Object, Object> resultProcessing, ReactiveFindByQuery<?> operation) {
-		return new ResultProcessingExecution(getExecutionToWrap(accessor, operation), resultProcessing);
+		ReactiveCouchbaseQueryExecution execution = getExecutionToWrap(accessor, operation);
+		if (getQueryMethod().isSliceQuery()) {
+			// the result processing applies to the Slice, not to the Mono holding it
+			return (q, t, r, c) -> ((Mono<?>) execution.execute(q, t, r, c)).map(resultProcessing::convert);
+		}
+		return new ResultProcessingExecution(execution, resultProcessing);
 	}
 
 	/**
@@ -125,6 +133,8 @@ public abstract class AbstractReactiveCouchbaseQuery extends AbstractCouchbaseQu
 			return (q, t, r, c) -> operation.as(r).matching(q).count();
 		} else if (isExistsQuery()) {
 			return (q, t, r, c) -> operation.as(r).matching(q).exists();
+		} else if (getQueryMethod().isSliceQuery()) {
+			return new SlicedExecution(operation, accessor.getPageable());
 		} else {
 			return (q, t, r, c) -> {
 				ReactiveFindByQueryOperation.TerminatingFindByQuery<?> find = operation.as(r).matching(q);
@@ -15,18 +15,25 @@
  */
 package org.springframework.data.couchbase.repository.query;
 
+import java.time.Duration;
+import java.util.Iterator;
 import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.stream.Stream;
 
 import org.springframework.core.convert.converter.Converter;
 import org.springframework.data.couchbase.core.CouchbaseOperations;
 import org.springframework.data.couchbase.core.ExecutableFindByQueryOperation.ExecutableFindByQuery;
 import org.springframework.data.couchbase.core.ExecutableFindByQueryOperation.TerminatingFindByQuery;
 import org.springframework.data.couchbase.core.query.Query;
-import org.springframework.data.domain.PageImpl;
+import org.springframework.data.couchbase.repository.PageTotal;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.SliceImpl;
 import org.springframework.data.repository.query.QueryMethod;
+import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.data.util.CloseableIterator;
+import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
 
 /**
@@ -112,12 +119,100 @@ interface CouchbaseQueryExecution {
 		public Object execute(Query query, Class<?> type, Class<?> returnType, String collection) {
 			int overallLimit = 0; // query.getLimit();
 			TerminatingFindByQuery<?> matching = operation.as(returnType).matching(query);
+			// fetch one more than the slice holds, to know if there is a next slice
+			if (pageable.isPaged()) {
+				query.limit(pageable.getPageSize() + 1);
+			}
 			// Adjust limit if page would exceed the overall limit
 			if (overallLimit != 0 && pageable.getOffset() + pageable.getPageSize() > overallLimit) {
 				query.limit((int) (overallLimit - pageable.getOffset()));
 			}
 			List<?> results = matching.all();
-			return new SliceImpl(results, pageable, results != null && !results.isEmpty());
+			return toSlice(results, pageable);
+		}
+
+		/**
+		 * Trim the look-ahead element from results fetched with a limit of page size + 1.
+		 *
+		 * @param results fetched with a limit of page size + 1
+		 * @param pageable of the slice
+		 * @return the slice, which has a next slice if the look-ahead element was found
+		 */
+		@SuppressWarnings({ "unchecked", "rawtypes" })
+		static Slice<?> toSlice(List<?> results, Pageable pageable) {
+			if (pageable.isUnpaged()) {
+				return new SliceImpl(results, pageable, false);
+			}
+			boolean hasNext = results.size() > pageable.getPageSize();
+			return new SliceImpl(hasNext ? results.subList(0, pageable.getPageSize()) : results, pageable, hasNext);
+		}
+	}
+
+	/**
+	 * {@link CouchbaseQueryExecution} for {@link Iterator} query methods. The rows are fetched as the iterator is
+	 * consumed, the iterator is a {@link CloseableIterator} that cancels the query when it is closed or exhausted.
+	 */
+	final class IteratorExecution implements CouchbaseQueryExecution {
+
+		private final ExecutableFindByQuery<?> operation;
+		private final Pageable pageable;
+		private final Class<?> elementType;
+
+		public IteratorExecution(ExecutableFindByQuery<?> operation, Pageable pageable, Class<?> elementType) {
+			Assert.notNull(operation, "Find must not be null!");
+			Assert.notNull(pageable, "Pageable must not be null!");
+			Assert.notNull(elementType, "Element type must not be null!");
+			this.operation = operation;
+			this.pageable = pageable;
+			this.elementType = elementType;
+		}
+
+		@Override
+		public Object execute(Query query, Class<?> type, Class<?> returnType, String collection) {
+			return new StreamIterator<>(operation.as(elementType).matching(query.with(pageable)).stream());
+		}
+	}
+
+	/**
+	 * A {@link CloseableIterator} over a {@link Stream}, closing the stream once the last element has been returned.
+	 */
+	final class StreamIterator<T> implements CloseableIterator<T> {
+
+		private final Stream<T> stream;
+		private final Iterator<T> delegate;
+		private boolean closed;
+
+		StreamIterator(Stream<T> stream) {
+			this.stream = stream;
+			this.delegate = stream.iterator();
+		}
+
+		@Override
+		public boolean hasNext() {
+			if (closed) {
+				return false;
+			}
+			if (!delegate.hasNext()) {
+				close();
+				return false;
+			}
+			return true;
+		}
+
+		@Override
+		public T next() {
+			if (!hasNext()) {
+				throw new NoSuchElementException();
+			}
+			return delegate.next();
+		}
+
+		@Override
+		public void close() {
+			if (!closed) {
+				closed = true;
+				stream.close();
+			}
 		}
 	}
 
@@ -128,12 +223,18 @@ interface CouchbaseQueryExecution {
 
 		private final ExecutableFindByQuery<?> operation;
 		private final Pageable pageable;
+		private final PageTotal pageTotal;
 
 		public PagedExecution(ExecutableFindByQuery<?> operation, Pageable pageable) {
+			this(operation, pageable, null);
+		}
+
+		public PagedExecution(ExecutableFindByQuery<?> operation, Pageable pageable, @Nullable PageTotal pageTotal) {
 			Assert.notNull(operation, "Operation must not be null!");
 			Assert.notNull(pageable, "Pageable must not be null!");
 			this.operation = operation;
 			this.pageable = pageable;
+			this.pageTotal = pageTotal;
 		}
 
 		/*
@@ -149,12 +250,20 @@ interface CouchbaseQueryExecution {
 				query.limit((int) (overallLimit - pageable.getOffset()));
 			}
 
-			List<?> result = matching.all(); // this needs to be done before count, as count clears the skip and limit
+			PageTotal.Strategy strategy = pageTotal != null ? pageTotal.value() : PageTotal.Strategy.COUNT_QUERY;
+			if (strategy == PageTotal.Strategy.WINDOWED) {
+				return matching.page(pageable);
+			} else if (strategy == PageTotal.Strategy.CACHED) {
+				return matching.page(pageable, Duration.ofMillis(pageTotal.cacheExpiryMs()));
+			}
 
-			long count = operation.matching(query.skip(-1).limit(-1).withoutSort()).count();
-			count = overallLimit != 0 ? Math.min(count, overallLimit) : count;
+			List<?> result = matching.all(); // this needs to be done before count, as count clears the skip and limit
 
-			return new PageImpl(result, pageable, count);
+			// the count query is only needed if the total cannot be derived from the page
+			return PageableExecutionUtils.getPage(result, pageable, () -> {
+				long count = operation.matching(query.skip(-1).limit(-1).withoutSort()).count();
+				return overallLimit != 0 ? Math.min(count, overallLimit) : count;
+			});
 		}
 	}
 
@@ -19,17 +19,21 @@ package org.springframework.data.couchbase.repository.query;
 import java.lang.annotation.Annotation;
 import java.lang.reflect.AnnotatedElement;
 import java.lang.reflect.Method;
+import java.util.Iterator;
 import java.util.Locale;
 
+import org.springframework.core.ResolvableType;
 import org.springframework.core.annotation.AnnotatedElementUtils;
 import org.springframework.core.annotation.AnnotationUtils;
 import org.springframework.data.couchbase.core.mapping.CouchbasePersistentEntity;
 import org.springframework.data.couchbase.core.mapping.CouchbasePersistentProperty;
 import org.springframework.data.couchbase.core.query.Dimensional;
+import org.springframework.data.couchbase.core.query.Meta;
 import org.springframework.data.couchbase.core.query.OptionsBuilder;
 import org.springframework.data.couchbase.core.query.View;
 import org.springframework.data.couchbase.core.query.WithConsistency;
 import org.springframework.data.couchbase.repository.Collection;
+import org.springframework.data.couchbase.repository.PageTotal;
 import org.springframework.data.couchbase.repository.Query;
 import org.springframework.data.couchbase.repository.ScanConsistency;
 import org.springframework.data.couchbase.repository.Scope;
@@ -57,11 +61,44 @@ public class CouchbaseQueryMethod extends QueryMethod {
 	private final Method method;
 	private final RepositoryMetadata repositoryMetadata;
 
+	// resolved once - the annotations are looked up on the method, the repository and the entity
+	private final ScanConsistency scanConsistency;
+	private final PageTotal pageTotal;
+	private final String scope;
+	private final String collection;
+	private final String metricsName;
+	private final boolean countQuery;
+	private final boolean existsQuery;
+	private final boolean deleteQuery;
+	private final Class<?> iteratorElementType;
+	private final Meta meta;
+
 	public CouchbaseQueryMethod(Method method, RepositoryMetadata metadata, ProjectionFactory factory,
 			MappingContext<? extends CouchbasePersistentEntity<?>, CouchbasePersistentProperty> mappingContext) {
 		super(method, metadata, factory);
 		this.method = method;
 		this.repositoryMetadata = metadata;
+
+		// Try the repository method, then the repository class, then the entity class
+		AnnotatedElement[] annotated = new AnnotatedElement[] { method, method.getDeclaringClass(),
+				metadata.getRepositoryInterface(), metadata.getDomainType() };
+		this.scanConsistency = OptionsBuilder.annotation(ScanConsistency.class, "query",
+				CollectionIdentifier.DEFAULT_COLLECTION, annotated);
+		this.pageTotal = OptionsBuilder.annotation(PageTotal.class, "value", null, annotated);
+		this.scope = OptionsBuilder.annotationString(Scope.class, CollectionIdentifier.DEFAULT_SCOPE, annotated);
+		this.collection = OptionsBuilder.annotationString(Collection.class, CollectionIdentifier.DEFAULT_COLLECTION,
+				annotated);
+		this.metricsName = metadata.getRepositoryInterface().getSimpleName() + "." + getName();
+
+		String name = getName().toLowerCase(Locale.ROOT);
+		this.countQuery = name.startsWith("count");
+		this.existsQuery = name.startsWith("exists");
+		this.deleteQuery = name.startsWith("delete");
+		this.iteratorElementType = Iterator.class.isAssignableFrom(method.getReturnType())
+				? resolveIteratorElementType(method, metadata.getDomainType())
+				: null;
+
+		this.meta = OptionsBuilder.buildMeta(this, metadata.getDomainType()).unmodifiable();
 	}
 
 	/**
@@ -181,10 +218,16 @@ public class CouchbaseQueryMethod extends QueryMethod {
 	 * @return the @ScanConsistency annotation
 	 */
 	public ScanConsistency getScanConsistencyAnnotation() {
-		AnnotatedElement[] annotated = new AnnotatedElement[] { method, method.getDeclaringClass(),
-				repositoryMetadata.getRepositoryInterface(), repositoryMetadata.getDomainType() };
-		return OptionsBuilder.annotation(ScanConsistency.class, "query", CollectionIdentifier.DEFAULT_COLLECTION,
-				annotated);
+		return scanConsistency;
+	}
+
+	/**
+	 * PageTotal annotation
+	 *
+	 * @return the @PageTotal annotation from the method, repository or entity, null if there is none
+	 */
+	public PageTotal getPageTotalAnnotation() {
+		return pageTotal;
 	}
 
 	/**
@@ -240,7 +283,7 @@ public class CouchbaseQueryMethod extends QueryMethod {
 	 * @return is this a 'delete'?
 	 */
 	public boolean isDeleteQuery() {
-		return getName().toLowerCase(Locale.ROOT).startsWith("delete");
+		return deleteQuery;
 	}
 
 	/**
@@ -249,7 +292,7 @@ public class CouchbaseQueryMethod extends QueryMethod {
 	 * @return is this an 'exists' query?
 	 */
 	public boolean isExistsQuery() {
-		return getName().toLowerCase(Locale.ROOT).startsWith("exists");
+		return existsQuery;
 	}
 
 	/**
@@ -259,7 +302,52 @@ public class CouchbaseQueryMethod extends QueryMethod {
 	 *         all().
 	 */
 	public boolean isCountQuery() {
-		return getName().toLowerCase(Locale.ROOT).startsWith("count");
+		return countQuery;
+	}
+
+	/**
+	 * is this a query returning an {@link Iterator}? The results are fetched as the iterator is consumed, like those of
+	 * a {@link java.util.stream.Stream}.
+	 *
+	 * @return true if the method returns an {@link Iterator}.
+	 */
+	public boolean isIteratorQuery() {
+		return iteratorElementType != null;
+	}
+
+	/**
+	 * The type of the elements of the {@link Iterator} returned by the method.
+	 *
+	 * @return the element type, the domain type if the iterator is not parameterized, null if the method does not return
+	 *         an iterator.
+	 */
+	public Class<?> getIteratorElementType() {
+		return iteratorElementType;
+	}
+
+	private static Class<?> resolveIteratorElementType(Method method, Class<?> domainType) {
+		Class<?> elementType = ResolvableType.forMethodReturnType(method).as(Iterator.class).resolveGeneric(0);
+		return elementType != null ? elementType : domainType;
+	}
+
+	/**
+	 * The name the queries of this method are recorded with in the query metrics and the slow query log.
+	 *
+	 * @return the simple name of the repository interface and the name of the method, such as
+	 *         {@code UserRepository.findByLastname}.
+	 */
+	public String getMetricsName() {
+		return metricsName;
+	}
+
+	/**
+	 * The {@link Meta} applied to every query of this method. It is built once and shared by all queries, so it is
+	 * unmodifiable.
+	 *
+	 * @return the unmodifiable meta with the scan consistency and the metrics name of this method.
+	 */
+	public Meta getMeta() {
+		return meta;
 	}
 
 	@Override
@@ -277,17 +365,11 @@ public class CouchbaseQueryMethod extends QueryMethod {
 	}
 
 	public String getCollection() {
-		// Try the repository method, then the repository class, then the entity class
-		AnnotatedElement[] annotated = new AnnotatedElement[] { method, method.getDeclaringClass(),
-				repositoryMetadata.getRepositoryInterface(), repositoryMetadata.getDomainType() };
-		return OptionsBuilder.annotationString(Collection.class, CollectionIdentifier.DEFAULT_COLLECTION, annotated);
+		return collection;
 	}
 
 	public String getScope() {
-		// Try the repository method, then the repository class, then the entity class
-		AnnotatedElement[] annotated = new AnnotatedElement[] { method, method.getDeclaringClass(),
-				repositoryMetadata.getRepositoryInterface(), repositoryMetadata.getDomainType() };
-		return OptionsBuilder.annotationString(Scope.class, CollectionIdentifier.DEFAULT_SCOPE, annotated);
+		return scope;
 	}
 
 }
@@ -71,6 +71,7 @@ public class N1qlRepositoryQueryExecutor {
 			final PartTree tree = new PartTree(queryMethod.getName(), domainClass);
 			query = new N1qlQueryCreator(tree, accessor, queryMethod, operations.getConverter(), operations.getBucketName()).createQuery();
 		}
+		query.setMeta(queryMethod, domainClass);
 
 		ExecutableFindByQuery<?> operation = (ExecutableFindByQuery<?>) operations
 				.findByQuery(domainClass).withConsistency(buildQueryScanConsistency());
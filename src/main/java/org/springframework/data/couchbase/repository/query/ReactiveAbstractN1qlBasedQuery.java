@@ -57,14 +57,18 @@ public abstract class ReactiveAbstractN1qlBasedQuery implements RepositoryQuery
 
 	@Override
 	public Object execute(Object[] parameters) {
-		ReactiveCouchbaseParameterAccessor accessor = new ReactiveCouchbaseParameterAccessor(queryMethod, parameters);
+		return new ReactiveCouchbaseParameterAccessor(queryMethod, parameters).resolveParameters()
+				.flatMapMany(this::execute);
+	}
+
+	private Flux<?> execute(ReactiveCouchbaseParameterAccessor accessor) {
 		ResultProcessor processor = this.queryMethod.getResultProcessor().withDynamicProjection(accessor);
 		ReturnedType returnedType = processor.getReturnedType();
 
 		Class<?> typeToRead = returnedType.getTypeToRead();
 		typeToRead = typeToRead == null ? returnedType.getDomainType() : typeToRead;
 
-		N1QLExpression expression = getExpression(accessor, parameters, returnedType);
+		N1QLExpression expression = getExpression(accessor, accessor.getArguments(), returnedType);
 		JsonValue queryPlaceholderValues = getPlaceholderValues(accessor);
 
 		// prepare the final query
@@ -17,18 +17,19 @@ package org.springframework.data.couchbase.repository.query;
 
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
-import reactor.core.publisher.MonoProcessor;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
 
 import org.springframework.data.repository.query.ParametersParameterAccessor;
 import org.springframework.data.repository.util.ReactiveWrapperConverters;
 import org.springframework.data.repository.util.ReactiveWrappers;
 
 /**
- * Reactive {@link org.springframework.data.repository.query.ParametersParameterAccessor} implementation that subscribes
- * to reactive parameter wrapper types upon creation. This class performs synchronization when accessing parameters.
+ * Reactive {@link org.springframework.data.repository.query.ParametersParameterAccessor} implementation for reactive
+ * parameter wrapper types. The wrapped values are only available from the accessor emitted by
+ * {@link #resolveParameters()}, which subscribes to the wrappers without blocking.
  *
  * @author Subhashni Balakrishnan
  * @author Mark Paluch
@@ -36,41 +37,61 @@ import org.springframework.data.repository.util.ReactiveWrappers;
  */
 public class ReactiveCouchbaseParameterAccessor extends ParametersParameterAccessor {
 
-	private final List<MonoProcessor<?>> subscriptions;
+	private final CouchbaseQueryMethod method;
+	private final Object[] values;
 
 	public ReactiveCouchbaseParameterAccessor(CouchbaseQueryMethod method, Object[] values) {
 		super(method.getParameters(), values);
-		this.subscriptions = new ArrayList<>(values.length);
+		this.method = method;
+		this.values = values;
+	}
+
+	/**
+	 * Resolve the reactive parameter wrappers, subscribing to all of them at once. Single value wrappers resolve to their
+	 * value or {@literal null}, multi value wrappers to the {@link List} of their values.
+	 *
+	 * @return an accessor of the resolved values, or this accessor if there are no reactive parameter wrappers.
+	 * @since 4.4
+	 */
+	public Mono<ReactiveCouchbaseParameterAccessor> resolveParameters() {
+		List<Integer> indexes = new ArrayList<>();
+		List<Mono<Optional<?>>> resolutions = new ArrayList<>();
 
 		for (int i = 0; i < values.length; i++) {
 
 			Object value = values[i];
 
 			if (value == null || !ReactiveWrappers.supports(value.getClass())) {
-				subscriptions.add(null);
 				continue;
 			}
 
+			indexes.add(i);
 			if (ReactiveWrappers.isSingleValueType(value.getClass())) {
-				subscriptions.add(ReactiveWrapperConverters.toWrapper(value, Mono.class).toProcessor());
+				resolutions.add(ReactiveWrapperConverters.toWrapper(value, Mono.class).<Optional<?>> map(Optional::of)
+						.defaultIfEmpty(Optional.empty()));
 			} else {
-				subscriptions.add(ReactiveWrapperConverters.toWrapper(value, Flux.class).collectList().toProcessor());
+				resolutions.add(ReactiveWrapperConverters.toWrapper(value, Flux.class).collectList().map(Optional::of));
 			}
 		}
-	}
 
-	/* (non-Javadoc)
-	 * @see org.springframework.data.repository.query.ParametersParameterAccessor#getValue(int)
-	 */
-	@SuppressWarnings("unchecked")
-	@Override
-	protected <T> T getValue(int index) {
-
-		if (subscriptions.get(index) != null) {
-			return (T) subscriptions.get(index).block();
+		if (resolutions.isEmpty()) {
+			return Mono.just(this);
 		}
 
-		return super.getValue(index);
+		return Mono.zip(resolutions, resolved -> {
+			Object[] resolvedValues = values.clone();
+			for (int i = 0; i < resolved.length; i++) {
+				resolvedValues[indexes.get(i)] = ((Optional<?>) resolved[i]).orElse(null);
+			}
+			return new ReactiveCouchbaseParameterAccessor(method, resolvedValues);
+		});
+	}
+
+	/**
+	 * @return the method arguments, resolved if this accessor was emitted by {@link #resolveParameters()}.
+	 */
+	Object[] getArguments() {
+		return values;
 	}
 
 	/* (non-Javadoc)
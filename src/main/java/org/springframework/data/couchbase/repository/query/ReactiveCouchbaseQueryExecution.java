@@ -17,7 +17,10 @@ package org.springframework.data.couchbase.repository.query;
 
 import org.springframework.core.convert.converter.Converter;
 import org.springframework.data.couchbase.core.ReactiveCouchbaseOperations;
+import org.springframework.data.couchbase.core.ReactiveFindByQueryOperation.ReactiveFindByQuery;
 import org.springframework.data.couchbase.core.query.Query;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.util.Assert;
 
 /**
@@ -58,6 +61,32 @@ interface ReactiveCouchbaseQueryExecution {
 
 	}
 
+	/**
+	 * {@link ReactiveCouchbaseQueryExecution} for {@link Slice} query methods. Fetches one element more than the slice
+	 * holds to determine if there is a next slice.
+	 */
+	final class SlicedExecution implements ReactiveCouchbaseQueryExecution {
+
+		private final ReactiveFindByQuery<?> operation;
+		private final Pageable pageable;
+
+		public SlicedExecution(ReactiveFindByQuery<?> operation, Pageable pageable) {
+			Assert.notNull(operation, "Find must not be null!");
+			Assert.notNull(pageable, "Pageable must not be null!");
+			this.operation = operation;
+			this.pageable = pageable;
+		}
+
+		@Override
+		public Object execute(Query query, Class<?> type, Class<?> returnType, String collection) {
+			if (pageable.isPaged()) {
+				query.limit(pageable.getPageSize() + 1);
+			}
+			return operation.as(returnType).matching(query).all().collectList()
+					.map(results -> CouchbaseQueryExecution.SlicedExecution.toSlice(results, pageable));
+		}
+	}
+
 	/**
 	 * An {@link ReactiveCouchbaseQueryExecution} that wraps the results of the given delegate with the given result
 	 * processing.
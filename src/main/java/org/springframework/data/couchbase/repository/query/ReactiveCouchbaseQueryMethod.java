@@ -67,17 +67,19 @@ public class ReactiveCouchbaseQueryMethod extends CouchbaseQueryMethod {
 			TypeInformation<?> returnType = ClassTypeInformation.fromReturnTypeOf(method);
 
 			boolean multiWrapper = ReactiveWrappers.isMultiValueType(returnType.getType());
-			boolean singleWrapperWithWrappedPageableResult = ReactiveWrappers.isSingleValueType(returnType.getType())
-					&& (PAGE_TYPE.isAssignableFrom(returnType.getRequiredComponentType())
-							|| SLICE_TYPE.isAssignableFrom(returnType.getRequiredComponentType()));
-
-			if (singleWrapperWithWrappedPageableResult) {
-				throw new InvalidDataAccessApiUsageException(
-						String.format("'%s.%s' must not use sliced or paged execution. Please use Flux.buffer(size, skip).",
-								ClassUtils.getShortName(method.getDeclaringClass()), method.getName()));
+			boolean singleWrapper = ReactiveWrappers.isSingleValueType(returnType.getType());
+			boolean singleWrapperWithWrappedPageResult = singleWrapper
+					&& PAGE_TYPE.isAssignableFrom(returnType.getRequiredComponentType());
+			boolean singleWrapperWithWrappedSliceResult = singleWrapper && !singleWrapperWithWrappedPageResult
+					&& SLICE_TYPE.isAssignableFrom(returnType.getRequiredComponentType());
+
+			if (singleWrapperWithWrappedPageResult) {
+				throw new InvalidDataAccessApiUsageException(String.format(
+						"'%s.%s' must not use paged execution. Please use Mono<Slice> or Flux.buffer(size, skip).",
+						ClassUtils.getShortName(method.getDeclaringClass()), method.getName()));
 			}
 
-			if (!multiWrapper) {
+			if (!multiWrapper && !singleWrapperWithWrappedSliceResult) {
 				throw new IllegalStateException(String.format(
 						"Method has to use a either multi-item reactive wrapper return type or a wrapped Page/Slice type. Offending method: %s",
 						method.toString()));
@@ -26,6 +26,7 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -46,9 +47,11 @@ import org.springframework.data.repository.query.ParameterAccessor;
 import org.springframework.data.repository.query.QueryMethodEvaluationContextProvider;
 import org.springframework.data.repository.query.ReturnedType;
 import org.springframework.expression.EvaluationContext;
+import org.springframework.expression.Expression;
 import org.springframework.expression.common.TemplateParserContext;
 import org.springframework.expression.spel.standard.SpelExpressionParser;
 import org.springframework.util.Assert;
+import org.springframework.util.ConcurrentReferenceHashMap;
 
 import com.couchbase.client.core.error.CouchbaseException;
 import com.couchbase.client.core.error.InvalidArgumentException;
@@ -114,6 +117,10 @@ public class StringBasedN1qlQueryParser {
 	 */
 	public static final Pattern QUOTE_DETECTION_PATTERN = Pattern.compile("[\"'](?:[^\"'\\\\]*(?:\\\\.)?)*[\"']");
 	private static final Logger LOGGER = LoggerFactory.getLogger(StringBasedN1qlQueryParser.class);
+	/**
+	 * the parsed templates of the statements, they only depend on the statement and are shared by all invocations
+	 */
+	private static final Map<String, Expression> TEMPLATES = new ConcurrentReferenceHashMap<>();
 	private final String statement;
 	private final CouchbaseQueryMethod queryMethod;
 	private PlaceholderType placeHolderType;
@@ -271,8 +278,8 @@ public class StringBasedN1qlQueryParser {
 	// this static method can be used to test the parsing behavior for Couchbase specific spel variables
 	// in isolation from the rest of the spel parser initialization chain.
 	public String doParse(SpelExpressionParser parser, EvaluationContext evaluationContext, boolean isCountQuery) {
-		org.springframework.expression.Expression parsedExpression = parser.parseExpression(this.getStatement(),
-				new TemplateParserContext());
+		Expression parsedExpression = TEMPLATES.computeIfAbsent(this.getStatement(),
+				statement -> parser.parseExpression(statement, new TemplateParserContext()));
 		if (isCountQuery) {
 			evaluationContext.setVariable(SPEL_PREFIX, this.getCountContext());
 		} else {
@@ -20,6 +20,7 @@ import java.lang.reflect.AnnotatedElement;
 
 import org.springframework.data.couchbase.core.query.OptionsBuilder;
 import org.springframework.data.couchbase.repository.Collection;
+import org.springframework.data.couchbase.repository.PageTotal;
 import org.springframework.data.couchbase.repository.ScanConsistency;
 import org.springframework.data.couchbase.repository.Scope;
 import org.springframework.data.couchbase.repository.query.CouchbaseEntityInformation;
@@ -112,6 +113,22 @@ public class CouchbaseRepositoryBase<T, ID> {
 		return OptionsBuilder.fromFirst(QueryScanConsistency.NOT_BOUNDED, fromMeta, fromAnnotation);
 	}
 
+	/**
+	 * Get the PageTotal from <br>
+	 * 1. The method annotation (via crudMethodMetadata)<br>
+	 * 2. The repository<br>
+	 * 3. The entity<br>
+	 * 4. otherwise null (use a count query)<br>
+	 */
+	PageTotal getPageTotal() {
+		PageTotal fromMeta = crudMethodMetadata.getPageTotal();
+		if (fromMeta != null) {
+			return fromMeta;
+		}
+		return OptionsBuilder.annotation(PageTotal.class, "value", null,
+				new AnnotatedElement[] { repositoryInterface, getJavaType() });
+	}
+
 	/**
 	 * Setter for the repository metadata, contains annotations on the overidden methods.
 	 *
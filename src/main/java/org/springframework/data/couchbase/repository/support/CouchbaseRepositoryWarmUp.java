@@ -0,0 +1,309 @@
+/*
+ * Copyright 2022 the original author or authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.couchbase.repository.support;
+
+import java.lang.reflect.AnnotatedElement;
+import java.lang.reflect.Modifier;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Properties;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.BeanFactory;
+import org.springframework.beans.factory.BeanFactoryAware;
+import org.springframework.beans.factory.ListableBeanFactory;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.data.couchbase.CouchbaseClientFactory;
+import org.springframework.data.couchbase.core.CouchbaseOperations;
+import org.springframework.data.couchbase.core.CouchbaseTemplate;
+import org.springframework.data.couchbase.core.convert.CouchbaseConverter;
+import org.springframework.data.couchbase.core.mapping.CouchbaseDocument;
+import org.springframework.data.couchbase.core.mapping.CouchbasePersistentEntity;
+import org.springframework.data.couchbase.core.query.OptionsBuilder;
+import org.springframework.data.couchbase.core.query.Query;
+import org.springframework.data.couchbase.repository.Collection;
+import org.springframework.data.couchbase.repository.Scope;
+import org.springframework.data.couchbase.repository.config.RepositoryOperationsMapping;
+import org.springframework.data.couchbase.repository.query.CouchbasePartTree;
+import org.springframework.data.couchbase.repository.query.CouchbaseQueryMethod;
+import org.springframework.data.couchbase.repository.query.N1qlQueryCreator;
+import org.springframework.data.couchbase.repository.query.StringN1qlQueryCreator;
+import org.springframework.data.repository.core.RepositoryInformation;
+import org.springframework.data.repository.core.support.PropertiesBasedNamedQueries;
+import org.springframework.data.repository.query.ParametersParameterAccessor;
+import org.springframework.data.repository.query.QueryMethod;
+import org.springframework.data.repository.query.QueryMethodEvaluationContextProvider;
+import org.springframework.data.repository.query.ReturnedType;
+import org.springframework.data.repository.support.Repositories;
+import org.springframework.expression.spel.standard.SpelExpressionParser;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+import com.couchbase.client.core.io.CollectionIdentifier;
+import com.couchbase.client.java.kv.ExistsOptions;
+
+/**
+ * Warms up the Couchbase repositories when the application starts, so that the first requests do not pay for the work
+ * that is otherwise done lazily. Within a time budget it
+ * <ul>
+ * <li>opens the scopes and collections named by {@link Scope} and {@link Collection} annotations on the query
+ * methods, the repositories and the entities,</li>
+ * <li>primes the converter for the entities and the types returned by the query methods,</li>
+ * <li>builds the statements of the derived and {@link org.springframework.data.couchbase.repository.Query} methods,
+ * which caches the parsed templates of the string queries.</li>
+ * </ul>
+ * The statements are built without arguments, methods whose statement cannot be built that way are skipped. Failures
+ * are logged and never fail the startup. When the budget is exhausted the remaining work is skipped. The numbers of
+ * steps done, skipped and failed are available once the warm-up has run.
+ * <p>
+ * The warm-up runs as a {@link SmartLifecycle} once the context has been refreshed, in a phase before web servers are
+ * started. It is enabled in {@link org.springframework.data.couchbase.config.AbstractCouchbaseConfiguration} by
+ * overriding {@code warmUpBudget()}.
+ *
+ * @since 4.4
+ */
+public class CouchbaseRepositoryWarmUp implements SmartLifecycle, BeanFactoryAware {
+
+	/**
+	 * The phase of the warm-up, before the phase of web servers.
+	 */
+	public static final int DEFAULT_PHASE = SmartLifecycle.DEFAULT_PHASE - 1024;
+
+	private static final Logger LOG = LoggerFactory.getLogger(CouchbaseRepositoryWarmUp.class);
+	private static final String WARM_UP_ID = "spring-data-couchbase::warm-up";
+	private static final SpelExpressionParser SPEL_PARSER = new SpelExpressionParser();
+
+	private final RepositoryOperationsMapping operationsMapping;
+	private final Duration budget;
+	private ListableBeanFactory beanFactory;
+	private int phase = DEFAULT_PHASE;
+	private volatile boolean running;
+
+	private final Map<String, Runnable> collections = new LinkedHashMap<>();
+	private final Map<String, Runnable> types = new LinkedHashMap<>();
+	private final Map<String, Runnable> statements = new LinkedHashMap<>();
+	private long deadline;
+	private int done;
+	private int skipped;
+	private int failed;
+
+	/**
+	 * Create the warm-up of the repositories.
+	 *
+	 * @param operationsMapping the operations used by the repositories.
+	 * @param budget the maximum time the warm-up may take, null to not warm up.
+	 */
+	public CouchbaseRepositoryWarmUp(RepositoryOperationsMapping operationsMapping, @Nullable Duration budget) {
+		Assert.notNull(operationsMapping, "operationsMapping must not be null");
+		Assert.isTrue(budget == null || !(budget.isNegative() || budget.isZero()), "budget must be positive");
+		this.operationsMapping = operationsMapping;
+		this.budget = budget;
+	}
+
+	@Override
+	public void setBeanFactory(BeanFactory beanFactory) {
+		Assert.isInstanceOf(ListableBeanFactory.class, beanFactory, "the warm-up needs a ListableBeanFactory");
+		this.beanFactory = (ListableBeanFactory) beanFactory;
+	}
+
+	public void setPhase(int phase) {
+		this.phase = phase;
+	}
+
+	@Override
+	public boolean isAutoStartup() {
+		return budget != null;
+	}
+
+	@Override
+	public int getPhase() {
+		return phase;
+	}
+
+	/**
+	 * @return the number of steps of the last warm-up that completed.
+	 */
+	public synchronized int getDone() {
+		return done;
+	}
+
+	/**
+	 * @return the number of statements of the last warm-up that could not be built without arguments.
+	 */
+	public synchronized int getSkipped() {
+		return skipped;
+	}
+
+	/**
+	 * @return the number of steps of the last warm-up that failed.
+	 */
+	public synchronized int getFailed() {
+		return failed;
+	}
+
+	@Override
+	public boolean isRunning() {
+		return running;
+	}
+
+	@Override
+	public void stop() {
+		running = false;
+	}
+
+	@Override
+	public synchronized void start() {
+		if (running) {
+			return;
+		}
+		running = true;
+		if (budget == null) {
+			return;
+		}
+		Assert.state(beanFactory != null, "the bean factory has not been set");
+		long start = System.nanoTime();
+		deadline = start + budget.toNanos();
+		done = 0;
+		skipped = 0;
+		failed = 0;
+		collect(new Repositories(beanFactory));
+		int total = collections.size() + types.size() + statements.size();
+		boolean complete = run(collections, false) && run(types, false) && run(statements, true);
+		long elapsedMs = Duration.ofNanos(System.nanoTime() - start).toMillis();
+		if (complete) {
+			LOG.info("Couchbase repositories warmed up in {} ms: {} collections, {} types, {} statements, {} skipped,"
+					+ " {} failed", elapsedMs, collections.size(), types.size(), statements.size(), skipped, failed);
+		} else {
+			LOG.info("Couchbase repository warm-up stopped after its budget of {} ms, {} of {} steps done, {} skipped,"
+					+ " {} failed", budget.toMillis(), done, total, skipped, failed);
+		}
+		collections.clear();
+		types.clear();
+		statements.clear();
+	}
+
+	private void collect(Repositories repositories) {
+		for (Class<?> domainType : repositories) {
+			Optional<RepositoryInformation> information = repositories.getRepositoryInformationFor(domainType);
+			if (!information.isPresent()
+					|| !(repositories.getPersistentEntity(domainType) instanceof CouchbasePersistentEntity)) {
+				continue;
+			}
+			repositories.getRepositoryFor(domainType); // creates repositories that are initialized lazily
+			Class<?> repositoryInterface = information.get().getRepositoryInterface();
+			CouchbaseOperations operations = operationsMapping.resolve(repositoryInterface, domainType);
+
+			AnnotatedElement[] annotated = new AnnotatedElement[] { repositoryInterface, domainType };
+			addCollection(operations, OptionsBuilder.annotationString(Scope.class, CollectionIdentifier.DEFAULT_SCOPE,
+					annotated), OptionsBuilder.annotationString(Collection.class, CollectionIdentifier.DEFAULT_COLLECTION,
+							annotated));
+			addType(operations, domainType);
+
+			for (QueryMethod queryMethod : repositories.getQueryMethodsFor(domainType)) {
+				if (queryMethod instanceof CouchbaseQueryMethod) {
+					CouchbaseQueryMethod method = (CouchbaseQueryMethod) queryMethod;
+					addCollection(operations, method.getScope(), method.getCollection());
+					Class<?> typeToRead = method.getResultProcessor().getReturnedType().getTypeToRead();
+					if (typeToRead != null) {
+						addType(operations, typeToRead);
+					}
+					addStatement(operations, method);
+				}
+			}
+		}
+	}
+
+	private void addCollection(CouchbaseOperations operations, String scope, String collection) {
+		collections.putIfAbsent(operations.getBucketName() + "/" + scope + "/" + collection, () -> {
+			CouchbaseClientFactory clientFactory = operations.getCouchbaseClientFactory().withScope(scope);
+			clientFactory.getCollection(collection).exists(WARM_UP_ID, ExistsOptions.existsOptions().timeout(remaining()));
+		});
+	}
+
+	private void addType(CouchbaseOperations operations, Class<?> type) {
+		if (type.isInterface() || Modifier.isAbstract(type.getModifiers())
+				|| operations.getConverter().getMappingContext().getPersistentEntity(type) == null) {
+			return;
+		}
+		types.putIfAbsent(operations.getBucketName() + "/" + type.getName(), () -> {
+			// reading and writing a document generates the instantiators and property accessors of the entity
+			CouchbaseConverter converter = operations.getConverter();
+			Object entity = converter.read(type, new CouchbaseDocument(WARM_UP_ID));
+			converter.write(entity, new CouchbaseDocument());
+		});
+	}
+
+	private void addStatement(CouchbaseOperations operations, CouchbaseQueryMethod method) {
+		if (method.isDeleteQuery() || !(operations instanceof CouchbaseTemplate)
+				|| (method.hasN1qlAnnotation() && !method.hasInlineN1qlQuery())) {
+			return;
+		}
+		statements.putIfAbsent(operations.getBucketName() + "/" + method, () -> {
+			ReturnedType returnedType = method.getResultProcessor().getReturnedType();
+			ParametersParameterAccessor accessor = new ParametersParameterAccessor(method.getParameters(),
+					new Object[method.getParameters().getNumberOfParameters()]);
+			Query query;
+			if (method.hasInlineN1qlQuery()) {
+				query = new StringN1qlQueryCreator(accessor, method, operations.getConverter(), operations.getBucketName(),
+						SPEL_PARSER, QueryMethodEvaluationContextProvider.DEFAULT,
+						new PropertiesBasedNamedQueries(new Properties())).createQuery();
+			} else {
+				query = new N1qlQueryCreator(new CouchbasePartTree(method.getName(), returnedType.getDomainType()), accessor,
+						method, operations.getConverter(), operations.getBucketName()).createQuery();
+			}
+			Class<?> typeToRead = returnedType.getTypeToRead() != null ? returnedType.getTypeToRead()
+					: returnedType.getDomainType();
+			query.toN1qlSelectString(((CouchbaseTemplate) operations).reactive(), method.getCollection(),
+					returnedType.getDomainType(), typeToRead, method.isCountQuery(), null, null);
+		});
+	}
+
+	/**
+	 * Run the steps until the deadline.
+	 *
+	 * @param skipFailures whether a step that fails is skipped rather than failed, for the steps that may not be
+	 *          possible without the arguments of an invocation.
+	 * @return false if the deadline was reached before all steps ran.
+	 */
+	private boolean run(Map<String, Runnable> steps, boolean skipFailures) {
+		for (Map.Entry<String, Runnable> step : steps.entrySet()) {
+			if (remaining().isZero()) {
+				return false;
+			}
+			try {
+				step.getValue().run();
+				done++;
+			} catch (RuntimeException e) {
+				if (skipFailures) {
+					skipped++;
+					LOG.debug("warm-up of {} skipped: {}", step.getKey(), e.toString());
+				} else {
+					failed++;
+					LOG.debug("warm-up of {} failed: {}", step.getKey(), e.toString());
+				}
+			}
+		}
+		return true;
+	}
+
+	private Duration remaining() {
+		long remaining = deadline - System.nanoTime();
+		return remaining > 0 ? Duration.ofNanos(remaining) : Duration.ZERO;
+	}
+}
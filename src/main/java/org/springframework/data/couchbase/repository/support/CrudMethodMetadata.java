@@ -17,6 +17,7 @@ package org.springframework.data.couchbase.repository.support;
 
 import java.lang.reflect.Method;
 
+import org.springframework.data.couchbase.repository.PageTotal;
 import org.springframework.data.couchbase.repository.ScanConsistency;
 
 public interface CrudMethodMetadata {
@@ -31,6 +32,11 @@ public interface CrudMethodMetadata {
 	 */
 	ScanConsistency getScanConsistency();
 
+	/**
+	 * If present holds the page total annotation (null otherwise).
+	 */
+	PageTotal getPageTotal();
+
 	String getScope();
 
 	String getCollection();
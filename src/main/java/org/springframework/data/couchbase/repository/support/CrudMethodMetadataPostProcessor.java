@@ -30,6 +30,7 @@ import org.springframework.beans.factory.BeanClassLoaderAware;
 import org.springframework.core.NamedThreadLocal;
 import org.springframework.data.couchbase.core.query.OptionsBuilder;
 import org.springframework.data.couchbase.repository.Collection;
+import org.springframework.data.couchbase.repository.PageTotal;
 import org.springframework.data.couchbase.repository.ScanConsistency;
 import org.springframework.data.couchbase.repository.Scope;
 import org.springframework.data.repository.core.RepositoryInformation;
@@ -186,6 +187,7 @@ class CrudMethodMetadataPostProcessor implements RepositoryProxyPostProcessor, B
 
 		private final Method method;
 		private final ScanConsistency scanConsistency;
+		private final PageTotal pageTotal;
 		private final String scope;
 		private final String collection;
 
@@ -204,6 +206,7 @@ class CrudMethodMetadataPostProcessor implements RepositoryProxyPostProcessor, B
 			if (n.equals("getEntityInformation") || n.equals("getOperations") || n.equals("withOptions")
 					|| n.equals("withOptions") || n.equals("withScope")) {
 				this.scanConsistency = null;
+				this.pageTotal = null;
 				this.scope = null;
 				this.collection = null;
 				return;
@@ -212,6 +215,7 @@ class CrudMethodMetadataPostProcessor implements RepositoryProxyPostProcessor, B
 			AnnotatedElement[] annotated = new AnnotatedElement[] { method, method.getDeclaringClass()};
 			this.scanConsistency = OptionsBuilder.annotation(ScanConsistency.class, "query", QueryScanConsistency.NOT_BOUNDED,
 					annotated);
+			this.pageTotal = OptionsBuilder.annotation(PageTotal.class, "value", null, annotated);
 			this.scope = OptionsBuilder.annotationString(Scope.class, CollectionIdentifier.DEFAULT_SCOPE, annotated);
 			this.collection = OptionsBuilder.annotationString(Collection.class, CollectionIdentifier.DEFAULT_COLLECTION,
 					annotated);
@@ -231,6 +235,11 @@ class CrudMethodMetadataPostProcessor implements RepositoryProxyPostProcessor, B
 			return scanConsistency;
 		}
 
+		@Override
+		public PageTotal getPageTotal() {
+			return pageTotal;
+		}
+
 		@Override
 		public String getScope() {
 			return scope;
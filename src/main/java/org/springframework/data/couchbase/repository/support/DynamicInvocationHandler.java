@@ -15,18 +15,25 @@
  */
 package org.springframework.data.couchbase.repository.support;
 
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
 import java.lang.reflect.InvocationHandler;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.lang.reflect.Proxy;
 import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.springframework.data.couchbase.core.CouchbaseTemplate;
 import org.springframework.data.couchbase.core.ReactiveCouchbaseTemplate;
 import org.springframework.data.couchbase.core.support.PseudoArgs;
 import org.springframework.data.couchbase.repository.CouchbaseRepository;
 import org.springframework.data.couchbase.repository.ReactiveCouchbaseRepository;
-import org.springframework.data.couchbase.repository.query.CouchbaseEntityInformation;
+import org.springframework.util.ConcurrentReferenceHashMap;
+import org.springframework.util.ReflectionUtils;
 
 import com.couchbase.client.java.CommonOptions;
 
@@ -37,23 +44,27 @@ import com.couchbase.client.java.CommonOptions;
  * @author Michael Reiche
  */
 public class DynamicInvocationHandler<T> implements InvocationHandler {
+
+	// the proxies of a repository without options, by scope and collection - bounded, as scopes may be per tenant
+	static final int MAX_CACHED_PROXIES = 1000;
+	private static final Map<Object, ProxyCache> CACHES = new ConcurrentReferenceHashMap<>(16,
+			ConcurrentReferenceHashMap.ReferenceType.WEAK);
+
 	final T target;
 	final Class<?> repositoryClass;
-	// needed only to detect parameters of this type to look for methods with parameter of java.lang.Object
-	final CouchbaseEntityInformation<?, String> entityInformation;
 	final ReactiveCouchbaseTemplate reactiveTemplate;
 	CommonOptions<?> options;
 	String collection;
-	String scope;;
+	String scope;
+	final PseudoArgs<?> pseudoArgs;
+	private final ProxyCache cache;
 
 	public DynamicInvocationHandler(T target, CommonOptions<?> options, String collection, String scope) {
 		this.target = target;
 		if (target instanceof CouchbaseRepository) {
 			reactiveTemplate = ((CouchbaseTemplate) ((CouchbaseRepository) target).getOperations()).reactive();
-			this.entityInformation = ((CouchbaseRepository<?, String>) target).getEntityInformation();
 		} else if (target instanceof ReactiveCouchbaseRepository) {
 			reactiveTemplate = (ReactiveCouchbaseTemplate) ((ReactiveCouchbaseRepository) target).getOperations();
-			this.entityInformation = ((ReactiveCouchbaseRepository<?, String>) target).getEntityInformation();
 		} else {
 			throw new RuntimeException("Unknown target type: " + target.getClass());
 		}
@@ -61,6 +72,40 @@ public class DynamicInvocationHandler<T> implements InvocationHandler {
 		this.collection = collection;
 		this.scope = scope;
 		this.repositoryClass = target.getClass();
+		this.pseudoArgs = new PseudoArgs<>(this.scope, this.collection, this.options);
+		this.cache = CACHES.computeIfAbsent(target, t -> new ProxyCache());
+	}
+
+	/**
+	 * Get a proxy of the repository with the given options, scope and collection. Proxies without options are reused.
+	 *
+	 * @param target the repository
+	 * @param options the options, may be null
+	 * @param collection the collection, may be null
+	 * @param scope the scope, may be null
+	 * @return the proxy
+	 */
+	@SuppressWarnings("unchecked")
+	public static <T> T proxy(T target, CommonOptions<?> options, String collection, String scope) {
+		if (options != null) { // options are mutable, and usually built for the call
+			return newProxy(target, options, collection, scope);
+		}
+		ProxyCache cache = CACHES.computeIfAbsent(target, t -> new ProxyCache());
+		List<String> key = Arrays.asList(scope, collection);
+		Object proxy = cache.proxies.get(key);
+		if (proxy == null) {
+			if (cache.proxies.size() >= MAX_CACHED_PROXIES) {
+				cache.proxies.clear();
+			}
+			proxy = cache.proxies.computeIfAbsent(key, k -> newProxy(target, null, collection, scope));
+		}
+		return (T) proxy;
+	}
+
+	@SuppressWarnings("unchecked")
+	private static <T> T newProxy(T target, CommonOptions<?> options, String collection, String scope) {
+		return (T) Proxy.newProxyInstance(target.getClass().getClassLoader(), target.getClass().getInterfaces(),
+				new DynamicInvocationHandler<>(target, options, collection, scope));
 	}
 
 	@Override
@@ -74,50 +119,62 @@ public class DynamicInvocationHandler<T> implements InvocationHandler {
 		 */
 
 		if (method.getName().equals("withOptions")) {
-			return Proxy.newProxyInstance(repositoryClass.getClassLoader(), target.getClass().getInterfaces(),
-					new DynamicInvocationHandler<>(target, (CommonOptions) args[0], collection, scope));
+			return proxy(target, (CommonOptions) args[0], collection, scope);
 		}
 
 		if (method.getName().equals("withScope")) {
-			return Proxy.newProxyInstance(repositoryClass.getClassLoader(), target.getClass().getInterfaces(),
-					new DynamicInvocationHandler<>(target, options, collection, (String) args[0]));
+			return proxy(target, options, collection, (String) args[0]);
 		}
 
 		if (method.getName().equals("withCollection")) {
-			return Proxy.newProxyInstance(repositoryClass.getClassLoader(), target.getClass().getInterfaces(),
-					new DynamicInvocationHandler<>(target, options, (String) args[0], scope));
+			return proxy(target, options, (String) args[0], scope);
 		}
 
-		Class<?>[] paramTypes = null;
-		if (args != null) {
-			// the CouchbaseRepository methods - save(entity) etc - will have a parameter type of Object instead of entityType
-			// so change the paramType to match
-			paramTypes = Arrays.stream(args)
-					.map(o -> o == null ? null : (o.getClass() == entityInformation.getJavaType() ? Object.class : o.getClass()))
-					.toArray(Class<?>[]::new);
-			// the CouchbaseRepository methods - findById(id) etc - will have a parameter type of Object instead of ID
-			if (method.getName().endsWith("ById") && args.length == 1) {
-				paramTypes[0] = Object.class;
+		Method theMethod = cache.methods.computeIfAbsent(method, this::targetMethod);
+
+		if (target instanceof ReactiveCouchbaseRepository) {
+			Object result = invoke(theMethod, args);
+			// the operations run when the result is subscribed, possibly on other threads - pass the args in the context
+			if (result instanceof Mono) {
+				return ((Mono<?>) result).contextWrite(pseudoArgs::putIn);
+			}
+			if (result instanceof Flux) {
+				return ((Flux<?>) result).contextWrite(pseudoArgs::putIn);
 			}
+			return result;
 		}
 
-		Method theMethod = repositoryClass.getMethod(method.getName(), paramTypes);
-		Object result;
+		// blocking operations start on this thread - pass the args in the template thread-local for the invocation. The
+		// operations pass them on in the context of the reactive operations they block on, which may continue elsewhere
+		PseudoArgs<?> previous = reactiveTemplate.getPseudoArgs();
+		reactiveTemplate.setPseudoArgs(pseudoArgs);
+		try {
+			return invoke(theMethod, args);
+		} finally {
+			reactiveTemplate.setPseudoArgs(previous);
+		}
+	}
+
+	/**
+	 * The method of the repository with the erased parameter types of the proxied method - these are Object for the
+	 * entity and id parameters of the CouchbaseRepository methods, such as save(entity) and findById(id).
+	 */
+	private Method targetMethod(Method method) {
+		Method targetMethod = ReflectionUtils.findMethod(repositoryClass, method.getName(), method.getParameterTypes());
+		return targetMethod != null ? targetMethod : method;
+	}
 
+	private Object invoke(Method theMethod, Object[] args) throws Throwable {
 		try {
-			setThreadLocal();
-			result = theMethod.invoke(target, args);
+			return theMethod.invoke(target, args);
 		} catch (InvocationTargetException ite) {
 			throw ite.getCause();
 		}
-		return result;
 	}
 
-	private void setThreadLocal() {
-		if (reactiveTemplate.getPseudoArgs() != null) {
-			throw new RuntimeException("pseudoArgs not yet consumed by previous caller");
-		}
-		reactiveTemplate.setPseudoArgs(new PseudoArgs(this.scope, this.collection, this.options));
+	private static final class ProxyCache {
+		final Map<Method, Method> methods = new ConcurrentHashMap<>();
+		final Map<List<String>, Object> proxies = new ConcurrentHashMap<>();
 	}
 
 }
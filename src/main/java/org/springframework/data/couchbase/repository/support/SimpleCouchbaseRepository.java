@@ -16,6 +16,7 @@
 
 package org.springframework.data.couchbase.repository.support;
 
+import java.time.Duration;
 import java.util.Collection;
 import java.util.List;
 import java.util.Objects;
@@ -23,15 +24,17 @@ import java.util.Optional;
 import java.util.stream.Collectors;
 
 import org.springframework.data.couchbase.core.CouchbaseOperations;
+import org.springframework.data.couchbase.core.ExecutableFindByQueryOperation.TerminatingFindByQuery;
 import org.springframework.data.couchbase.core.mapping.CouchbasePersistentEntity;
 import org.springframework.data.couchbase.core.mapping.CouchbasePersistentProperty;
 import org.springframework.data.couchbase.core.query.Query;
 import org.springframework.data.couchbase.repository.CouchbaseRepository;
+import org.springframework.data.couchbase.repository.PageTotal;
 import org.springframework.data.couchbase.repository.query.CouchbaseEntityInformation;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.data.util.StreamUtils;
 import org.springframework.data.util.Streamable;
 import org.springframework.util.Assert;
@@ -178,8 +181,19 @@ public class SimpleCouchbaseRepository<T, ID> extends CouchbaseRepositoryBase<T,
 
 	@Override
 	public Page<T> findAll(Pageable pageable) {
-		List<T> results = findAll(new Query().with(pageable));
-		return new PageImpl<>(results, pageable, count());
+		TerminatingFindByQuery<T> find = operations.findByQuery(getJavaType())
+				.withConsistency(buildQueryScanConsistency()).inScope(getScope()).inCollection(getCollection())
+				.matching(new Query().with(pageable));
+		PageTotal pageTotal = getPageTotal();
+		PageTotal.Strategy strategy = pageTotal != null ? pageTotal.value() : PageTotal.Strategy.COUNT_QUERY;
+		switch (strategy) {
+			case WINDOWED:
+				return find.page(pageable);
+			case CACHED:
+				return find.page(pageable, Duration.ofMillis(pageTotal.cacheExpiryMs()));
+			default:
+				return PageableExecutionUtils.getPage(find.all(), pageable, this::count);
+		}
 	}
 
 	/**
@@ -20,14 +20,26 @@ import static com.couchbase.client.java.query.QueryScanConsistency.REQUEST_PLUS;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.Cache;
 import org.springframework.context.ApplicationContext;
 import org.springframework.context.annotation.AnnotationConfigApplicationContext;
 import org.springframework.data.couchbase.domain.Config;
@@ -131,6 +143,144 @@ class CouchbaseCacheIntegrationTests extends JavaIntegrationTests {
 		assertEquals(user1, cache.get(user1.getId()).get()); // user1.getId() is still user1
 	}
 
+	@Test
+	void cacheGetWithLoaderLoadsOnce() throws Exception {
+		CacheUser user1 = new CacheUser(UUID.randomUUID().toString(), "first1", "last1");
+		AtomicInteger loads = new AtomicInteger();
+		ExecutorService executor = Executors.newFixedThreadPool(4);
+		try {
+			List<Future<CacheUser>> results = new ArrayList<>();
+			for (int i = 0; i < 4; i++) {
+				results.add(executor.submit(() -> cache.get(user1.getId(), () -> {
+					loads.incrementAndGet();
+					Thread.sleep(200);
+					return user1;
+				})));
+			}
+			for (Future<CacheUser> result : results) {
+				assertEquals(user1, result.get());
+			}
+		} finally {
+			executor.shutdown();
+		}
+		assertEquals(1, loads.get());
+	}
+
+	@Test
+	void nearCacheHitAndEvict() {
+		CouchbaseCache nearCache = CouchbaseCacheManager.create(couchbaseTemplate.getCouchbaseClientFactory())
+				.createCouchbaseCache("myCache", CouchbaseCacheConfiguration.defaultCacheConfig()
+						.nearCache(NearCacheConfiguration.of(10, Duration.ofMinutes(1))));
+		CacheUser user1 = new CacheUser(UUID.randomUUID().toString(), "first1", "last1");
+		nearCache.put(user1.getId(), user1);
+		assertEquals(user1, nearCache.get(user1.getId()).get()); // remote hit
+		assertEquals(user1, nearCache.get(user1.getId()).get()); // near hit
+		assertEquals(1, nearCache.getStatistics().getNearHits());
+		assertEquals(1, nearCache.getStatistics().getRemoteHits());
+		nearCache.evict(user1.getId());
+		assertNull(nearCache.get(user1.getId())); // not served from the near cache after evict
+		assertEquals(1, nearCache.getStatistics().getRemoteMisses());
+	}
+
+	@Test
+	void cachePutAllGetAllEvictAll() {
+		CacheUser user1 = new CacheUser(UUID.randomUUID().toString(), "first1", "last1");
+		CacheUser user2 = new CacheUser(UUID.randomUUID().toString(), "first2", "last2");
+		String absent = UUID.randomUUID().toString();
+		Map<String, CacheUser> users = new HashMap<>();
+		users.put(user1.getId(), user1);
+		users.put(user2.getId(), user2);
+		cache.putAll(users);
+		Map<String, Cache.ValueWrapper> found = cache.getAll(Arrays.asList(user1.getId(), user2.getId(), absent));
+		assertEquals(2, found.size());
+		assertEquals(user1, found.get(user1.getId()).get());
+		assertEquals(user2, found.get(user2.getId()).get());
+		assertEquals(2, cache.evictAll(Arrays.asList(user1.getId(), user2.getId(), absent)));
+		assertTrue(cache.getAll(users.keySet()).isEmpty());
+	}
+
+	@Test
+	void generationalClear() {
+		CouchbaseCache generationalCache = CouchbaseCacheManager.create(couchbaseTemplate.getCouchbaseClientFactory())
+				.createCouchbaseCache("myGenerationalCache", CouchbaseCacheConfiguration.defaultCacheConfig()
+						.entryExpiry(Duration.ofMinutes(1)).generationalClear(Duration.ofSeconds(1)));
+		CacheUser user1 = new CacheUser(UUID.randomUUID().toString(), "first1", "last1");
+		generationalCache.put(user1.getId(), user1);
+		assertEquals(user1, generationalCache.get(user1.getId()).get());
+		generationalCache.clear(); // no index or scan needed
+		assertNull(generationalCache.get(user1.getId()));
+		generationalCache.put(user1.getId(), user1);
+		assertEquals(user1, generationalCache.get(user1.getId()).get());
+		// the entries of earlier generations would never be removed
+		assertThrows(IllegalArgumentException.class,
+				() -> CouchbaseCacheManager.create(couchbaseTemplate.getCouchbaseClientFactory()).createCouchbaseCache(
+						"myGenerationalCache", CouchbaseCacheConfiguration.defaultCacheConfig().generationalClear(Duration.ZERO)));
+	}
+
+	@Test
+	void generationalClearAsync() {
+		// the generation is read on every access, through the non-blocking counter operations
+		CouchbaseCache generationalCache = CouchbaseCacheManager.create(couchbaseTemplate.getCouchbaseClientFactory())
+				.createCouchbaseCache("myGenerationalCache", CouchbaseCacheConfiguration.defaultCacheConfig()
+						.entryExpiry(Duration.ofMinutes(1)).generationalClear(Duration.ZERO));
+		CacheUser user1 = new CacheUser(UUID.randomUUID().toString(), "first1", "last1");
+		generationalCache.putAsync(user1.getId(), user1).join();
+		assertEquals(user1, generationalCache.getAsync(user1.getId()).join().get());
+		generationalCache.clearAsync().join();
+		assertNull(generationalCache.getAsync(user1.getId()).join());
+		assertNull(generationalCache.get(user1.getId()));
+		generationalCache.putAsync(user1.getId(), user1).join();
+		assertEquals(user1, generationalCache.get(user1.getId()).get());
+		assertTrue(generationalCache.evictAsync(user1.getId()).join());
+	}
+
+	@Test
+	void cacheAsync() {
+		CacheUser user1 = new CacheUser(UUID.randomUUID().toString(), "first1", "last1");
+		CacheUser user2 = new CacheUser(UUID.randomUUID().toString(), "first2", "last2");
+		assertNull(cache.getAsync(user1.getId()).join()); // cacheMiss
+		cache.putAsync(user1.getId(), user1).join();
+		assertEquals(user1, cache.getAsync(user1.getId()).join().get());
+		assertEquals(user1, cache.putIfAbsentAsync(user1.getId(), user2).join().get()); // not put, returns user1
+		assertTrue(cache.evictAsync(user1.getId()).join());
+		assertNull(cache.get(user1.getId()));
+	}
+
+	@Test
+	void refreshAhead() throws InterruptedException {
+		CouchbaseCache refreshingCache = CouchbaseCacheManager.create(couchbaseTemplate.getCouchbaseClientFactory())
+				.createCouchbaseCache("myCache", CouchbaseCacheConfiguration.defaultCacheConfig()
+						.entryExpiry(Duration.ofSeconds(10)).refreshAhead(1.0)); // any hit refreshes
+		CacheUser user1 = new CacheUser(UUID.randomUUID().toString(), "first1", "last1");
+		AtomicInteger loads = new AtomicInteger();
+		assertEquals(user1, refreshingCache.get(user1.getId(), () -> {
+			loads.incrementAndGet();
+			return user1;
+		})); // miss -> load
+		assertEquals(user1, refreshingCache.get(user1.getId(), () -> {
+			loads.incrementAndGet();
+			return user1;
+		})); // hit -> current value, reloaded in the background
+		for (int i = 0; i < 50 && loads.get() < 2; i++) {
+			Thread.sleep(100);
+		}
+		assertEquals(2, loads.get());
+	}
+
+	@Test
+	void staleEntriesAreNotFound() throws InterruptedException {
+		CouchbaseCache refreshingCache = CouchbaseCacheManager.create(couchbaseTemplate.getCouchbaseClientFactory())
+				.createCouchbaseCache("myCache", CouchbaseCacheConfiguration.defaultCacheConfig()
+						.entryExpiry(Duration.ofSeconds(2)).refreshAhead(0.5, Duration.ofSeconds(30)));
+		CacheUser user1 = new CacheUser(UUID.randomUUID().toString(), "first1", "last1");
+		refreshingCache.put(user1.getId(), user1);
+		assertEquals(user1, refreshingCache.getAsync(user1.getId()).join().get());
+		Thread.sleep(3000); // expired, but kept for the stale grace period
+		assertNull(refreshingCache.get(user1.getId()));
+		assertNull(refreshingCache.getAsync(user1.getId()).join());
+		refreshingCache.evict(user1.getId());
+	}
+
 	@Test // this test FAILS (local empty (i.e. fast) Couchbase installation)
 	public void clearFail() {
 		cache.put("KEY", "VALUE"); // no delay between put and clear, entry will not be
@@ -0,0 +1,108 @@
+/*
+ * Copyright 2022 the original author or authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.couchbase.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.data.couchbase.cache.NearCacheConfiguration.EvictionPolicy;
+
+/**
+ * Unit tests for {@link NearCache}.
+ */
+class NearCacheTests {
+
+	@Test
+	void evictsLeastRecentlyUsed() throws InterruptedException {
+		NearCache cache = new NearCache(NearCacheConfiguration.of(10, Duration.ofMinutes(1)), Duration.ZERO);
+		for (int i = 0; i < 10; i++) {
+			cache.put("key" + i, i);
+			Thread.sleep(1);
+		}
+		assertEquals(0, cache.get("key0"));
+
+		cache.put("key10", 10);
+
+		assertEquals(9, cache.size());
+		assertEquals(0, cache.get("key0"));
+		assertNull(cache.get("key1"));
+		assertNull(cache.get("key2"));
+		assertEquals(10, cache.get("key10"));
+	}
+
+	@Test
+	void evictsFirstWritten() throws InterruptedException {
+		NearCache cache = new NearCache(
+				NearCacheConfiguration.of(10, Duration.ofMinutes(1)).evictionPolicy(EvictionPolicy.FIFO), Duration.ZERO);
+		for (int i = 0; i < 10; i++) {
+			cache.put("key" + i, i);
+			Thread.sleep(1);
+		}
+		assertEquals(0, cache.get("key0"));
+
+		cache.put("key10", 10);
+
+		assertEquals(9, cache.size());
+		assertNull(cache.get("key0"));
+		assertNull(cache.get("key1"));
+		assertEquals(2, cache.get("key2"));
+	}
+
+	@Test
+	void expiresWithRemoteExpiry() throws InterruptedException {
+		NearCache cache = new NearCache(NearCacheConfiguration.of(10, Duration.ofMinutes(1)), Duration.ofMillis(1));
+		cache.put("key", "value");
+		Thread.sleep(5);
+
+		assertNull(cache.get("key"));
+		assertEquals(0, cache.size());
+	}
+
+	@Test
+	void staysBoundedUnderConcurrentWrites() throws Exception {
+		NearCache cache = new NearCache(NearCacheConfiguration.of(100, Duration.ofMinutes(1)), Duration.ZERO);
+		ExecutorService executor = Executors.newFixedThreadPool(4);
+		try {
+			List<Future<?>> writers = new ArrayList<>();
+			for (int t = 0; t < 4; t++) {
+				int thread = t;
+				writers.add(executor.submit(() -> {
+					for (int i = 0; i < 10000; i++) {
+						cache.put(thread + ":" + i, i);
+						cache.get(thread + ":" + (i / 2));
+					}
+				}));
+			}
+			for (Future<?> writer : writers) {
+				writer.get();
+			}
+		} finally {
+			executor.shutdown();
+		}
+		cache.put("last", 0);
+
+		assertTrue(cache.size() <= 100, "size " + cache.size());
+	}
+}
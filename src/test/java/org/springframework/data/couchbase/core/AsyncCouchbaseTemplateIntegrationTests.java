@@ -0,0 +1,153 @@
+/*
+ * Copyright 2022 the original author or authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.couchbase.core;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.dao.IncorrectResultSizeDataAccessException;
+import org.springframework.data.couchbase.core.query.Query;
+import org.springframework.data.couchbase.core.query.QueryCriteria;
+import org.springframework.data.couchbase.domain.Address;
+import org.springframework.data.couchbase.domain.User;
+import org.springframework.data.couchbase.domain.UserSubmission;
+import org.springframework.data.couchbase.util.ClusterType;
+import org.springframework.data.couchbase.util.IgnoreWhen;
+import org.springframework.data.couchbase.util.JavaIntegrationTests;
+
+import com.couchbase.client.java.query.QueryScanConsistency;
+
+/**
+ * Tests for the {@link AsyncCouchbaseTemplate}. Theses tests rely on a cb server running.
+ */
+@IgnoreWhen(clusterTypes = ClusterType.MOCKED)
+class AsyncCouchbaseTemplateIntegrationTests extends JavaIntegrationTests {
+
+	private AsyncCouchbaseTemplate asyncTemplate;
+
+	@BeforeEach
+	@Override
+	public void beforeEach() {
+		super.beforeEach();
+		asyncTemplate = couchbaseTemplate.async();
+		couchbaseTemplate.removeByQuery(User.class).withConsistency(QueryScanConsistency.REQUEST_PLUS).all();
+	}
+
+	@Test
+	void upsertFindReplaceAndRemoveById() {
+		User user = new User(UUID.randomUUID().toString(), "firstname", "lastname");
+		User upserted = asyncTemplate.upsertById(User.class).one(user).join();
+		assertEquals(user, upserted);
+		assertEquals(user, asyncTemplate.findById(User.class).one(user.getId()).join());
+		assertTrue(asyncTemplate.existsById(User.class).one(user.getId()).join());
+
+		User modifying = new User(user.getId(), "changed", user.getLastname());
+		modifying.setVersion(user.getVersion());
+		asyncTemplate.replaceById(User.class).one(modifying).join();
+		assertEquals("changed", asyncTemplate.findById(User.class).one(user.getId()).join().getFirstname());
+
+		asyncTemplate.removeById(User.class).one(user.getId()).join();
+		assertNull(asyncTemplate.findById(User.class).one(user.getId()).join());
+		assertFalse(asyncTemplate.existsById(User.class).one(user.getId()).join());
+	}
+
+	@Test
+	void insertTranslatesExceptions() {
+		User user = new User(UUID.randomUUID().toString(), "firstname", "lastname");
+		try {
+			asyncTemplate.insertById(User.class).one(user).join();
+			CompletionException ex = assertThrows(CompletionException.class,
+					() -> asyncTemplate.insertById(User.class).one(user).join());
+			assertTrue(ex.getCause() instanceof DuplicateKeyException);
+		} finally {
+			couchbaseTemplate.removeById(User.class).one(user.getId());
+		}
+	}
+
+	@Test
+	void findAllByIdAndByQuery() {
+		User user1 = new User(UUID.randomUUID().toString(), "async", "user1");
+		User user2 = new User(UUID.randomUUID().toString(), "async", "user2");
+		try {
+			asyncTemplate.upsertById(User.class).all(Arrays.asList(user1, user2)).join();
+			List<User> found = asyncTemplate.findById(User.class)
+					.all(Arrays.asList(user1.getId(), user2.getId(), UUID.randomUUID().toString())).join();
+			assertEquals(Arrays.asList(user1, user2), found);
+
+			Query byFirstname = new Query(QueryCriteria.where("firstname").is("async"));
+			assertEquals(2, asyncTemplate.findByQuery(User.class).withConsistency(QueryScanConsistency.REQUEST_PLUS)
+					.matching(byFirstname).all().join().size());
+			assertEquals(2, asyncTemplate.findByQuery(User.class).withConsistency(QueryScanConsistency.REQUEST_PLUS)
+					.matching(byFirstname).count().join());
+			assertTrue(asyncTemplate.findByQuery(User.class).withConsistency(QueryScanConsistency.REQUEST_PLUS)
+					.matching(byFirstname).exists().join());
+			CompletionException ex = assertThrows(CompletionException.class, () -> asyncTemplate.findByQuery(User.class)
+					.withConsistency(QueryScanConsistency.REQUEST_PLUS).matching(byFirstname).one().join());
+			assertTrue(ex.getCause() instanceof IncorrectResultSizeDataAccessException);
+		} finally {
+			couchbaseTemplate.removeById(User.class).all(Arrays.asList(user1.getId(), user2.getId()));
+		}
+	}
+
+	@Test
+	void failsTheFutureWhenPreparingTheOperationFails() {
+		CompletableFuture<User> inserted = assertDoesNotThrow(() -> asyncTemplate.insertById(User.class).one(null));
+		assertThrows(CompletionException.class, inserted::join);
+	}
+
+	@Test
+	void decodeN1qlJoins() {
+		Address address = new Address();
+		address.setId(UUID.randomUUID().toString());
+		address.setStreet("3250 Olcott Street");
+		UserSubmission user = new UserSubmission();
+		user.setId(UUID.randomUUID().toString());
+		user.setUsername("async");
+		user.setAddressIds(Arrays.asList(address.getId()));
+		try {
+			couchbaseTemplate.insertById(Address.class).one(address);
+			couchbaseTemplate.insertById(UserSubmission.class).one(user);
+
+			// the joins are resolved blocking, which is not done on the threads of the SDK
+			UserSubmission found = asyncTemplate.findById(UserSubmission.class).one(user.getId()).join();
+			assertEquals(Arrays.asList(address.getStreet()),
+					found.getKeyedAddresses().stream().map(Address::getStreet).collect(Collectors.toList()));
+			List<UserSubmission> users = asyncTemplate.findByQuery(UserSubmission.class)
+					.withConsistency(QueryScanConsistency.REQUEST_PLUS)
+					.matching(new Query(QueryCriteria.where("username").is("async"))).all().join();
+			assertEquals(1, users.size());
+			assertEquals(Arrays.asList(address.getStreet()),
+					users.get(0).getKeyedAddresses().stream().map(Address::getStreet).collect(Collectors.toList()));
+		} finally {
+			couchbaseTemplate.removeById(Address.class).one(address.getId());
+			couchbaseTemplate.removeById(UserSubmission.class).one(user.getId());
+		}
+	}
+}
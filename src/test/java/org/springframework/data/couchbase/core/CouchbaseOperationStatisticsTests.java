@@ -0,0 +1,77 @@
+/*
+ * Copyright 2022 the original author or authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.couchbase.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.data.couchbase.core.CouchbaseOperationStatistics.Timer;
+
+/**
+ * Unit tests for {@link CouchbaseOperationStatistics}.
+ */
+class CouchbaseOperationStatisticsTests {
+
+	@Test
+	void smallDurationsHaveTheirOwnBucket() {
+		for (int nanos = 0; nanos < 16; nanos++) {
+			assertEquals(nanos, Timer.bucket(nanos));
+			assertEquals(nanos, Timer.upperBound(nanos));
+		}
+	}
+
+	@Test
+	void bucketsAreContiguous() {
+		assertEquals(Long.MAX_VALUE, Timer.upperBound(Timer.bucket(Long.MAX_VALUE)));
+		for (int bucket = 1; bucket <= Timer.bucket(Long.MAX_VALUE); bucket++) {
+			long lowerBound = Timer.upperBound(bucket - 1) + 1;
+			assertTrue(lowerBound > 0, "bucket " + bucket);
+			assertEquals(bucket, Timer.bucket(lowerBound), "lower bound of bucket " + bucket);
+			assertEquals(bucket, Timer.bucket(Timer.upperBound(bucket)), "upper bound of bucket " + bucket);
+		}
+	}
+
+	@Test
+	void upperBoundsAreWithinAnEighth() {
+		long[] durations = { 16, 17, 100, 1_000, 12_345, 999_999, 1_000_000_000L, 123_456_789_012L, Long.MAX_VALUE / 3 };
+		for (long nanos : durations) {
+			long upperBound = Timer.upperBound(Timer.bucket(nanos));
+			assertTrue(upperBound >= nanos, "upper bound of " + nanos);
+			assertTrue(upperBound - nanos <= nanos / 8, "upper bound of " + nanos);
+		}
+	}
+
+	@Test
+	void percentiles() {
+		Timer timer = new Timer();
+		assertEquals(0, timer.getPercentileNanos(0.5));
+		for (int i = 1; i <= 100; i++) {
+			timer.record(i * 1_000L);
+		}
+		timer.record(-1);
+
+		assertEquals(101, timer.getCount());
+		assertEquals(5_050_000, timer.getTotalNanos());
+		assertEquals(100_000, timer.getMaxNanos());
+		long median = timer.getPercentileNanos(0.5);
+		assertTrue(median >= 50_000 && median <= 50_000 * 9 / 8, "median " + median);
+		long p99 = timer.getPercentileNanos(0.99);
+		assertTrue(p99 >= 99_000 && p99 <= 100_000, "p99 " + p99);
+		assertEquals(100_000, timer.getPercentileNanos(1));
+		assertEquals(0, timer.getPercentileNanos(0));
+	}
+}
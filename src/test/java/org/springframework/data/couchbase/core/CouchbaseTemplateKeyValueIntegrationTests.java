@@ -146,6 +146,37 @@ class CouchbaseTemplateKeyValueIntegrationTests extends JavaIntegrationTests {
 		couchbaseTemplate.removeById().one(user.getId());
 	}
 
+	@Test
+	void operationMetrics() {
+		CouchbaseOperationStatistics statistics = new CouchbaseOperationStatistics();
+		couchbaseTemplate.setOperationMetrics(statistics);
+		try {
+			User user = new User(UUID.randomUUID().toString(), "firstname", "lastname");
+			couchbaseTemplate.upsertById(User.class).one(user);
+			assertEquals(user, couchbaseTemplate.findById(User.class).one(user.getId()));
+			assertThrows(DuplicateKeyException.class, () -> couchbaseTemplate.insertById(User.class).one(user));
+			couchbaseTemplate.reactive().findById(User.class).one(user.getId()).block();
+			couchbaseTemplate.removeById(User.class).one(user.getId());
+
+			assertEquals(1, statistics.getCount("upsertById"));
+			assertEquals(2, statistics.getCount("findById"));
+			assertEquals(1, statistics.getErrors("insertById"));
+			assertEquals(0, statistics.getErrors("removeById"));
+			CouchbaseOperationStatistics.Timer findById = statistics.getOperations().entrySet().stream()
+					.filter(e -> e.getKey().getOperation().equals("findById")).findFirst().get().getValue();
+			assertEquals(User.class, statistics.getOperations().keySet().stream()
+					.filter(k -> k.getOperation().equals("findById")).findFirst().get().getDomainType());
+			assertTrue(findById.getMaxNanos() > 0);
+			assertTrue(findById.getPercentileNanos(0.5) <= findById.getMaxNanos());
+			assertTrue(statistics.getConversions().keySet().stream()
+					.anyMatch(k -> k.getOperation().equals(CouchbaseOperationMetrics.DECODE) && k.getDomainType() == User.class));
+			assertTrue(statistics.getConversions().keySet().stream()
+					.anyMatch(k -> k.getOperation().equals(CouchbaseOperationMetrics.ENCODE) && k.getDomainType() == User.class));
+		} finally {
+			couchbaseTemplate.setOperationMetrics(null);
+		}
+	}
+
 	@Test
 	void findProjected() {
 		User user = new User(UUID.randomUUID().toString(), "firstname", "lastname");
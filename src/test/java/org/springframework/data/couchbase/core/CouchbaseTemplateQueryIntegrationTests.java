@@ -18,13 +18,17 @@ package org.springframework.data.couchbase.core;
 
 import static com.couchbase.client.java.query.QueryScanConsistency.REQUEST_PLUS;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.springframework.data.couchbase.core.query.N1QLExpression.i;
+import static org.springframework.data.couchbase.core.query.N1QLExpression.x;
 
 import java.time.Instant;
 import java.time.temporal.TemporalAccessor;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Locale;
@@ -33,8 +37,13 @@ import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.springframework.dao.IncorrectResultSizeDataAccessException;
+import org.springframework.data.couchbase.core.query.N1QLQuery;
 import org.springframework.data.couchbase.core.query.Query;
 import org.springframework.data.couchbase.core.query.QueryCriteria;
+import org.springframework.data.couchbase.core.query.StringQuery;
+import org.springframework.data.couchbase.core.query.Update;
+import org.springframework.data.couchbase.core.support.TemplateUtils;
 import org.springframework.data.couchbase.domain.Address;
 import org.springframework.data.couchbase.domain.Airport;
 import org.springframework.data.couchbase.domain.AssessmentDO;
@@ -50,10 +59,13 @@ import org.springframework.data.couchbase.util.Capabilities;
 import org.springframework.data.couchbase.util.ClusterType;
 import org.springframework.data.couchbase.util.IgnoreWhen;
 import org.springframework.data.couchbase.util.JavaIntegrationTests;
+import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 
+import com.couchbase.client.java.json.JsonObject;
+
 /**
  * Query tests Theses tests rely on a cb server running
  *
@@ -135,6 +147,27 @@ class CouchbaseTemplateQueryIntegrationTests extends JavaIntegrationTests {
 		assertEquals(1, foundUsers.size());
 	}
 
+	@Test
+	void findByMatchingQueryOneValue() {
+		User user1 = new User(UUID.randomUUID().toString(), "oneValue", "user1");
+		User user2 = new User(UUID.randomUUID().toString(), "oneValue", "user2");
+		try {
+			couchbaseTemplate.upsertById(User.class).one(user1);
+			Query byFirstname = new Query(QueryCriteria.where(i("firstname")).is("oneValue"));
+			assertEquals(user1, couchbaseTemplate.findByQuery(User.class).withConsistency(REQUEST_PLUS)
+					.matching(byFirstname).oneValue());
+			couchbaseTemplate.upsertById(User.class).one(user2);
+			assertThrows(IncorrectResultSizeDataAccessException.class, () -> couchbaseTemplate.findByQuery(User.class)
+					.withConsistency(REQUEST_PLUS).matching(byFirstname).oneValue());
+			assertNotNull(couchbaseTemplate.findByQuery(User.class).withConsistency(REQUEST_PLUS).matching(byFirstname)
+					.firstValue());
+			assertEquals(2, couchbaseTemplate.findByQuery(User.class).withConsistency(REQUEST_PLUS).matching(byFirstname)
+					.count());
+		} finally {
+			couchbaseTemplate.removeById(User.class).all(Arrays.asList(user1.getId(), user2.getId()));
+		}
+	}
+
 	@Test
 	void findAssessmentDO() {
 		AssessmentDO ado = new AssessmentDO();
@@ -216,6 +249,112 @@ class CouchbaseTemplateQueryIntegrationTests extends JavaIntegrationTests {
 
 	}
 
+	@Test
+	void removeByQueryInChunks() {
+		List<User> users = chunkedUsers();
+		User other = new User(UUID.randomUUID().toString(), "other", "other");
+		couchbaseTemplate.upsertById(User.class).one(other);
+		try {
+			Query chunked = new Query(QueryCriteria.where(i("lastname")).is("chunked"));
+			long removed = couchbaseTemplate.removeByQuery(User.class).withConsistency(REQUEST_PLUS).matching(chunked)
+					.allInChunks(2);
+
+			assertEquals(5, removed);
+			for (User user : users) {
+				assertNull(couchbaseTemplate.findById(User.class).one(user.getId()));
+			}
+			assertNotNull(couchbaseTemplate.findById(User.class).one(other.getId()));
+		} finally {
+			couchbaseTemplate.removeById(User.class).one(other.getId());
+		}
+	}
+
+	@Test
+	void removeByStringQueryInChunks() {
+		List<User> users = chunkedUsers();
+		User other = new User(UUID.randomUUID().toString(), "other", "other");
+		couchbaseTemplate.upsertById(User.class).one(other);
+		try {
+			Query chunked = new StringQuery(selectUsers("lastname = 'chunked'"));
+			long removed = couchbaseTemplate.removeByQuery(User.class).withConsistency(REQUEST_PLUS).matching(chunked)
+					.allInChunks(2);
+
+			assertEquals(5, removed);
+			for (User user : users) {
+				assertNull(couchbaseTemplate.findById(User.class).one(user.getId()));
+			}
+			assertNotNull(couchbaseTemplate.findById(User.class).one(other.getId()));
+		} finally {
+			couchbaseTemplate.removeById(User.class).one(other.getId());
+		}
+	}
+
+	private List<User> chunkedUsers() {
+		List<User> users = new ArrayList<>();
+		for (int i = 0; i < 5; i++) {
+			users.add(new User(UUID.randomUUID().toString(), "user" + i, "chunked"));
+		}
+		couchbaseTemplate.upsertById(User.class).all(users);
+		return users;
+	}
+
+	@Test
+	void updateByMatchingQuery() {
+		User user1 = new User(UUID.randomUUID().toString(), "user1", "user1");
+		User user2 = new User(UUID.randomUUID().toString(), "user2", "user2");
+		User specialUser = new User(UUID.randomUUID().toString(), "special", "special");
+
+		couchbaseTemplate.upsertById(User.class).all(Arrays.asList(user1, user2, specialUser));
+
+		Query specialUsers = new Query(QueryCriteria.where(i("firstname")).like("special"));
+		List<UpdateResult> updated = couchbaseTemplate.updateByQuery(User.class).withConsistency(REQUEST_PLUS)
+				.matching(specialUsers).applyReturning(Update.update("lastname", "updated"));
+
+		assertEquals(1, updated.size());
+		assertEquals(specialUser.getId(), updated.get(0).getId());
+		assertEquals("updated", couchbaseTemplate.findById(User.class).one(specialUser.getId()).getLastname());
+		assertEquals("user1", couchbaseTemplate.findById(User.class).one(user1.getId()).getLastname());
+
+		long count = couchbaseTemplate.updateByQuery(User.class).withConsistency(REQUEST_PLUS)
+				.apply(Update.update("lastname", "all"));
+		assertEquals(3, count);
+		assertEquals("all", couchbaseTemplate.findById(User.class).one(user2.getId()).getLastname());
+	}
+
+	@Test
+	void updateByStringQueryWithNamedParameters() {
+		User user1 = new User(UUID.randomUUID().toString(), "user1", "user1");
+		User specialUser = new User(UUID.randomUUID().toString(), "special", "special");
+
+		couchbaseTemplate.upsertById(User.class).all(Arrays.asList(user1, specialUser));
+
+		Query specialUsers = new StringQuery(selectUsers("firstname = $firstname"))
+				.setNamedParameters(JsonObject.create().put("firstname", "special"));
+		List<UpdateResult> updated = couchbaseTemplate.updateByQuery(User.class).withConsistency(REQUEST_PLUS)
+				.matching(specialUsers).applyReturning(Update.update("lastname", "updated"));
+
+		assertEquals(1, updated.size());
+		assertEquals(specialUser.getId(), updated.get(0).getId());
+		assertEquals("updated", couchbaseTemplate.findById(User.class).one(specialUser.getId()).getLastname());
+		assertEquals("user1", couchbaseTemplate.findById(User.class).one(user1.getId()).getLastname());
+	}
+
+	@Test
+	void updateByN1QLQuery() {
+		User user1 = new User(UUID.randomUUID().toString(), "user1", "user1");
+		User specialUser = new User(UUID.randomUUID().toString(), "special", "special");
+
+		couchbaseTemplate.upsertById(User.class).all(Arrays.asList(user1, specialUser));
+
+		Query specialUsers = new N1QLQuery(x(selectUsers("firstname = 'special'")));
+		long count = couchbaseTemplate.updateByQuery(User.class).withConsistency(REQUEST_PLUS).matching(specialUsers)
+				.apply(Update.update("lastname", "updated"));
+
+		assertEquals(1, count);
+		assertEquals("updated", couchbaseTemplate.findById(User.class).one(specialUser.getId()).getLastname());
+		assertEquals("user1", couchbaseTemplate.findById(User.class).one(user1.getId()).getLastname());
+	}
+
 	@Test
 	void removeByMatchingQuery() {
 		User user1 = new User(UUID.randomUUID().toString(), "user1", "user1");
@@ -238,6 +377,77 @@ class CouchbaseTemplateQueryIntegrationTests extends JavaIntegrationTests {
 
 	}
 
+	@Test
+	void pageOfStringQuery() {
+		List<User> users = pagedUsers();
+		try {
+			Query query = new StringQuery(selectUsers("lastname = 'paged'")).with(PageRequest.of(0, 2));
+			Page<User> page = couchbaseTemplate.findByQuery(User.class).withConsistency(REQUEST_PLUS).matching(query)
+					.page(PageRequest.of(0, 2));
+			assertEquals(2, page.getContent().size());
+			assertEquals(3, page.getTotalElements());
+		} finally {
+			couchbaseTemplate.removeById(User.class).all(users.stream().map(User::getId).collect(Collectors.toList()));
+		}
+	}
+
+	@Test
+	void pageOfN1QLQuery() {
+		List<User> users = pagedUsers();
+		try {
+			Query query = new N1QLQuery(x(selectUsers("lastname = 'paged'")));
+			Page<User> page = couchbaseTemplate.findByQuery(User.class).withConsistency(REQUEST_PLUS).matching(query)
+					.page(PageRequest.of(0, 10));
+			assertEquals(3, page.getContent().size());
+			assertEquals(3, page.getTotalElements());
+			assertTrue(page.getContent().stream().allMatch(u -> "paged".equals(u.getLastname())));
+		} finally {
+			couchbaseTemplate.removeById(User.class).all(users.stream().map(User::getId).collect(Collectors.toList()));
+		}
+	}
+
+	@Test
+	void oneAndExistsOfN1QLQuery() {
+		List<User> users = pagedUsers();
+		try {
+			Query other = new N1QLQuery(x(selectUsers("lastname = 'other'")));
+			assertEquals("other", couchbaseTemplate.findByQuery(User.class).withConsistency(REQUEST_PLUS).matching(other)
+					.oneValue().getLastname());
+			assertEquals("other", reactiveCouchbaseTemplate.findByQuery(User.class).withConsistency(REQUEST_PLUS)
+					.matching(other).first().block().getLastname());
+			assertTrue(couchbaseTemplate.findByQuery(User.class).withConsistency(REQUEST_PLUS).matching(other).exists());
+
+			Query none = new N1QLQuery(x(selectUsers("lastname = 'none'")));
+			assertNull(couchbaseTemplate.findByQuery(User.class).withConsistency(REQUEST_PLUS).matching(none).firstValue());
+			assertFalse(couchbaseTemplate.findByQuery(User.class).withConsistency(REQUEST_PLUS).matching(none).exists());
+		} finally {
+			couchbaseTemplate.removeById(User.class).all(users.stream().map(User::getId).collect(Collectors.toList()));
+		}
+	}
+
+	/**
+	 * Three users with the lastname "paged" and one other user.
+	 */
+	private List<User> pagedUsers() {
+		List<User> users = new ArrayList<>();
+		for (int i = 0; i < 3; i++) {
+			users.add(new User(UUID.randomUUID().toString(), "user" + i, "paged"));
+		}
+		users.add(new User(UUID.randomUUID().toString(), "other", "other"));
+		couchbaseTemplate.upsertById(User.class).all(users);
+		return users;
+	}
+
+	/**
+	 * A select statement of the users matching {@code predicate}, projecting the id and cas as required for decoding.
+	 */
+	private static String selectUsers(String predicate) {
+		String bucket = "`" + bucketName() + "`";
+		return "SELECT META(" + bucket + ").id AS " + TemplateUtils.SELECT_ID + ", META(" + bucket + ").cas AS "
+				+ TemplateUtils.SELECT_CAS + ", " + bucket + ".* FROM " + bucket + " WHERE `_class` = \"abstractuser\" AND "
+				+ predicate;
+	}
+
 	@Test
 	void distinct() {
 		String[] iatas = { "JFK", "IAD", "SFO", "SJC", "SEA", "LAX", "PHX" };
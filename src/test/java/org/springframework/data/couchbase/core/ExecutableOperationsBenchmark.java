@@ -0,0 +1,113 @@
+/*
+ * Copyright 2022 the original author or authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.couchbase.core;
+
+import static com.couchbase.client.java.query.QueryScanConsistency.REQUEST_PLUS;
+import static org.springframework.data.couchbase.core.query.N1QLExpression.i;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.data.couchbase.config.BeanNames;
+import org.springframework.data.couchbase.core.query.Query;
+import org.springframework.data.couchbase.core.query.QueryCriteria;
+import org.springframework.data.couchbase.domain.Airport;
+import org.springframework.data.couchbase.domain.Config;
+
+/**
+ * Compares the blocking operations of {@link CouchbaseTemplate}, which call the blocking SDK API directly, with
+ * blocking on the same operations of {@link ReactiveCouchbaseTemplate}. Runs against the cluster of {@link Config},
+ * with {@code main} or {@code org.openjdk.jmh.Main} on the test classpath. Add {@code -prof gc} to the arguments of
+ * {@code org.openjdk.jmh.Main} to compare allocations.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class ExecutableOperationsBenchmark {
+
+	private static final int AIRPORTS = 10;
+
+	private AnnotationConfigApplicationContext context;
+	private CouchbaseTemplate template;
+	private ReactiveCouchbaseTemplate reactiveTemplate;
+	private List<String> ids;
+	private QueryCriteria criteria;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		context = new AnnotationConfigApplicationContext(Config.class);
+		template = (CouchbaseTemplate) context.getBean(BeanNames.COUCHBASE_TEMPLATE);
+		reactiveTemplate = template.reactive();
+		ids = new ArrayList<>();
+		for (int i = 0; i < AIRPORTS; i++) {
+			ids.add(template.upsertById(Airport.class).one(new Airport("airports::bench" + i, "bn" + i, "bench")).getId());
+		}
+		criteria = QueryCriteria.where(i("icao")).is("bench");
+		// the documents are indexed before they are measured
+		template.findByQuery(Airport.class).withConsistency(REQUEST_PLUS).matching(new Query(criteria)).all();
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		template.removeById(Airport.class).all(ids);
+		context.close();
+	}
+
+	@Benchmark
+	public Airport findById() {
+		return template.findById(Airport.class).one(ids.get(0));
+	}
+
+	@Benchmark
+	public Airport findByIdReactiveBlock() {
+		return reactiveTemplate.findById(Airport.class).one(ids.get(0)).block();
+	}
+
+	@Benchmark
+	public List<Airport> findByQueryAll() {
+		// a query per call, as running a query adds the values of its criteria to its parameters
+		return template.findByQuery(Airport.class).matching(new Query(criteria)).all();
+	}
+
+	@Benchmark
+	public List<Airport> findByQueryAllReactiveBlock() {
+		return reactiveTemplate.findByQuery(Airport.class).matching(new Query(criteria)).all().collectList().block();
+	}
+
+	public static void main(String[] args) throws RunnerException {
+		new Runner(new OptionsBuilder().include(ExecutableOperationsBenchmark.class.getSimpleName()).build()).run();
+	}
+}
@@ -0,0 +1,79 @@
+/*
+ * Copyright 2022 the original author or authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.couchbase.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.data.couchbase.domain.User;
+
+/**
+ * Unit tests for {@link MicrometerCouchbaseOperationMetrics}.
+ */
+class MicrometerCouchbaseOperationMetricsTests {
+
+	private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+	private final MicrometerCouchbaseOperationMetrics metrics = new MicrometerCouchbaseOperationMetrics(registry);
+
+	@Test
+	void recordsOperationsByTags() {
+		metrics.recordOperation("findById", User.class, null, null, CouchbaseOperationMetrics.SUCCESS, 1_000);
+		metrics.recordOperation("findById", User.class, null, null, CouchbaseOperationMetrics.SUCCESS, 3_000);
+		metrics.recordOperation("findById", User.class, "my_scope", "my_collection", "DocumentNotFoundException", 500);
+
+		Timer success = registry.get(MicrometerCouchbaseOperationMetrics.OPERATIONS).tag("operation", "findById")
+				.tag("domainType", "User").tag("scope", "none").tag("collection", "none").tag("outcome", "success").timer();
+		assertEquals(2, success.count());
+		assertEquals(4_000, success.totalTime(TimeUnit.NANOSECONDS));
+		Timer failure = registry.get(MicrometerCouchbaseOperationMetrics.OPERATIONS).tag("scope", "my_scope")
+				.tag("collection", "my_collection").tag("outcome", "DocumentNotFoundException").timer();
+		assertEquals(1, failure.count());
+	}
+
+	@Test
+	void recordsConversions() {
+		metrics.recordConversion(CouchbaseOperationMetrics.DECODE, User.class, 200);
+
+		Timer decode = registry.get(MicrometerCouchbaseOperationMetrics.CONVERSIONS).tag("conversion", "decode")
+				.tag("type", "User").timer();
+		assertEquals(1, decode.count());
+		assertEquals(200, decode.totalTime(TimeUnit.NANOSECONDS));
+	}
+
+	@Test
+	void recordsQueries() {
+		metrics.recordQuery(null, "SELECT ? FROM b", Duration.ofMillis(3), Duration.ofMillis(2), 10, 1_000);
+		metrics.recordQuery("UserRepository.findByLastname", "SELECT ? FROM b", Duration.ofMillis(5),
+				Duration.ofMillis(4), 1, 100);
+
+		Timer template = registry.get(MicrometerCouchbaseOperationMetrics.QUERIES).tag("query", "none").timer();
+		assertEquals(1, template.count());
+		assertEquals(3, template.totalTime(TimeUnit.MILLISECONDS));
+		DistributionSummary rows = registry.get(MicrometerCouchbaseOperationMetrics.QUERY_RESULT_COUNT)
+				.tag("query", "UserRepository.findByLastname").tag("fingerprint", "SELECT ? FROM b").summary();
+		assertEquals(1, rows.totalAmount());
+		DistributionSummary size = registry.get(MicrometerCouchbaseOperationMetrics.QUERY_RESULT_SIZE)
+				.tag("query", "none").summary();
+		assertEquals(1_000, size.totalAmount());
+	}
+}
@@ -0,0 +1,138 @@
+/*
+ * Copyright 2022 the original author or authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.couchbase.core.convert.join;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.data.couchbase.core.convert.join.N1qlJoinResolver.N1qlJoinResolverParameters;
+import org.springframework.data.couchbase.core.query.N1qlJoin;
+import org.springframework.data.util.ClassTypeInformation;
+
+/**
+ * Unit tests for {@link N1qlJoinCache}.
+ */
+class N1qlJoinCacheTests {
+
+	private static final Duration EXPIRY = Duration.ofMinutes(1);
+
+	private final N1qlJoinCache cache = new N1qlJoinCache();
+	private final AtomicInteger resolutions = new AtomicInteger();
+
+	@Test
+	void hitsCachedResult() {
+		assertEquals(Arrays.asList("a", "b"), cache.get(parameters("parent1"), EXPIRY, this::resolve).block());
+		assertEquals(Arrays.asList("a", "b"), cache.get(parameters("parent1"), EXPIRY, this::resolve).block());
+
+		assertEquals(1, resolutions.get());
+		assertEquals(1, cache.getHitCount());
+		assertEquals(1, cache.getMissCount());
+	}
+
+	@Test
+	void keysResultsByEntity() {
+		cache.get(parameters("parent1"), EXPIRY, this::resolve).block();
+		cache.get(parameters("parent2"), EXPIRY, this::resolve).block();
+
+		assertEquals(2, resolutions.get());
+		assertEquals(2, cache.size());
+	}
+
+	@Test
+	void resolvesExpiredResultAgain() {
+		cache.get(parameters("parent1"), Duration.ZERO, this::resolve).block();
+		cache.get(parameters("parent1"), Duration.ZERO, this::resolve).block();
+
+		assertEquals(2, resolutions.get());
+		assertEquals(0, cache.getHitCount());
+	}
+
+	@Test
+	void sharesConcurrentResolution() {
+		Sinks.One<List<String>> result = Sinks.one();
+		Mono<List<String>> first = cache.get(parameters("parent1"), EXPIRY, () -> pending(result));
+		Mono<List<String>> second = cache.get(parameters("parent1"), EXPIRY, () -> pending(result));
+		List<List<String>> lists = Arrays.asList(null, null);
+		first.subscribe(list -> lists.set(0, list));
+		second.subscribe(list -> lists.set(1, list));
+
+		result.tryEmitValue(Arrays.asList("a", "b"));
+
+		assertEquals(1, resolutions.get());
+		assertEquals(Arrays.asList("a", "b"), lists.get(0));
+		assertEquals(Arrays.asList("a", "b"), lists.get(1));
+	}
+
+	@Test
+	void returnsListPerEntity() {
+		List<String> first = cache.get(parameters("parent1"), EXPIRY, this::resolve).block();
+		List<String> second = cache.get(parameters("parent1"), EXPIRY, this::resolve).block();
+
+		assertNotSame(first, second);
+		first.clear();
+		assertEquals(Arrays.asList("a", "b"), second);
+		assertEquals(Arrays.asList("a", "b"), cache.get(parameters("parent1"), EXPIRY, this::resolve).block());
+	}
+
+	@Test
+	void doesNotCacheFailures() {
+		cache.get(parameters("parent1"), EXPIRY, () -> Mono.<List<String>> error(new IllegalStateException()))
+				.onErrorResume(e -> Mono.empty()).block();
+
+		assertEquals(Arrays.asList("a", "b"), cache.get(parameters("parent1"), EXPIRY, this::resolve).block());
+		assertEquals(1, resolutions.get());
+	}
+
+	private Mono<List<String>> resolve() {
+		return Mono.fromSupplier(() -> {
+			resolutions.incrementAndGet();
+			return Arrays.asList("a", "b");
+		});
+	}
+
+	private Mono<List<String>> pending(Sinks.One<List<String>> result) {
+		return Mono.defer(() -> {
+			resolutions.incrementAndGet();
+			return result.asMono();
+		});
+	}
+
+	private static N1qlJoinResolverParameters parameters(String id) {
+		return new N1qlJoinResolverParameters(definition(), id, ClassTypeInformation.from(Parent.class),
+				ClassTypeInformation.from(String.class), null, null);
+	}
+
+	private static N1qlJoin definition() {
+		try {
+			return Parent.class.getDeclaredField("children").getAnnotation(N1qlJoin.class);
+		} catch (NoSuchFieldException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	static class Parent {
+		@N1qlJoin(on = "meta(lks).id=rks.parentId", cacheExpiryMs = 60000) List<String> children;
+	}
+}
@@ -0,0 +1,51 @@
+/*
+ * Copyright 2022 the original author or authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.couchbase.core.query;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link StatementFingerprint}.
+ */
+class StatementFingerprintTests {
+
+	@Test
+	void replacesLiteralsAndParameters() {
+		assertEquals("SELECT * FROM `travel-sample` WHERE `_class` = ? AND iata = ? AND name = ? LIMIT ?",
+				StatementFingerprint
+						.of("SELECT * FROM `travel-sample` WHERE `_class` = \"Airport\" AND iata = $1 AND name = $name LIMIT 2"));
+	}
+
+	@Test
+	void keepsIdentifiers() {
+		assertEquals("SELECT field1, `a2` FROM b WHERE field1 = ?",
+				StatementFingerprint.of("SELECT field1, `a2` FROM b WHERE field1 = 12.5"));
+	}
+
+	@Test
+	void collapsesListsAndWhitespace() {
+		assertEquals("SELECT COUNT(*) FROM b WHERE a IN [?] AND c = ?",
+				StatementFingerprint.of("  SELECT   COUNT(*)\n FROM b  WHERE  a IN [\"x\", 'y''s'] AND c = \"d\\\"e\" "));
+	}
+
+	@Test
+	void sameFingerprintForDifferentValues() {
+		assertEquals(StatementFingerprint.of("SELECT * FROM b WHERE a IN [1, 2] AND c = 'x'"),
+				StatementFingerprint.of("SELECT * FROM b WHERE a IN [3] AND c = 'yz'"));
+	}
+}
@@ -34,6 +34,7 @@ import org.springframework.data.couchbase.repository.Collection;
 import org.springframework.data.couchbase.repository.CouchbaseRepository;
 import org.springframework.data.couchbase.repository.DynamicProxyable;
 import org.springframework.data.couchbase.repository.Options;
+import org.springframework.data.couchbase.repository.PageTotal;
 import org.springframework.data.couchbase.repository.Query;
 import org.springframework.data.couchbase.repository.ScanConsistency;
 import org.springframework.data.couchbase.repository.Scope;
@@ -144,6 +145,14 @@ public interface AirportRepository extends CouchbaseRepository<Airport, String>,
 	@Query("#{#n1ql.selectEntity} WHERE #{#n1ql.filter} AND iata != $1")
 	Page<Airport> getAllByIataNot(String iata, Pageable pageable);
 
+	@ScanConsistency(query = QueryScanConsistency.REQUEST_PLUS)
+	@PageTotal(PageTotal.Strategy.WINDOWED)
+	Page<Airport> findAllByIcaoNot(String icao, Pageable pageable);
+
+	@ScanConsistency(query = QueryScanConsistency.REQUEST_PLUS)
+	@PageTotal(PageTotal.Strategy.CACHED)
+	Page<Airport> readAllByIcaoNot(String icao, Pageable pageable);
+
 	@ScanConsistency(query = QueryScanConsistency.REQUEST_PLUS)
 	@Query("SELECT iata, \"\" as __id, 0 as __cas from #{#n1ql.bucket} WHERE #{#n1ql.filter} order by meta().id")
 	List<String> getStrings();
@@ -29,6 +29,7 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Repository;
 
 import com.couchbase.client.java.json.JsonArray;
@@ -99,6 +100,15 @@ public interface ReactiveAirportRepository
 	@ScanConsistency(query = QueryScanConsistency.REQUEST_PLUS)
 	Mono<Airport> findByIata(String iata);
 
+	@ScanConsistency(query = QueryScanConsistency.REQUEST_PLUS)
+	Mono<Airport> findByIata(Mono<String> iata);
+
+	@ScanConsistency(query = QueryScanConsistency.REQUEST_PLUS)
+	Flux<Airport> findAllByIataIn(Flux<String> iatas);
+
+	@ScanConsistency(query = QueryScanConsistency.REQUEST_PLUS)
+	Mono<Slice<Airport>> findSliceByIataLike(String iata, Pageable pageable);
+
 	// This is not efficient. See findAllByIataLike for efficient reactive paging
 	default public Mono<Page<Airport>> findAllAirportsPaged(Pageable pageable) {
 		return count().flatMap(airportCount -> {
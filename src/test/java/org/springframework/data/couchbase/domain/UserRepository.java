@@ -24,6 +24,7 @@ import org.springframework.data.couchbase.repository.CouchbaseRepository;
 import org.springframework.data.couchbase.repository.Query;
 import org.springframework.data.couchbase.repository.ScanConsistency;
 import org.springframework.data.repository.query.Param;
+import org.springframework.data.util.CloseableIterator;
 import org.springframework.stereotype.Repository;
 
 import com.couchbase.client.java.json.JsonArray;
@@ -43,6 +44,8 @@ public interface UserRepository extends CouchbaseRepository<User, String> {
 
 	Stream<User> findByLastname(String lastname);
 
+	CloseableIterator<User> searchByLastname(String lastname);
+
 	List<User> findByFirstnameIn(String... firstnames);
 
 	List<User> findByFirstnameIn(JsonArray firstnames);
@@ -24,6 +24,7 @@ import org.springframework.data.annotation.TypeAlias;
 import org.springframework.data.couchbase.core.index.CompositeQueryIndex;
 import org.springframework.data.couchbase.core.mapping.Document;
 import org.springframework.data.couchbase.core.query.FetchType;
+import org.springframework.data.couchbase.core.query.JoinStrategy;
 import org.springframework.data.couchbase.core.query.N1qlJoin;
 
 /**
@@ -42,7 +43,10 @@ public class UserSubmission extends ComparableEntity {
 	private String password;
 	private List<String> roles;
 	private Address address;
-	@N1qlJoin(on = "meta(lks).id=rks.parentId", fetchType = FetchType.IMMEDIATE) List<Address> otherAddresses;
+	@N1qlJoin(on = "meta(lks).id=rks.parentId", fetchType = FetchType.IMMEDIATE,
+			batchSize = 10) List<Address> otherAddresses;
+	private List<String> addressIds;
+	@N1qlJoin(on = "lks.addressIds", strategy = JoinStrategy.KEYS) List<Address> keyedAddresses;
 
 	private int credits;
 	private List<Submission> submissions;
@@ -21,6 +21,7 @@ import org.springframework.data.annotation.TypeAlias;
 import org.springframework.data.couchbase.core.mapping.Document;
 import org.springframework.data.couchbase.core.mapping.Field;
 import org.springframework.data.couchbase.core.query.FetchType;
+import org.springframework.data.couchbase.core.query.JoinStrategy;
 import org.springframework.data.couchbase.core.query.N1qlJoin;
 import org.springframework.data.couchbase.repository.Collection;
 import org.springframework.data.couchbase.repository.Scope;
@@ -44,6 +45,8 @@ public class UserSubmissionAnnotated extends ComparableEntity {
   private String password;
   private List<String> roles;
   @N1qlJoin(on = "meta(lks).id=rks.parentId", fetchType = FetchType.IMMEDIATE) List<AddressAnnotated> otherAddresses;
+  private List<String> addressIds;
+  @N1qlJoin(on = "lks.addressIds", strategy = JoinStrategy.KEYS) List<AddressAnnotated> keyedAddresses;
   private Address address;
   private int credits;
   private List<Submission> submissions;
@@ -45,6 +45,7 @@ import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import javax.validation.ConstraintViolationException;
 
@@ -54,12 +55,15 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.ApplicationContext;
 import org.springframework.context.annotation.AnnotationConfigApplicationContext;
 import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.ComponentScan.Filter;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.FilterType;
 import org.springframework.dao.DataRetrievalFailureException;
 import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.data.auditing.DateTimeProvider;
 import org.springframework.data.couchbase.CouchbaseClientFactory;
 import org.springframework.data.couchbase.config.AbstractCouchbaseConfiguration;
+import org.springframework.data.couchbase.core.CouchbaseOperationStatistics;
 import org.springframework.data.couchbase.core.CouchbaseQueryExecutionException;
 import org.springframework.data.couchbase.core.CouchbaseTemplate;
 import org.springframework.data.couchbase.core.RemoveResult;
@@ -85,6 +89,7 @@ import org.springframework.data.couchbase.repository.auditing.EnableCouchbaseAud
 import org.springframework.data.couchbase.repository.config.EnableCouchbaseRepositories;
 import org.springframework.data.couchbase.repository.query.CouchbaseQueryMethod;
 import org.springframework.data.couchbase.repository.query.CouchbaseRepositoryQuery;
+import org.springframework.data.couchbase.repository.support.CouchbaseRepositoryWarmUp;
 import org.springframework.data.couchbase.util.Capabilities;
 import org.springframework.data.couchbase.util.ClusterAwareIntegrationTests;
 import org.springframework.data.couchbase.util.ClusterType;
@@ -96,6 +101,7 @@ import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
 import org.springframework.data.repository.core.support.DefaultRepositoryMetadata;
+import org.springframework.data.util.CloseableIterator;
 import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
 import org.springframework.validation.beanvalidation.LocalValidatorFactoryBean;
 
@@ -130,6 +136,8 @@ public class CouchbaseRepositoryQueryIntegrationTests extends ClusterAwareIntegr
 
 	@Autowired CouchbaseTemplate couchbaseTemplate;
 
+	@Autowired ApplicationContext applicationContext;
+
 	String scopeName = "_default";
 	String collectionName = "_default";
 
@@ -293,6 +301,57 @@ public class CouchbaseRepositoryQueryIntegrationTests extends ClusterAwareIntegr
 		}
 	}
 
+	@Test
+	void queryMetricsByRepositoryMethod() {
+		CouchbaseOperationStatistics statistics = new CouchbaseOperationStatistics();
+		couchbaseTemplate.setOperationMetrics(statistics);
+		Airport vie = null;
+		try {
+			vie = airportRepository.save(new Airport("airports::vie", "vie", "low6"));
+			airportRepository.withOptions(QueryOptions.queryOptions().scanConsistency(QueryScanConsistency.REQUEST_PLUS))
+					.findAllByIata("vie");
+			airportRepository.countByIataIn("vie", "xxx");
+			assertTrue(statistics.getQueries().entrySet().stream()
+					.anyMatch(e -> "AirportRepository.findAllByIata".equals(e.getKey().getName())
+							&& !e.getKey().getFingerprint().contains("vie") && e.getValue().getResultCount() == 1));
+			assertTrue(statistics.getQueries().keySet().stream()
+					.anyMatch(k -> "AirportRepository.countByIataIn".equals(k.getName())));
+		} finally {
+			couchbaseTemplate.setOperationMetrics(null);
+			airportRepository.delete(vie);
+		}
+	}
+
+	@Test
+	void cachedPageTotal() {
+		airportRepository.withOptions(QueryOptions.queryOptions().scanConsistency(REQUEST_PLUS)).deleteAll();
+		String[] iatas = { "JFK", "IAD", "SFO", "SJC", "SEA", "LAX", "PHX" };
+		CouchbaseOperationStatistics statistics = new CouchbaseOperationStatistics();
+		try {
+			airportRepository.saveAll(
+					Arrays.stream(iatas).map((iata) -> new Airport("airports::" + iata, iata, iata.toLowerCase(Locale.ROOT)))
+							.collect(Collectors.toSet()));
+			couchbaseTemplate.setOperationMetrics(statistics);
+			Page<Airport> page = airportRepository.readAllByIcaoNot("jfk", PageRequest.of(0, 2, Sort.by("iata")));
+			assertEquals(iatas.length - 1, page.getTotalElements());
+			assertTrue(statistics.getQueries().keySet().stream()
+					.anyMatch(k -> k.getFingerprint().toLowerCase(Locale.ROOT).contains("count(")));
+
+			statistics.reset();
+			page = airportRepository.readAllByIcaoNot("jfk", PageRequest.of(1, 2, Sort.by("iata")));
+			assertEquals(iatas.length - 1, page.getTotalElements());
+			assertEquals(2, page.getContent().size());
+			assertFalse(statistics.getQueries().isEmpty());
+			assertFalse(statistics.getQueries().keySet().stream()
+					.anyMatch(k -> k.getFingerprint().toLowerCase(Locale.ROOT).contains("count(")),
+					"the total of the second page is cached");
+		} finally {
+			couchbaseTemplate.setOperationMetrics(null);
+			airportRepository
+					.deleteAllById(Arrays.stream(iatas).map((iata) -> "airports::" + iata).collect(Collectors.toSet()));
+		}
+	}
+
 	@Test
 	void findBySimplePropertyReturnType() {
 		Airport vie = null;
@@ -596,6 +655,55 @@ public class CouchbaseRepositoryQueryIntegrationTests extends ClusterAwareIntegr
 		userRepository.delete(user2);
 	}
 
+	@Test
+	public void testIteratorQuery() {
+		User user1 = new User("1", "Dave", "Wilson");
+		User user2 = new User("2", "Brian", "Wilson");
+
+		userRepository.save(user1);
+		userRepository.save(user2);
+		try {
+			List<User> users = new ArrayList<>();
+			CloseableIterator<User> iterator = userRepository.searchByLastname("Wilson");
+			iterator.forEachRemaining(users::add);
+			assertEquals(2, users.size());
+			assertTrue(users.contains(user1));
+			assertTrue(users.contains(user2));
+			assertFalse(iterator.hasNext(), "an exhausted iterator is closed");
+
+			try (CloseableIterator<User> first = userRepository.searchByLastname("Wilson")) {
+				assertTrue(first.hasNext());
+				assertEquals("Wilson", first.next().getLastname());
+			}
+			try (Stream<User> stream = userRepository.findByLastname("Wilson")) {
+				assertEquals(1, stream.limit(1).count());
+			}
+		} finally {
+			userRepository.delete(user1);
+			userRepository.delete(user2);
+		}
+	}
+
+	@Test
+	void warmUpRepositories() {
+		// the warm-up runs when the context is refreshed
+		try (AnnotationConfigApplicationContext ac = new AnnotationConfigApplicationContext(ConfigWarmUp.class)) {
+			CouchbaseRepositoryWarmUp warmUp = ac.getBean(CouchbaseRepositoryWarmUp.class);
+			assertTrue(warmUp.isRunning());
+			assertEquals(0, warmUp.getFailed());
+			assertTrue(warmUp.getDone() > 0);
+
+			UserRepository warmedUp = ac.getBean(UserRepository.class);
+			User user = new User("1", "Dave", "Wilson");
+			warmedUp.save(user);
+			try {
+				assertEquals(1, warmedUp.findByFirstname("Dave").size());
+			} finally {
+				warmedUp.delete(user);
+			}
+		}
+	}
+
 	@Test
 	public void testExpiryAnnotation() {
 		UserAnnotated user = new UserAnnotated("1", "Dave", "Wilson");
@@ -672,6 +780,10 @@ public class CouchbaseRepositoryQueryIntegrationTests extends ClusterAwareIntegr
 			assertEquals(iatas.length - 1, aPage.getTotalElements());
 			assertEquals(pageable.getPageSize(), aPage.getContent().size());
 
+			Page<Airport> wPage = airportRepository.findAllByIcaoNot("jfk", pageable);
+			assertEquals(iatas.length - 1, wPage.getTotalElements());
+			assertEquals(pageable.getPageSize(), wPage.getContent().size());
+
 			long airportCount = airportRepository.count();
 			assertEquals(7, airportCount);
 
@@ -692,6 +804,12 @@ public class CouchbaseRepositoryQueryIntegrationTests extends ClusterAwareIntegr
 			assertEquals(2, airportSlice.getSize());
 			assertEquals("LAX", airportSlice.getContent().get(0).getIata());
 			assertEquals("PHX", airportSlice.getContent().get(1).getIata());
+			assertTrue(airportSlice.hasNext());
+
+			pageable = PageRequest.of(3, 2, Sort.by("iata"));
+			airportSlice = airportRepository.fetchSlice("AAA", "zzz", pageable);
+			assertEquals(1, airportSlice.getContent().size());
+			assertFalse(airportSlice.hasNext());
 
 			pageable = PageRequest.of(1, 2, Sort.by("iata"));
 			Page<Airport> airportPage = airportRepository.fetchPage("AAA", "zzz", pageable);
@@ -901,6 +1019,46 @@ public class CouchbaseRepositoryQueryIntegrationTests extends ClusterAwareIntegr
 		}
 	}
 
+	@Test
+	void findPlusN1qlKeysJoin() {
+		Address address1 = new Address();
+		address1.setId(UUID.randomUUID().toString());
+		address1.setStreet("3250 Olcott Street");
+		Address address2 = new Address();
+		address2.setId(UUID.randomUUID().toString());
+		address2.setStreet("148 Castro Street");
+		address1 = couchbaseTemplate.insertById(Address.class).one(address1);
+		address2 = couchbaseTemplate.insertById(Address.class).one(address2);
+
+		UserSubmission user = new UserSubmission();
+		user.setId(UUID.randomUUID().toString());
+		user.setUsername("keys");
+		// the missing address is skipped, the others keep the order of the ids
+		user.setAddressIds(Arrays.asList(address2.getId(), UUID.randomUUID().toString(), address1.getId()));
+		UserSubmission noAddresses = new UserSubmission();
+		noAddresses.setId(UUID.randomUUID().toString());
+		noAddresses.setUsername("keys");
+		try {
+			user = couchbaseTemplate.insertById(UserSubmission.class).one(user);
+			noAddresses = couchbaseTemplate.insertById(UserSubmission.class).one(noAddresses);
+
+			UserSubmission foundUser = userSubmissionRepository.findById(user.getId()).get();
+			assertEquals(Arrays.asList(address2.getStreet(), address1.getStreet()),
+					foundUser.getKeyedAddresses().stream().map(Address::getStreet).collect(Collectors.toList()));
+			assertNull(userSubmissionRepository.findById(noAddresses.getId()).get().getKeyedAddresses());
+
+			List<UserSubmission> users = userSubmissionRepository.findByUsername("keys");
+			assertEquals(2, users.size());
+			String userId = user.getId();
+			UserSubmission found = users.stream().filter(u -> u.getId().equals(userId)).findFirst().get();
+			assertEquals(Arrays.asList(address2.getStreet(), address1.getStreet()),
+					found.getKeyedAddresses().stream().map(Address::getStreet).collect(Collectors.toList()));
+		} finally {
+			couchbaseTemplate.removeById(Address.class).all(Arrays.asList(address1.getId(), address2.getId()));
+			couchbaseTemplate.removeById(UserSubmission.class).all(Arrays.asList(user.getId(), noAddresses.getId()));
+		}
+	}
+
 	@Test
 	void findPlusN1qlJoin() throws Exception {
 
@@ -908,6 +1066,10 @@ public class CouchbaseRepositoryQueryIntegrationTests extends ClusterAwareIntegr
 		user.setId(UUID.randomUUID().toString());
 		user.setUsername("dave");
 		user = couchbaseTemplate.insertById(UserSubmission.class).one(user);
+		UserSubmission otherUser = new UserSubmission();
+		otherUser.setId(UUID.randomUUID().toString());
+		otherUser.setUsername("dave");
+		otherUser = couchbaseTemplate.insertById(UserSubmission.class).one(otherUser);
 
 		Address address1 = new Address();
 		address1.setId(UUID.randomUUID().toString());
@@ -924,10 +1086,22 @@ public class CouchbaseRepositoryQueryIntegrationTests extends ClusterAwareIntegr
 		address1 = couchbaseTemplate.insertById(Address.class).one(address1);
 		address2 = couchbaseTemplate.insertById(Address.class).one(address2);
 		address3 = couchbaseTemplate.insertById(Address.class).one(address3);
+		Address address4 = new Address();
+		address4.setId(UUID.randomUUID().toString());
+		address4.setStreet("1 Infinite Loop");
+		address4.setParentId(otherUser.getId());
+		address4 = couchbaseTemplate.insertById(Address.class).one(address4);
 
+		// the joins of both users are resolved by the same batch
 		List<UserSubmission> users = userSubmissionRepository.findByUsername(user.getUsername());
-		assertEquals(2, users.get(0).getOtherAddresses().size());
-		for (Address a : users.get(0).getOtherAddresses()) {
+		assertEquals(2, users.size());
+		String userId = user.getId();
+		UserSubmission found = users.stream().filter(u -> u.getId().equals(userId)).findFirst().get();
+		UserSubmission otherFound = users.stream().filter(u -> !u.getId().equals(userId)).findFirst().get();
+		assertEquals(1, otherFound.getOtherAddresses().size());
+		assertEquals(address4.getStreet(), otherFound.getOtherAddresses().get(0).getStreet());
+		assertEquals(2, found.getOtherAddresses().size());
+		for (Address a : found.getOtherAddresses()) {
 			if (!(a.getStreet().equals(address1.getStreet()) || a.getStreet().equals(address2.getStreet()))) {
 				throw new Exception("street does not match : " + a);
 			}
@@ -942,8 +1116,8 @@ public class CouchbaseRepositoryQueryIntegrationTests extends ClusterAwareIntegr
 		}
 
 		couchbaseTemplate.removeById(Address.class)
-				.all(Arrays.asList(address1.getId(), address2.getId(), address3.getId()));
-		couchbaseTemplate.removeById(UserSubmission.class).one(user.getId());
+				.all(Arrays.asList(address1.getId(), address2.getId(), address3.getId(), address4.getId()));
+		couchbaseTemplate.removeById(UserSubmission.class).all(Arrays.asList(user.getId(), otherUser.getId()));
 	}
 
 	@Test
@@ -1055,4 +1229,35 @@ public class CouchbaseRepositoryQueryIntegrationTests extends ClusterAwareIntegr
 			return REQUEST_PLUS;
 		}
 	}
+
+	@Configuration
+	@EnableCouchbaseRepositories(basePackageClasses = UserRepository.class,
+			includeFilters = @Filter(type = FilterType.ASSIGNABLE_TYPE, classes = UserRepository.class))
+	static class ConfigWarmUp extends AbstractCouchbaseConfiguration {
+
+		@Override
+		public String getConnectionString() {
+			return connectionString();
+		}
+
+		@Override
+		public String getUserName() {
+			return config().adminUsername();
+		}
+
+		@Override
+		public String getPassword() {
+			return config().adminPassword();
+		}
+
+		@Override
+		public String getBucketName() {
+			return bucketName();
+		}
+
+		@Override
+		protected Duration warmUpBudget() {
+			return Duration.ofSeconds(30);
+		}
+	}
 }
@@ -25,8 +25,10 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import org.springframework.dao.OptimisticLockingFailureException;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 import reactor.test.StepVerifier;
 
+import java.time.Duration;
 import java.time.Instant;
 import java.util.HashSet;
 import java.util.List;
@@ -44,18 +46,23 @@ import org.springframework.context.annotation.Configuration;
 import org.springframework.dao.DataRetrievalFailureException;
 import org.springframework.data.couchbase.CouchbaseClientFactory;
 import org.springframework.data.couchbase.config.AbstractCouchbaseConfiguration;
+import org.springframework.data.couchbase.domain.Address;
 import org.springframework.data.couchbase.domain.Airport;
 import org.springframework.data.couchbase.domain.ReactiveAirportRepository;
 import org.springframework.data.couchbase.domain.ReactiveUserRepository;
 import org.springframework.data.couchbase.domain.User;
+import org.springframework.data.couchbase.domain.UserSubmission;
 import org.springframework.data.couchbase.repository.config.EnableReactiveCouchbaseRepositories;
 import org.springframework.data.couchbase.util.Capabilities;
 import org.springframework.data.couchbase.util.ClusterType;
 import org.springframework.data.couchbase.util.IgnoreWhen;
 import org.springframework.data.couchbase.util.JavaIntegrationTests;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
 import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
 
+import com.couchbase.client.java.kv.GetResult;
+
 /**
  * template class for Reactive Couchbase operations
  *
@@ -114,6 +121,55 @@ public class ReactiveCouchbaseRepositoryQueryIntegrationTests extends JavaIntegr
 		}
 	}
 
+	@Test
+	void findByPublisherArguments() {
+		Airport vie = new Airport("airports::vie", "vie", "low2");
+		Airport jfk = new Airport("airports::jfk", "jfk", "kjfk");
+		try {
+			airportRepository.saveAll(Flux.just(vie, jfk)).blockLast();
+			Mono<String> iata = Mono.just("vie").delayElement(Duration.ofMillis(50));
+			StepVerifier.create(airportRepository.findByIata(iata)).expectNextMatches(a -> a.getId().equals(vie.getId()))
+					.verifyComplete();
+			StepVerifier.create(airportRepository.findByIata(Mono.empty())).verifyComplete();
+			StepVerifier.create(airportRepository.findAllByIataIn(Flux.just("vie", "jfk")).map(Airport::getId).sort())
+					.expectNext(jfk.getId(), vie.getId()).verifyComplete();
+		} finally {
+			airportRepository.deleteAll(Flux.just(vie, jfk)).block();
+		}
+	}
+
+	@Test
+	void decodeN1qlJoinWithoutBlocking() {
+		UserSubmission user = new UserSubmission();
+		user.setId(UUID.randomUUID().toString());
+		user.setUsername("dave");
+		user = reactiveCouchbaseTemplate.insertById(UserSubmission.class).one(user).block();
+		Address address1 = new Address();
+		address1.setId(UUID.randomUUID().toString());
+		address1.setStreet("3250 Olcott Street");
+		address1.setParentId(user.getId());
+		Address address2 = new Address();
+		address2.setId(UUID.randomUUID().toString());
+		address2.setStreet("148 Castro Street");
+		address2.setParentId(user.getId());
+		reactiveCouchbaseTemplate.insertById(Address.class).all(asList(address1, address2)).blockLast();
+		try {
+			GetResult document = clientFactory.getDefaultCollection().get(user.getId());
+			// block() on a parallel thread fails, so the joins must be composed rather than blocked on
+			Mono<UserSubmission> decoded = reactiveCouchbaseTemplate.support()
+					.decodeEntity(user.getId(), document.contentAsObject().toString(), document.cas(), UserSubmission.class,
+							null, null)
+					.subscribeOn(Schedulers.parallel());
+			StepVerifier.create(decoded.map(found -> found.getOtherAddresses().stream().map(Address::getStreet).sorted()
+					.collect(Collectors.toList())))
+					.expectNext(asList(address2.getStreet(), address1.getStreet())).verifyComplete();
+		} finally {
+			reactiveCouchbaseTemplate.removeById(Address.class).all(asList(address1.getId(), address2.getId()))
+					.blockLast();
+			reactiveCouchbaseTemplate.removeById(UserSubmission.class).one(user.getId()).block();
+		}
+	}
+
 	@Test
 	public void testCas() {
 		User user = new User("1", "Dave", "Wilson");
@@ -186,6 +242,13 @@ public class ReactiveCouchbaseRepositoryQueryIntegrationTests extends JavaIntegr
 			airportRepository.findAllByIataLike("S%", PageRequest.of(page++, 2)).as(StepVerifier::create) //
 					.expectNextMatches(a -> iatas.contains(a.getIata())).verifyComplete();
 
+			Slice<Airport> slice = airportRepository.findSliceByIataLike("S%", PageRequest.of(0, 2)).block();
+			assertEquals(2, slice.getContent().size());
+			assertTrue(slice.hasNext());
+			slice = airportRepository.findSliceByIataLike("S%", PageRequest.of(1, 2)).block();
+			assertEquals(1, slice.getContent().size());
+			assertFalse(slice.hasNext());
+
 			Long airportCount = airportRepository.count().block();
 			assertEquals(iatas.size(), airportCount);
 
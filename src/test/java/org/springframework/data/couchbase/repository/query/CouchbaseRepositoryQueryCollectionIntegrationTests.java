@@ -17,11 +17,20 @@ package org.springframework.data.couchbase.repository.query;
 
 import static com.couchbase.client.core.io.CollectionIdentifier.DEFAULT_SCOPE;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.AfterEach;
@@ -137,6 +146,21 @@ public class CouchbaseRepositoryQueryCollectionIntegrationTests extends Collecti
 	 * scopes that do not exist These same tests should be repeated on non-default scope and collection in a test that
 	 * supports collections
 	 */
+	@Test
+	void scopedRepositoriesAreReused() {
+		AirportRepository ar = airportRepository.withScope(scopeName).withCollection(collectionName);
+		assertSame(ar, airportRepository.withScope(scopeName).withCollection(collectionName));
+		assertNotSame(ar, airportRepository.withScope(scopeName).withCollection(otherCollection));
+		Airport vie = new Airport("airports::vie", "vie", "loww");
+		try {
+			Airport saved = ar.save(vie);
+			assertEquals(saved, airportRepository.withScope(scopeName).withCollection(collectionName).findById(vie.getId())
+					.get());
+		} finally {
+			ar.delete(vie);
+		}
+	}
+
 	@Test
 	@IgnoreWhen(missesCapabilities = { Capabilities.QUERY, Capabilities.COLLECTIONS }, clusterTypes = ClusterType.MOCKED)
 	void findBySimplePropertyWithCollection() {
@@ -171,6 +195,83 @@ public class CouchbaseRepositoryQueryCollectionIntegrationTests extends Collecti
 		}
 	}
 
+	@Test
+	void scopedRepositoryCalledConcurrently() throws Exception {
+		AirportRepository ar = airportRepository.withScope(scopeName).withCollection(collectionName);
+		AirportRepository ar2 = airportRepository.withScope(scopeName).withCollection(collectionName2);
+		List<Airport> airports = new ArrayList<>();
+		for (int i = 0; i < 20; i++) {
+			airports.add(new Airport("airports::concurrent" + i, "c" + i, "lc" + i));
+		}
+		ExecutorService executor = Executors.newFixedThreadPool(4);
+		try {
+			// each call uses the collection of its own proxy, whatever the other threads call
+			List<Future<Airport>> saved = new ArrayList<>();
+			for (int i = 0; i < airports.size(); i++) {
+				AirportRepository repository = i % 2 == 0 ? ar : ar2;
+				Airport airport = airports.get(i);
+				saved.add(executor.submit(() -> repository.save(airport)));
+			}
+			for (Future<Airport> future : saved) {
+				future.get();
+			}
+			for (int i = 0; i < airports.size(); i++) {
+				String expected = i % 2 == 0 ? collectionName : collectionName2;
+				String unexpected = i % 2 == 0 ? collectionName2 : collectionName;
+				String id = airports.get(i).getId();
+				assertNotNull(couchbaseTemplate.findById(Airport.class).inScope(scopeName).inCollection(expected).one(id));
+				assertNull(couchbaseTemplate.findById(Airport.class).inScope(scopeName).inCollection(unexpected).one(id));
+			}
+		} finally {
+			executor.shutdown();
+			for (int i = 0; i < airports.size(); i++) {
+				couchbaseTemplate.removeById(Airport.class).inScope(scopeName)
+						.inCollection(i % 2 == 0 ? collectionName : collectionName2).one(airports.get(i).getId());
+			}
+		}
+	}
+
+	@Test
+	void scopedRepositoryOperationOnOtherThreads() {
+		AirportRepository ar = airportRepository.withScope(scopeName).withCollection(collectionName);
+		List<String> ids = new ArrayList<>();
+		for (int i = 0; i < 10; i++) {
+			ids.add(ar.save(new Airport("airports::hop" + i, "h" + i, "lh" + i)).getId());
+		}
+		try {
+			// the gets of findAllById complete on other threads than the invoking thread
+			List<String> found = new ArrayList<>();
+			ar.findAllById(ids).forEach(airport -> found.add(airport.getId()));
+			assertEquals(ids.stream().sorted().collect(Collectors.toList()),
+					found.stream().sorted().collect(Collectors.toList()));
+		} finally {
+			ar.deleteAllById(ids);
+		}
+		for (String id : ids) {
+			assertNull(couchbaseTemplate.findById(Airport.class).inScope(scopeName).inCollection(collectionName).one(id));
+		}
+	}
+
+	@Test
+	void scopedRepositoryOperationOnManyEntities() {
+		AirportRepository ar = airportRepository.withScope(scopeName).withCollection(collectionName);
+		// more than the concurrency of flatMap, so the operations after the first 256 start on other threads
+		List<Airport> airports = new ArrayList<>();
+		for (int i = 0; i < 300; i++) {
+			airports.add(new Airport("airports::many" + i, "m" + i, "lm" + i));
+		}
+		List<String> ids = airports.stream().map(Airport::getId).collect(Collectors.toList());
+		try {
+			ar.saveAll(airports);
+			assertEquals(ids.size(), ar.findAllById(ids).size());
+			assertEquals(0, couchbaseTemplate.findById(Airport.class).all(ids).size());
+		} finally {
+			ar.deleteAllById(ids);
+		}
+		assertEquals(0, couchbaseTemplate.findById(Airport.class).inScope(scopeName).inCollection(collectionName).all(ids)
+				.size());
+	}
+
 	@Test
 	void findBySimplePropertyWithOptions() {
 
@@ -304,6 +405,78 @@ public class CouchbaseRepositoryQueryCollectionIntegrationTests extends Collecti
 		}
 	}
 
+	@Test
+	void findPlusN1qlKeysJoinBothAnnotated() {
+		// AddressesAnnotated has scope=dummy_scope, collection=my_collection2
+		// the keys are looked up in the scope of UserSubmissionAnnotated
+		AddressAnnotated address1 = new AddressAnnotated();
+		address1.setId(UUID.randomUUID().toString());
+		address1.setStreet("3250 Olcott Street");
+		AddressAnnotated address2 = new AddressAnnotated();
+		address2.setId(UUID.randomUUID().toString());
+		address2.setStreet("148 Castro Street");
+
+		UserSubmissionAnnotated user = new UserSubmissionAnnotated();
+		user.setId(UUID.randomUUID().toString());
+		user.setUsername("keys");
+		user.setAddressIds(Arrays.asList(address1.getId(), UUID.randomUUID().toString(), address2.getId()));
+		try {
+			address1 = couchbaseTemplate.insertById(AddressAnnotated.class).inScope(scopeName).one(address1);
+			address2 = couchbaseTemplate.insertById(AddressAnnotated.class).inScope(scopeName).one(address2);
+			user = userSubmissionAnnotatedRepository.save(user);
+
+			UserSubmissionAnnotated foundUser = userSubmissionAnnotatedRepository.findById(user.getId()).get();
+			assertEquals(Arrays.asList(address1.getStreet(), address2.getStreet()),
+					foundUser.getKeyedAddresses().stream().map(Address::getStreet).collect(Collectors.toList()));
+		} finally {
+			couchbaseTemplate.removeById(AddressAnnotated.class).inScope(scopeName)
+					.all(Arrays.asList(address1.getId(), address2.getId()));
+			couchbaseTemplate.removeById(UserSubmissionAnnotated.class).one(user.getId());
+		}
+	}
+
+	@Test
+	void findPlusN1qlJoinWithScopedRepository() {
+		// UserSubmissionAnnotated has scope=my_scope, collection=my_collection
+		// AddressesAnnotated has scope=dummy_scope, collection=my_collection2
+		UserSubmissionAnnotatedRepository repository = userSubmissionAnnotatedRepository.withScope(scopeName)
+				.withCollection(collectionName);
+		UserSubmissionAnnotated user = new UserSubmissionAnnotated();
+		user.setId(UUID.randomUUID().toString());
+		user.setUsername("scoped");
+		AddressAnnotated address1 = new AddressAnnotated();
+		address1.setId(UUID.randomUUID().toString());
+		address1.setStreet("3250 Olcott Street");
+		address1.setParentId(user.getId());
+		AddressAnnotated address2 = new AddressAnnotated();
+		address2.setId(UUID.randomUUID().toString());
+		address2.setStreet("148 Castro Street");
+		address2.setParentId(user.getId());
+		user.setAddressIds(Arrays.asList(address1.getId(), address2.getId()));
+		try {
+			couchbaseTemplate.insertById(AddressAnnotated.class).inScope(scopeName).all(Arrays.asList(address1, address2));
+			user = repository.save(user);
+
+			// the joins use the collection of the addresses, not the collection of the repository, and the query
+			// options of the repository are not passed to the gets of the KEYS join
+			List<UserSubmissionAnnotated> users = repository
+					.withOptions(QueryOptions.queryOptions().scanConsistency(QueryScanConsistency.REQUEST_PLUS))
+					.findByUsername(user.getUsername());
+			assertEquals(1, users.size());
+			assertEquals(2, users.get(0).getOtherAddresses().size());
+			assertEquals(2, users.get(0).getKeyedAddresses().size());
+
+			UserSubmissionAnnotated foundUser = repository.findById(user.getId()).get();
+			assertEquals(2, foundUser.getOtherAddresses().size());
+			assertEquals(Arrays.asList(address1.getStreet(), address2.getStreet()),
+					foundUser.getKeyedAddresses().stream().map(Address::getStreet).collect(Collectors.toList()));
+		} finally {
+			couchbaseTemplate.removeById(AddressAnnotated.class).inScope(scopeName)
+					.all(Arrays.asList(address1.getId(), address2.getId()));
+			couchbaseTemplate.removeById(UserSubmissionAnnotated.class).one(user.getId());
+		}
+	}
+
 	@Test
 	void findPlusN1qlJoinUnannotated() throws Exception {
 		// UserSubmissionAnnotated has scope=my_scope, collection=my_collection
@@ -18,6 +18,9 @@ package org.springframework.data.couchbase.repository.query;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
+import reactor.core.publisher.Flux;
+import reactor.core.scheduler.Schedulers;
+
 import java.util.List;
 
 import org.junit.jupiter.api.AfterAll;
@@ -108,6 +111,23 @@ public class ReactiveCouchbaseRepositoryQueryCollectionIntegrationTests extends
 
 	}
 
+	@Test
+	public void concurrentCallsWithScopeAndCollection() {
+		ReactiveAirportRepository ar = airportRepository.withScope(scopeName).withCollection(collectionName);
+		List<Airport> airports = Flux.range(0, 20).map(i -> new Airport("airports::concurrent" + i, "c" + i, "lc" + i))
+				.collectList().block();
+		try {
+			// the calls subscribe on different threads, each with the scope and collection of the proxy
+			Flux.fromIterable(airports).parallel(4).runOn(Schedulers.parallel()).flatMap(ar::save).sequential().blockLast();
+			for (Airport airport : airports) {
+				assertEquals(airport.getId(), couchbaseTemplate.findById(Airport.class).inScope(scopeName)
+						.inCollection(collectionName).one(airport.getId()).getId());
+			}
+		} finally {
+			ar.deleteAll(airports).block();
+		}
+	}
+
 	/**
 	 * can test against _default._default without setting up additional scope/collection and also test for collections and
 	 * scopes that do not exist These same tests should be repeated on non-default scope and collection in a test that
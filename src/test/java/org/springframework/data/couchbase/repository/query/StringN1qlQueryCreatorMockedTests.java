@@ -16,8 +16,12 @@
 package org.springframework.data.couchbase.repository.query;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.fail;
 import static org.springframework.data.couchbase.config.BeanNames.COUCHBASE_TEMPLATE;
+import static org.springframework.data.couchbase.core.query.Meta.MetaKey.METRICS_NAME;
+import static org.springframework.data.couchbase.core.query.Meta.MetaKey.SCAN_CONSISTENCY;
 
 import java.lang.reflect.Method;
 import java.util.Properties;
@@ -108,6 +112,46 @@ class StringN1qlQueryCreatorMockedTests extends ClusterAwareIntegrationTests {
 				query.toN1qlSelectString(couchbaseTemplate.reactive(), User.class, false));
 	}
 
+	@Test
+	void resolvesMethodMetadataOnce() throws Exception {
+		Method method = UserRepository.class.getMethod("getByFirstnameAndLastname", String.class, String.class);
+
+		CouchbaseQueryMethod queryMethod = new CouchbaseQueryMethod(method,
+				new DefaultRepositoryMetadata(UserRepository.class), new SpelAwareProxyProjectionFactory(),
+				converter.getMappingContext());
+
+		Query first = new Query();
+		first.setMeta(queryMethod, User.class);
+		Query second = new Query();
+		second.setMeta(queryMethod, User.class);
+		assertSame(first.getMeta(), second.getMeta());
+		assertEquals("UserRepository.getByFirstnameAndLastname", first.getMeta().get(METRICS_NAME));
+		assertSame(queryMethod.getScanConsistencyAnnotation(), first.getMeta().get(SCAN_CONSISTENCY));
+		// the meta is shared, a query must not change it for the others
+		assertThrows(UnsupportedOperationException.class, () -> first.getMeta().set(METRICS_NAME, "other"));
+		assertEquals("UserRepository.getByFirstnameAndLastname", second.getMeta().get(METRICS_NAME));
+	}
+
+	@Test
+	void createsExistsQueryCorrectly() throws Exception {
+		String input = "getByFirstnameAndLastname";
+		Method method = UserRepository.class.getMethod(input, String.class, String.class);
+
+		CouchbaseQueryMethod queryMethod = new CouchbaseQueryMethod(method,
+				new DefaultRepositoryMetadata(UserRepository.class), new SpelAwareProxyProjectionFactory(),
+				converter.getMappingContext());
+
+		StringN1qlQueryCreator creator = new StringN1qlQueryCreator(getAccessor(getParameters(method), "Oliver", "Twist"),
+				queryMethod, converter, "travel-sample", new SpelExpressionParser(),
+				QueryMethodEvaluationContextProvider.DEFAULT, namedQueries);
+
+		Query query = creator.createQuery();
+		assertEquals(
+				"SELECT RAW 1 FROM (SELECT META(`travel-sample`).id AS __id, META(`travel-sample`).cas AS __cas, `_class`, `createdBy`, `createdDate`, `lastModifiedBy`, `lastModifiedDate`, `firstname`, `lastname`, `subtype` FROM `travel-sample` where `_class` = \"abstractuser\" and firstname = $1 and lastname = $2) predicate_query LIMIT 1",
+				query.toN1qlExistsString(couchbaseTemplate.reactive(), null, User.class));
+		assertSame(query, query.limitedTo(1), "the limit of an inline statement cannot be changed");
+	}
+
 	@Test
 	void wrongNumberArgs() throws Exception {
 		String input = "getByFirstnameOrLastname";